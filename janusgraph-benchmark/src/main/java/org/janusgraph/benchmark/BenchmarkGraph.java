@@ -0,0 +1,92 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.benchmark;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphFactory;
+import org.janusgraph.core.JanusGraphTransaction;
+import org.janusgraph.core.JanusGraphVertex;
+import org.janusgraph.core.PropertyKey;
+import org.janusgraph.core.schema.JanusGraphManagement;
+import org.janusgraph.graphdb.database.StandardJanusGraph;
+
+import java.util.Random;
+
+/**
+ * Opens and populates the in-memory graphs shared by the benchmarks in this module.
+ */
+final class BenchmarkGraph {
+
+    static final String UID = "uid";
+    static final String NAME = "name";
+    static final String WEIGHT = "weight";
+    static final String KNOWS = "knows";
+
+    private BenchmarkGraph() {
+    }
+
+    static StandardJanusGraph open() {
+        final StandardJanusGraph graph = (StandardJanusGraph) JanusGraphFactory.build()
+                .set("storage.backend", "inmemory")
+                .open();
+        defineSchema(graph);
+        return graph;
+    }
+
+    private static void defineSchema(JanusGraph graph) {
+        final JanusGraphManagement management = graph.openManagement();
+        final PropertyKey uid = management.makePropertyKey(UID).dataType(Long.class).make();
+        final PropertyKey name = management.makePropertyKey(NAME).dataType(String.class).make();
+        management.makePropertyKey(WEIGHT).dataType(Double.class).make();
+        management.makeEdgeLabel(KNOWS).make();
+        management.buildIndex("byUid", Vertex.class).addKey(uid).buildCompositeIndex();
+        management.buildIndex("byName", Vertex.class).addKey(name).buildCompositeIndex();
+        management.commit();
+    }
+
+    /**
+     * Loads {@code numVertices} vertices, each with {@code degree} outgoing edges to randomly chosen vertices.
+     * Vertex {@code i} is given the uid {@code i}.
+     */
+    static void loadRandom(JanusGraph graph, int numVertices, int degree, long seed) {
+        final Random random = new Random(seed);
+        final JanusGraphTransaction tx = graph.newTransaction();
+        final JanusGraphVertex[] vertices = new JanusGraphVertex[numVertices];
+        for (int i = 0; i < numVertices; i++) {
+            vertices[i] = tx.addVertex(UID, (long) i, NAME, "v" + i);
+        }
+        for (JanusGraphVertex vertex : vertices) {
+            for (int d = 0; d < degree; d++) {
+                vertex.addEdge(KNOWS, vertices[random.nextInt(numVertices)], WEIGHT, random.nextDouble());
+            }
+        }
+        tx.commit();
+    }
+
+    /**
+     * Loads a single hub vertex with {@code degree} outgoing edges to distinct leaf vertices and returns its id.
+     */
+    static long loadStar(JanusGraph graph, int degree) {
+        final JanusGraphTransaction tx = graph.newTransaction();
+        final JanusGraphVertex hub = tx.addVertex(UID, 0L, NAME, "hub");
+        for (int i = 1; i <= degree; i++) {
+            final JanusGraphVertex leaf = tx.addVertex(UID, (long) i, NAME, "v" + i);
+            hub.addEdge(KNOWS, leaf, WEIGHT, (double) i);
+        }
+        tx.commit();
+        return hub.longId();
+    }
+}
@@ -0,0 +1,100 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.benchmark;
+
+import org.janusgraph.core.JanusGraphRelation;
+import org.janusgraph.diskstorage.Entry;
+import org.janusgraph.diskstorage.EntryList;
+import org.janusgraph.diskstorage.keycolumnvalue.SliceQuery;
+import org.janusgraph.graphdb.database.EdgeSerializer;
+import org.janusgraph.graphdb.database.StandardJanusGraph;
+import org.janusgraph.graphdb.internal.InternalRelation;
+import org.janusgraph.graphdb.internal.RelationCategory;
+import org.janusgraph.graphdb.transaction.StandardJanusGraphTx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EdgeSerializer#parseRelation} and {@link EdgeSerializer#writeRelation} over the adjacency list
+ * of a single vertex.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class EdgeSerializerBenchmark {
+
+    @Param({"10", "1000"})
+    int degree;
+
+    private StandardJanusGraph graph;
+    private StandardJanusGraphTx tx;
+    private EdgeSerializer serializer;
+    private EntryList entries;
+    private List<InternalRelation> relations;
+
+    @Setup
+    public void setup() {
+        graph = BenchmarkGraph.open();
+        final long hubId = BenchmarkGraph.loadStar(graph, degree);
+        tx = (StandardJanusGraphTx) graph.newTransaction();
+        serializer = graph.getEdgeSerializer();
+        final SliceQuery query = serializer.getQuery(RelationCategory.RELATION, false);
+        entries = graph.edgeQuery(hubId, query, tx.getTxHandle());
+        relations = new ArrayList<>(entries.size());
+        for (JanusGraphRelation relation : tx.getVertex(hubId).query().relations()) {
+            relations.add((InternalRelation) relation);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        tx.rollback();
+        graph.close();
+    }
+
+    @Benchmark
+    public void parseRelation(Blackhole blackhole) {
+        for (Entry entry : entries) {
+            blackhole.consume(serializer.parseRelation(entry, false, tx));
+        }
+    }
+
+    @Benchmark
+    public void writeRelation(Blackhole blackhole) {
+        for (InternalRelation relation : relations) {
+            for (int position = 0; position < relation.getLen(); position++) {
+                blackhole.consume(serializer.writeRelation(relation, position, tx));
+            }
+        }
+    }
+}
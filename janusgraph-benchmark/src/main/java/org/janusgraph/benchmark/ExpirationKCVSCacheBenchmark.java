@@ -0,0 +1,136 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.benchmark;
+
+import org.janusgraph.diskstorage.BackendException;
+import org.janusgraph.diskstorage.Entry;
+import org.janusgraph.diskstorage.EntryList;
+import org.janusgraph.diskstorage.StaticBuffer;
+import org.janusgraph.diskstorage.keycolumnvalue.KeyColumnValueStore;
+import org.janusgraph.diskstorage.keycolumnvalue.KeySliceQuery;
+import org.janusgraph.diskstorage.keycolumnvalue.SliceQuery;
+import org.janusgraph.diskstorage.keycolumnvalue.StoreTransaction;
+import org.janusgraph.diskstorage.keycolumnvalue.cache.CacheTransaction;
+import org.janusgraph.diskstorage.keycolumnvalue.cache.ExpirationKCVSCache;
+import org.janusgraph.diskstorage.keycolumnvalue.inmemory.InMemoryStoreManager;
+import org.janusgraph.diskstorage.util.BufferUtil;
+import org.janusgraph.diskstorage.util.StandardBaseTransactionConfig;
+import org.janusgraph.diskstorage.util.StaticArrayEntry;
+import org.janusgraph.diskstorage.util.time.TimestampProviders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ExpirationKCVSCache#getSlice} on its hit path (all rows cached) and on its miss path (a cache that
+ * is too small to retain any row, so that every read goes to the underlying in-memory store).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class ExpirationKCVSCacheBenchmark {
+
+    private static final int NUM_KEYS = 1000;
+    private static final int MULTI_QUERY_SIZE = 50;
+    private static final long CACHE_TIME_MS = TimeUnit.HOURS.toMillis(1);
+    private static final long CACHE_SIZE = 64 * 1024 * 1024;
+
+    @Param({"hit", "miss"})
+    String path;
+
+    @Param({"10", "100"})
+    int numColumns;
+
+    private InMemoryStoreManager storeManager;
+    private ExpirationKCVSCache cache;
+    private CacheTransaction tx;
+    private SliceQuery sliceQuery;
+    private KeySliceQuery[] queries;
+    private List<List<StaticBuffer>> multiQueryKeys;
+    private int next;
+
+    @Setup
+    public void setup() throws BackendException {
+        storeManager = new InMemoryStoreManager();
+        final KeyColumnValueStore store = storeManager.openDatabase("edgestore");
+        final StoreTransaction loadTx = storeManager.beginTransaction(StandardBaseTransactionConfig.of(TimestampProviders.MICRO));
+        for (int key = 0; key < NUM_KEYS; key++) {
+            final List<Entry> additions = new ArrayList<>(numColumns);
+            for (int column = 0; column < numColumns; column++) {
+                additions.add(StaticArrayEntry.of(BufferUtil.getIntBuffer(column), BufferUtil.getIntBuffer(key)));
+            }
+            store.mutate(BufferUtil.getIntBuffer(key), additions, KeyColumnValueStore.NO_DELETIONS, loadTx);
+        }
+        loadTx.commit();
+
+        final long maximumByteSize = "hit".equals(path) ? CACHE_SIZE : 1;
+        cache = new ExpirationKCVSCache(store, null, CACHE_TIME_MS, CACHE_TIME_MS, maximumByteSize);
+        tx = new CacheTransaction(storeManager.beginTransaction(StandardBaseTransactionConfig.of(TimestampProviders.MICRO)),
+                storeManager, 1024, Duration.ofMillis(100), false);
+
+        sliceQuery = new SliceQuery(BufferUtil.zeroBuffer(4), BufferUtil.oneBuffer(4));
+        queries = new KeySliceQuery[NUM_KEYS];
+        multiQueryKeys = new ArrayList<>(NUM_KEYS / MULTI_QUERY_SIZE);
+        List<StaticBuffer> keys = new ArrayList<>(MULTI_QUERY_SIZE);
+        for (int key = 0; key < NUM_KEYS; key++) {
+            queries[key] = new KeySliceQuery(BufferUtil.getIntBuffer(key), sliceQuery);
+            keys.add(queries[key].getKey());
+            if (keys.size() == MULTI_QUERY_SIZE) {
+                multiQueryKeys.add(keys);
+                keys = new ArrayList<>(MULTI_QUERY_SIZE);
+            }
+        }
+        for (KeySliceQuery query : queries) {
+            cache.getSlice(query, tx);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws BackendException {
+        tx.rollback();
+        cache.close();
+        storeManager.close();
+    }
+
+    @Benchmark
+    public EntryList getSlice() throws BackendException {
+        next = (next + 1) % NUM_KEYS;
+        return cache.getSlice(queries[next], tx);
+    }
+
+    @Benchmark
+    public Map<StaticBuffer, EntryList> getMultiSlice() throws BackendException {
+        next = (next + 1) % multiQueryKeys.size();
+        return cache.getSlice(multiQueryKeys.get(next), sliceQuery, tx);
+    }
+}
@@ -0,0 +1,97 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.benchmark;
+
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.janusgraph.core.JanusGraphTransaction;
+import org.janusgraph.graphdb.database.IndexSerializer;
+import org.janusgraph.graphdb.database.StandardJanusGraph;
+import org.janusgraph.graphdb.internal.InternalRelation;
+import org.janusgraph.graphdb.internal.InternalVertex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the composite index updates computed by {@link IndexSerializer#getIndexUpdates} for a newly added vertex.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class IndexSerializerBenchmark {
+
+    private StandardJanusGraph graph;
+    private IndexSerializer indexSerializer;
+    private JanusGraphTransaction tx;
+    private InternalVertex vertex;
+    private List<InternalRelation> properties;
+
+    @Setup(Level.Trial)
+    public void setupGraph() {
+        graph = BenchmarkGraph.open();
+        indexSerializer = graph.getIndexSerializer();
+    }
+
+    @Setup(Level.Iteration)
+    public void setupVertex() {
+        tx = graph.newTransaction();
+        vertex = (InternalVertex) tx.addVertex(BenchmarkGraph.UID, 1L, BenchmarkGraph.NAME, "v1");
+        properties = new ArrayList<>();
+        final Iterator<VertexProperty<Object>> iterator = vertex.properties();
+        while (iterator.hasNext()) {
+            properties.add((InternalRelation) iterator.next());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownVertex() {
+        tx.rollback();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownGraph() {
+        graph.close();
+    }
+
+    @Benchmark
+    public void vertexIndexUpdates(Blackhole blackhole) {
+        blackhole.consume(indexSerializer.getIndexUpdates(vertex, properties));
+    }
+
+    @Benchmark
+    public void relationIndexUpdates(Blackhole blackhole) {
+        for (InternalRelation property : properties) {
+            blackhole.consume(indexSerializer.getIndexUpdates(property));
+        }
+    }
+}
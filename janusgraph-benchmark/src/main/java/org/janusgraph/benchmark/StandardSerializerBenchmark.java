@@ -0,0 +1,105 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.benchmark;
+
+import org.janusgraph.graphdb.database.serialize.DataOutput;
+import org.janusgraph.graphdb.database.serialize.StandardSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures write/read round trips of common attribute types through {@link StandardSerializer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class StandardSerializerBenchmark {
+
+    private StandardSerializer serializer;
+    private String shortString;
+    private String longString;
+    private String[] stringArray;
+    private Date date;
+
+    @Setup
+    public void setup() {
+        serializer = new StandardSerializer();
+        shortString = "janusgraph";
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.append("The quick brown fox jumps over the lazy dog. ");
+        }
+        longString = builder.toString();
+        stringArray = new String[]{"alpha", "beta", "gamma", "delta", "epsilon"};
+        date = new Date(1500000000000L);
+    }
+
+    private <T> T roundTrip(T value, Class<T> type) {
+        final DataOutput out = serializer.getDataOutput(128);
+        out.writeObjectNotNull(value);
+        return serializer.readObjectNotNull(out.getStaticBuffer().asReadBuffer(), type);
+    }
+
+    @Benchmark
+    public Long roundTripLong() {
+        return roundTrip(123456789L, Long.class);
+    }
+
+    @Benchmark
+    public Double roundTripDouble() {
+        return roundTrip(Math.PI, Double.class);
+    }
+
+    @Benchmark
+    public String roundTripShortString() {
+        return roundTrip(shortString, String.class);
+    }
+
+    @Benchmark
+    public String roundTripLongString() {
+        return roundTrip(longString, String.class);
+    }
+
+    @Benchmark
+    public String[] roundTripStringArray() {
+        return roundTrip(stringArray, String[].class);
+    }
+
+    @Benchmark
+    public Date roundTripDate() {
+        return roundTrip(date, Date.class);
+    }
+
+    @Benchmark
+    public Object roundTripClassAndObject() {
+        final DataOutput out = serializer.getDataOutput(128);
+        out.writeClassAndObject(shortString);
+        return serializer.readClassAndObject(out.getStaticBuffer().asReadBuffer());
+    }
+}
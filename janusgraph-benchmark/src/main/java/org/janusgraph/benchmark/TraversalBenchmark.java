@@ -0,0 +1,119 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.benchmark;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.janusgraph.graphdb.database.StandardJanusGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures complete Gremlin traversals against a random graph stored in the in-memory backend. Each invocation runs
+ * in a fresh transaction, so that only the database-level cache (if enabled) is reused between invocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class TraversalBenchmark {
+
+    private static final int NUM_START_VERTICES = 1024;
+
+    @Param({"10000"})
+    int numVertices;
+
+    @Param({"10"})
+    int degree;
+
+    private StandardJanusGraph graph;
+    private GraphTraversalSource g;
+    private long[] startUids;
+    private int next;
+
+    @Setup
+    public void setup() {
+        graph = BenchmarkGraph.open();
+        BenchmarkGraph.loadRandom(graph, numVertices, degree, 42);
+        g = graph.traversal();
+        final Random random = new Random(7);
+        startUids = new long[NUM_START_VERTICES];
+        for (int i = 0; i < startUids.length; i++) {
+            startUids[i] = random.nextInt(numVertices);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        graph.close();
+    }
+
+    private long nextUid() {
+        next = (next + 1) % startUids.length;
+        return startUids[next];
+    }
+
+    @Benchmark
+    public Long indexLookup() {
+        try {
+            return g.V().has(BenchmarkGraph.UID, nextUid()).count().next();
+        } finally {
+            graph.tx().rollback();
+        }
+    }
+
+    @Benchmark
+    public Long oneHop() {
+        try {
+            return g.V().has(BenchmarkGraph.UID, nextUid()).out(BenchmarkGraph.KNOWS).count().next();
+        } finally {
+            graph.tx().rollback();
+        }
+    }
+
+    @Benchmark
+    public Long twoHops() {
+        try {
+            return g.V().has(BenchmarkGraph.UID, nextUid()).out(BenchmarkGraph.KNOWS).out(BenchmarkGraph.KNOWS).count().next();
+        } finally {
+            graph.tx().rollback();
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> neighbourValueMaps() {
+        try {
+            return g.V().has(BenchmarkGraph.UID, nextUid()).out(BenchmarkGraph.KNOWS).valueMap().toList();
+        } finally {
+            graph.tx().rollback();
+        }
+    }
+}
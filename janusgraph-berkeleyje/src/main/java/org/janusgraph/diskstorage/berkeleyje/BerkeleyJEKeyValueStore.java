@@ -30,6 +30,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -118,38 +119,39 @@ public class BerkeleyJEKeyValueStore implements OrderedKeyValueStore {
     @Override
     public RecordIterator<KeyValueEntry> getSlice(KVQuery query, StoreTransaction txh) throws BackendException {
         log.trace("beginning db={}, op=getSlice, tx={}", name, txh);
-        final Transaction tx = getTransaction(txh);
-        final StaticBuffer keyStart = query.getStart();
-        final StaticBuffer keyEnd = query.getEnd();
-        final KeySelector selector = query.getKeySelector();
-        final List<KeyValueEntry> result = new ArrayList<>();
-        final DatabaseEntry foundKey = keyStart.as(ENTRY_FACTORY);
-        final DatabaseEntry foundData = new DatabaseEntry();
-
-        try (final Cursor cursor = db.openCursor(tx, null)) {
-            OperationStatus status = cursor.getSearchKeyRange(foundKey, foundData, getLockMode(txh));
-            //Iterate until given condition is satisfied or end of records
-            while (status == OperationStatus.SUCCESS) {
-                StaticBuffer key = getBuffer(foundKey);
-
-                if (key.compareTo(keyEnd) >= 0)
-                    break;
+        final List<KeyValueEntry> result;
+        try (final SliceScanner scanner = new SliceScanner(getTransaction(txh), getLockMode(txh))) {
+            result = scanner.scan(query);
+        } catch (Exception e) {
+            throw new PermanentBackendException(e);
+        }
 
-                if (selector.include(key)) {
-                    result.add(new KeyValueEntry(key, getBuffer(foundData)));
-                }
+        log.trace("db={}, op=getSlice, tx={}, resultcount={}", name, txh, result.size());
 
-                if (selector.reachedLimit())
-                    break;
+        return getRecordIterator(result);
+    }
 
-                status = cursor.getNext(foundKey, foundData, getLockMode(txh));
+    /**
+     * Executes the queries in the order of their start keys with a single cursor. For clustered keys the cursor
+     * is usually left on the first record of the next query, in which case no search is required.
+     */
+    @Override
+    public Map<KVQuery,RecordIterator<KeyValueEntry>> getSlices(List<KVQuery> queries, StoreTransaction txh) throws BackendException {
+        log.trace("beginning db={}, op=getSlices, tx={}, queries={}", name, txh, queries.size());
+        final List<KVQuery> sorted = new ArrayList<>(queries);
+        sorted.sort((q1, q2) -> q1.getStart().compareTo(q2.getStart()));
+        final Map<KVQuery,RecordIterator<KeyValueEntry>> results = new HashMap<>(queries.size());
+        try (final SliceScanner scanner = new SliceScanner(getTransaction(txh), getLockMode(txh))) {
+            for (KVQuery query : sorted) {
+                results.put(query, getRecordIterator(scanner.scan(query)));
             }
         } catch (Exception e) {
             throw new PermanentBackendException(e);
         }
+        return results;
+    }
 
-        log.trace("db={}, op=getSlice, tx={}, resultcount={}", name, txh, result.size());
-
+    private static RecordIterator<KeyValueEntry> getRecordIterator(final List<KeyValueEntry> result) {
         return new RecordIterator<KeyValueEntry>() {
             private final Iterator<KeyValueEntry> entries = result.iterator();
 
@@ -174,11 +176,6 @@ public class BerkeleyJEKeyValueStore implements OrderedKeyValueStore {
         };
     }
 
-    @Override
-    public Map<KVQuery,RecordIterator<KeyValueEntry>> getSlices(List<KVQuery> queries, StoreTransaction txh) throws BackendException {
-        throw new UnsupportedOperationException();
-    }
-
     @Override
     public void insert(StaticBuffer key, StaticBuffer value, StoreTransaction txh) throws BackendException {
         insert(key, value, txh, true);
@@ -231,4 +228,64 @@ public class BerkeleyJEKeyValueStore implements OrderedKeyValueStore {
     private static LockMode getLockMode(StoreTransaction txh) {
         return ((BerkeleyJETx)txh).getLockMode();
     }
+
+    /**
+     * Evaluates {@link KVQuery}s against a single cursor. If a query is not positioned before the end key of the
+     * previously evaluated query and the cursor already rests on the first record at or after its start key, the
+     * cursor is not repositioned.
+     */
+    private class SliceScanner implements AutoCloseable {
+
+        private final Cursor cursor;
+        private final LockMode lockMode;
+        private DatabaseEntry foundKey = new DatabaseEntry();
+        private final DatabaseEntry foundData = new DatabaseEntry();
+        private OperationStatus status = OperationStatus.NOTFOUND;
+        //If not null, the cursor rests on the first record at or after this key (or no such record exists)
+        private StaticBuffer positionedAt = null;
+
+        private SliceScanner(Transaction tx, LockMode lockMode) {
+            this.cursor = db.openCursor(tx, null);
+            this.lockMode = lockMode;
+        }
+
+        private List<KeyValueEntry> scan(KVQuery query) {
+            final StaticBuffer keyStart = query.getStart();
+            final StaticBuffer keyEnd = query.getEnd();
+            final KeySelector selector = query.getKeySelector();
+            final List<KeyValueEntry> result = new ArrayList<>();
+
+            if (positionedAt == null || keyStart.compareTo(positionedAt) < 0
+                    || (status == OperationStatus.SUCCESS && keyStart.compareTo(getBuffer(foundKey)) > 0)) {
+                foundKey = keyStart.as(ENTRY_FACTORY);
+                status = cursor.getSearchKeyRange(foundKey, foundData, lockMode);
+            }
+            //Iterate until given condition is satisfied or end of records
+            while (status == OperationStatus.SUCCESS) {
+                StaticBuffer key = getBuffer(foundKey);
+
+                if (key.compareTo(keyEnd) >= 0)
+                    break;
+
+                if (selector.include(key)) {
+                    result.add(new KeyValueEntry(key, getBuffer(foundData)));
+                }
+
+                if (selector.reachedLimit()) {
+                    //The cursor rests on a record which has already been returned
+                    positionedAt = null;
+                    return result;
+                }
+
+                status = cursor.getNext(foundKey, foundData, lockMode);
+            }
+            positionedAt = keyStart.compareTo(keyEnd) > 0 ? keyStart : keyEnd;
+            return result;
+        }
+
+        @Override
+        public void close() {
+            cursor.close();
+        }
+    }
 }
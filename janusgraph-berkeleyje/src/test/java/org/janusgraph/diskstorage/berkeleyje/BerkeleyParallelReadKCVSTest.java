@@ -0,0 +1,33 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage.berkeleyje;
+
+import com.google.common.collect.ImmutableMap;
+import org.janusgraph.BerkeleyStorageSetup;
+import org.janusgraph.diskstorage.BackendException;
+import org.janusgraph.diskstorage.keycolumnvalue.KeyColumnValueStoreManager;
+import org.janusgraph.diskstorage.keycolumnvalue.keyvalue.OrderedKeyValueStoreManagerAdapter;
+
+/**
+ * Runs the store tests with multi-key slice queries being read by concurrent readers.
+ */
+public class BerkeleyParallelReadKCVSTest extends BerkeleyFixedLengthKCVSTest {
+
+    @Override
+    public KeyColumnValueStoreManager openStorageManager() throws BackendException {
+        BerkeleyJEStoreManager sm = new BerkeleyJEStoreManager(BerkeleyStorageSetup.getBerkeleyJEConfiguration());
+        return new OrderedKeyValueStoreManagerAdapter(sm, ImmutableMap.of(storeName, 8), 3);
+    }
+}
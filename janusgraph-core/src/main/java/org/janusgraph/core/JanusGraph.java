@@ -98,6 +98,16 @@ public interface JanusGraph extends Transaction {
      */
     JanusGraphManagement openManagement();
 
+    /**
+     * Opens a {@link JanusGraphBulkLoader} which writes vertices and edges directly to the storage backend, bypassing
+     * the transactional bookkeeping of {@link JanusGraphTransaction}s. The bulk loader must be closed to flush the
+     * remaining buffered entries.
+     *
+     * @return a new bulk loader
+     * @see JanusGraphBulkLoader
+     */
+    JanusGraphBulkLoader openBulkLoader();
+
     /**
      * Checks whether the graph is open.
      *
@@ -0,0 +1,85 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.janusgraph.core;
+
+/**
+ * Loads vertices and edges into a {@link JanusGraph} without going through a {@link JanusGraphTransaction}.
+ * <p>
+ * Elements are assigned their ids when they are added and serialized immediately into buffers of storage backend
+ * entries which are sorted by key. Once the buffers reach
+ * {@link org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration#BULK_LOAD_BUFFER_SIZE} entries, they are
+ * written to the storage backend by
+ * {@link org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration#BULK_LOAD_THREADS} threads in parallel.
+ * <p>
+ * The bulk loader is intended for initial loads into a graph with a pre-declared schema and therefore makes the
+ * following assumptions:
+ * <ul>
+ * <li>All vertex labels, property keys and edge labels exist. Schema elements and property constraints are never
+ * created automatically.</li>
+ * <li>Vertices are new. Edges can only be added between vertices whose ids have been returned by a bulk loader.</li>
+ * <li>No locks are acquired and neither uniqueness, multiplicity nor connection constraints are verified.</li>
+ * <li>Added elements are not visible to queries until they have been flushed and are not written to the transaction
+ * log. Elements which were already flushed are not removed if loading fails.</li>
+ * </ul>
+ * A bulk loader may only be used by a single thread. To load in parallel, open one bulk loader per thread.
+ *
+ * @see JanusGraph#openBulkLoader()
+ */
+public interface JanusGraphBulkLoader extends AutoCloseable {
+
+    /**
+     * Adds a new vertex with the given vertex label and properties.
+     *
+     * @param vertexLabel name of an existing, non-partitioned vertex label
+     * @param keyValues alternating property key names and values
+     * @return the id of the new vertex
+     */
+    long addVertex(String vertexLabel, Object... keyValues);
+
+    /**
+     * Adds a new vertex with the default vertex label and the given properties.
+     *
+     * @param keyValues alternating property key names and values
+     * @return the id of the new vertex
+     * @see #addVertex(String, Object...)
+     */
+    long addVertex(Object... keyValues);
+
+    /**
+     * Adds a new edge with the given edge label and properties between two vertices that were added by a bulk loader.
+     *
+     * @param outVertexId id of the out-vertex
+     * @param edgeLabel name of an existing edge label
+     * @param inVertexId id of the in-vertex
+     * @param keyValues alternating property key names and values
+     */
+    void addEdge(long outVertexId, String edgeLabel, long inVertexId, Object... keyValues);
+
+    /**
+     * Writes all buffered entries to the storage backend.
+     *
+     * @throws JanusGraphException if writing to the storage backend failed
+     */
+    void flush();
+
+    /**
+     * Flushes all buffered entries and releases the resources held by this bulk loader.
+     *
+     * @throws JanusGraphException if writing to the storage backend failed
+     */
+    @Override
+    void close();
+}
@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Element;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -380,6 +381,17 @@ public interface JanusGraphManagement extends JanusGraphConfiguration, SchemaMan
      */
     Iterable<VertexLabel> getVertexLabels();
 
+    /**
+     * Returns the vertex labels which are not partitioned but have vertices that this graph instance observed to have
+     * at least as many relations as configured by
+     * {@link org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration#SUPERNODE_DEGREE_THRESHOLD}, mapped to
+     * the maximum observed degree and ordered by decreasing degree. Such vertex labels are candidates for
+     * {@link VertexLabelMaker#partition()}.
+     *
+     * @return
+     */
+    Map<VertexLabel,Long> getPartitioningCandidates();
+
     /**
      * Whether this management transaction is open or has been closed (i.e. committed or rolled-back)
      *
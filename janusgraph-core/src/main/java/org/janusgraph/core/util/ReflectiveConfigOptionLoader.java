@@ -131,7 +131,8 @@ public enum ReflectiveConfigOptionLoader {
             "org.janusgraph.graphdb.database.idassigner.VertexIDAssigner",
             //"org.janusgraph.graphdb.TestMockIndexProvider",
             //"org.janusgraph.graphdb.TestMockLog",
-            "org.janusgraph.diskstorage.berkeleyje.BerkeleyJEStoreManager");
+            "org.janusgraph.diskstorage.berkeleyje.BerkeleyJEStoreManager",
+            "org.janusgraph.diskstorage.mmap.MappedStoreManager");
 
         Timer t = new Timer(TimestampProviders.MILLI);
         t.start();
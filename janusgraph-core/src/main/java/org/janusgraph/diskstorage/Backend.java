@@ -28,9 +28,11 @@ import org.janusgraph.diskstorage.indexing.*;
 import org.janusgraph.diskstorage.keycolumnvalue.*;
 import org.janusgraph.diskstorage.keycolumnvalue.cache.CacheTransaction;
 import org.janusgraph.diskstorage.keycolumnvalue.cache.ExpirationKCVSCache;
+import org.janusgraph.diskstorage.keycolumnvalue.cache.TinyLFUKCVSCache;
 import org.janusgraph.diskstorage.keycolumnvalue.cache.KCVSCache;
 import org.janusgraph.diskstorage.keycolumnvalue.cache.NoKCVSCache;
 import org.janusgraph.diskstorage.keycolumnvalue.keyvalue.*;
+import org.janusgraph.diskstorage.keycolumnvalue.scan.ScanCheckpoint;
 import org.janusgraph.diskstorage.keycolumnvalue.scan.StandardScanner;
 import org.janusgraph.diskstorage.locking.Locker;
 import org.janusgraph.diskstorage.locking.LockerProvider;
@@ -40,10 +42,14 @@ import org.janusgraph.diskstorage.log.Log;
 import org.janusgraph.diskstorage.log.LogManager;
 import org.janusgraph.diskstorage.log.kcvs.KCVSLog;
 import org.janusgraph.diskstorage.log.kcvs.KCVSLogManager;
+import org.janusgraph.diskstorage.util.BackendCompression;
 import org.janusgraph.diskstorage.util.BackendOperation;
+import org.janusgraph.diskstorage.util.CompressingStoreManager;
+import org.janusgraph.diskstorage.util.CompressionAlgorithm;
 import org.janusgraph.diskstorage.configuration.backend.KCVSConfiguration;
 import org.janusgraph.diskstorage.util.MetricInstrumentedStoreManager;
 import org.janusgraph.diskstorage.util.StandardBaseTransactionConfig;
+import org.janusgraph.diskstorage.util.StandardBackendCompression;
 import org.janusgraph.diskstorage.util.time.TimestampProvider;
 import org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration;
 import org.janusgraph.graphdb.transaction.TransactionConfiguration;
@@ -130,6 +136,7 @@ public class Backend implements LockerProvider, AutoCloseable {
     private final Duration maxReadTime;
     private final boolean cacheEnabled;
     private final ExecutorService threadPool;
+    private final boolean parallelCommit;
 
     private final Function<String, Locker> lockerCreator;
     private final ConcurrentHashMap<String, Locker> lockers = new ConcurrentHashMap<>();
@@ -140,6 +147,14 @@ public class Backend implements LockerProvider, AutoCloseable {
         this.configuration = configuration;
 
         KeyColumnValueStoreManager manager = getStorageManager(configuration);
+        final String[] compressedStores = configuration.get(STORAGE_COMPRESSION_STORES);
+        if (compressedStores.length > 0) {
+            final String algorithm = configuration.get(STORAGE_COMPRESSION_ALGORITHM);
+            final BackendCompression compression = new StandardBackendCompression(
+                    "none".equalsIgnoreCase(algorithm) ? null : CompressionAlgorithm.getFromName(algorithm),
+                    configuration.get(STORAGE_COMPRESSION_THRESHOLD));
+            manager = new CompressingStoreManager(manager, compression, Arrays.asList(compressedStores));
+        }
         if (configuration.get(BASIC_METRICS)) {
             storeManager = new MetricInstrumentedStoreManager(manager,METRICS_STOREMANAGER_NAME,configuration.get(METRICS_MERGE_STORES),METRICS_MERGED_STORE);
         } else {
@@ -178,6 +193,11 @@ public class Backend implements LockerProvider, AutoCloseable {
         } else {
             threadPool = null;
         }
+        parallelCommit = configuration.get(PARALLEL_COMMIT);
+        if (parallelCommit && threadPool == null) {
+            log.warn("Parallel commits require [{}] to be enabled, hence transactions are committed sequentially",
+                    ConfigElement.getPath(PARALLEL_BACKEND_OPS));
+        }
 
         final String lockBackendName = configuration.get(LOCK_BACKEND);
         if (REGISTERED_LOCKERS.containsKey(lockBackendName)) {
@@ -258,8 +278,13 @@ public class Backend implements LockerProvider, AutoCloseable {
                 long edgeStoreCacheSize = Math.round(cacheSizeBytes * EDGESTORE_CACHE_PERCENT);
                 long indexStoreCacheSize = Math.round(cacheSizeBytes * INDEXSTORE_CACHE_PERCENT);
 
-                edgeStore = new ExpirationKCVSCache(edgeStoreRaw,getMetricsCacheName(EDGESTORE_NAME),expirationTime,cleanWaitTime,edgeStoreCacheSize);
-                indexStore = new ExpirationKCVSCache(indexStoreRaw,getMetricsCacheName(INDEXSTORE_NAME),expirationTime,cleanWaitTime,indexStoreCacheSize);
+                if (DB_CACHE_TINYLFU.equals(configuration.get(DB_CACHE_IMPLEMENTATION))) {
+                    edgeStore = new TinyLFUKCVSCache(edgeStoreRaw,getMetricsCacheName(EDGESTORE_NAME),expirationTime,cleanWaitTime,edgeStoreCacheSize);
+                    indexStore = new TinyLFUKCVSCache(indexStoreRaw,getMetricsCacheName(INDEXSTORE_NAME),expirationTime,cleanWaitTime,indexStoreCacheSize);
+                } else {
+                    edgeStore = new ExpirationKCVSCache(edgeStoreRaw,getMetricsCacheName(EDGESTORE_NAME),expirationTime,cleanWaitTime,edgeStoreCacheSize);
+                    indexStore = new ExpirationKCVSCache(indexStoreRaw,getMetricsCacheName(INDEXSTORE_NAME),expirationTime,cleanWaitTime,indexStoreCacheSize);
+                }
             } else {
                 edgeStore = new NoKCVSCache(edgeStoreRaw);
                 indexStore = new NoKCVSCache(indexStoreRaw);
@@ -351,10 +376,21 @@ public class Backend implements LockerProvider, AutoCloseable {
                 .setTimestampProvider(provider)
                 .setJobConfiguration(jobConfig)
                 .setGraphConfiguration(configuration)
-                .setNumProcessingThreads(1)
+                .setNumProcessingThreads(configuration.get(SCAN_THREADS))
+                .setNumKeyRanges(configuration.get(SCAN_KEY_RANGES))
+                .setOpsPerSecond(configuration.get(SCAN_OPS_PER_SECOND))
                 .setWorkBlockSize(10000);
     }
 
+    /**
+     * Returns the checkpoint of the scan job with the given name which is stored in the global system configuration,
+     * or null if checkpoints are disabled.
+     */
+    public ScanCheckpoint getScanCheckpoint(String jobName) {
+        if (!configuration.get(SCAN_CHECKPOINT)) return null;
+        return new ScanCheckpoint(systemConfig, jobName);
+    }
+
     public JanusGraphManagement.IndexJobFuture getScanJobStatus(Object jobId) {
         return scanner.getRunningJob(jobId);
     }
@@ -410,7 +446,7 @@ public class Backend implements LockerProvider, AutoCloseable {
         if (manager instanceof OrderedKeyValueStoreManager) {
             manager = new OrderedKeyValueStoreManagerAdapter((OrderedKeyValueStoreManager) manager,
                 ImmutableMap.of(EDGESTORE_NAME, 8, EDGESTORE_NAME + LOCK_STORE_SUFFIX, 8,
-                    storageConfig.get(IDS_STORE_NAME), 8));
+                    storageConfig.get(IDS_STORE_NAME), 8), storageConfig.get(KEY_VALUE_READ_THREADS));
         }
         Preconditions.checkArgument(manager instanceof KeyColumnValueStoreManager,"Invalid storage manager: %s",manager.getClass());
         return (KeyColumnValueStoreManager) manager;
@@ -504,6 +540,14 @@ public class Backend implements LockerProvider, AutoCloseable {
         return storeManager;
     }
 
+    /**
+     * Whether the column values of the given store are compressed, see
+     * {@link GraphDatabaseConfiguration#STORAGE_COMPRESSION_STORES}
+     */
+    public boolean isCompressed(String storeName) {
+        return Arrays.asList(configuration.get(STORAGE_COMPRESSION_STORES)).contains(storeName);
+    }
+
     /**
      * Returns the {@link IndexFeatures} of all configured index backends
      */
@@ -538,7 +582,7 @@ public class Backend implements LockerProvider, AutoCloseable {
 
         return new BackendTransaction(cacheTx, configuration, storeFeatures,
                 edgeStore, indexStore, txLogStore,
-                maxReadTime, indexTx, threadPool);
+                maxReadTime, indexTx, threadPool, parallelCommit);
     }
 
     public synchronized void close() throws BackendException {
@@ -609,6 +653,7 @@ public class Backend implements LockerProvider, AutoCloseable {
         m.put(StandardStoreManager.CASSANDRA_EMBEDDED, STORAGE_CONF_FILE);
         m.put(StandardStoreManager.CASSANDRA_THRIFT, STORAGE_HOSTS);
         m.put(StandardStoreManager.HBASE, STORAGE_HOSTS);
+        m.put(StandardStoreManager.MMAP, STORAGE_DIRECTORY);
         //m.put(StandardStorageBackend.IN_MEMORY, null);
 
         //STORE_SHORTHAND_OPTIONS = Maps.immutableEnumMap(m);
@@ -15,13 +15,18 @@
 package org.janusgraph.diskstorage;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.janusgraph.diskstorage.keycolumnvalue.cache.KCVSCache;
@@ -78,6 +83,7 @@ public class BackendTransaction implements LoggableTransaction {
     private final Duration maxReadTime;
 
     private final Executor threadPool;
+    private final boolean parallelCommit;
 
     private final Map<String, IndexTransaction> indexTx;
 
@@ -87,7 +93,7 @@ public class BackendTransaction implements LoggableTransaction {
     public BackendTransaction(CacheTransaction storeTx, BaseTransactionConfig txConfig,
                               StoreFeatures features, KCVSCache edgeStore, KCVSCache indexStore,
                               KCVSCache txLogStore, Duration maxReadTime,
-                              Map<String, IndexTransaction> indexTx, Executor threadPool) {
+                              Map<String, IndexTransaction> indexTx, Executor threadPool, boolean parallelCommit) {
         this.storeTx = storeTx;
         this.txConfig = txConfig;
         this.storeFeatures = features;
@@ -97,6 +103,7 @@ public class BackendTransaction implements LoggableTransaction {
         this.maxReadTime = maxReadTime;
         this.indexTx = indexTx;
         this.threadPool = threadPool;
+        this.parallelCommit = parallelCommit;
     }
 
     public boolean hasAcquiredLock() {
@@ -115,6 +122,14 @@ public class BackendTransaction implements LoggableTransaction {
         return txConfig;
     }
 
+    /**
+     * Returns the executor for parallel backend operations of this transaction or null if backend operations are
+     * not executed in parallel.
+     */
+    public Executor getThreadPool() {
+        return threadPool;
+    }
+
     public IndexTransaction getIndexTransaction(String index) {
         Preconditions.checkArgument(StringUtils.isNotBlank(index));
         IndexTransaction itx = indexTx.get(index);
@@ -130,11 +145,16 @@ public class BackendTransaction implements LoggableTransaction {
         this.cacheEnabled = true;
     }
 
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
     public void commitStorage() throws BackendException {
         storeTx.commit();
     }
 
     public Map<String,Throwable> commitIndexes() {
+        if (isParallelIndexCommit()) return commitIndexesAsync().join();
         final Map<String,Throwable> exceptions = new HashMap<>(indexTx.size());
         for (Map.Entry<String,IndexTransaction> indexTransactionEntry : indexTx.entrySet()) {
             try {
@@ -146,6 +166,34 @@ public class BackendTransaction implements LoggableTransaction {
         return exceptions;
     }
 
+    /**
+     * Commits all index transactions like {@link #commitIndexes()} but without waiting for them. If parallel commits
+     * are enabled, the index transactions are committed concurrently on the backend thread pool, otherwise they are
+     * committed on the calling thread before this method returns.
+     *
+     * @return Future of the exceptions that occurred while committing, keyed by index name
+     */
+    public CompletableFuture<Map<String,Throwable>> commitIndexesAsync() {
+        if (!isParallelIndexCommit()) return CompletableFuture.completedFuture(commitIndexes());
+        final Map<String,Throwable> exceptions = new ConcurrentHashMap<>(indexTx.size());
+        final CompletableFuture<?>[] commits = new CompletableFuture<?>[indexTx.size()];
+        int i = 0;
+        for (Map.Entry<String,IndexTransaction> indexTransactionEntry : indexTx.entrySet()) {
+            commits[i++] = CompletableFuture.runAsync(() -> {
+                try {
+                    indexTransactionEntry.getValue().commit();
+                } catch (Throwable e) {
+                    exceptions.put(indexTransactionEntry.getKey(),e);
+                }
+            }, threadPool);
+        }
+        return CompletableFuture.allOf(commits).thenApply(v -> new HashMap<>(exceptions));
+    }
+
+    private boolean isParallelIndexCommit() {
+        return parallelCommit && threadPool != null && indexTx.size() >= MIN_TASKS_TO_PARALLELIZE;
+    }
+
     @Override
     public void commit() throws BackendException {
         storeTx.commit();
@@ -280,6 +328,25 @@ public class BackendTransaction implements LoggableTransaction {
         });
     }
 
+    /**
+     * Asynchronous variant of {@link #edgeStoreQuery(KeySliceQuery)} which does not block the calling thread while
+     * the storage backend executes the query, provided the backend supports asynchronous reads.
+     */
+    public CompletableFuture<EntryList> edgeStoreQueryAsync(final KeySliceQuery query) {
+        return executeReadAsync(new Supplier<CompletableFuture<EntryList>>() {
+            @Override
+            public CompletableFuture<EntryList> get() {
+                return cacheEnabled?edgeStore.getSliceAsync(query, storeTx):
+                                    edgeStore.getSliceNoCacheAsync(query, storeTx);
+            }
+
+            @Override
+            public String toString() {
+                return "EdgeStoreQuery";
+            }
+        });
+    }
+
     public Map<StaticBuffer,EntryList> edgeStoreMultiQuery(final List<StaticBuffer> keys, final SliceQuery query) {
         if (storeFeatures.hasMultiQuery()) {
             return executeRead(new Callable<Map<StaticBuffer,EntryList>>() {
@@ -296,10 +363,24 @@ public class BackendTransaction implements LoggableTransaction {
             });
         } else {
             final Map<StaticBuffer,EntryList> results = new HashMap<>(keys.size());
-            if (threadPool == null || keys.size() < MIN_TASKS_TO_PARALLELIZE) {
+            if (keys.size() < MIN_TASKS_TO_PARALLELIZE) {
                 for (StaticBuffer key : keys) {
                     results.put(key,edgeStoreQuery(new KeySliceQuery(key, query)));
                 }
+            } else if (threadPool == null) {
+                //Issue all slice queries at once, they are executed concurrently if the store supports asynchronous reads
+                final List<CompletableFuture<EntryList>> futures = new ArrayList<>(keys.size());
+                for (StaticBuffer key : keys) {
+                    futures.add(edgeStoreQueryAsync(new KeySliceQuery(key, query)));
+                }
+                for (int i = 0; i < keys.size(); i++) {
+                    try {
+                        results.put(keys.get(i), futures.get(i).join());
+                    } catch (CompletionException e) {
+                        if (e.getCause() instanceof JanusGraphException) throw (JanusGraphException) e.getCause();
+                        throw new JanusGraphException("Could not successfully complete multi-query", e.getCause());
+                    }
+                }
             } else {
                 final CountDownLatch doneSignal = new CountDownLatch(keys.size());
                 final AtomicInteger failureCount = new AtomicInteger(0);
@@ -392,6 +473,24 @@ public class BackendTransaction implements LoggableTransaction {
         });
     }
 
+    /**
+     * Asynchronous variant of {@link #indexQuery(KeySliceQuery)}
+     */
+    public CompletableFuture<EntryList> indexQueryAsync(final KeySliceQuery query) {
+        return executeReadAsync(new Supplier<CompletableFuture<EntryList>>() {
+            @Override
+            public CompletableFuture<EntryList> get() {
+                return cacheEnabled?indexStore.getSliceAsync(query, storeTx):
+                                    indexStore.getSliceNoCacheAsync(query, storeTx);
+            }
+
+            @Override
+            public String toString() {
+                return "VertexIndexQuery";
+            }
+        });
+    }
+
     public EntryList indexQuery(final KeySliceQuery query) {
         return executeRead(new Callable<EntryList>() {
             @Override
@@ -476,4 +575,30 @@ public class BackendTransaction implements LoggableTransaction {
         }
     }
 
+    private <V> CompletableFuture<V> executeReadAsync(Supplier<CompletableFuture<V>> exe) {
+        final CompletableFuture<V> result = new CompletableFuture<>();
+        BackendOperation.executeAsync(exe, maxReadTime).whenComplete((value, e) -> {
+            if (e == null) {
+                result.complete(value);
+            } else if (e instanceof JanusGraphException && (Thread.interrupted() || isInterruption(e))) {
+                // support traversal interruption like executeRead
+                result.completeExceptionally(new TraversalInterruptedException());
+            } else {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * The future may be completed on a different thread than the interrupted one, hence also check whether the read
+     * failed due to an interruption.
+     */
+    private static boolean isInterruption(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException || cause instanceof TraversalInterruptedException) return true;
+        }
+        return false;
+    }
+
 }
@@ -0,0 +1,111 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage;
+
+import com.google.common.base.Preconditions;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Cursor over the entries of an {@link EntryList}. Unlike iterating the list, moving the cursor over a
+ * {@link org.janusgraph.diskstorage.util.StaticArrayEntryList} does not allocate an {@link Entry} per element since
+ * the current entry is exposed through a reused view.
+ * <p>
+ * The cursor is positioned before the first entry when it is created. The entry returned by {@link #asEntry()} is
+ * only valid until the cursor is moved.
+ *
+ * @see EntryList#cursor()
+ */
+public interface EntryCursor {
+
+    /**
+     * Moves the cursor to the next entry.
+     *
+     * @return true if the cursor points to an entry, false if all entries have been visited
+     */
+    boolean advance();
+
+    /**
+     * Positions the cursor before the entry at the given index, so that the next call to {@link #advance()} moves to it.
+     * The cursor does not point to an entry until then.
+     *
+     * @param index index between 0 and the size of the list (inclusive)
+     */
+    void seek(int index);
+
+    /**
+     * @return index of the current entry in the list
+     * @throws NoSuchElementException if the cursor does not point to an entry
+     */
+    int getIndex();
+
+    /**
+     * Returns a view of the current entry as {@link Entry}. Implementations may return the same object for each entry,
+     * hence the returned entry must not be retained after the cursor is moved.
+     *
+     * @return the current entry
+     * @throws NoSuchElementException if the cursor does not point to an entry
+     */
+    Entry asEntry();
+
+    /**
+     * {@link EntryCursor} for arbitrary lists of entries which returns the elements of the list.
+     */
+    class ListCursor implements EntryCursor {
+
+        private final List<Entry> entries;
+        private int index = -1;
+        private Entry current = null;
+
+        public ListCursor(List<Entry> entries) {
+            this.entries = Preconditions.checkNotNull(entries);
+        }
+
+        @Override
+        public boolean advance() {
+            if (index + 1 >= entries.size()) {
+                index = entries.size();
+                current = null;
+                return false;
+            }
+            current = entries.get(++index);
+            return true;
+        }
+
+        @Override
+        public void seek(int index) {
+            Preconditions.checkPositionIndex(index, entries.size());
+            this.index = index - 1;
+            current = null;
+        }
+
+        private void verifyAccess() {
+            if (current == null) throw new NoSuchElementException();
+        }
+
+        @Override
+        public int getIndex() {
+            verifyAccess();
+            return index;
+        }
+
+        @Override
+        public Entry asEntry() {
+            verifyAccess();
+            return current;
+        }
+    }
+}
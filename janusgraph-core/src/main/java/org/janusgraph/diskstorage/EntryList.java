@@ -33,6 +33,16 @@ public interface EntryList extends List<Entry> {
      */
     Iterator<Entry> reuseIterator();
 
+    /**
+     * Returns a cursor over the entries of this list which does not allocate an {@link Entry} object per element.
+     * Like {@link #reuseIterator()}, this should be used when entries are only accessed until the cursor moves on.
+     *
+     * @return cursor positioned before the first entry
+     */
+    default EntryCursor cursor() {
+        return new EntryCursor.ListCursor(this);
+    }
+
 
     /**
      * Returns the total amount of bytes this entry consumes on the heap - including all object headers.
@@ -14,7 +14,13 @@
 
 package org.janusgraph.diskstorage.keycolumnvalue;
 
+import com.google.common.base.Preconditions;
 import org.janusgraph.diskstorage.StaticBuffer;
+import org.janusgraph.diskstorage.util.BufferUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * A range of bytes between start and end where start is inclusive and end is exclusive.
@@ -51,4 +57,33 @@ public class KeyRange {
     public StaticBuffer getEnd() {
         return end;
     }
+
+    /**
+     * Splits this range into the given number of consecutive ranges which cover equally sized parts of the key space,
+     * considering the first 8 bytes of the keys. The first range starts at the start and the last range ends at the end
+     * of this range. A range which is too narrow to be split is returned as is.
+     *
+     * @param parts the number of ranges to split this range into
+     * @return the consecutive ranges which together cover this range
+     */
+    public List<KeyRange> split(int parts) {
+        Preconditions.checkArgument(parts > 0, "Need to split into a positive number of ranges: %s", parts);
+        final long lower = prefix(start), upper = prefix(end);
+        final long step = Long.compareUnsigned(lower, upper) < 0 ? Long.divideUnsigned(upper - lower, parts) : 0;
+        if (parts == 1 || step == 0) return Collections.singletonList(this);
+
+        final List<KeyRange> ranges = new ArrayList<>(parts);
+        StaticBuffer rangeStart = start;
+        for (int i = 1; i < parts; i++) {
+            final StaticBuffer boundary = BufferUtil.getLongBuffer(lower + i * step);
+            ranges.add(new KeyRange(rangeStart, boundary));
+            rangeStart = boundary;
+        }
+        ranges.add(new KeyRange(rangeStart, end));
+        return ranges;
+    }
+
+    private static long prefix(StaticBuffer key) {
+        return BufferUtil.padBuffer(key, BufferUtil.longSize).getLong(0);
+    }
 }
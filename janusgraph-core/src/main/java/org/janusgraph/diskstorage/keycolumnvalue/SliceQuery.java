@@ -15,7 +15,7 @@
 package org.janusgraph.diskstorage.keycolumnvalue;
 
 import com.google.common.base.Preconditions;
-import org.janusgraph.diskstorage.Entry;
+import org.janusgraph.diskstorage.EntryCursor;
 import org.janusgraph.diskstorage.EntryList;
 import org.janusgraph.diskstorage.StaticBuffer;
 import org.janusgraph.diskstorage.util.BufferUtil;
@@ -24,10 +24,6 @@ import org.janusgraph.graphdb.query.BackendQuery;
 import org.janusgraph.graphdb.query.BaseQuery;
 import org.apache.commons.lang.builder.HashCodeBuilder;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
 
 /**
  * Queries for a slice of data identified by a start point (inclusive) and end point (exclusive).
@@ -102,19 +98,24 @@ public class SliceQuery extends BaseQuery implements BackendQuery<SliceQuery> {
             return sliceStart.compareTo(oth.sliceStart) == 0 && sliceEnd.compareTo(oth.sliceEnd) >= 0;
     }
 
-    //TODO: make this more efficient by using reuseIterator() on otherResult
     public EntryList getSubset(final SliceQuery otherQuery, final EntryList otherResult) {
         assert otherQuery.subsumes(this);
-        int pos = Collections.binarySearch(otherResult, sliceStart);
-        if (pos < 0) pos = -pos - 1;
-
-        final List<Entry> result = new ArrayList<>();
-        for (; pos < otherResult.size() && result.size() < getLimit(); pos++) {
-            Entry e = otherResult.get(pos);
-            if (e.getColumnAs(StaticBuffer.STATIC_FACTORY).compareTo(sliceEnd) < 0) result.add(e);
-            else break;
+        final EntryCursor cursor = otherResult.cursor();
+        //Binary search for the first entry whose column is not smaller than the slice start
+        int low = 0, high = otherResult.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            cursor.seek(mid);
+            cursor.advance();
+            if (cursor.asEntry().compareTo(sliceStart) < 0) low = mid + 1;
+            else high = mid;
         }
-        return StaticArrayEntryList.of(result);
+        //Entry.compareTo only compares the column, hence no column needs to be copied out of the backing array
+        final int start = low;
+        int end = start;
+        cursor.seek(start);
+        while (end - start < getLimit() && cursor.advance() && cursor.asEntry().compareTo(sliceEnd) < 0) end++;
+        return StaticArrayEntryList.of(otherResult, start, end);
     }
 
     public boolean contains(StaticBuffer buffer) {
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -97,6 +98,27 @@ public class ExpirationKCVSCache extends KCVSCache {
         }
     }
 
+    /**
+     * Unlike {@link #getSlice(KeySliceQuery, StoreTransaction)}, concurrent misses on the same query are not merged
+     * into a single backend call since that would block the calling thread on the pending load.
+     */
+    @Override
+    public CompletableFuture<EntryList> getSliceAsync(final KeySliceQuery query, final StoreTransaction txh) {
+        incActionBy(1, CacheMetricsAction.RETRIEVAL,txh);
+        if (isExpired(query)) {
+            incActionBy(1, CacheMetricsAction.MISS,txh);
+            return store.getSliceAsync(query, unwrapTx(txh));
+        }
+
+        final EntryList result = cache.getIfPresent(query);
+        if (result != null) return CompletableFuture.completedFuture(result);
+        incActionBy(1, CacheMetricsAction.MISS,txh);
+        return store.getSliceAsync(query, unwrapTx(txh)).thenApply(entries -> {
+            if (!expiredKeys.containsKey(query.getKey())) cache.put(query, entries);
+            return entries;
+        });
+    }
+
     @Override
     public Map<StaticBuffer,EntryList> getSlice(final List<StaticBuffer> keys, final SliceQuery query, final StoreTransaction txh) throws BackendException {
         final Map<StaticBuffer,EntryList> results = new HashMap<>(keys.size());
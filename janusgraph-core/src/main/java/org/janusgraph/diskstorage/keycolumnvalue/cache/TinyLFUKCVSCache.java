@@ -0,0 +1,284 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage.keycolumnvalue.cache;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.base.Preconditions;
+import org.janusgraph.diskstorage.*;
+import org.janusgraph.diskstorage.keycolumnvalue.*;
+import org.janusgraph.diskstorage.util.CacheMetricsAction;
+import org.janusgraph.util.stats.MetricManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.janusgraph.util.datastructures.ByteSize.*;
+
+/**
+ * {@link KCVSCache} backed by a Caffeine cache which uses the W-TinyLFU policy to decide which slices to admit and
+ * evict. In contrast to an LRU policy, slices which are read only once, e.g. by a scan, do not displace frequently
+ * read slices. Reads do not take any locks, and expiration as well as the invalidation of keys which have been
+ * mutated happen asynchronously.
+ * <p>
+ * Invalidation follows {@link ExpirationKCVSCache}: mutated keys are treated as expired for the invalidation grace
+ * period, and their cached slices are removed in the background once enough reads have been penalized.
+ * <p>
+ * If a metrics name is given, the hit rate, eviction count, evicted weight and weighted size of the cache are
+ * registered as gauges with the {@link MetricManager}. A cache replaces the gauges of a previously opened cache with
+ * the same metrics name.
+ */
+public class TinyLFUKCVSCache extends KCVSCache {
+
+    private static final Logger log = LoggerFactory.getLogger(TinyLFUKCVSCache.class);
+
+    //Weight estimation, not including the contents of the buffers which are added per query
+    private static final int KEY_QUERY_SIZE = OBJECT_HEADER + 4 + 1 + 3 * (OBJECT_REFERENCE + STATICARRAYBUFFER_RAW_SIZE); // object_size + int + boolean + 3 static buffers
+
+    private static final int INVALIDATE_KEY_FRACTION_PENALTY = 1000;
+    private static final int PENALTY_THRESHOLD = 5;
+
+    private final Cache<KeySliceQuery,EntryList> cache;
+    private final ConcurrentHashMap<StaticBuffer,Long> expiredKeys;
+    private final AtomicInteger penalties;
+    private final AtomicBoolean cleanupScheduled;
+    private final Executor executor;
+
+    private final long cacheTimeMS;
+    private final long invalidationGracePeriodMS;
+    private final Map<String,Gauge<Number>> registeredMetrics;
+
+    public TinyLFUKCVSCache(final KeyColumnValueStore store, String metricsName, final long cacheTimeMS, final long invalidationGracePeriodMS, final long maximumByteSize) {
+        super(store, metricsName);
+        Preconditions.checkArgument(cacheTimeMS > 0, "Cache expiration must be positive: %s", cacheTimeMS);
+        Preconditions.checkArgument(System.currentTimeMillis()+1000L*3600*24*365*100+cacheTimeMS>0,"Cache expiration time too large, overflow may occur: %s",cacheTimeMS);
+        this.cacheTimeMS = cacheTimeMS;
+        Preconditions.checkArgument(invalidationGracePeriodMS >=0,"Invalid expiration grace period: %s", invalidationGracePeriodMS);
+        this.invalidationGracePeriodMS = invalidationGracePeriodMS;
+        this.executor = ForkJoinPool.commonPool();
+
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maximumByteSize)
+                .initialCapacity(1000)
+                .expireAfterWrite(cacheTimeMS, TimeUnit.MILLISECONDS)
+                .<KeySliceQuery, EntryList>weigher(TinyLFUKCVSCache::getByteSize)
+                .executor(executor)
+                .recordStats()
+                .build();
+        expiredKeys = new ConcurrentHashMap<>(50, 0.75f, Runtime.getRuntime().availableProcessors());
+        penalties = new AtomicInteger(0);
+        cleanupScheduled = new AtomicBoolean(false);
+
+        registeredMetrics = new HashMap<>(4);
+        if (metricsName != null) {
+            registerGauge(metricsName, "hit-rate", CacheStats::hitRate);
+            registerGauge(metricsName, "eviction-count", CacheStats::evictionCount);
+            registerGauge(metricsName, "eviction-weight", CacheStats::evictionWeight);
+            final String name = MetricRegistry.name(metricsName, "weighted-size");
+            registerGauge(name, () -> cache.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L));
+        }
+    }
+
+    private static int getByteSize(KeySliceQuery query, EntryList entries) {
+        final long size = CAFFEINE_CACHE_ENTRY_SIZE + KEY_QUERY_SIZE + query.getKey().length()
+                + query.getSliceStart().length() + query.getSliceEnd().length() + entries.getByteSize();
+        return (int) Math.min(Integer.MAX_VALUE, size);
+    }
+
+    private void registerGauge(String metricsName, String statistic, Function<CacheStats, Number> value) {
+        registerGauge(MetricRegistry.name(metricsName, statistic), () -> value.apply(cache.stats()));
+    }
+
+    /**
+     * Registers the gauge, replacing the gauge of a previously opened cache with the same metrics name
+     */
+    private void registerGauge(String name, Gauge<Number> gauge) {
+        final MetricRegistry registry = MetricManager.INSTANCE.getRegistry();
+        registry.remove(name);
+        try {
+            registry.register(name, gauge);
+            registeredMetrics.put(name, gauge);
+        } catch (IllegalArgumentException e) {
+            log.warn("Could not register cache metric [{}]", name, e);
+        }
+    }
+
+    @Override
+    public EntryList getSlice(final KeySliceQuery query, final StoreTransaction txh) throws BackendException {
+        incActionBy(1, CacheMetricsAction.RETRIEVAL,txh);
+        if (isExpired(query)) {
+            incActionBy(1, CacheMetricsAction.MISS,txh);
+            return store.getSlice(query, unwrapTx(txh));
+        }
+
+        EntryList result = cache.getIfPresent(query);
+        if (result == null) {
+            //Loading outside of the cache avoids blocking other writers to the same hash bin during the backend call
+            incActionBy(1, CacheMetricsAction.MISS,txh);
+            result = store.getSlice(query, unwrapTx(txh));
+            if (!expiredKeys.containsKey(query.getKey())) cache.put(query, result);
+        }
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<EntryList> getSliceAsync(final KeySliceQuery query, final StoreTransaction txh) {
+        incActionBy(1, CacheMetricsAction.RETRIEVAL,txh);
+        if (isExpired(query)) {
+            incActionBy(1, CacheMetricsAction.MISS,txh);
+            return store.getSliceAsync(query, unwrapTx(txh));
+        }
+
+        final EntryList result = cache.getIfPresent(query);
+        if (result != null) return CompletableFuture.completedFuture(result);
+        incActionBy(1, CacheMetricsAction.MISS,txh);
+        return store.getSliceAsync(query, unwrapTx(txh)).thenApply(entries -> {
+            if (!expiredKeys.containsKey(query.getKey())) cache.put(query, entries);
+            return entries;
+        });
+    }
+
+    @Override
+    public Map<StaticBuffer,EntryList> getSlice(final List<StaticBuffer> keys, final SliceQuery query, final StoreTransaction txh) throws BackendException {
+        final Map<StaticBuffer,EntryList> results = new HashMap<>(keys.size());
+        final List<StaticBuffer> remainingKeys = new ArrayList<>(keys.size());
+        KeySliceQuery[] ksqs = new KeySliceQuery[keys.size()];
+        incActionBy(keys.size(), CacheMetricsAction.RETRIEVAL,txh);
+        //Find all cached queries
+        for (int i=0;i<keys.size();i++) {
+            final StaticBuffer key = keys.get(i);
+            ksqs[i] = new KeySliceQuery(key,query);
+            EntryList result = null;
+            if (!isExpired(ksqs[i])) result = cache.getIfPresent(ksqs[i]);
+            else ksqs[i]=null;
+            if (result!=null) results.put(key,result);
+            else remainingKeys.add(key);
+        }
+        //Request remaining ones from backend
+        if (!remainingKeys.isEmpty()) {
+            incActionBy(remainingKeys.size(), CacheMetricsAction.MISS,txh);
+            Map<StaticBuffer,EntryList> subresults = store.getSlice(remainingKeys, query, unwrapTx(txh));
+            for (int i=0;i<keys.size();i++) {
+                StaticBuffer key = keys.get(i);
+                EntryList subresult = subresults.get(key);
+                if (subresult!=null) {
+                    results.put(key,subresult);
+                    if (ksqs[i]!=null) cache.put(ksqs[i],subresult);
+                }
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public void clearCache() {
+        cache.invalidateAll();
+        expiredKeys.clear();
+        penalties.set(0);
+    }
+
+    @Override
+    public void invalidate(StaticBuffer key, List<CachableStaticBuffer> entries) {
+        Preconditions.checkArgument(!hasValidateKeysOnly() || entries.isEmpty());
+        expiredKeys.put(key,getExpirationTime());
+        if (Math.random()<1.0/INVALIDATE_KEY_FRACTION_PENALTY) penalize();
+    }
+
+    @Override
+    public void close() throws BackendException {
+        final MetricRegistry registry = MetricManager.INSTANCE.getRegistry();
+        for (Map.Entry<String,Gauge<Number>> metric : registeredMetrics.entrySet()) {
+            //Only remove the gauge if it has not been replaced by a cache opened later on
+            if (registry.getMetrics().get(metric.getKey()) == metric.getValue()) registry.remove(metric.getKey());
+        }
+        registeredMetrics.clear();
+        cache.invalidateAll();
+        super.close();
+    }
+
+    private boolean isExpired(final KeySliceQuery query) {
+        Long until = expiredKeys.get(query.getKey());
+        if (until==null) return false;
+        if (isBeyondExpirationTime(until)) {
+            expiredKeys.remove(query.getKey(),until);
+            return false;
+        }
+        //We suffer a cache miss, hence penalize
+        penalize();
+        return true;
+    }
+
+    private void penalize() {
+        if (penalties.incrementAndGet() >= PENALTY_THRESHOLD && cleanupScheduled.compareAndSet(false, true)) {
+            executor.execute(this::cleanup);
+        }
+    }
+
+    /**
+     * Removes all cached slices of keys that have been expired for longer than the invalidation grace period
+     */
+    private void cleanup() {
+        try {
+            final Map<StaticBuffer,Long> expiredKeysCopy = new HashMap<>(expiredKeys.size());
+            for (Map.Entry<StaticBuffer,Long> expKey : expiredKeys.entrySet()) {
+                if (isBeyondExpirationTime(expKey.getValue()))
+                    expiredKeys.remove(expKey.getKey(), expKey.getValue());
+                else if (getAge(expKey.getValue())>= invalidationGracePeriodMS)
+                    expiredKeysCopy.put(expKey.getKey(),expKey.getValue());
+            }
+            if (!expiredKeysCopy.isEmpty()) {
+                cache.asMap().keySet().removeIf(ksq -> expiredKeysCopy.containsKey(ksq.getKey()));
+            }
+            for (Map.Entry<StaticBuffer,Long> expKey : expiredKeysCopy.entrySet()) {
+                expiredKeys.remove(expKey.getKey(),expKey.getValue());
+            }
+        } catch (Throwable e) {
+            log.error("Could not clean up invalidated cache entries", e);
+        } finally {
+            penalties.set(0);
+            cleanupScheduled.set(false);
+        }
+    }
+
+    private long getExpirationTime() {
+        return System.currentTimeMillis()+cacheTimeMS;
+    }
+
+    private boolean isBeyondExpirationTime(long until) {
+        return until<System.currentTimeMillis();
+    }
+
+    private long getAge(long until) {
+        long age = System.currentTimeMillis() - (until-cacheTimeMS);
+        assert age>=0;
+        return age;
+    }
+
+}
@@ -28,6 +28,9 @@ import org.slf4j.LoggerFactory;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Wraps a {@link OrderedKeyValueStore} and exposes it as a {@link KeyColumnValueStore}.
@@ -48,19 +51,38 @@ public class OrderedKeyValueStoreAdapter extends BaseKeyColumnValueAdapter {
     public static final int maxVariableKeyLength = Short.MAX_VALUE;
     public static final int variableKeyLengthSize = 2;
 
+    /**
+     * Minimum number of keys of a multi-key slice query which are read by a single thread
+     */
+    public static final int MIN_KEYS_PER_READER = 16;
+
     private final OrderedKeyValueStore store;
     private final int keyLength;
+    private final ExecutorService readPool;
+    private final int readThreads;
 
     public OrderedKeyValueStoreAdapter(OrderedKeyValueStore store) {
         this(store, variableKeyLength);
     }
 
     public OrderedKeyValueStoreAdapter(OrderedKeyValueStore store, int keyLength) {
+        this(store, keyLength, null, 0);
+    }
+
+    /**
+     * @param readPool pool used to read the key ranges of multi-key slice queries concurrently, or null to read them
+     *                 in the calling thread
+     * @param readThreads the number of threads of the read pool
+     */
+    public OrderedKeyValueStoreAdapter(OrderedKeyValueStore store, int keyLength, ExecutorService readPool, int readThreads) {
         super(store);
         Preconditions.checkNotNull(store);
         Preconditions.checkArgument(keyLength >= 0);
+        Preconditions.checkArgument(readPool == null || readThreads > 0);
         this.store = store;
         this.keyLength = keyLength;
+        this.readPool = readPool;
+        this.readThreads = readThreads;
         log.debug("Used key length {} for database {}", keyLength, store.getName());
     }
 
@@ -75,15 +97,59 @@ public class OrderedKeyValueStoreAdapter extends BaseKeyColumnValueAdapter {
         for (StaticBuffer key : keys) {
             queries.add(convertQuery(new KeySliceQuery(key, query)));
         }
-        final Map<KVQuery,RecordIterator<KeyValueEntry>> results = store.getSlices(queries,txh);
+        final Map<KVQuery,EntryList> results = readPool != null && keys.size() >= 2 * MIN_KEYS_PER_READER
+                ? getSlicesConcurrently(queries, txh) : getSlices(queries, txh);
         final Map<StaticBuffer,EntryList> convertedResults = new HashMap<>(keys.size());
         assert queries.size()==keys.size();
         for (int i = 0; i < queries.size(); i++) {
-            convertedResults.put(keys.get(i),convert(results.get(queries.get(i))));
+            convertedResults.put(keys.get(i),results.get(queries.get(i)));
         }
         return convertedResults;
     }
 
+    private Map<KVQuery,EntryList> getSlices(List<KVQuery> queries, StoreTransaction txh) throws BackendException {
+        final Map<KVQuery,RecordIterator<KeyValueEntry>> results = store.getSlices(queries,txh);
+        final Map<KVQuery,EntryList> convertedResults = new HashMap<>(queries.size());
+        for (KVQuery query : queries) {
+            convertedResults.put(query,convert(results.get(query)));
+        }
+        return convertedResults;
+    }
+
+    /**
+     * Sorts the queries by key and splits them into contiguous ranges, one per reader, so that every reader
+     * benefits from the locality of neighbouring keys. The first range is read by the calling thread.
+     */
+    private Map<KVQuery,EntryList> getSlicesConcurrently(List<KVQuery> queries, StoreTransaction txh) throws BackendException {
+        final List<KVQuery> sorted = new ArrayList<>(queries);
+        sorted.sort((q1, q2) -> q1.getStart().compareTo(q2.getStart()));
+        final int numReaders = Math.min(readThreads + 1, sorted.size() / MIN_KEYS_PER_READER);
+        final List<Future<Map<KVQuery,EntryList>>> futures = new ArrayList<>(numReaders - 1);
+        try {
+            for (int i = 1; i < numReaders; i++) {
+                final List<KVQuery> range = sorted.subList(i * sorted.size() / numReaders, (i + 1) * sorted.size() / numReaders);
+                futures.add(readPool.submit(() -> getSlices(range, txh)));
+            }
+            final Map<KVQuery,EntryList> results = new HashMap<>(queries.size());
+            results.putAll(getSlices(sorted.subList(0, sorted.size() / numReaders), txh));
+            for (Future<Map<KVQuery,EntryList>> future : futures) {
+                results.putAll(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new PermanentBackendException(e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof BackendException) throw (BackendException) e.getCause();
+            throw new PermanentBackendException(e.getCause());
+        } catch (BackendException | RuntimeException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw e;
+        }
+    }
+
     @Override
     public void mutate(StaticBuffer key, List<Entry> additions, List<StaticBuffer> deletions, StoreTransaction txh) throws BackendException {
         if (!deletions.isEmpty()) {
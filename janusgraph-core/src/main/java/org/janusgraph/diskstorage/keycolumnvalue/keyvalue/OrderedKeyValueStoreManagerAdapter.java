@@ -16,6 +16,7 @@ package org.janusgraph.diskstorage.keycolumnvalue.keyvalue;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.janusgraph.diskstorage.BackendException;
 import org.janusgraph.diskstorage.Entry;
 import org.janusgraph.diskstorage.StaticBuffer;
@@ -26,6 +27,8 @@ import org.janusgraph.diskstorage.keycolumnvalue.*;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Wraps a {@link OrderedKeyValueStoreManager} and exposes it as a {@link KeyColumnValueStoreManager}.
@@ -44,17 +47,35 @@ public class OrderedKeyValueStoreManagerAdapter implements KeyColumnValueStoreMa
 
     private final Map<String, OrderedKeyValueStoreAdapter> stores;
 
+    private final ExecutorService readPool;
+    private final int readThreads;
+
     public OrderedKeyValueStoreManagerAdapter(OrderedKeyValueStoreManager manager) {
         this(manager, new HashMap<>());
     }
 
     public OrderedKeyValueStoreManagerAdapter(OrderedKeyValueStoreManager manager, Map<String, Integer> keyLengths) {
+        this(manager, keyLengths, 0);
+    }
+
+    /**
+     * @param readThreads number of threads which read the key ranges of multi-key slice queries concurrently,
+     *                    0 to read them in the calling thread only
+     */
+    public OrderedKeyValueStoreManagerAdapter(OrderedKeyValueStoreManager manager, Map<String, Integer> keyLengths,
+                                              int readThreads) {
         Preconditions.checkArgument(manager.getFeatures().isKeyOrdered(), "Expected backing store to be ordered: %s", manager);
+        Preconditions.checkArgument(readThreads >= 0, "Invalid number of read threads: %s", readThreads);
         this.manager = manager;
         ImmutableMap.Builder<String, Integer> mb = ImmutableMap.builder();
         if (keyLengths != null && !keyLengths.isEmpty()) mb.putAll(keyLengths);
         this.keyLengths = mb.build();
         this.stores = new HashMap<>();
+        this.readThreads = readThreads;
+        this.readPool = readThreads > 0 && manager.getFeatures().hasMultiQuery()
+                ? Executors.newFixedThreadPool(readThreads, new ThreadFactoryBuilder()
+                        .setDaemon(true).setNameFormat("KeyValueStoreReader[%d]").build())
+                : null;
     }
 
     @Override
@@ -69,7 +90,11 @@ public class OrderedKeyValueStoreManagerAdapter implements KeyColumnValueStoreMa
 
     @Override
     public void close() throws BackendException {
-        manager.close();
+        try {
+            manager.close();
+        } finally {
+            if (readPool != null) readPool.shutdownNow();
+        }
     }
 
     @Override
@@ -91,7 +116,7 @@ public class OrderedKeyValueStoreManagerAdapter implements KeyColumnValueStoreMa
     public synchronized OrderedKeyValueStoreAdapter openDatabase(String name, StoreMetaData.Container metaData)
             throws BackendException {
         if (!stores.containsKey(name) || stores.get(name).isClosed()) {
-            OrderedKeyValueStoreAdapter store = wrapKeyValueStore(manager.openDatabase(name), keyLengths);
+            OrderedKeyValueStoreAdapter store = wrapKeyValueStore(manager.openDatabase(name));
             stores.put(name, store);
         }
         return stores.get(name);
@@ -125,15 +150,14 @@ public class OrderedKeyValueStoreManagerAdapter implements KeyColumnValueStoreMa
         manager.mutateMany(converted, txh);
     }
 
-    private static OrderedKeyValueStoreAdapter wrapKeyValueStore(OrderedKeyValueStore store, Map<String, Integer> keyLengths) {
+    private OrderedKeyValueStoreAdapter wrapKeyValueStore(OrderedKeyValueStore store) {
         String name = store.getName();
+        int keyLength = OrderedKeyValueStoreAdapter.variableKeyLength;
         if (keyLengths.containsKey(name)) {
-            int keyLength = keyLengths.get(name);
+            keyLength = keyLengths.get(name);
             Preconditions.checkArgument(keyLength > 0);
-            return new OrderedKeyValueStoreAdapter(store, keyLength);
-        } else {
-            return new OrderedKeyValueStoreAdapter(store);
         }
+        return new OrderedKeyValueStoreAdapter(store, keyLength, readPool, readThreads);
     }
 
     @Override
@@ -0,0 +1,95 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage.keycolumnvalue.scan;
+
+import com.google.common.base.Preconditions;
+import org.apache.commons.lang.StringUtils;
+import org.janusgraph.diskstorage.StaticBuffer;
+import org.janusgraph.diskstorage.configuration.WriteConfiguration;
+import org.janusgraph.diskstorage.keycolumnvalue.KeyRange;
+import org.janusgraph.diskstorage.util.Hex;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Records the key ranges which a scan job has completed so that the job can resume from where it left off after a
+ * failure instead of scanning the entire store again. The completed ranges are persisted in a {@link WriteConfiguration},
+ * usually the global system configuration of the graph, under keys which identify the job and the range.
+ * <p>
+ * A key range is only recognized as completed when it has exactly the same boundaries, hence a job has to split the key
+ * space into the same ranges on every attempt to benefit from previous attempts.
+ */
+public class ScanCheckpoint {
+
+    private static final String CHECKPOINT_PREFIX = "scan-checkpoint";
+    private static final String SEPARATOR = ".";
+
+    private final WriteConfiguration store;
+    private final String jobPrefix;
+
+    public ScanCheckpoint(WriteConfiguration store, String jobName) {
+        Preconditions.checkArgument(store != null);
+        Preconditions.checkArgument(StringUtils.isNotBlank(jobName), "Invalid job name: %s", jobName);
+        this.store = store;
+        this.jobPrefix = CHECKPOINT_PREFIX + SEPARATOR + jobName;
+    }
+
+    /**
+     * Returns the given key ranges which have not been completed yet in their original order.
+     */
+    public List<KeyRange> getPendingRanges(List<KeyRange> ranges) {
+        final Set<String> completed = new HashSet<>(getCheckpointKeys());
+        return ranges.stream().filter(range -> !completed.contains(getKey(range))).collect(Collectors.toList());
+    }
+
+    public void markCompleted(KeyRange range) {
+        store.set(getKey(range), System.currentTimeMillis());
+    }
+
+    /**
+     * Removes all completed key ranges of this job such that the next execution scans the entire store again.
+     */
+    public void clear() {
+        for (String key : getCheckpointKeys()) {
+            store.remove(key);
+        }
+    }
+
+    private List<String> getCheckpointKeys() {
+        final String rangePrefix = jobPrefix + SEPARATOR;
+        final List<String> keys = new ArrayList<>();
+        for (String key : store.getKeys(jobPrefix)) {
+            if (key.startsWith(rangePrefix)) keys.add(key);
+        }
+        return keys;
+    }
+
+    private String getKey(KeyRange range) {
+        return jobPrefix + SEPARATOR + toHex(range.getStart()) + "-" + toHex(range.getEnd());
+    }
+
+    private static String toHex(StaticBuffer buffer) {
+        return Hex.bytesToHex(buffer.as(StaticBuffer.ARRAY_FACTORY));
+    }
+
+    @Override
+    public String toString() {
+        return jobPrefix;
+    }
+}
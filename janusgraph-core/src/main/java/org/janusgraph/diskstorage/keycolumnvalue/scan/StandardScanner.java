@@ -15,19 +15,28 @@
 package org.janusgraph.diskstorage.keycolumnvalue.scan;
 
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.RateLimiter;
 import org.janusgraph.core.schema.JanusGraphManagement;
 import org.janusgraph.diskstorage.BackendException;
+import org.janusgraph.diskstorage.StaticBuffer;
 import org.janusgraph.diskstorage.configuration.*;
 import org.janusgraph.diskstorage.keycolumnvalue.KeyColumnValueStore;
 import org.janusgraph.diskstorage.keycolumnvalue.KeyColumnValueStoreManager;
+import org.janusgraph.diskstorage.keycolumnvalue.KeyRange;
 import org.janusgraph.diskstorage.keycolumnvalue.StoreTransaction;
+import org.janusgraph.diskstorage.util.BufferUtil;
 import org.janusgraph.diskstorage.util.StandardBaseTransactionConfig;
 import org.janusgraph.diskstorage.util.time.TimestampProvider;
 import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
@@ -38,6 +47,8 @@ import java.util.function.Consumer;
  */
 public class StandardScanner  {
 
+    private static final Logger log = LoggerFactory.getLogger(StandardScanner.class);
+
     private final KeyColumnValueStoreManager manager;
     private final Set<KeyColumnValueStore> openStores;
     private final ConcurrentMap<Object,StandardScannerExecutor> runningJobs;
@@ -83,10 +94,15 @@ public class StandardScanner  {
     public class Builder {
 
         private static final int DEFAULT_WORKBLOCK_SIZE = 10000;
+        private static final int DEFAULT_CHECKPOINT_KEY_RANGES = 256;
 
         private ScanJob job;
         private int numProcessingThreads;
         private int workBlockSize;
+        private int processingBatchSize;
+        private int numKeyRanges;
+        private ScanCheckpoint checkpoint;
+        private int opsPerSecond;
         private TimestampProvider times;
         private Configuration graphConfiguration;
         private Configuration jobConfiguration;
@@ -97,6 +113,10 @@ public class StandardScanner  {
         private Builder() {
             numProcessingThreads = 1;
             workBlockSize = DEFAULT_WORKBLOCK_SIZE;
+            processingBatchSize = 0;
+            numKeyRanges = 0;
+            checkpoint = null;
+            opsPerSecond = 0;
             job = null;
             times = null;
             graphConfiguration = Configuration.EMPTY;
@@ -119,6 +139,61 @@ public class StandardScanner  {
             return this;
         }
 
+        /**
+         * Processes rows in batches of the given size on a work-stealing pool instead of dedicated processing
+         * threads which poll rows one at a time from a shared queue. This keeps all processing threads busy
+         * when the processing cost varies greatly between rows, e.g. for vertices with skewed degrees.
+         *
+         * @param size number of rows per batch or 0 to use dedicated processing threads (default)
+         * @return this builder
+         */
+        public Builder setProcessingBatchSize(int size) {
+            Preconditions.checkArgument(size>=0, "Need to specify a non-negative processing batch size: %s",size);
+            this.processingBatchSize = size;
+            return this;
+        }
+
+        /**
+         * Splits the key space of the store into the given number of key ranges which are scanned and processed
+         * concurrently by the processing threads. Each thread scans the next pending key range as soon as it has
+         * completed its previous one and splits a key range in progress once none are pending. This requires a store
+         * which supports ordered scans and is ignored otherwise.
+         *
+         * @param numRanges number of key ranges or 0 to scan the store as a whole (default)
+         * @return this builder
+         */
+        public Builder setNumKeyRanges(int numRanges) {
+            Preconditions.checkArgument(numRanges>=0, "Need to specify a non-negative number of key ranges: %s",numRanges);
+            this.numKeyRanges = numRanges;
+            return this;
+        }
+
+        /**
+         * Records the completed key ranges of this job in the given checkpoint and skips the key ranges which a previous
+         * execution of the job has already completed. The store is split into 256
+         * key ranges unless configured otherwise via {@link #setNumKeyRanges(int)}.
+         *
+         * @param checkpoint checkpoint of this job
+         * @return this builder
+         */
+        public Builder setCheckpoint(ScanCheckpoint checkpoint) {
+            Preconditions.checkArgument(checkpoint!=null);
+            this.checkpoint = checkpoint;
+            return this;
+        }
+
+        /**
+         * Limits the number of rows this job reads per second, counting the rows retrieved for each query of the job.
+         *
+         * @param opsPerSecond maximum number of rows read per second or 0 to not limit the rate (default)
+         * @return this builder
+         */
+        public Builder setOpsPerSecond(int opsPerSecond) {
+            Preconditions.checkArgument(opsPerSecond>=0, "Need to specify a non-negative rate: %s",opsPerSecond);
+            this.opsPerSecond = opsPerSecond;
+            return this;
+        }
+
         public Builder setTimestampProvider(TimestampProvider times) {
             Preconditions.checkArgument(times!=null);
             this.times=times;
@@ -201,13 +276,28 @@ public class StandardScanner  {
 //                txBuilder.customOptions(customConf);
 //            }
 
+            List<KeyRange> keyRanges = null;
+            ScanCheckpoint rangeCheckpoint = null;
+            final int numRanges = numKeyRanges == 0 && checkpoint != null ? DEFAULT_CHECKPOINT_KEY_RANGES : numKeyRanges;
+            if (numRanges > 0) {
+                if (manager.getFeatures().hasOrderedScan()) {
+                    keyRanges = getKeyRanges(numRanges);
+                    rangeCheckpoint = checkpoint;
+                } else {
+                    log.warn("Store [{}] does not support ordered scans, hence job [{}] is executed without key ranges and checkpoints",
+                            dbName, jobId);
+                }
+            }
+            final RateLimiter rateLimiter = opsPerSecond > 0 ? RateLimiter.create(opsPerSecond) : null;
+
             StoreTransaction storeTx = manager.beginTransaction(txBuilder.build());
             KeyColumnValueStore kcvs = manager.openDatabase(dbName);
 
             openStores.add(kcvs);
             try {
                 StandardScannerExecutor executor = new StandardScannerExecutor(job, finishJob, kcvs, storeTx,
-                        manager.getFeatures(), numProcessingThreads, workBlockSize, jobConfiguration, graphConfiguration);
+                        manager.getFeatures(), numProcessingThreads, workBlockSize, processingBatchSize, jobConfiguration, graphConfiguration,
+                        keyRanges, rangeCheckpoint, rateLimiter);
                 addJob(jobId,executor);
                 new Thread(executor).start();
                 return executor;
@@ -217,5 +307,32 @@ public class StandardScanner  {
             }
         }
 
+        /**
+         * Splits the key space into the given number of key ranges. Unless the key ranges need to be stable for
+         * checkpoints, they are additionally split at the boundaries of the local key partition of the store, if
+         * known, so that every key range is served by a single storage partition.
+         */
+        private List<KeyRange> getKeyRanges(int numRanges) throws BackendException {
+            final List<KeyRange> ranges = new KeyRange(BufferUtil.zeroBuffer(1),
+                    BufferUtil.oneBuffer(StandardScannerExecutor.MAX_KEY_LENGTH)).split(numRanges);
+            if (checkpoint != null || !manager.getFeatures().hasLocalKeyPartition()) return ranges;
+
+            final TreeSet<StaticBuffer> boundaries = new TreeSet<>();
+            for (KeyRange partition : manager.getLocalKeyPartition()) {
+                boundaries.add(partition.getStart());
+                boundaries.add(partition.getEnd());
+            }
+            final List<KeyRange> alignedRanges = new ArrayList<>(ranges.size() + boundaries.size());
+            for (KeyRange range : ranges) {
+                StaticBuffer start = range.getStart();
+                for (StaticBuffer boundary : boundaries.subSet(range.getStart(), false, range.getEnd(), false)) {
+                    alignedRanges.add(new KeyRange(start, boundary));
+                    start = boundary;
+                }
+                alignedRanges.add(new KeyRange(start, range.getEnd()));
+            }
+            return alignedRanges;
+        }
+
     }
 }
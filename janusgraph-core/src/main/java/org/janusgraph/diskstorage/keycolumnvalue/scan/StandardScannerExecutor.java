@@ -16,6 +16,8 @@ package org.janusgraph.diskstorage.keycolumnvalue.scan;
 
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.janusgraph.core.schema.JanusGraphManagement;
 import org.janusgraph.diskstorage.*;
 import org.janusgraph.diskstorage.configuration.Configuration;
@@ -31,6 +33,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -44,8 +47,8 @@ class StandardScannerExecutor extends AbstractFuture<ScanMetrics> implements Jan
 
     private static final int QUEUE_SIZE = 1000;
     private static final int TIMEOUT_MS = 180000; // 60 seconds
-    private static final int TIME_PER_TRY = 10; // 10 milliseconds
-    private static final int MAX_KEY_LENGTH = 128; //in bytes
+    static final int MAX_KEY_LENGTH = 128; //in bytes
+    private static final int READ_BATCH_SIZE = 100;
 
     private final ScanJob job;
     private final Consumer<ScanMetrics> finishJob;
@@ -54,22 +57,31 @@ class StandardScannerExecutor extends AbstractFuture<ScanMetrics> implements Jan
     private final KeyColumnValueStore store;
     private final int numProcessors;
     private final int workBlockSize;
+    private final int processingBatchSize;
     private final Configuration jobConfiguration;
     private final Configuration graphConfiguration;
+    private final List<KeyRange> keyRanges;
+    private final ScanCheckpoint checkpoint;
+    private final RateLimiter rateLimiter;
     private final ScanMetrics metrics;
 
     private boolean hasCompleted = false;
-    private boolean interrupted = false;
+    private volatile boolean interrupted = false;
 
-    private List<BlockingQueue<SliceResult>> dataQueues;
+    private volatile List<BlockingQueue<SliceResult>> dataQueues;
     private DataPuller[] pullThreads;
 
     StandardScannerExecutor(final ScanJob job, final Consumer<ScanMetrics> finishJob,
                             final KeyColumnValueStore store, final StoreTransaction storeTx,
                             final StoreFeatures storeFeatures,
                             final int numProcessors, final int workBlockSize,
+                            final int processingBatchSize,
                             final Configuration jobConfiguration,
-                            final Configuration graphConfiguration) throws BackendException {
+                            final Configuration graphConfiguration,
+                            final List<KeyRange> keyRanges,
+                            final ScanCheckpoint checkpoint,
+                            final RateLimiter rateLimiter) throws BackendException {
+        Preconditions.checkArgument(checkpoint == null || keyRanges != null, "Checkpoints require a scan in key ranges");
         this.job = job;
         this.finishJob = finishJob;
         this.store = store;
@@ -77,19 +89,23 @@ class StandardScannerExecutor extends AbstractFuture<ScanMetrics> implements Jan
         this.storeFeatures = storeFeatures;
         this.numProcessors = numProcessors;
         this.workBlockSize = workBlockSize;
+        this.processingBatchSize = processingBatchSize;
         this.jobConfiguration = jobConfiguration;
         this.graphConfiguration = graphConfiguration;
+        this.keyRanges = keyRanges;
+        this.checkpoint = checkpoint;
+        this.rateLimiter = rateLimiter;
 
         metrics = new StandardScanMetrics();
 
     }
 
-    private DataPuller addDataPuller(SliceQuery sq, StoreTransaction stx) throws BackendException {
+    private DataPuller addDataPuller(SliceQuery sq, List<BlockingQueue<SliceResult>> queues, StoreTransaction stx) throws BackendException {
         final BlockingQueue<SliceResult> queue = new LinkedBlockingQueue<>(QUEUE_SIZE);
-        dataQueues.add(queue);
+        queues.add(queue);
 
         DataPuller dp = new DataPuller(sq, queue,
-                KCVSUtil.getKeys(store,sq,storeFeatures,MAX_KEY_LENGTH,stx),job.getKeyFilter());
+                KCVSUtil.getKeys(store,sq,storeFeatures,MAX_KEY_LENGTH,stx),job.getKeyFilter(),rateLimiter);
         dp.start();
         return dp;
     }
@@ -114,11 +130,14 @@ class StandardScannerExecutor extends AbstractFuture<ScanMetrics> implements Jan
                 Preconditions.checkArgument(end.equals(BufferUtil.oneBuffer(end.length())),
                         "Expected end of first query to be all 1s: %s",end);
             }
-            dataQueues = new ArrayList<>(numQueries);
-            pullThreads = new DataPuller[numQueries];
+            if (keyRanges == null) {
+                final List<BlockingQueue<SliceResult>> queues = new ArrayList<>(numQueries);
+                pullThreads = new DataPuller[numQueries];
 
-            for (int pos = 0; pos< numQueries; pos++) {
-                pullThreads[pos]=addDataPuller(queries.get(pos),storeTx);
+                for (int pos = 0; pos< numQueries; pos++) {
+                    pullThreads[pos]=addDataPuller(queries.get(pos),queues,storeTx);
+                }
+                dataQueues = queues;
             }
         }  catch (Throwable e) {
             log.error("Exception trying to setup the job:", e);
@@ -128,50 +147,33 @@ class StandardScannerExecutor extends AbstractFuture<ScanMetrics> implements Jan
             return;
         }
 
-        BlockingQueue<Row> processorQueue = new LinkedBlockingQueue<>(QUEUE_SIZE);
-
-        Processor[] processors = new Processor[numProcessors];
-        for (int i=0;i<processors.length;i++) {
-            processors[i]= new Processor(job.clone(),processorQueue);
-            processors[i].start();
+        if (keyRanges != null) {
+            runKeyRanges(queries);
+            return;
         }
 
+        final RowProcessor processor = processingBatchSize > 0 ?
+                new WorkStealingRowProcessor() : new QueueRowProcessor();
+
         try {
             SliceResult[] currentResults = new SliceResult[numQueries];
+            boolean[] drained = new boolean[numQueries];
             while (!interrupted) {
                 for (int i = 0; i < numQueries; i++) {
-                    if (currentResults[i]!=null) continue;
-                    BlockingQueue<SliceResult> queue = dataQueues.get(i);
-
-                    SliceResult qr = queue.poll(TIME_PER_TRY,TimeUnit.MILLISECONDS); //Try very short time to see if we are done
-                    if (qr==null) {
-                        if (pullThreads[i].isFinished()) continue; //No more data to be expected
-                        int retryCount = 0;
-                        while (!pullThreads[i].isFinished() && retryCount < TIMEOUT_MS / TIME_PER_TRY && qr == null) {
-                            retryCount ++;
-                            qr = queue.poll(TIME_PER_TRY, TimeUnit.MILLISECONDS);
-                        }
-                        if (qr==null && !pullThreads[i].isFinished())
-                            throw new TemporaryBackendException("Timed out waiting for next row data - storage error likely");
-                    }
-                    currentResults[i]=qr;
-                }
-                SliceResult conditionQuery = currentResults[0];
-                if (conditionQuery==null) break; //Termination condition - primary query has no more data
-                final StaticBuffer key = conditionQuery.key;
-
-                Map<SliceQuery,EntryList> queryResults = new HashMap<>(numQueries);
-                for (int i=0;i<currentResults.length;i++) {
-                    SliceQuery query = queries.get(i);
-                    EntryList entries = EntryList.EMPTY_LIST;
-                    if (currentResults[i]!=null && currentResults[i].key.equals(key)) {
-                        assert query.equals(currentResults[i].query);
-                        entries = currentResults[i].entries;
-                        currentResults[i]=null;
+                    if (currentResults[i]!=null || drained[i]) continue;
+
+                    SliceResult qr = dataQueues.get(i).poll(TIMEOUT_MS,TimeUnit.MILLISECONDS);
+                    if (qr==null)
+                        throw new TemporaryBackendException("Timed out waiting for next row data - storage error likely");
+                    if (qr==END_OF_DATA) {
+                        drained[i] = true; //No more data to be expected
+                        pullThreads[i].checkFailure();
+                    } else {
+                        currentResults[i]=qr;
                     }
-                    queryResults.put(query,entries);
                 }
-                processorQueue.put(new Row(key, queryResults));
+                if (currentResults[0]==null) break; //Termination condition - primary query has no more data
+                processor.accept(nextRow(queries, currentResults));
             }
 
             for (int i = 0; i < pullThreads.length; i++) {
@@ -182,10 +184,7 @@ class StandardScannerExecutor extends AbstractFuture<ScanMetrics> implements Jan
                 }
             }
 
-            for (Processor processor : processors) {
-                processor.finish();
-            }
-            if (!Threads.waitForCompletion(processors,TIMEOUT_MS)) log.error("Processor did not terminate in time");
+            processor.finish();
 
             cleanup();
             try {
@@ -206,14 +205,379 @@ class StandardScannerExecutor extends AbstractFuture<ScanMetrics> implements Jan
             job.workerIterationEnd(metrics);
             setException(e);
         } finally {
-            Threads.terminate(processors);
+            processor.terminate();
+            cleanupSilent();
+        }
+    }
+
+    /**
+     * Assembles the row of the key of the primary query's current result from the current results of all queries
+     * and clears the consumed results.
+     */
+    private static Row nextRow(List<SliceQuery> queries, SliceResult[] currentResults) {
+        final StaticBuffer key = currentResults[0].key;
+        Map<SliceQuery,EntryList> queryResults = new HashMap<>(queries.size());
+        for (int i=0;i<currentResults.length;i++) {
+            SliceQuery query = queries.get(i);
+            EntryList entries = EntryList.EMPTY_LIST;
+            if (currentResults[i]!=null && currentResults[i].key.equals(key)) {
+                assert query.equals(currentResults[i].query);
+                entries = currentResults[i].entries;
+                currentResults[i]=null;
+            }
+            queryResults.put(query,entries);
+        }
+        return new Row(key, queryResults);
+    }
+
+    /**
+     * Scans the key ranges of this job on {@code numProcessors} threads. Each thread takes the next pending key range
+     * as soon as it is done with the previous one. Once no key ranges are pending, idle threads split off the part of
+     * the largest key range in progress which has not been read yet, hence no thread idles while another thread still
+     * scans a large range. The rows of a range are read ahead asynchronously in batches of {@code processingBatchSize}
+     * rows (if set) while the previously read batch is processed. Every key range is recorded in the checkpoint (if any) once all parts of it have been processed
+     * successfully and the job clones which processed them have ended their iterations.
+     */
+    private void runKeyRanges(List<SliceQuery> queries) {
+        final List<KeyRange> pendingRanges = checkpoint == null ? keyRanges : checkpoint.getPendingRanges(keyRanges);
+        if (pendingRanges.size() < keyRanges.size()) {
+            log.info("Resuming scan from checkpoint [{}] with {} of {} key ranges pending",
+                    checkpoint, pendingRanges.size(), keyRanges.size());
+        }
+        final RangeScheduler scheduler = new RangeScheduler(pendingRanges);
+        final ExecutorService scanners = Executors.newFixedThreadPool(numProcessors, new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("KeyRangeScanner[%d]")
+                .build());
+        final ExecutorService readers = Executors.newFixedThreadPool(numProcessors, new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("KeyRangeReader[%d]")
+                .build());
+        try {
+            final Callable<Void> scanner = () -> {
+                RangeScan scan;
+                while (!interrupted && (scan = scheduler.next()) != null) {
+                    try {
+                        scheduler.complete(scan, scanRange(scan, queries, readers));
+                    } finally {
+                        scheduler.remove(scan);
+                    }
+                }
+                return null;
+            };
+            final List<Future<Void>> results = new ArrayList<>(numProcessors);
+            for (int i = 0; i < numProcessors; i++) {
+                results.add(scanners.submit(scanner));
+            }
+            for (Future<Void> result : results) {
+                result.get();
+            }
+
+            cleanup();
+            try {
+                job.workerIterationEnd(metrics);
+            } catch (IllegalArgumentException e) {
+                // https://github.com/JanusGraph/janusgraph/pull/891
+                log.warn("Exception occurred processing worker iteration end. See PR 891.", e);
+            }
+
+            if (interrupted) {
+                setException(new InterruptedException("Scanner got interrupted"));
+            } else {
+                if (checkpoint != null) {
+                    if (scheduler.incompleteRanges.get() == 0) checkpoint.clear();
+                    else log.warn("{} key ranges were not completed and are scanned again when resuming from checkpoint [{}]",
+                            scheduler.incompleteRanges.get(), checkpoint);
+                }
+                finishJob.accept(metrics);
+                set(metrics);
+            }
+        } catch (Throwable e) {
+            log.error("Exception occurred during job execution: {}",e);
+            job.workerIterationEnd(metrics);
+            Throwable cause = e;
+            while (cause instanceof ExecutionException && cause.getCause() != null) cause = cause.getCause();
+            setException(cause);
+        } finally {
+            scanners.shutdownNow();
+            readers.shutdownNow();
             cleanupSilent();
         }
     }
 
+    /**
+     * Processes all rows of the given range scan in the calling thread while the next rows are read on the readers.
+     *
+     * @return whether all rows of the range scan have been processed successfully
+     */
+    private boolean scanRange(RangeScan scan, List<SliceQuery> queries, ExecutorService readers)
+            throws BackendException, InterruptedException, ExecutionException {
+        ScanJob rangeJob = null;
+        int numProcessed = 0;
+        boolean completed = true;
+        try (RangeReader reader = new RangeReader(scan, queries)) {
+            Future<List<Row>> nextRows = readers.submit(reader);
+            List<Row> rows;
+            while (!interrupted && !(rows = nextRows.get()).isEmpty()) {
+                nextRows = readers.submit(reader);
+                for (Row row : rows) {
+                    if (rangeJob == null) {
+                        rangeJob = job.clone();
+                        rangeJob.workerIterationStart(jobConfiguration, graphConfiguration, metrics);
+                    } else if (numProcessed >= workBlockSize) {
+                        //Setup new chunk of work
+                        completed &= endIteration(rangeJob);
+                        rangeJob = rangeJob.clone();
+                        rangeJob.workerIterationStart(jobConfiguration, graphConfiguration, metrics);
+                        numProcessed = 0;
+                    }
+                    completed &= process(rangeJob, row);
+                    numProcessed++;
+                }
+            }
+            completed &= !interrupted;
+        } finally {
+            if (rangeJob != null) completed &= endIteration(rangeJob);
+        }
+        return completed;
+    }
+
+    private boolean endIteration(ScanJob rangeJob) {
+        try {
+            rangeJob.workerIterationEnd(metrics);
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Exception occurred ending worker iteration: {}", e);
+            return false;
+        }
+    }
+
+    private static long keyPrefix(StaticBuffer key) {
+        return BufferUtil.padBuffer(key, BufferUtil.longSize).getLong(0);
+    }
+
+    /**
+     * Hands out the pending key ranges and, once there are none left, the parts split off the range scans in progress.
+     * Keeps track of the parts of every key range to record it in the checkpoint once all its parts have completed.
+     */
+    private class RangeScheduler {
+
+        //Guarded by this
+        private final Queue<RangeScan> pending;
+        private final Set<RangeScan> active;
+
+        private final AtomicInteger incompleteRanges;
+
+        private RangeScheduler(List<KeyRange> ranges) {
+            pending = new ArrayDeque<>(ranges.size());
+            for (KeyRange range : ranges) {
+                pending.add(new RangeScan(new RangeTask(range), range, 0));
+            }
+            active = new HashSet<>();
+            incompleteRanges = new AtomicInteger(0);
+        }
+
+        private synchronized RangeScan next() {
+            RangeScan scan = pending.poll();
+            if (scan == null) scan = steal();
+            if (scan != null) active.add(scan);
+            return scan;
+        }
+
+        private RangeScan steal() {
+            final List<RangeScan> candidates = new ArrayList<>(active);
+            candidates.sort((s1, s2) -> Long.compareUnsigned(s2.remaining(), s1.remaining()));
+            for (RangeScan candidate : candidates) {
+                final RangeScan stolen = candidate.split();
+                if (stolen != null) return stolen;
+            }
+            return null;
+        }
+
+        private void complete(RangeScan scan, boolean completed) {
+            final RangeTask task = scan.task;
+            if (!completed) task.failed = true;
+            if (task.parts.decrementAndGet() > 0) return;
+            if (task.failed) incompleteRanges.incrementAndGet();
+            else if (checkpoint != null) checkpoint.markCompleted(task.range);
+        }
+
+        private synchronized void remove(RangeScan scan) {
+            active.remove(scan);
+        }
+    }
+
+    /**
+     * A key range of this job which may be scanned in multiple parts.
+     */
+    private static class RangeTask {
+
+        private final KeyRange range;
+        private final AtomicInteger parts;
+        private volatile boolean failed;
+
+        private RangeTask(KeyRange range) {
+            this.range = range;
+            this.parts = new AtomicInteger(1);
+            this.failed = false;
+        }
+    }
+
+    /**
+     * A part of a {@link RangeTask} which is scanned by a single thread. The end of the part shrinks when an idle
+     * thread splits off the part of it which has not been read yet.
+     */
+    private static class RangeScan {
+
+        private static final int MAX_SPLITS = 16;
+
+        private final RangeTask task;
+        private final StaticBuffer start;
+
+        //Guarded by this
+        private StaticBuffer position;
+        private StaticBuffer end;
+        private int splits;
+        private boolean finished;
+
+        private RangeScan(RangeTask task, KeyRange range, int splits) {
+            this.task = task;
+            this.start = range.getStart();
+            this.end = range.getEnd();
+            this.splits = splits;
+        }
+
+        /**
+         * Records the given key as read.
+         *
+         * @return false if the key lies beyond the end of this part, in which case this part is finished
+         */
+        private synchronized boolean advance(StaticBuffer key) {
+            if (finished || key.compareTo(end) >= 0) {
+                finished = true;
+                return false;
+            }
+            position = key;
+            return true;
+        }
+
+        private synchronized void finish() {
+            finished = true;
+        }
+
+        private synchronized long remaining() {
+            if (finished) return 0;
+            return keyPrefix(end) - keyPrefix(position == null ? start : position);
+        }
+
+        /**
+         * Splits off the upper half of the part of this scan which has not been read yet.
+         *
+         * @return the scan of the split off part or null if this scan cannot be split
+         */
+        private synchronized RangeScan split() {
+            if (finished || splits >= MAX_SPLITS) return null;
+            final List<KeyRange> halves = new KeyRange(position == null ? start : position, end).split(2);
+            if (halves.size() < 2) return null;
+            final KeyRange stolen = new KeyRange(halves.get(1).getStart(), end);
+            end = stolen.getStart();
+            splits++;
+            task.parts.incrementAndGet();
+            return new RangeScan(task, stolen, splits);
+        }
+    }
+
+    /**
+     * Reads the rows of a {@link RangeScan} in batches of {@code processingBatchSize} rows, or {@link #READ_BATCH_SIZE}
+     * rows if no processing batch size is set. Each invocation returns the next batch, which is empty once the scan is
+     * finished or the reader has been closed.
+     */
+    private class RangeReader implements Callable<List<Row>>, AutoCloseable {
+
+        private final RangeScan scan;
+        private final List<SliceQuery> queries;
+        private final Predicate<StaticBuffer> keyFilter;
+        private final KeyIterator[] keyIterators;
+        private final SliceResult[] currentResults;
+        private final int batchSize;
+        private boolean closed;
+
+        private RangeReader(RangeScan scan, List<SliceQuery> queries) throws BackendException {
+            this.scan = scan;
+            this.queries = queries;
+            this.keyFilter = job.getKeyFilter();
+            this.keyIterators = new KeyIterator[queries.size()];
+            this.currentResults = new SliceResult[queries.size()];
+            this.batchSize = processingBatchSize > 0 ? processingBatchSize : READ_BATCH_SIZE;
+            this.closed = false;
+            final StaticBuffer start = scan.start, end;
+            synchronized (scan) {
+                end = scan.end;
+            }
+            try {
+                for (int i = 0; i < queries.size(); i++) {
+                    keyIterators[i] = store.getKeys(new KeyRangeQuery(start, end, queries.get(i)), storeTx);
+                }
+            } catch (BackendException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        public synchronized List<Row> call() {
+            final List<Row> rows = new ArrayList<>(batchSize);
+            while (!closed && rows.size() < batchSize) {
+                for (int i = 0; i < queries.size(); i++) {
+                    if (currentResults[i] == null) currentResults[i] = nextResult(queries.get(i), keyIterators[i], keyFilter);
+                }
+                if (currentResults[0] == null) {
+                    //Primary query has no more data in this key range
+                    scan.finish();
+                    break;
+                }
+                if (!scan.advance(currentResults[0].key)) break;
+                rows.add(nextRow(queries, currentResults));
+            }
+            return rows;
+        }
+
+        @Override
+        public synchronized void close() {
+            closed = true;
+            scan.finish();
+            for (KeyIterator keyIterator : keyIterators) {
+                if (keyIterator == null) continue;
+                try {
+                    keyIterator.close();
+                } catch (IOException e) {
+                    log.warn("Could not close storage iterator ", e);
+                }
+            }
+        }
+    }
+
+    private SliceResult nextResult(SliceQuery query, KeyIterator keyIterator, Predicate<StaticBuffer> keyFilter) {
+        while (keyIterator.hasNext()) {
+            StaticBuffer key = keyIterator.next();
+            if (rateLimiter != null) rateLimiter.acquire();
+            RecordIterator<Entry> entries = keyIterator.getEntries();
+            if (!keyFilter.test(key)) continue;
+            return new SliceResult(query, key, StaticArrayEntryList.ofStaticBuffer(entries, StaticArrayEntry.ENTRY_GETTER));
+        }
+        return null;
+    }
+
     @Override
     protected void interruptTask() {
         interrupted = true;
+        //Wake up the executor if it is waiting for row data
+        final List<BlockingQueue<SliceResult>> queues = dataQueues;
+        if (queues != null) {
+            for (BlockingQueue<SliceResult> queue : queues) {
+                queue.offer(END_OF_DATA);
+            }
+        }
     }
 
     private void cleanup() throws BackendException {
@@ -243,6 +607,8 @@ class StandardScannerExecutor extends AbstractFuture<ScanMetrics> implements Jan
         return metrics;
     }
 
+    private static final Row END_OF_ROWS = new Row(null, null);
+
     private static class Row {
 
         final StaticBuffer key;
@@ -256,12 +622,168 @@ class StandardScannerExecutor extends AbstractFuture<ScanMetrics> implements Jan
 
 
 
+    private boolean process(ScanJob job, Row row) {
+        try {
+            job.process(row.key,row.entries,metrics);
+            metrics.increment(ScanMetrics.Metric.SUCCESS);
+            return true;
+        } catch (Throwable ex) {
+            log.error("Exception processing row ["+row.key+"]: ",ex);
+            metrics.increment(ScanMetrics.Metric.FAILURE);
+            return false;
+        }
+    }
+
+    /**
+     * Hands the rows assembled by the executor to the {@link ScanJob} clones that process them.
+     */
+    private interface RowProcessor {
+
+        void accept(Row row) throws InterruptedException;
+
+        /**
+         * Waits until all accepted rows have been processed and ends the iterations of all job clones.
+         */
+        void finish() throws InterruptedException;
+
+        void terminate();
+    }
+
+    /**
+     * Dedicated {@link Processor} threads which poll rows one at a time from a shared queue.
+     */
+    private class QueueRowProcessor implements RowProcessor {
+
+        private final BlockingQueue<Row> processorQueue = new LinkedBlockingQueue<>(QUEUE_SIZE);
+        private final Processor[] processors;
+
+        private QueueRowProcessor() {
+            processors = new Processor[numProcessors];
+            for (int i=0;i<processors.length;i++) {
+                processors[i]= new Processor(job.clone(),processorQueue);
+                processors[i].start();
+            }
+        }
+
+        @Override
+        public void accept(Row row) throws InterruptedException {
+            processorQueue.put(row);
+        }
+
+        @Override
+        public void finish() throws InterruptedException {
+            for (int i = 0; i < processors.length; i++) {
+                processorQueue.put(END_OF_ROWS);
+            }
+            if (!Threads.waitForCompletion(processors,TIMEOUT_MS)) log.error("Processor did not terminate in time");
+        }
+
+        @Override
+        public void terminate() {
+            Threads.terminate(processors);
+        }
+    }
+
+    /**
+     * Submits batches of {@code processingBatchSize} rows to a {@link ForkJoinPool} so that idle workers pick up
+     * the next batch while another worker is still busy with an expensive row. The number of submitted but
+     * unprocessed batches is bounded to apply backpressure to the data pulling threads.
+     * Every worker thread keeps its own job clone which is recloned after {@code workBlockSize} rows.
+     */
+    private class WorkStealingRowProcessor implements RowProcessor {
+
+        private final ForkJoinPool pool;
+        private final Semaphore pendingBatches;
+        private final Map<Thread,WorkerJob> workerJobs;
+        private List<Row> batch;
+
+        private WorkStealingRowProcessor() {
+            pool = new ForkJoinPool(numProcessors);
+            pendingBatches = new Semaphore(Math.max(2 * numProcessors, QUEUE_SIZE / processingBatchSize));
+            workerJobs = new ConcurrentHashMap<>(numProcessors);
+            batch = new ArrayList<>(processingBatchSize);
+        }
+
+        @Override
+        public void accept(Row row) throws InterruptedException {
+            batch.add(row);
+            if (batch.size() >= processingBatchSize) submitBatch();
+        }
+
+        private void submitBatch() throws InterruptedException {
+            if (batch.isEmpty()) return;
+            final List<Row> rows = batch;
+            batch = new ArrayList<>(processingBatchSize);
+            pendingBatches.acquire();
+            pool.execute(() -> {
+                try {
+                    workerJobs.computeIfAbsent(Thread.currentThread(), t -> new WorkerJob()).process(rows);
+                } catch (Throwable e) {
+                    log.error("Unexpected error processing data: {}",e);
+                } finally {
+                    pendingBatches.release();
+                }
+            });
+        }
+
+        @Override
+        public void finish() throws InterruptedException {
+            submitBatch();
+            pool.shutdown();
+            try {
+                if (!pool.awaitTermination(TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    log.error("Processor did not terminate in time");
+                    pool.shutdownNow();
+                }
+            } finally {
+                for (WorkerJob workerJob : workerJobs.values()) {
+                    try {
+                        workerJob.end();
+                    } catch (Throwable e) {
+                        log.error("Exception ending worker iteration: {}",e);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void terminate() {
+            pool.shutdownNow();
+        }
+    }
+
+    private class WorkerJob {
+
+        private ScanJob job;
+        private int numProcessed;
+
+        private void process(List<Row> rows) {
+            for (Row row : rows) {
+                if (job == null) {
+                    job = StandardScannerExecutor.this.job.clone();
+                    job.workerIterationStart(jobConfiguration, graphConfiguration, metrics);
+                } else if (numProcessed >= workBlockSize) {
+                    //Setup new chunk of work
+                    job.workerIterationEnd(metrics);
+                    job = job.clone();
+                    job.workerIterationStart(jobConfiguration, graphConfiguration, metrics);
+                    numProcessed = 0;
+                }
+                StandardScannerExecutor.this.process(job, row);
+                numProcessed++;
+            }
+        }
+
+        private void end() {
+            if (job != null) job.workerIterationEnd(metrics);
+        }
+    }
+
     private class Processor extends Thread {
 
         private ScanJob job;
         private final BlockingQueue<Row> processorQueue;
 
-        private volatile boolean finished;
         private int numProcessed;
 
 
@@ -269,7 +791,6 @@ class StandardScannerExecutor extends AbstractFuture<ScanMetrics> implements Jan
             this.job = job;
             this.processorQueue = processorQueue;
 
-            this.finished = false;
             this.numProcessed = 0;
         }
 
@@ -277,25 +798,17 @@ class StandardScannerExecutor extends AbstractFuture<ScanMetrics> implements Jan
         public void run() {
             try {
                 job.workerIterationStart(jobConfiguration, graphConfiguration, metrics);
-                while (!finished || !processorQueue.isEmpty()) {
-                    Row row;
-                    while ((row=processorQueue.poll(100,TimeUnit.MILLISECONDS))!=null) {
-                        if (numProcessed>=workBlockSize) {
-                            //Setup new chunk of work
-                            job.workerIterationEnd(metrics);
-                            job = job.clone();
-                            job.workerIterationStart(jobConfiguration, graphConfiguration, metrics);
-                            numProcessed=0;
-                        }
-                        try {
-                            job.process(row.key,row.entries,metrics);
-                            metrics.increment(ScanMetrics.Metric.SUCCESS);
-                        } catch (Throwable ex) {
-                            log.error("Exception processing row ["+row.key+"]: ",ex);
-                            metrics.increment(ScanMetrics.Metric.FAILURE);
-                        }
-                        numProcessed++;
+                Row row;
+                while ((row=processorQueue.take())!=END_OF_ROWS) {
+                    if (numProcessed>=workBlockSize) {
+                        //Setup new chunk of work
+                        job.workerIterationEnd(metrics);
+                        job = job.clone();
+                        job.workerIterationStart(jobConfiguration, graphConfiguration, metrics);
+                        numProcessed=0;
                     }
+                    process(job, row);
+                    numProcessed++;
                 }
             } catch (InterruptedException e) {
                 log.error("Processing thread interrupted while waiting on queue or processing data", e);
@@ -306,9 +819,6 @@ class StandardScannerExecutor extends AbstractFuture<ScanMetrics> implements Jan
             }
         }
 
-        public void finish() {
-            this.finished=true;
-        }
     }
 
 
@@ -318,32 +828,38 @@ class StandardScannerExecutor extends AbstractFuture<ScanMetrics> implements Jan
         private final KeyIterator keyIterator;
         private final SliceQuery query;
         private final Predicate<StaticBuffer> keyFilter;
-        private volatile boolean finished;
+        private final RateLimiter rateLimiter;
+        private volatile Throwable failure;
 
         private DataPuller(SliceQuery query, BlockingQueue<SliceResult> queue,
-                           KeyIterator keyIterator, Predicate<StaticBuffer> keyFilter) {
+                           KeyIterator keyIterator, Predicate<StaticBuffer> keyFilter,
+                           RateLimiter rateLimiter) {
             this.query = query;
             this.queue = queue;
             this.keyIterator = keyIterator;
             this.keyFilter = keyFilter;
-            this.finished = false;
+            this.rateLimiter = rateLimiter;
+            this.failure = null;
         }
 
         @Override
         public void run() {
+            boolean interrupted = false;
             try {
                 while (keyIterator.hasNext()) {
                     StaticBuffer key = keyIterator.next();
+                    if (rateLimiter != null) rateLimiter.acquire();
                     RecordIterator<Entry> entries = keyIterator.getEntries();
                     if (!keyFilter.test(key)) continue;
                     EntryList entryList = StaticArrayEntryList.ofStaticBuffer(entries, StaticArrayEntry.ENTRY_GETTER);
                     queue.put(new SliceResult(query, key, entryList));
                 }
-                finished = true;
             } catch (InterruptedException e) {
                 log.error("Data-pulling thread interrupted while waiting on queue or data", e);
+                interrupted = true;
             } catch (Throwable e) {
                 log.error("Could not load data from storage: {}",e);
+                failure = e;
             } finally {
                 try {
                     keyIterator.close();
@@ -351,13 +867,23 @@ class StandardScannerExecutor extends AbstractFuture<ScanMetrics> implements Jan
                     log.warn("Could not close storage iterator ", e);
                 }
             }
+            //Signal the end of the data unless the executor has stopped consuming it
+            if (!interrupted) {
+                try {
+                    queue.put(END_OF_DATA);
+                } catch (InterruptedException e) {
+                    log.debug("Data-pulling thread interrupted while signaling the end of the data", e);
+                }
+            }
         }
 
-        public boolean isFinished() {
-            return finished;
+        public void checkFailure() throws TemporaryBackendException {
+            if (failure != null) throw new TemporaryBackendException("Could not load data from storage", failure);
         }
     }
 
+    private static final SliceResult END_OF_DATA = new SliceResult(null, null, null);
+
     private static class SliceResult {
 
         final SliceQuery query;
@@ -15,13 +15,18 @@
 package org.janusgraph.diskstorage.locking.consistentkey;
 
 
+import org.janusgraph.diskstorage.Entry;
 import org.janusgraph.diskstorage.locking.LockStatus;
 
 import java.time.Instant;
+import java.util.List;
 
 /**
  * The timestamps of a lock held by a {@link ConsistentKeyLocker}
  * and whether the held lock has or has not been checked.
+ * <p>
+ * When the locker batches lock applications, the write timestamp is null
+ * until the lock application has been written.
  *
  */
 public class ConsistentKeyLockStatus implements LockStatus {
@@ -29,6 +34,7 @@ public class ConsistentKeyLockStatus implements LockStatus {
     private final Instant write;
     private final Instant expire;
     private boolean checked;
+    private List<Entry> claims;
 
     public ConsistentKeyLockStatus(Instant written, Instant expire) {
         this.write = written;
@@ -54,6 +60,17 @@ public class ConsistentKeyLockStatus implements LockStatus {
         this.checked = true;
     }
 
+    /**
+     * The lock applications read from the lock store for a batched check, or null if they have not been read yet.
+     */
+    public List<Entry> getClaims() {
+        return claims;
+    }
+
+    public void setClaims(List<Entry> claims) {
+        this.claims = claims;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -16,7 +16,9 @@ package org.janusgraph.diskstorage.locking.consistentkey;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.janusgraph.core.JanusGraphConfigurationException;
 
 import org.janusgraph.diskstorage.configuration.ConfigElement;
@@ -36,8 +38,17 @@ import org.slf4j.LoggerFactory;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import static org.janusgraph.util.encoding.StringEncoding.UTF8_CHARSET;
 
@@ -114,6 +125,26 @@ import static org.janusgraph.util.encoding.StringEncoding.UTF8_CHARSET;
  * {@code rid} is only unique at the process level.  Without a mediator, distinct
  * threads could write lock columns with the same {@code rid} and be unable to
  * tell their lock claims apart.
+ * <p>
+ * <h3>Batched lock applications</h3>
+ * <p>
+ * When built with {@link Builder#batchLocks(boolean)}, lock applications are
+ * only mediated locally by {@link #writeLock(KeyColumn, StoreTransaction)}.
+ * {@link #checkLocks(StoreTransaction)} then writes the columns of all lock
+ * applications of the transaction with a single batch mutation, waits
+ * {@code lockWait} once and reads all lock keys with a single multi-key slice
+ * (if the store supports multi-queries). {@link #deleteLocks(StoreTransaction)}
+ * deletes all of them with a single batch mutation. The number of storage round
+ * trips is hence independent of the number of locks a transaction takes.
+ * Seniority between processes is determined by the time at which transactions
+ * check their locks rather than the time at which they first claimed them.
+ * <p>
+ * Optionally, checked lock applications are renewed every {@code renewInterval}
+ * until they are deleted, so that transactions may take longer than
+ * {@code lockExpire} to commit. A renewal rewrites the column of each lock
+ * application with a value that carries the extended expiration time. The
+ * column, and hence the seniority of the application, is kept for as long as
+ * the lock is held.
  */
 public class ConsistentKeyLocker extends AbstractLocker<ConsistentKeyLockStatus> implements Locker {
 
@@ -136,8 +167,34 @@ public class ConsistentKeyLocker extends AbstractLocker<ConsistentKeyLockStatus>
      */
     private final LockCleanerService cleanerService;
 
+    /**
+     * Whether lock applications are written and read all at once by {@link #checkLocks(StoreTransaction)}.
+     */
+    private final boolean batchLocks;
+
+    /**
+     * Interval at which checked batched lock applications are renewed, zero if they are not renewed.
+     */
+    private final Duration renewInterval;
+
+    /**
+     * Renews the lock applications of transactions in {@link #leases}, null if locks are not renewed.
+     */
+    private final ScheduledThreadPoolExecutor leaseRenewer;
+
+    private final ConcurrentMap<StoreTransaction, Lease> leases;
+
     private static final StaticBuffer zeroBuf = BufferUtil.getIntBuffer(0); // TODO this does not belong here
 
+    private static final long RENEWER_KEEPALIVE_SECONDS = 5L;
+
+    private static final ThreadFactory RENEWER_THREAD_FACTORY =
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("LockRenewer-%d")
+                .setUncaughtExceptionHandler(new UncaughtExceptionLogger(UncaughtExceptionLogger.UELevel.WARN))
+                .build();
+
     /*
      * In the storage backends, columns composed of one or more occurrences
      * of a single byte sort from shortest to longest.
@@ -178,6 +235,8 @@ public class ConsistentKeyLocker extends AbstractLocker<ConsistentKeyLockStatus>
         // Optional (has default)
         private Duration lockWait;
         private int lockRetryCount;
+        private boolean batchLocks;
+        private Duration renewInterval;
 
         private enum CleanerConfig {
             NONE,
@@ -193,6 +252,8 @@ public class ConsistentKeyLocker extends AbstractLocker<ConsistentKeyLockStatus>
             this.manager = manager;
             this.lockWait = GraphDatabaseConfiguration.LOCK_WAIT.getDefaultValue();
             this.lockRetryCount = GraphDatabaseConfiguration.LOCK_RETRY.getDefaultValue();
+            this.batchLocks = GraphDatabaseConfiguration.LOCK_BATCH.getDefaultValue();
+            this.renewInterval = GraphDatabaseConfiguration.LOCK_RENEW_INTERVAL.getDefaultValue();
         }
 
         public Builder lockWait(Duration d) {
@@ -205,6 +266,16 @@ public class ConsistentKeyLocker extends AbstractLocker<ConsistentKeyLockStatus>
             return self();
         }
 
+        public Builder batchLocks(boolean batch) {
+            this.batchLocks = batch;
+            return self();
+        }
+
+        public Builder renewInterval(Duration d) {
+            this.renewInterval = d;
+            return self();
+        }
+
         public Builder standardCleaner() {
             this.cleanerConfig = CleanerConfig.STANDARD;
             this.customCleanerService = null;
@@ -234,6 +305,10 @@ public class ConsistentKeyLocker extends AbstractLocker<ConsistentKeyLockStatus>
 
             lockExpire(config.get(GraphDatabaseConfiguration.LOCK_EXPIRE));
 
+            batchLocks(config.get(GraphDatabaseConfiguration.LOCK_BATCH));
+
+            renewInterval(config.get(GraphDatabaseConfiguration.LOCK_RENEW_INTERVAL));
+
             if (config.get(GraphDatabaseConfiguration.LOCK_CLEAN_EXPIRED)) {
                 standardCleaner();
             }
@@ -244,6 +319,13 @@ public class ConsistentKeyLocker extends AbstractLocker<ConsistentKeyLockStatus>
         public ConsistentKeyLocker build() {
             preBuild();
 
+            Preconditions.checkArgument(!renewInterval.isNegative(), "Invalid lock renew interval: %s", renewInterval);
+            Preconditions.checkArgument(renewInterval.isZero() || batchLocks,
+                    "Lock applications can only be renewed when they are batched");
+            Preconditions.checkArgument(renewInterval.isZero() || renewInterval.plus(lockWait).compareTo(lockExpire) < 0,
+                    "Lock renew interval %s plus lock wait time %s must be less than the lock expiry time %s",
+                    renewInterval, lockWait, lockExpire);
+
             final LockCleanerService cleaner;
 
             switch (cleanerConfig) {
@@ -264,7 +346,8 @@ public class ConsistentKeyLocker extends AbstractLocker<ConsistentKeyLockStatus>
                     lockWait,
                     lockRetryCount,
                     lockExpire,
-                    lockState, cleaner);
+                    lockState, cleaner,
+                    batchLocks, renewInterval);
         }
 
         @Override
@@ -287,13 +370,25 @@ public class ConsistentKeyLocker extends AbstractLocker<ConsistentKeyLockStatus>
                                 LocalLockMediator<StoreTransaction> llm, Duration lockWait,
                                 int lockRetryCount, Duration lockExpire,
                                 LockerState<ConsistentKeyLockStatus> lockState,
-                                LockCleanerService cleanerService) {
+                                LockCleanerService cleanerService,
+                                boolean batchLocks, Duration renewInterval) {
         super(rid, times, serializer, llm, lockState, lockExpire, log);
         this.store = store;
         this.manager = manager;
         this.lockWait = lockWait;
         this.lockRetryCount = lockRetryCount;
         this.cleanerService = cleanerService;
+        this.batchLocks = batchLocks;
+        this.renewInterval = renewInterval;
+        if (batchLocks && !renewInterval.isZero()) {
+            leaseRenewer = new ScheduledThreadPoolExecutor(1, RENEWER_THREAD_FACTORY);
+            leaseRenewer.setKeepAliveTime(RENEWER_KEEPALIVE_SECONDS, TimeUnit.SECONDS);
+            leaseRenewer.allowCoreThreadTimeOut(true);
+            leaseRenewer.setRemoveOnCancelPolicy(true);
+        } else {
+            leaseRenewer = null;
+        }
+        this.leases = new ConcurrentHashMap<>();
     }
 
     /**
@@ -317,6 +412,11 @@ public class ConsistentKeyLocker extends AbstractLocker<ConsistentKeyLockStatus>
     @Override
     protected ConsistentKeyLockStatus writeSingleLock(KeyColumn lockID, StoreTransaction txh) throws Throwable {
 
+        if (batchLocks) {
+            // Written together with all other lock applications of the transaction by checkLocks
+            return new ConsistentKeyLockStatus(null, times.getTime().plus(lockExpire));
+        }
+
         final StaticBuffer lockKey = serializer.toLockKey(lockID.getKey(), lockID.getColumn());
         StaticBuffer oldLockCol = null;
 
@@ -420,20 +520,22 @@ public class ConsistentKeyLocker extends AbstractLocker<ConsistentKeyLockStatus>
         // We could be smarter about sleeping by iterating oldest -> latest...
         final Instant now = times.sleepPast(ls.getWriteTimestamp().plus(lockWait));
 
-        // Slice the store
-        KeySliceQuery ksq = new KeySliceQuery(serializer.toLockKey(kc.getKey(), kc.getColumn()), LOCK_COL_START,
-            LOCK_COL_END);
-        List<Entry> claimEntries = getSliceWithRetries(ksq, tx);
-
-        // Extract timestamp and rid from the column in each returned Entry...
-        final Iterable<TimestampRid> iterable = Iterables.transform(claimEntries,
-            e -> serializer.fromLockColumn(e.getColumnAs(StaticBuffer.STATIC_FACTORY), times));
-        // ...and then filter out the TimestampRid objects with expired timestamps
-        // (This doesn't use Iterables.filter and Predicate so that we can throw a checked exception if necessary)
-        final List<TimestampRid> unexpiredTRs = new ArrayList<>(Iterables.size(iterable));
-        for (TimestampRid tr : iterable) {
-            final Instant cutoffTime = now.minus(lockExpire);
-            if (tr.getTimestamp().isBefore(cutoffTime)) {
+        // Slice the store, unless the lock applications of all locks have already been read at once
+        List<Entry> claimEntries = ls.getClaims();
+        if (null == claimEntries) {
+            KeySliceQuery ksq = new KeySliceQuery(serializer.toLockKey(kc.getKey(), kc.getColumn()), LOCK_COL_START,
+                LOCK_COL_END);
+            claimEntries = getSliceWithRetries(ksq, tx);
+        }
+
+        // Extract timestamp and rid from the column in each returned Entry and filter out expired claims
+        final Instant cutoffTime = now.minus(lockExpire);
+        final List<TimestampRid> unexpiredTRs = new ArrayList<>(claimEntries.size());
+        for (Entry claim : claimEntries) {
+            final TimestampRid tr = serializer.fromLockColumn(claim.getColumnAs(StaticBuffer.STATIC_FACTORY), times);
+            // Renewed claims carry their extended expiration time in the value
+            final Instant renewedUntil = serializer.fromLockValue(claim.getValueAs(StaticBuffer.STATIC_FACTORY), times);
+            if (tr.getTimestamp().isBefore(cutoffTime) && (null == renewedUntil || renewedUntil.isBefore(now))) {
                 log.warn("Discarded expired claim on {} with timestamp {}", kc, tr.getTimestamp());
                 if (null != cleanerService)
                     cleanerService.clean(kc, cutoffTime, tx);
@@ -531,6 +633,9 @@ public class ConsistentKeyLocker extends AbstractLocker<ConsistentKeyLockStatus>
 
     @Override
     protected void deleteSingleLock(KeyColumn kc, ConsistentKeyLockStatus ls, StoreTransaction tx) {
+        if (batchLocks) {
+            return; // Already deleted by deleteLocks
+        }
         List<StaticBuffer> deletions = ImmutableList.of(serializer.toLockCol(ls.getWriteTimestamp(), rid, times));
         for (int i = 0; i < lockRetryCount; i++) {
             try {
@@ -547,6 +652,259 @@ public class ConsistentKeyLocker extends AbstractLocker<ConsistentKeyLockStatus>
         }
     }
 
+    @Override
+    public void checkLocks(StoreTransaction tx) throws TemporaryLockingException, PermanentLockingException {
+        if (batchLocks) {
+            try {
+                writeBatchedLocks(tx);
+                readBatchedLocks(tx);
+            } catch (TemporaryLockingException | PermanentLockingException | AssertionError e) {
+                throw e;
+            } catch (InterruptedException | TemporaryBackendException e) {
+                throw new TemporaryLockingException(e);
+            } catch (Throwable t) {
+                throw new PermanentLockingException(t);
+            }
+        }
+        super.checkLocks(tx);
+        if (null != leaseRenewer) {
+            startRenewal(tx);
+        }
+    }
+
+    @Override
+    public void deleteLocks(StoreTransaction tx) throws TemporaryLockingException, PermanentLockingException {
+        if (batchLocks) {
+            deleteBatchedLocks(tx);
+        }
+        super.deleteLocks(tx);
+    }
+
+    /**
+     * Write the lock applications of all locks of {@code tx} which have not
+     * been written yet with a single batch mutation. Failed or too slow writes
+     * are retried like in {@link #writeSingleLock(KeyColumn, StoreTransaction)}.
+     */
+    private void writeBatchedLocks(StoreTransaction tx) throws Throwable {
+        final Map<KeyColumn, ConsistentKeyLockStatus> locks = lockState.getLocksForTx(tx);
+        final List<KeyColumn> unwritten = new ArrayList<>(locks.size());
+        for (Map.Entry<KeyColumn, ConsistentKeyLockStatus> entry : locks.entrySet()) {
+            if (null == entry.getValue().getWriteTimestamp())
+                unwritten.add(entry.getKey());
+        }
+        if (unwritten.isEmpty())
+            return;
+
+        StaticBuffer oldLockCol = null;
+        for (int i = 0; i < lockRetryCount; i++) {
+            final Timer writeTimer = times.getTimer().start();
+            final StaticBuffer lockCol = serializer.toLockCol(writeTimer.getStartTime(), rid, times);
+            Throwable error = null;
+            try {
+                mutateLocks(unwritten, lockCol, oldLockCol, writeTimer.getStartTime(), tx);
+            } catch (BackendException e) {
+                log.debug("Batched lock write attempt failed with exception", e);
+                error = e;
+            }
+            writeTimer.stop();
+
+            if (null == error && writeTimer.elapsed().compareTo(lockWait) <= 0) {
+                final Instant writeInstant = writeTimer.getStartTime();
+                final Instant expireInstant = writeInstant.plus(lockExpire);
+                for (KeyColumn kc : unwritten) {
+                    locks.put(kc, new ConsistentKeyLockStatus(writeInstant, expireInstant));
+                    llm.lock(kc, tx, expireInstant); // update local lock expiration time
+                }
+                log.debug("Wrote {} batched locks", unwritten.size());
+                return;
+            }
+            oldLockCol = lockCol;
+            if (null == error) {
+                log.warn("Batched lock write succeeded but took too long: duration {} exceeded limit {}",
+                    writeTimer.elapsed(), lockWait);
+            } else if (error instanceof TemporaryBackendException) {
+                log.warn("Temporary exception during batched lock write", error);
+            } else {
+                log.error("Fatal exception encountered during attempted batched lock write", error);
+                tryDeleteBatchedLocks(unwritten, lockCol, tx);
+                throw error;
+            }
+        }
+        tryDeleteBatchedLocks(unwritten, oldLockCol, tx);
+        throw new TemporaryBackendException("Batched lock write retry count exceeded");
+    }
+
+    private void tryDeleteBatchedLocks(Collection<KeyColumn> lockIDs, StaticBuffer lockCol, StoreTransaction tx) {
+        try {
+            mutateLocks(lockIDs, null, lockCol, times.getTime(), tx);
+        } catch (BackendException e) {
+            log.warn("Failed to delete batched lock write: abandoning potentially-unreleased locks on {}", lockIDs, e);
+        }
+    }
+
+    /**
+     * Once {@code lockWait} has passed for all of them, read the lock
+     * applications of all unchecked locks of {@code tx} with a single
+     * multi-key slice. The applications are then evaluated by
+     * {@link #checkSingleLock(KeyColumn, ConsistentKeyLockStatus, StoreTransaction)}.
+     */
+    private void readBatchedLocks(StoreTransaction tx) throws BackendException, InterruptedException {
+        final Map<StaticBuffer, ConsistentKeyLockStatus> unchecked = new HashMap<>();
+        Instant lastWrite = null;
+        for (Map.Entry<KeyColumn, ConsistentKeyLockStatus> entry : lockState.getLocksForTx(tx).entrySet()) {
+            final ConsistentKeyLockStatus ls = entry.getValue();
+            if (ls.isChecked() || null != ls.getClaims())
+                continue;
+            unchecked.put(serializer.toLockKey(entry.getKey().getKey(), entry.getKey().getColumn()), ls);
+            if (null == lastWrite || lastWrite.isBefore(ls.getWriteTimestamp()))
+                lastWrite = ls.getWriteTimestamp();
+        }
+        if (unchecked.isEmpty())
+            return;
+
+        times.sleepPast(lastWrite.plus(lockWait));
+
+        final Map<StaticBuffer, EntryList> claims = getSlicesWithRetries(new ArrayList<>(unchecked.keySet()), tx);
+        for (Map.Entry<StaticBuffer, ConsistentKeyLockStatus> entry : unchecked.entrySet()) {
+            final EntryList claimEntries = claims.get(entry.getKey());
+            entry.getValue().setClaims(null == claimEntries ? EntryList.EMPTY_LIST : claimEntries);
+        }
+    }
+
+    private Map<StaticBuffer, EntryList> getSlicesWithRetries(List<StaticBuffer> keys, StoreTransaction tx) throws BackendException {
+        final SliceQuery query = new SliceQuery(LOCK_COL_START, LOCK_COL_END);
+        for (int i = 0; i < lockRetryCount; i++) {
+            try {
+                if (manager.getFeatures().hasMultiQuery()) {
+                    return store.getSlice(keys, query, tx);
+                }
+                final Map<StaticBuffer, EntryList> result = new HashMap<>(keys.size());
+                for (StaticBuffer key : keys) {
+                    result.put(key, store.getSlice(new KeySliceQuery(key, query), tx));
+                }
+                return result;
+            } catch (PermanentBackendException e) {
+                log.error("Failed to check locks", e);
+                throw new PermanentLockingException(e);
+            } catch (TemporaryBackendException e) {
+                log.warn("Temporary storage failure while checking locks", e);
+            }
+        }
+
+        throw new TemporaryBackendException("Maximum retries (" + lockRetryCount + ") exceeded while checking locks");
+    }
+
+    /**
+     * Delete the lock applications of all locks of {@code tx} with a single
+     * batch mutation.
+     */
+    private void deleteBatchedLocks(StoreTransaction tx) {
+        final Lease lease = leases.remove(tx);
+        if (null != lease) {
+            synchronized (lease) {
+                lease.released = true;
+                if (null != lease.renewal)
+                    lease.renewal.cancel(false);
+            }
+        }
+
+        final Map<StaticBuffer, KCVMutation> mutations = new HashMap<>();
+        for (Map.Entry<KeyColumn, ConsistentKeyLockStatus> entry : lockState.getLocksForTx(tx).entrySet()) {
+            final KeyColumn kc = entry.getKey();
+            final ConsistentKeyLockStatus ls = entry.getValue();
+            if (null == ls.getWriteTimestamp())
+                continue; // never written
+            mutations.put(serializer.toLockKey(kc.getKey(), kc.getColumn()), new KCVMutation(new ArrayList<>(0),
+                Lists.newArrayList(serializer.toLockCol(ls.getWriteTimestamp(), rid, times))));
+        }
+        if (mutations.isEmpty())
+            return;
+
+        for (int i = 0; i < lockRetryCount; i++) {
+            try {
+                mutateLocks(mutations, times.getTime(), tx);
+                return;
+            } catch (TemporaryBackendException e) {
+                log.warn("Temporary storage exception while deleting batched locks", e);
+                // don't return -- iterate and retry
+            } catch (BackendException e) {
+                log.error("Storage exception while deleting batched locks", e);
+                return; // give up on these locks
+            }
+        }
+    }
+
+    private void startRenewal(StoreTransaction tx) {
+        if (lockState.getLocksForTx(tx).isEmpty() || leases.containsKey(tx))
+            return;
+        final Lease lease = new Lease();
+        leases.put(tx, lease);
+        synchronized (lease) {
+            lease.renewal = leaseRenewer.scheduleWithFixedDelay(() -> renewLocks(tx, lease),
+                renewInterval.toNanos(), renewInterval.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Extend the expiration time of the lock applications of {@code tx} by
+     * rewriting their columns with a value that carries the new expiration
+     * time. The columns are kept, so the applications retain the seniority
+     * they established when they were checked.
+     */
+    private void renewLocks(StoreTransaction tx, Lease lease) {
+        synchronized (lease) {
+            if (lease.released)
+                return;
+            final Map<KeyColumn, ConsistentKeyLockStatus> locks = lockState.getLocksForTx(tx);
+            final Instant now = times.getTime();
+            final Instant expireInstant = now.plus(lockExpire);
+            final StaticBuffer lockValue = serializer.toLockValue(expireInstant, times);
+            final Map<StaticBuffer, KCVMutation> mutations = new HashMap<>(locks.size());
+            for (Map.Entry<KeyColumn, ConsistentKeyLockStatus> entry : locks.entrySet()) {
+                final KeyColumn kc = entry.getKey();
+                final StaticBuffer lockCol = serializer.toLockCol(entry.getValue().getWriteTimestamp(), rid, times);
+                mutations.put(serializer.toLockKey(kc.getKey(), kc.getColumn()), new KCVMutation(
+                    Lists.newArrayList(StaticArrayEntry.of(lockCol, lockValue)), new ArrayList<>(0)));
+            }
+            try {
+                mutateLocks(mutations, now, tx);
+            } catch (BackendException e) {
+                log.warn("Failed to renew {} locks of transaction {}", locks.size(), tx, e);
+                return;
+            }
+            for (Map.Entry<KeyColumn, ConsistentKeyLockStatus> entry : locks.entrySet()) {
+                final ConsistentKeyLockStatus renewed = new ConsistentKeyLockStatus(entry.getValue().getWriteTimestamp(), expireInstant);
+                renewed.setChecked();
+                entry.setValue(renewed);
+                llm.lock(entry.getKey(), tx, expireInstant); // update local lock expiration time
+            }
+            log.debug("Renewed {} locks of transaction {}", locks.size(), tx);
+        }
+    }
+
+    private void mutateLocks(Collection<KeyColumn> lockIDs, StaticBuffer addition, StaticBuffer deletion,
+                             Instant timestamp, StoreTransaction tx) throws BackendException {
+        final Map<StaticBuffer, KCVMutation> mutations = new HashMap<>(lockIDs.size());
+        for (KeyColumn kc : lockIDs) {
+            mutations.put(serializer.toLockKey(kc.getKey(), kc.getColumn()), new KCVMutation(
+                null == addition ? new ArrayList<>(0) : Lists.newArrayList(StaticArrayEntry.of(addition, zeroBuf)),
+                null == deletion ? new ArrayList<>(0) : Lists.newArrayList(deletion)));
+        }
+        mutateLocks(mutations, timestamp, tx);
+    }
+
+    private void mutateLocks(Map<StaticBuffer, KCVMutation> mutations, Instant timestamp,
+                             StoreTransaction tx) throws BackendException {
+        final StoreTransaction newTx = overrideTimestamp(tx, timestamp);
+        if (manager instanceof KeyColumnValueStoreManager && manager.getFeatures().hasBatchMutation()) {
+            ((KeyColumnValueStoreManager) manager).mutateMany(ImmutableMap.of(store.getName(), mutations), newTx);
+        } else {
+            for (Map.Entry<StaticBuffer, KCVMutation> entry : mutations.entrySet()) {
+                store.mutate(entry.getKey(), entry.getValue().getAdditions(), entry.getValue().getDeletions(), newTx);
+            }
+        }
+    }
+
     private StoreTransaction overrideTimestamp(final StoreTransaction tx,
                                                final Instant commitTime) throws BackendException {
         StandardBaseTransactionConfig newCfg = new StandardBaseTransactionConfig.Builder(tx.getConfiguration())
@@ -554,6 +912,14 @@ public class ConsistentKeyLocker extends AbstractLocker<ConsistentKeyLockStatus>
         return manager.beginTransaction(newCfg);
     }
 
+    /**
+     * The renewal of the lock applications of a transaction. Guarded by itself.
+     */
+    private static class Lease {
+        private ScheduledFuture<?> renewal;
+        private boolean released;
+    }
+
     private static class WriteResult {
         private final Duration duration;
         private final Instant writeTimestamp;
@@ -17,6 +17,7 @@ package org.janusgraph.diskstorage.locking.consistentkey;
 import org.janusgraph.diskstorage.ReadBuffer;
 import org.janusgraph.diskstorage.StaticBuffer;
 import org.janusgraph.diskstorage.WriteBuffer;
+import org.janusgraph.diskstorage.util.BufferUtil;
 import org.janusgraph.diskstorage.util.StaticArrayBuffer;
 import org.janusgraph.diskstorage.util.WriteBufferUtil;
 import org.janusgraph.diskstorage.util.WriteByteBuffer;
@@ -46,6 +47,23 @@ public class ConsistentKeyLockerSerializer {
         return b.getStaticBuffer();
     }
     
+    /**
+     * Returns the value of a renewed lock application, which carries the extended expiration time.
+     */
+    public StaticBuffer toLockValue(Instant expire, TimestampProvider provider) {
+        return BufferUtil.getLongBuffer(provider.getTime(expire));
+    }
+
+    /**
+     * Returns the expiration time carried by the value of a renewed lock application, or null if the
+     * application has not been renewed.
+     */
+    public Instant fromLockValue(StaticBuffer value, TimestampProvider provider) {
+        if (8 != value.length())
+            return null;
+        return provider.getTime(value.getLong(0));
+    }
+
     public TimestampRid fromLockColumn(StaticBuffer lockKey, TimestampProvider provider) {
         ReadBuffer r = lockKey.asReadBuffer();
         int len = r.length();
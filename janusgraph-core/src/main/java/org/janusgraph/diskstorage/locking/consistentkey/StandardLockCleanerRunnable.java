@@ -78,7 +78,9 @@ public class StandardLockCleanerRunnable implements Runnable {
 
         for (Entry lc : locks) {
             TimestampRid tr = serializer.fromLockColumn(lc.getColumn(), times);
-            if (tr.getTimestamp().isBefore(cutoff)) {
+            // Renewed locks are only deleted once their renewal is as old as the cutoff
+            Instant renewedUntil = serializer.fromLockValue(lc.getValue(), times);
+            if (tr.getTimestamp().isBefore(cutoff) && (null == renewedUntil || renewedUntil.isBefore(cutoff))) {
                 log.info("Deleting expired lock on {} by rid {} with timestamp {} (before or at cutoff {})",
                     target, tr.getRid(), tr.getTimestamp(), cutoff);
                 b.add(lc.getColumn());
@@ -44,6 +44,8 @@ import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Implementation of {@link Log} wrapped around a {@link KeyColumnValueStore}. Each message is written as a column-value pair ({@link Entry})
@@ -100,6 +102,12 @@ public class KCVSLog implements Log, BackendOperation.TransactionalProvider {
             "Whether to require consistency for log reading and writing messages to the storage backend",
             ConfigOption.Type.MASKABLE, false);
 
+    public static final ConfigOption<Boolean> LOG_GROUP_COMMIT = new ConfigOption<>(LOG_NS, "group-commit",
+            "Whether messages that are added concurrently to a log without send delay (e.g. the transaction log) should be " +
+                    "persisted together in a single write to the storage backend. Each message is still persisted before " +
+                    "adding it returns.",
+            ConfigOption.Type.MASKABLE, false);
+
     //########## INTERNAL CONSTANTS #############
 
     /**
@@ -195,6 +203,14 @@ public class KCVSLog implements Log, BackendOperation.TransactionalProvider {
      * Background thread which periodically writes out the queued up messages. TODO: consider batching messages across ALL logs
      */
     private final SendThread sendThread;
+    /**
+     * Messages waiting to be persisted in the next group commit if group commits are enabled, null otherwise
+     */
+    private final Queue<MessageEnvelope> groupCommitMsg;
+    /**
+     * Held by the thread which persists the current group of messages
+     */
+    private final Lock groupCommitLock;
 
     private final int numReadThreads;
     private final int maxReadMsg;
@@ -258,9 +274,18 @@ public class KCVSLog implements Log, BackendOperation.TransactionalProvider {
             outgoingMsg = new ArrayBlockingQueue<>(sendBatchSize * BATCH_SIZE_MULTIPLIER);
             sendThread = new SendThread();
             sendThread.start();
+            groupCommitMsg = null;
+            groupCommitLock = null;
         } else {
             outgoingMsg = null;
             sendThread = null;
+            if (config.get(LOG_GROUP_COMMIT)) {
+                groupCommitMsg = new ConcurrentLinkedQueue<>();
+                groupCommitLock = new ReentrantLock();
+            } else {
+                groupCommitMsg = null;
+                groupCommitLock = null;
+            }
         }
 
         //These will be initialized when the first readers are registered (see below)
@@ -427,6 +452,8 @@ public class KCVSLog implements Log, BackendOperation.TransactionalProvider {
                 envelope.message.failed(e);
                 throw e;
             }
+        } else if (groupCommitMsg!=null) {
+            sendGroupCommit(envelope);
         } else if (outgoingMsg==null) {
             sendMessages(ImmutableList.of(envelope));
         } else {
@@ -504,6 +531,48 @@ public class KCVSLog implements Log, BackendOperation.TransactionalProvider {
         }
     }
 
+    /**
+     * Persists the given message together with all other messages that are concurrently waiting to be persisted.
+     * While one thread writes a group of messages to the storage backend, the messages added by other threads
+     * queue up and are written by the next thread which acquires the lock, so that each thread only waits for
+     * at most two writes and concurrent messages share a single {@code mutateMany} call.
+     * Returns once the message has been persisted and throws an exception if persisting it failed.
+     *
+     * @param envelope
+     */
+    private void sendGroupCommit(final MessageEnvelope envelope) {
+        groupCommitMsg.add(envelope);
+        groupCommitLock.lock();
+        try {
+            while (!envelope.message.isDone()) {
+                final int maxGroupSize = sendBatchSize * BATCH_SIZE_MULTIPLIER;
+                final List<MessageEnvelope> group = new ArrayList<>(Math.min(maxGroupSize, 16));
+                MessageEnvelope next;
+                while (group.size() < maxGroupSize && (next = groupCommitMsg.poll()) != null) {
+                    group.add(next);
+                }
+                log.debug("Group committing {} messages", group.size());
+                try {
+                    sendMessages(group);
+                } catch (JanusGraphException e) {
+                    //All messages in the group have been failed, only escalate if this thread's message was part of it
+                    if (!envelope.message.isDone()) log.warn("Could not group commit messages of other threads", e);
+                }
+            }
+        } finally {
+            groupCommitLock.unlock();
+        }
+        try {
+            envelope.message.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof JanusGraphException) throw (JanusGraphException) e.getCause();
+            throw new JanusGraphException("Could not persist message", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JanusGraphException("Got interrupted waiting to send message", e);
+        }
+    }
+
     /**
      * This background thread only gets started when messages are locally queued for up to a maximum number of microseconds
      * or until the maximum number of local messages is reached.
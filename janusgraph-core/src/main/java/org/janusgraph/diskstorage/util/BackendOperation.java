@@ -29,6 +29,13 @@ import org.slf4j.LoggerFactory;
 import java.time.Duration;
 import java.util.Random;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * @author Matthias Broecheler (me@matthiasb.com)
@@ -43,6 +50,12 @@ public class BackendOperation {
     private static final Duration BASE_REATTEMPT_TIME= Duration.ofMillis(50);
     private static final double PERTURBATION_PERCENTAGE = 0.2;
 
+    /**
+     * Schedules the retries of asynchronous operations so that no thread is blocked during the backoff
+     */
+    private static final ScheduledExecutorService RETRY_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("BackendOperationRetry-%d").build());
+
     private static Duration pertubTime(Duration duration) {
         Duration newDuration = duration.dividedBy((int)(2.0 / (1 + (random.nextDouble() * 2 - 1.0) * PERTURBATION_PERCENTAGE)));
         assert !duration.isZero() : duration;
@@ -100,6 +113,62 @@ public class BackendOperation {
         throw new TemporaryBackendException("Could not successfully complete backend operation due to repeated temporary exceptions after "+totalWaitTime,lastException);
     }
 
+    /**
+     * Asynchronous variant of {@link #execute(Callable, Duration)}: the operation is retried with the same backoff
+     * on temporary failures, but the waits are scheduled instead of sleeping on the calling thread. The returned
+     * future completes exceptionally with a {@link JanusGraphException} if the operation fails permanently or does not
+     * succeed within the total wait time.
+     *
+     * @param exe Starts the operation, invoked once per attempt
+     * @param totalWaitTime Time after which no further attempts are made
+     * @return Future of the result of the operation
+     */
+    public static <V> CompletableFuture<V> executeAsync(Supplier<CompletableFuture<V>> exe, Duration totalWaitTime) {
+        Preconditions.checkArgument(!totalWaitTime.isZero(),"Need to specify a positive waitTime: %s",totalWaitTime);
+        final CompletableFuture<V> result = new CompletableFuture<>();
+        attemptAsync(exe, result, System.currentTimeMillis()+totalWaitTime.toMillis(),
+                pertubTime(BASE_REATTEMPT_TIME), totalWaitTime);
+        return result;
+    }
+
+    private static <V> void attemptAsync(final Supplier<CompletableFuture<V>> exe, final CompletableFuture<V> result,
+                                         final long maxTime, final Duration waitTime, final Duration totalWaitTime) {
+        CompletableFuture<V> attempt;
+        try {
+            attempt = exe.get();
+        } catch (Throwable e) {
+            attempt = new CompletableFuture<>();
+            attempt.completeExceptionally(e);
+        }
+        attempt.whenComplete((value, e) -> {
+            if (e == null) {
+                result.complete(value);
+                return;
+            }
+            //Find inner-most StorageException
+            Throwable ex = e;
+            BackendException storeEx = null;
+            do {
+                if (ex instanceof BackendException) storeEx = (BackendException)ex;
+            } while ((ex=ex.getCause())!=null);
+            final BackendException failure;
+            if (storeEx instanceof TemporaryBackendException) {
+                if (System.currentTimeMillis()+waitTime.toMillis()<maxTime) {
+                    log.info("Temporary exception during backend operation ["+exe.toString()+"]. Attempting backoff retry.",storeEx);
+                    RETRY_SCHEDULER.schedule(() -> attemptAsync(exe, result, maxTime,
+                            pertubTime(waitTime.multipliedBy(2)), totalWaitTime), waitTime.toMillis(), TimeUnit.MILLISECONDS);
+                    return;
+                }
+                failure = new TemporaryBackendException("Could not successfully complete backend operation due to repeated temporary exceptions after "+totalWaitTime,storeEx);
+            } else if (storeEx != null) {
+                failure = storeEx;
+            } else {
+                failure = new PermanentBackendException("Permanent exception while executing backend operation "+exe.toString(),e);
+            }
+            result.completeExceptionally(new JanusGraphException("Could not execute operation due to backend exception",failure));
+        });
+    }
+
 //    private static final double WAITTIME_PERTURBATION_PERCENTAGE = 0.5;
 //    private static final double WAITTIME_PERTURBATION_PERCENTAGE_HALF = WAITTIME_PERTURBATION_PERCENTAGE/2;
 //
@@ -0,0 +1,175 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage.util;
+
+import com.google.common.collect.Lists;
+import org.janusgraph.diskstorage.BackendException;
+import org.janusgraph.diskstorage.Entry;
+import org.janusgraph.diskstorage.EntryList;
+import org.janusgraph.diskstorage.EntryMetaData;
+import org.janusgraph.diskstorage.StaticBuffer;
+import org.janusgraph.diskstorage.keycolumnvalue.KCVSProxy;
+import org.janusgraph.diskstorage.keycolumnvalue.KeyColumnValueStore;
+import org.janusgraph.diskstorage.keycolumnvalue.KeyIterator;
+import org.janusgraph.diskstorage.keycolumnvalue.KeyRangeQuery;
+import org.janusgraph.diskstorage.keycolumnvalue.KeySliceQuery;
+import org.janusgraph.diskstorage.keycolumnvalue.SliceQuery;
+import org.janusgraph.diskstorage.keycolumnvalue.StoreTransaction;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * {@link KeyColumnValueStore} which compresses the values of all entries written to the wrapped store and
+ * decompresses them when they are read. Columns are stored as they are, so slices are not affected.
+ */
+public class CompressingStore extends KCVSProxy {
+
+    private final BackendCompression compression;
+
+    public CompressingStore(KeyColumnValueStore store, BackendCompression compression) {
+        super(store);
+        this.compression = compression;
+    }
+
+    @Override
+    public void mutate(StaticBuffer key, List<Entry> additions, List<StaticBuffer> deletions, StoreTransaction txh) throws BackendException {
+        store.mutate(key, compress(additions, compression), deletions, txh);
+    }
+
+    @Override
+    public EntryList getSlice(KeySliceQuery query, StoreTransaction txh) throws BackendException {
+        return decompress(store.getSlice(query, txh));
+    }
+
+    @Override
+    public CompletableFuture<EntryList> getSliceAsync(KeySliceQuery query, StoreTransaction txh) {
+        return store.getSliceAsync(query, txh).thenApply(this::decompress);
+    }
+
+    @Override
+    public Map<StaticBuffer, EntryList> getSlice(List<StaticBuffer> keys, SliceQuery query, StoreTransaction txh) throws BackendException {
+        final Map<StaticBuffer, EntryList> slices = store.getSlice(keys, query, txh);
+        final Map<StaticBuffer, EntryList> result = new HashMap<>(slices.size());
+        for (Map.Entry<StaticBuffer, EntryList> slice : slices.entrySet()) {
+            result.put(slice.getKey(), decompress(slice.getValue()));
+        }
+        return result;
+    }
+
+    @Override
+    public KeyIterator getKeys(KeyRangeQuery keyQuery, StoreTransaction txh) throws BackendException {
+        return new DecompressingKeyIterator(store.getKeys(keyQuery, txh));
+    }
+
+    @Override
+    public KeyIterator getKeys(SliceQuery columnQuery, StoreTransaction txh) throws BackendException {
+        return new DecompressingKeyIterator(store.getKeys(columnQuery, txh));
+    }
+
+    private EntryList decompress(EntryList entries) {
+        if (entries.isEmpty()) return entries;
+        //Decompresses each value exactly once while copying the entries into the result in a single pass
+        return StaticArrayEntryList.ofStaticBuffer(entries.iterator(), transforming(compression::decompress));
+    }
+
+    static List<Entry> compress(List<Entry> additions, BackendCompression compression) {
+        if (additions.isEmpty()) return additions;
+        return Lists.newArrayList(Lists.transform(additions, entry -> transform(entry, compression::compress)));
+    }
+
+    /**
+     * Returns a copy of the given entry with the same column and meta data whose value has been transformed
+     */
+    private static Entry transform(Entry entry, Function<StaticBuffer, StaticBuffer> valueTransform) {
+        return StaticArrayEntry.ofStaticBuffer(entry, transforming(valueTransform));
+    }
+
+    /**
+     * Returns a getter for the column and meta data of entries and their transformed values
+     */
+    private static StaticArrayEntry.GetColVal<Entry, StaticBuffer> transforming(Function<StaticBuffer, StaticBuffer> valueTransform) {
+        return new StaticArrayEntry.GetColVal<Entry, StaticBuffer>() {
+            @Override
+            public StaticBuffer getColumn(Entry element) {
+                return element.getColumn();
+            }
+
+            @Override
+            public StaticBuffer getValue(Entry element) {
+                return valueTransform.apply(element.getValue());
+            }
+
+            @Override
+            public EntryMetaData[] getMetaSchema(Entry element) {
+                return StaticArrayEntry.ENTRY_GETTER.getMetaSchema(element);
+            }
+
+            @Override
+            public Object getMetaData(Entry element, EntryMetaData meta) {
+                return StaticArrayEntry.ENTRY_GETTER.getMetaData(element, meta);
+            }
+        };
+    }
+
+    private class DecompressingKeyIterator implements KeyIterator {
+
+        private final KeyIterator iterator;
+
+        private DecompressingKeyIterator(KeyIterator iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public RecordIterator<Entry> getEntries() {
+            final RecordIterator<Entry> entries = iterator.getEntries();
+            return new RecordIterator<Entry>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public Entry next() {
+                    return transform(entries.next(), compression::decompress);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    entries.close();
+                }
+            };
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public StaticBuffer next() {
+            return iterator.next();
+        }
+
+        @Override
+        public void close() throws IOException {
+            iterator.close();
+        }
+    }
+}
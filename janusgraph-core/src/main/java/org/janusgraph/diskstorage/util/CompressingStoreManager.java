@@ -0,0 +1,74 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage.util;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import org.janusgraph.diskstorage.BackendException;
+import org.janusgraph.diskstorage.StaticBuffer;
+import org.janusgraph.diskstorage.StoreMetaData;
+import org.janusgraph.diskstorage.keycolumnvalue.KCVMutation;
+import org.janusgraph.diskstorage.keycolumnvalue.KCVSManagerProxy;
+import org.janusgraph.diskstorage.keycolumnvalue.KeyColumnValueStore;
+import org.janusgraph.diskstorage.keycolumnvalue.KeyColumnValueStoreManager;
+import org.janusgraph.diskstorage.keycolumnvalue.StoreTransaction;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link KeyColumnValueStoreManager} which compresses the values of the given stores through {@link CompressingStore}s
+ * and compresses the values of batch mutations to these stores accordingly.
+ */
+public class CompressingStoreManager extends KCVSManagerProxy {
+
+    private final BackendCompression compression;
+    private final Set<String> compressedStores;
+
+    public CompressingStoreManager(KeyColumnValueStoreManager manager, BackendCompression compression,
+                                   Collection<String> compressedStores) {
+        super(manager);
+        Preconditions.checkArgument(compression != null && compressedStores != null);
+        this.compression = compression;
+        this.compressedStores = ImmutableSet.copyOf(compressedStores);
+    }
+
+    @Override
+    public KeyColumnValueStore openDatabase(String name, StoreMetaData.Container metaData) throws BackendException {
+        final KeyColumnValueStore store = manager.openDatabase(name, metaData);
+        return compressedStores.contains(name) ? new CompressingStore(store, compression) : store;
+    }
+
+    @Override
+    public void mutateMany(Map<String, Map<StaticBuffer, KCVMutation>> mutations, StoreTransaction txh) throws BackendException {
+        final Map<String, Map<StaticBuffer, KCVMutation>> compressed = new HashMap<>(mutations.size());
+        for (Map.Entry<String, Map<StaticBuffer, KCVMutation>> storeMutations : mutations.entrySet()) {
+            if (!compressedStores.contains(storeMutations.getKey())) {
+                compressed.put(storeMutations.getKey(), storeMutations.getValue());
+                continue;
+            }
+            final Map<StaticBuffer, KCVMutation> storeCompressed = new HashMap<>(storeMutations.getValue().size());
+            for (Map.Entry<StaticBuffer, KCVMutation> keyMutation : storeMutations.getValue().entrySet()) {
+                final KCVMutation mutation = keyMutation.getValue();
+                storeCompressed.put(keyMutation.getKey(), new KCVMutation(
+                        CompressingStore.compress(mutation.getAdditions(), compression), mutation.getDeletions()));
+            }
+            compressed.put(storeMutations.getKey(), storeCompressed);
+        }
+        manager.mutateMany(compressed, txh);
+    }
+}
@@ -0,0 +1,113 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage.util;
+
+import net.jpountz.lz4.LZ4Factory;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compression algorithms available to {@link StandardBackendCompression}. The id of an algorithm is stored with
+ * every compressed value and must therefore never change.
+ */
+public enum CompressionAlgorithm {
+
+    DEFLATE(1) {
+        @Override
+        public byte[] compress(byte[] source, int offset, int length) {
+            final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(source, offset, length);
+                deflater.finish();
+                final ByteArrayOutputStream out = new ByteArrayOutputStream(length);
+                final byte[] chunk = new byte[Math.max(64, Math.min(length, 8192))];
+                while (!deflater.finished()) {
+                    out.write(chunk, 0, deflater.deflate(chunk));
+                }
+                return out.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        public void decompress(byte[] source, int offset, int length, byte[] target) {
+            final Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(source, offset, length);
+                int position = 0;
+                while (position < target.length && !inflater.finished()) {
+                    final int inflated = inflater.inflate(target, position, target.length - position);
+                    if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                    position += inflated;
+                }
+                if (position != target.length) {
+                    throw new IllegalArgumentException("Corrupted compressed value: expected " + target.length +
+                            " bytes but inflated " + position);
+                }
+            } catch (DataFormatException e) {
+                throw new IllegalArgumentException("Corrupted compressed value", e);
+            } finally {
+                inflater.end();
+            }
+        }
+    },
+
+    LZ4(2) {
+        @Override
+        public byte[] compress(byte[] source, int offset, int length) {
+            return LZ4Factory.fastestInstance().fastCompressor().compress(source, offset, length);
+        }
+
+        @Override
+        public void decompress(byte[] source, int offset, int length, byte[] target) {
+            LZ4Factory.fastestInstance().fastDecompressor().decompress(source, offset, target, 0, target.length);
+        }
+    };
+
+    private final int id;
+
+    CompressionAlgorithm(int id) {
+        this.id = id;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Compresses the given range of the source array.
+     */
+    public abstract byte[] compress(byte[] source, int offset, int length);
+
+    /**
+     * Decompresses the given range of the source array into the target array, whose length must equal the length of
+     * the uncompressed data.
+     */
+    public abstract void decompress(byte[] source, int offset, int length, byte[] target);
+
+    public static CompressionAlgorithm getFromId(int id) {
+        for (CompressionAlgorithm algorithm : values()) if (algorithm.getId() == id) return algorithm;
+        throw new IllegalArgumentException("Unknown compression algorithm id: " + id);
+    }
+
+    public static CompressionAlgorithm getFromName(String name) {
+        for (CompressionAlgorithm algorithm : values()) if (algorithm.name().equalsIgnoreCase(name)) return algorithm;
+        throw new IllegalArgumentException("Unknown compression algorithm: " + name);
+    }
+}
@@ -17,6 +17,7 @@ package org.janusgraph.diskstorage.util;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.janusgraph.diskstorage.BackendException;
 import org.janusgraph.diskstorage.Entry;
@@ -107,6 +108,38 @@ public class MetricInstrumentedStore implements KeyColumnValueStore {
         });
     }
 
+    /**
+     * Records the same metrics as {@link #getSlice(KeySliceQuery, StoreTransaction)}, except that the timer measures
+     * the time until the returned future completes.
+     */
+    @Override
+    public CompletableFuture<EntryList> getSliceAsync(final KeySliceQuery query, final StoreTransaction txh) {
+        if (!txh.getConfiguration().hasGroupName()) {
+            return backend.getSliceAsync(query, txh);
+        }
+        final String prefix = txh.getConfiguration().getGroupName();
+        final MetricManager mgr = MetricManager.INSTANCE;
+        mgr.getCounter(prefix, metricsStoreName, M_GET_SLICE, M_CALLS).inc();
+        final Timer.Context tc = mgr.getTimer(prefix, metricsStoreName, M_GET_SLICE, M_TIME).time();
+
+        final CompletableFuture<EntryList> future;
+        try {
+            future = backend.getSliceAsync(query, txh);
+        } catch (RuntimeException e) {
+            mgr.getCounter(prefix, metricsStoreName, M_GET_SLICE, M_EXCEPTIONS).inc();
+            tc.stop();
+            throw e;
+        }
+        return future.whenComplete((result, failure) -> {
+            tc.stop();
+            if (failure != null) {
+                mgr.getCounter(prefix, metricsStoreName, M_GET_SLICE, M_EXCEPTIONS).inc();
+            } else {
+                recordSliceMetrics(txh, result);
+            }
+        });
+    }
+
     @Override
     public Map<StaticBuffer,EntryList> getSlice(final List<StaticBuffer> keys,
                                       final SliceQuery query,
@@ -0,0 +1,80 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage.util;
+
+import com.google.common.base.Preconditions;
+import org.janusgraph.diskstorage.StaticBuffer;
+
+/**
+ * {@link BackendCompression} which prefixes every value with a header identifying the {@link CompressionAlgorithm}
+ * it has been compressed with. Values shorter than the threshold, or which do not get smaller when compressed,
+ * are stored uncompressed after a header byte of zero.
+ * <p>
+ * Since the header is self-describing, values compressed with one algorithm can still be read after switching to
+ * another, but values of a store must either all or none be written through this compression.
+ */
+public class StandardBackendCompression implements BackendCompression {
+
+    private static final byte UNCOMPRESSED = 0;
+    private static final int COMPRESSED_HEADER_LENGTH = 1 + 4;
+
+    private final CompressionAlgorithm algorithm;
+    private final int threshold;
+
+    /**
+     * @param algorithm the algorithm used to compress values or null to store all values uncompressed
+     * @param threshold the minimum length in bytes of values which are compressed
+     */
+    public StandardBackendCompression(CompressionAlgorithm algorithm, int threshold) {
+        Preconditions.checkArgument(threshold >= 0, "Invalid compression threshold: %s", threshold);
+        this.algorithm = algorithm;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public StaticBuffer compress(StaticBuffer value) {
+        final int length = value.length();
+        if (algorithm != null && length >= threshold && length > COMPRESSED_HEADER_LENGTH) {
+            final byte[] compressed = value.as((array, offset, limit) -> algorithm.compress(array, offset, limit - offset));
+            if (compressed.length + COMPRESSED_HEADER_LENGTH < length + 1) {
+                final WriteByteBuffer out = new WriteByteBuffer(compressed.length + COMPRESSED_HEADER_LENGTH);
+                out.putByte((byte) algorithm.getId());
+                out.putInt(length);
+                out.putBytes(compressed);
+                return out.getStaticBuffer();
+            }
+        }
+        final WriteByteBuffer out = new WriteByteBuffer(length + 1);
+        out.putByte(UNCOMPRESSED);
+        out.putBytes(value);
+        return out.getStaticBuffer();
+    }
+
+    @Override
+    public StaticBuffer decompress(StaticBuffer value) {
+        Preconditions.checkArgument(value.length() > 0, "Value lacks compression header");
+        final byte id = value.getByte(0);
+        if (id == UNCOMPRESSED) {
+            return value.subrange(1, value.length() - 1);
+        }
+        final CompressionAlgorithm compressedWith = CompressionAlgorithm.getFromId(id);
+        final byte[] uncompressed = new byte[value.getInt(1)];
+        value.subrange(COMPRESSED_HEADER_LENGTH, value.length() - COMPRESSED_HEADER_LENGTH).as((array, offset, limit) -> {
+            compressedWith.decompress(array, offset, limit - offset, uncompressed);
+            return null;
+        });
+        return StaticArrayBuffer.of(uncompressed);
+    }
+}
@@ -136,10 +136,22 @@ public class StaticArrayEntryList extends AbstractList<Entry> implements EntryLi
         return new SwappingEntry();
     }
 
-    private class SwappingEntry extends ReadArrayBuffer implements Entry, Iterator<Entry> {
+    /**
+     * Returns a cursor which, like {@link #reuseIterator()}, reuses a single {@link Entry} view onto the backing byte
+     * array for all elements.
+     */
+    @Override
+    public EntryCursor cursor() {
+        return new SwappingEntry();
+    }
+
+    private class SwappingEntry extends ReadArrayBuffer implements Entry, Iterator<Entry>, EntryCursor {
 
         private int currentIndex=-1;
         private int currentValuePos=-1;
+        private boolean positioned=false;
+        //Meta data of the current entry is only parsed when it is requested
+        private int metadataOffset=-1;
         private Map<EntryMetaData,Object> metadata=null;
 
         public SwappingEntry() {
@@ -147,7 +159,7 @@ public class StaticArrayEntryList extends AbstractList<Entry> implements EntryLi
         }
 
         private void verifyAccess() {
-            Preconditions.checkArgument(currentIndex>=0,"Illegal iterator access");
+            Preconditions.checkArgument(positioned,"Illegal iterator access");
         }
 
         @Override
@@ -175,13 +187,16 @@ public class StaticArrayEntryList extends AbstractList<Entry> implements EntryLi
         }
 
         public boolean hasMetaData() {
-            verifyAccess();
-            return !metadata.isEmpty();
+            return !getMetaData().isEmpty();
         }
 
         @Override
         public Map<EntryMetaData,Object> getMetaData() {
             verifyAccess();
+            if (metadata==null) {
+                metadata = new EntryMetaData.Map();
+                parseMetaData(metadata,metadataOffset);
+            }
             return metadata;
         }
 
@@ -248,22 +263,61 @@ public class StaticArrayEntryList extends AbstractList<Entry> implements EntryLi
 
         @Override
         public Entry next() {
-            if (!hasNext()) throw new NoSuchElementException();
+            if (!advance()) throw new NoSuchElementException();
+            return this;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        //########### CURSOR ##########
+
+        @Override
+        public boolean advance() {
+            if (!hasNext()) {
+                currentIndex=size();
+                positioned=false;
+                return false;
+            }
             currentIndex++;
-            int newOffset = currentIndex>0?getLimit(limitAndValuePos[currentIndex-1]):0;
+            int newOffset = currentIndex>0?StaticArrayEntryList.getLimit(limitAndValuePos[currentIndex-1]):0;
             metadata = EntryMetaData.EMPTY_METADATA;
             if (StaticArrayEntryList.this.hasMetaData()) {
-                metadata = new EntryMetaData.Map();
-                newOffset = parseMetaData(metadata,newOffset);
+                metadata = null;
+                metadataOffset = newOffset;
+                newOffset = skipMetaData(newOffset);
             }
-            super.reset(newOffset,getLimit(limitAndValuePos[currentIndex]));
+            super.reset(newOffset,StaticArrayEntryList.getLimit(limitAndValuePos[currentIndex]));
             currentValuePos = getValuePos(limitAndValuePos[currentIndex]);
-            return this;
+            positioned = true;
+            return true;
         }
 
         @Override
-        public void remove() {
-            throw new UnsupportedOperationException();
+        public void seek(int index) {
+            Preconditions.checkPositionIndex(index,size());
+            currentIndex=index-1;
+            currentValuePos=-1;
+            metadata=null;
+            positioned=false;
+        }
+
+        private void verifyPosition() {
+            if (!positioned || currentIndex<0 || currentIndex>=size()) throw new NoSuchElementException();
+        }
+
+        @Override
+        public int getIndex() {
+            verifyPosition();
+            return currentIndex;
+        }
+
+        @Override
+        public Entry asEntry() {
+            verifyPosition();
+            return this;
         }
     }
 
@@ -275,6 +329,31 @@ public class StaticArrayEntryList extends AbstractList<Entry> implements EntryLi
     }
 
 
+    /**
+     * Copies the entries in the range [fromIndex,toIndex) of the given list into a new {@link EntryList}. If the
+     * given list is a {@link StaticArrayEntryList}, the backing byte range is copied at once and relations which have
+     * already been parsed are carried over.
+     */
+    public static EntryList of(EntryList entries, int fromIndex, int toIndex) {
+        Preconditions.checkNotNull(entries);
+        Preconditions.checkPositionIndexes(fromIndex,toIndex,entries.size());
+        if (fromIndex==toIndex) return EMPTY_LIST;
+        if (!(entries instanceof StaticArrayEntryList)) return of(entries.subList(fromIndex,toIndex));
+
+        final StaticArrayEntryList source = (StaticArrayEntryList)entries;
+        final int startOffset = fromIndex>0?getLimit(source.limitAndValuePos[fromIndex-1]):0;
+        final int endOffset = getLimit(source.limitAndValuePos[toIndex-1]);
+        final byte[] data = Arrays.copyOfRange(source.data,startOffset,endOffset);
+        final long[] limitAndValuePos = new long[toIndex-fromIndex];
+        for (int i=0;i<limitAndValuePos.length;i++) {
+            final long lvp = source.limitAndValuePos[fromIndex+i];
+            limitAndValuePos[i]=getOffsetAndValue(getLimit(lvp)-startOffset,getValuePos(lvp));
+        }
+        final StaticArrayEntryList result = new StaticArrayEntryList(data,limitAndValuePos,source.metaDataSchema);
+        System.arraycopy(source.caches,fromIndex,result.caches,0,limitAndValuePos.length);
+        return result;
+    }
+
     public static EntryList of(Iterable<Entry> entries) {
         Preconditions.checkNotNull(entries);
         int num=0;
@@ -455,6 +534,15 @@ public class StaticArrayEntryList extends AbstractList<Entry> implements EntryLi
             Meta Data Management
      ########################################### */
 
+    private int skipMetaData(int baseOffset) {
+        assert hasMetaData();
+        for (EntryMetaData meta : metaDataSchema) {
+            MetaDataSerializer s = getSerializer(meta);
+            baseOffset+=s.getByteLength(s.read(data,baseOffset));
+        }
+        return baseOffset;
+    }
+
     private int parseMetaData(Map<EntryMetaData,Object> metadata, int baseOffset) {
         assert hasMetaData();
         for (EntryMetaData meta : metaDataSchema) {
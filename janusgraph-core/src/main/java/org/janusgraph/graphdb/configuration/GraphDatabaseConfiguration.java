@@ -30,6 +30,7 @@ import org.janusgraph.graphdb.tinkerpop.Tp3DefaultSchemaMaker;
 import org.janusgraph.graphdb.database.management.ManagementSystem;
 import org.janusgraph.graphdb.types.typemaker.DisableDefaultSchemaMaker;
 import org.janusgraph.util.stats.NumberUtil;
+import org.janusgraph.diskstorage.util.CompressionAlgorithm;
 import org.janusgraph.diskstorage.util.time.*;
 import org.janusgraph.diskstorage.configuration.*;
 import org.janusgraph.diskstorage.configuration.backend.CommonsConfiguration;
@@ -42,6 +43,8 @@ import org.janusgraph.diskstorage.log.kcvs.KCVSLog;
 import org.janusgraph.diskstorage.log.kcvs.KCVSLogManager;
 import org.janusgraph.graphdb.database.cache.MetricInstrumentedSchemaCache;
 import org.janusgraph.graphdb.database.cache.StandardSchemaCache;
+import org.janusgraph.graphdb.database.cache.StandardVertexRelationCache;
+import org.janusgraph.graphdb.database.cache.VertexRelationCache;
 import org.janusgraph.graphdb.database.cache.SchemaCache;
 import org.janusgraph.graphdb.database.serialize.StandardSerializer;
 import org.janusgraph.util.encoding.LongEncoding;
@@ -221,6 +224,44 @@ public class GraphDatabaseConfiguration {
             "How the graph computer should return the computed results. 'persist' for writing them into the graph, " +
                     "'localtx' for writing them into the local transaction, or 'none' (default)", ConfigOption.Type.MASKABLE, "none");
 
+    public static final ConfigOption<Integer> COMPUTER_PROCESSING_BATCH_SIZE = new ConfigOption<>(COMPUTER_NS,"processing-batch-size",
+            "The number of vertices which the graph computer hands to a worker thread at once. Idle workers steal the next batch, " +
+                    "hence smaller batches balance the load better across workers when vertex degrees are skewed. " +
+                    "Set to 0 to use dedicated worker threads which pull vertices from a shared queue instead.",
+            ConfigOption.Type.MASKABLE, 64, ConfigOption.nonnegativeInt());
+
+    public static final ConfigOption<Boolean> COMPUTER_COLUMNAR_VERTEX_STATE = new ConfigOption<>(COMPUTER_NS,"columnar-vertex-state",
+            "Whether the graph computer should keep the compute key values and messages of all vertices in columns which are " +
+                    "indexed by an off-heap vertex id index instead of in one state object per vertex. This reduces the heap " +
+                    "usage and garbage collection overhead when computing over a large number of vertices.",
+            ConfigOption.Type.MASKABLE, false);
+
+    public static final ConfigNamespace SCAN_NS = new ConfigNamespace(ROOT_NS,"scan",
+            "Configuration options for the storage scans which execute index repair and removal jobs and the graph computer");
+
+    public static final ConfigOption<Integer> SCAN_THREADS = new ConfigOption<>(SCAN_NS,"threads",
+            "The number of threads which process the rows of index repair and removal jobs.",
+            ConfigOption.Type.MASKABLE, 1, ConfigOption.positiveInt());
+
+    public static final ConfigOption<Integer> SCAN_KEY_RANGES = new ConfigOption<>(SCAN_NS,"key-ranges",
+            "The number of key ranges into which storage scans split the store. The key ranges are scanned " +
+                    "concurrently and each thread scans the next pending key range as soon as it has completed its previous one. " +
+                    "Once no key ranges are pending, idle threads split off the unread part of the largest key range in progress. " +
+                    "Set to 0 to scan the store as a whole, unless checkpoints are enabled, in which case 256 key ranges are used. " +
+                    "Requires a storage backend which supports ordered scans.",
+            ConfigOption.Type.MASKABLE, 0, ConfigOption.nonnegativeInt());
+
+    public static final ConfigOption<Boolean> SCAN_CHECKPOINT = new ConfigOption<>(SCAN_NS,"checkpoint",
+            "Whether index repair and removal jobs record their completed key ranges in the system store. A job which is " +
+                    "started again after a failure then only scans the key ranges that were not completed yet. The number of " +
+                    "key ranges must not change between executions of a job to resume from its checkpoint.",
+            ConfigOption.Type.MASKABLE, false);
+
+    public static final ConfigOption<Integer> SCAN_OPS_PER_SECOND = new ConfigOption<>(SCAN_NS,"ops-per-second",
+            "The maximum number of rows which a storage scan reads from the storage backend per second " +
+                    "to leave capacity for the regular workload. Set to 0 to not limit the rate.",
+            ConfigOption.Type.MASKABLE, 0, ConfigOption.nonnegativeInt());
+
 
     // ################ Transaction #######################
     // ################################################
@@ -239,6 +280,12 @@ public class GraphDatabaseConfiguration {
             ConfigOption.Type.GLOBAL, Duration.ofSeconds(10));
 
 
+    public static final ConfigOption<Boolean> PARALLEL_COMMIT = new ConfigOption<>(TRANSACTION_NS,"parallel-commit",
+            "Whether the mutations of all mixed indexes should be committed concurrently once the storage backend mutations " +
+                    "have been persisted, overlapping them with writing the user transaction log. Requires " +
+                    "storage.parallel-backend-ops to be enabled.",
+            ConfigOption.Type.MASKABLE, false);
+
     public static final ConfigNamespace TRANSACTION_RECOVERY_NS = new ConfigNamespace(TRANSACTION_NS,"recovery",
             "Configuration options for transaction recovery processes");
 
@@ -282,6 +329,30 @@ public class GraphDatabaseConfiguration {
                     "performance improvement if there is a non-trivial latency to the backend.",
             ConfigOption.Type.MASKABLE, false);
 
+    public static final ConfigOption<Integer> MULTIQUERY_BATCH_SIZE = new ConfigOption<>(QUERY_NS,"batch-size",
+            "The maximum number of vertices which are retrieved from the storage backend in a single batch when " +
+                    "traversal queries are batched. Results are emitted per batch which bounds the memory usage and " +
+                    "the time until the first result on large traversal frontiers.",
+            ConfigOption.Type.MASKABLE, 2500, ConfigOption.positiveInt());
+
+    public static final ConfigOption<Boolean> MULTIQUERY_PREFETCH = new ConfigOption<>(QUERY_NS,"batch-prefetch",
+            "Whether the next batch of a batched traversal query should be retrieved from the storage backend in the " +
+                    "background while the results of the current batch are processed. This issues backend reads for a " +
+                    "batch which may never be consumed if the traversal terminates early, e.g. due to a limit.",
+            ConfigOption.Type.MASKABLE, false);
+
+    public static final ConfigOption<Boolean> BATCH_PROPERTY_PREFETCH = new ConfigOption<>(QUERY_NS,"batch-property-prefetch",
+            "Whether the properties of the vertices returned by a graph-centric traversal step (e.g. g.V().has(...)) should " +
+                    "be retrieved from the storage backend in batches of query.batch-size vertices. This replaces one " +
+                    "backend call per vertex by one call per batch when the properties of the vertices are accessed subsequently.",
+            ConfigOption.Type.MASKABLE, false);
+
+    public static final ConfigOption<Integer> SUPERNODE_DEGREE_THRESHOLD = new ConfigOption<>(QUERY_NS,"supernode-degree-threshold",
+            "The number of relations retrieved for a single vertex above which the vertex is considered a supernode. " +
+                    "The maximum observed degree is tracked per vertex label and non-partitioned vertex labels with supernodes " +
+                    "are reported as candidates for partitioning by the management system.",
+            ConfigOption.Type.MASKABLE, 10000, ConfigOption.positiveInt());
+
     // ################ SCHEMA #######################
     // ################################################
 
@@ -366,6 +437,40 @@ public class GraphDatabaseConfiguration {
             "triggers eviction when set to 0).",
             ConfigOption.Type.GLOBAL_OFFLINE, 10000L);
 
+    public static final String DB_CACHE_EXPIRATION = "expiration";
+    public static final String DB_CACHE_TINYLFU = "tinylfu";
+
+    /**
+     * The implementation of the database level cache. 'expiration' refers to the Guava based
+     * {@link org.janusgraph.diskstorage.keycolumnvalue.cache.ExpirationKCVSCache}, 'tinylfu' to the Caffeine based
+     * {@link org.janusgraph.diskstorage.keycolumnvalue.cache.TinyLFUKCVSCache}.
+     */
+    public static final ConfigOption<String> DB_CACHE_IMPLEMENTATION = new ConfigOption<>(CACHE_NS,"db-cache-implementation",
+            "The implementation of the database-level cache. 'expiration' evicts the least recently used entries, " +
+            "while 'tinylfu' also takes the access frequency of entries into account, which keeps frequently read " +
+            "entries cached during large scans, and records hit rate and eviction metrics.",
+            ConfigOption.Type.MASKABLE, DB_CACHE_EXPIRATION, s -> DB_CACHE_EXPIRATION.equals(s) || DB_CACHE_TINYLFU.equals(s));
+
+    /**
+     * Whether to enable the graph-level cache of deserialized vertex relations which is shared by all transactions
+     * of a graph instance. See {@link org.janusgraph.graphdb.database.cache.VertexRelationCache}.
+     */
+    public static final ConfigOption<Boolean> RELATION_CACHE = new ConfigOption<>(CACHE_NS,"relation-cache",
+            "Whether to enable JanusGraph's graph-level cache of deserialized vertex relations, which is shared by all " +
+            "transactions of a graph instance so that transactions reading the same vertices skip deserialization. " +
+            "The cache is invalidated by local commits and schema changes. Modifications by other graph instances " +
+            "only become visible once cached relations expire.",
+            ConfigOption.Type.MASKABLE, false);
+
+    public static final ConfigOption<Long> RELATION_CACHE_SIZE = new ConfigOption<>(CACHE_NS,"relation-cache-size",
+            "Maximum number of vertices whose relations are held in the graph-level relation cache.",
+            ConfigOption.Type.MASKABLE, 10000L, ConfigOption.positiveLong());
+
+    public static final ConfigOption<Long> RELATION_CACHE_TIME = new ConfigOption<>(CACHE_NS,"relation-cache-time",
+            "Expiration time, in milliseconds, for the relations of a vertex in the graph-level relation cache. " +
+            "Set to 0 to disable expiration.",
+            ConfigOption.Type.MASKABLE, 10000L, l -> l != null && l >= 0);
+
     /**
      * Configures the maximum number of recently-used vertices cached by a transaction. The smaller the cache size, the
      * less memory a transaction can consume at maximum. For many concurrent, long running transactions in memory constraint
@@ -478,6 +583,48 @@ public class GraphDatabaseConfiguration {
             "Size of the batch in which mutations are persisted",
             ConfigOption.Type.MASKABLE, 1024, ConfigOption.positiveInt());
 
+    /**
+     * Number of edge and index entries which a {@link org.janusgraph.core.JanusGraphBulkLoader} buffers before writing
+     * them to the storage backend.
+     */
+    public static final ConfigOption<Integer> BULK_LOAD_BUFFER_SIZE = new ConfigOption<>(STORAGE_NS,"bulk-load-buffer-size",
+            "Number of edge and index entries the bulk loader buffers before writing them to the storage backend",
+            ConfigOption.Type.MASKABLE, 100000, ConfigOption.positiveInt());
+
+    /**
+     * Number of threads which a {@link org.janusgraph.core.JanusGraphBulkLoader} uses to write the buffered entries.
+     * Each thread writes a contiguous range of the sorted keys in its own storage transaction.
+     */
+    public static final ConfigOption<Integer> BULK_LOAD_THREADS = new ConfigOption<>(STORAGE_NS,"bulk-load-threads",
+            "Number of threads the bulk loader uses to write buffered entries to the storage backend in parallel",
+            ConfigOption.Type.MASKABLE, 4, ConfigOption.positiveInt());
+
+    public static final ConfigNamespace STORAGE_COMPRESSION_NS = new ConfigNamespace(STORAGE_NS,"compression",
+            "Configuration options for compressing the column values of stores in the storage backend");
+
+    /**
+     * Stores whose column values are compressed. Every value of such a store carries a compression header, hence
+     * the set of stores cannot be changed once the graph has been created. The Hadoop input formats read the stores
+     * without decompressing them and therefore refuse to read compressed stores.
+     */
+    public static final ConfigOption<String[]> STORAGE_COMPRESSION_STORES = new ConfigOption<>(STORAGE_COMPRESSION_NS,"stores",
+            "Names of the stores whose column values are compressed, e.g. " + Backend.EDGESTORE_NAME + " and " +
+            Backend.INDEXSTORE_NAME + ". Every value of these stores carries a compression header, hence this can " +
+            "only be set when the graph is created. The Hadoop input formats, which are used by graph computers " +
+            "such as SparkGraphComputer and by MapReduce index jobs, do not support compressed stores.",
+            ConfigOption.Type.FIXED, new String[0]);
+
+    public static final ConfigOption<String> STORAGE_COMPRESSION_ALGORITHM = new ConfigOption<>(STORAGE_COMPRESSION_NS,"algorithm",
+            "The algorithm used to compress column values of the stores configured in " + STORAGE_COMPRESSION_STORES.getName() +
+            ", either 'lz4', 'deflate' or 'none'. Values are tagged with their algorithm, so it can be changed at any time.",
+            ConfigOption.Type.MASKABLE, "lz4",
+            name -> name != null && ("none".equalsIgnoreCase(name) || Arrays.stream(CompressionAlgorithm.values())
+                    .anyMatch(algorithm -> algorithm.name().equalsIgnoreCase(name))));
+
+    public static final ConfigOption<Integer> STORAGE_COMPRESSION_THRESHOLD = new ConfigOption<>(STORAGE_COMPRESSION_NS,"threshold",
+            "The minimum size in bytes of column values which are compressed. Smaller values are stored uncompressed.",
+            ConfigOption.Type.MASKABLE, 64, ConfigOption.nonnegativeInt());
+
     /*
      * Number of times the database attempts to persist the transactional state to the storage layer.
      * Persisting the state of a committed transaction might fail for various reasons, some of which are
@@ -517,6 +664,16 @@ public class GraphDatabaseConfiguration {
             "Whether JanusGraph should attempt to parallelize storage operations",
             ConfigOption.Type.MASKABLE, true);
 
+    /**
+     * Number of threads used to read multi-key slice queries concurrently from ordered key-value stores. The keys
+     * are sorted and split into contiguous ranges so that each thread reads neighbouring keys with one cursor.
+     */
+    public static final ConfigOption<Integer> KEY_VALUE_READ_THREADS = new ConfigOption<>(STORAGE_NS,"kv-read-threads",
+            "Number of threads which concurrently read the keys of a multi-key slice query from storage backends " +
+            "implemented as ordered key-value stores, such as berkeleyje. Keys are sorted and split into contiguous ranges " +
+            "so that each thread reads neighbouring keys with a single cursor. With 0 all keys are read by the querying thread.",
+            ConfigOption.Type.MASKABLE, 0, ConfigOption.nonnegativeInt());
+
     /**
      * A unique identifier for the machine running the JanusGraph instance.
      * It must be ensured that no other machine accessing the storage backend can have the same identifier.
@@ -632,6 +789,25 @@ public class GraphDatabaseConfiguration {
             "Whether to delete expired locks from the storage backend",
             ConfigOption.Type.MASKABLE, false);
 
+    /**
+     * Whether the consistent key locker writes and checks all lock applications of a transaction at once.
+     */
+    public static final ConfigOption<Boolean> LOCK_BATCH = new ConfigOption<>(LOCK_NS, "batch",
+            "Whether the consistentkey locker should write the lock applications of all locks of a transaction with a " +
+            "single batch mutation when the transaction commits and verify them with a single multi-key read, instead of " +
+            "writing, verifying and deleting every lock individually. Contention between processes is then resolved in " +
+            "the order in which transactions commit.",
+            ConfigOption.Type.MASKABLE, false);
+
+    /**
+     * Interval at which verified lock applications are renewed while their transaction commits.
+     */
+    public static final ConfigOption<Duration> LOCK_RENEW_INTERVAL = new ConfigOption<>(LOCK_NS, "renew-interval",
+            "Interval at which verified lock applications are renewed in the background until they are released, so that " +
+            "committing a transaction may take longer than the lock expiry time. Requires storage.lock.batch. The interval " +
+            "plus the lock wait time must be less than the lock expiry time. Locks are not renewed when set to 0.",
+            ConfigOption.Type.MASKABLE, Duration.ZERO);
+
     /**
      * Locker type to use.  The supported types are in {@link org.janusgraph.diskstorage.Backend}.
      */
@@ -749,6 +925,33 @@ public class GraphDatabaseConfiguration {
             "This helps avoid transaction commits waiting on ID reservation even if the block size is relatively small.",
             ConfigOption.Type.MASKABLE, 0.3);
 
+    /**
+     * Whether ids are handed out through {@link org.janusgraph.graphdb.database.idassigner.ConcurrentIDPool}, where
+     * each thread claims ranges of ids from the current block without locking, instead of the synchronized
+     * {@link org.janusgraph.graphdb.database.idassigner.StandardIDPool}.
+     */
+    public static final ConfigOption<Boolean> IDS_CONCURRENT_ALLOCATION = new ConfigOption<>(IDS_NS,"concurrent-allocation",
+            "When true, each thread claims ranges of IDs from the current ID block without locking and ID blocks are " +
+            "prefetched ahead according to the observed consumption rate.  This scales ID assignment with the number of " +
+            "writing threads at the expense of IDs no longer being assigned consecutively.",
+            ConfigOption.Type.MASKABLE, false);
+
+    /**
+     * The number of ids a thread claims at once when {@link #IDS_CONCURRENT_ALLOCATION} is enabled.
+     */
+    public static final ConfigOption<Integer> IDS_CLAIM_SIZE = new ConfigOption<>(IDS_NS,"claim-size",
+            "The number of IDs each thread claims from the current ID block at once when concurrent-allocation is enabled.  " +
+            "IDs claimed by a thread but not assigned are lost when the graph instance shuts down.",
+            ConfigOption.Type.MASKABLE, 64, ConfigOption.positiveInt());
+
+    /**
+     * The maximum number of id blocks that are requested ahead when {@link #IDS_CONCURRENT_ALLOCATION} is enabled.
+     */
+    public static final ConfigOption<Integer> IDS_MAX_PREFETCH_BLOCKS = new ConfigOption<>(IDS_NS,"max-prefetch-blocks",
+            "The maximum number of ID blocks JanusGraph reserves ahead of the current block when concurrent-allocation " +
+            "is enabled.  The actual number depends on how fast blocks are consumed relative to how long reserving a block takes.",
+            ConfigOption.Type.MASKABLE, 4, ConfigOption.positiveInt());
+
     // ################ IDAUTHORITY ###################
     // ################################################
 
@@ -1229,6 +1432,8 @@ public class GraphDatabaseConfiguration {
     private boolean flushIDs;
     private boolean forceIndexUsage;
     private boolean batchLoading;
+    private int bulkLoadBufferSize;
+    private int bulkLoadThreads;
     private int txVertexCacheSize;
     private int txDirtyVertexSize;
     private DefaultSchemaMaker defaultSchemaMaker;
@@ -1236,6 +1441,10 @@ public class GraphDatabaseConfiguration {
     private Boolean propertyPrefetching;
     private boolean adjustQueryLimit;
     private Boolean useMultiQuery;
+    private int multiQueryBatchSize;
+    private boolean multiQueryPrefetch;
+    private boolean batchPropertyPrefetch;
+    private int supernodeDegreeThreshold;
     private boolean allowVertexIdSetting;
     private boolean logTransactions;
     private String metricsPrefix;
@@ -1576,6 +1785,8 @@ public class GraphDatabaseConfiguration {
         flushIDs = configuration.get(IDS_FLUSH);
         forceIndexUsage = configuration.get(FORCE_INDEX_USAGE);
         batchLoading = configuration.get(STORAGE_BATCH);
+        bulkLoadBufferSize = configuration.get(BULK_LOAD_BUFFER_SIZE);
+        bulkLoadThreads = configuration.get(BULK_LOAD_THREADS);
         String autoTypeMakerName = configuration.get(AUTO_TYPE);
         if (preregisteredAutoType.containsKey(autoTypeMakerName))
             defaultSchemaMaker = preregisteredAutoType.get(autoTypeMakerName);
@@ -1597,6 +1808,10 @@ public class GraphDatabaseConfiguration {
 
         propertyPrefetching = configuration.get(PROPERTY_PREFETCHING);
         useMultiQuery = configuration.get(USE_MULTIQUERY);
+        multiQueryBatchSize = configuration.get(MULTIQUERY_BATCH_SIZE);
+        multiQueryPrefetch = configuration.get(MULTIQUERY_PREFETCH);
+        batchPropertyPrefetch = configuration.get(BATCH_PROPERTY_PREFETCH);
+        supernodeDegreeThreshold = configuration.get(SUPERNODE_DEGREE_THRESHOLD);
         adjustQueryLimit = configuration.get(ADJUST_LIMIT);
         allowVertexIdSetting = configuration.get(ALLOW_SETTING_VERTEX_ID);
         logTransactions = configuration.get(SYSTEM_LOG_TRANSACTIONS);
@@ -1715,6 +1930,14 @@ public class GraphDatabaseConfiguration {
         return batchLoading;
     }
 
+    public int getBulkLoadBufferSize() {
+        return bulkLoadBufferSize;
+    }
+
+    public int getBulkLoadThreads() {
+        return bulkLoadThreads;
+    }
+
     public String getUniqueGraphId() {
         return uniqueGraphId;
     }
@@ -1755,6 +1978,22 @@ public class GraphDatabaseConfiguration {
         return useMultiQuery;
     }
 
+    public int getMultiQueryBatchSize() {
+        return multiQueryBatchSize;
+    }
+
+    public boolean useMultiQueryPrefetch() {
+        return multiQueryPrefetch;
+    }
+
+    public boolean hasBatchPropertyPrefetching() {
+        return batchPropertyPrefetch;
+    }
+
+    public int getSupernodeDegreeThreshold() {
+        return supernodeDegreeThreshold;
+    }
+
     public boolean adjustQueryLimit() {
         return adjustQueryLimit;
     }
@@ -1825,7 +2064,7 @@ public class GraphDatabaseConfiguration {
 
     public String getBackendDescription() {
         String className = configuration.get(STORAGE_BACKEND);
-        if (className.equalsIgnoreCase("berkeleyje")) {
+        if (className.equalsIgnoreCase("berkeleyje") || className.equalsIgnoreCase("mmap")) {
             return className + ":" + configuration.get(STORAGE_DIRECTORY);
         } else {
             return className + ":" + Arrays.toString(configuration.get(STORAGE_HOSTS));
@@ -1869,6 +2108,14 @@ public class GraphDatabaseConfiguration {
         else return new StandardSchemaCache(retriever);
     }
 
+    /**
+     * Returns a new graph-level relation cache or null if it is disabled.
+     */
+    public VertexRelationCache getRelationCache() {
+        if (!configuration.get(RELATION_CACHE)) return null;
+        return new StandardVertexRelationCache(configuration.get(RELATION_CACHE_SIZE), configuration.get(RELATION_CACHE_TIME));
+    }
+
     public org.apache.commons.configuration.Configuration getLocalConfiguration() {
         org.apache.commons.configuration.Configuration config = ((CommonsConfiguration)localConfiguration.getConfiguration()).getCommonConfiguration();
         config.setProperty(Graph.GRAPH, JanusGraphFactory.class.getName());
@@ -0,0 +1,80 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.graphdb.database;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the maximum adjacency size that has been observed on vertices of each vertex label when reading
+ * from the storage backend, provided it exceeds the configured degree threshold.
+ * <p>
+ * Only degrees at or above the threshold are recorded, so that the vertex label of a vertex has to be resolved for
+ * supernodes only. Since adjacency lists are retrieved in slices, the recorded degrees are lower bounds.
+ *
+ * @see org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration#SUPERNODE_DEGREE_THRESHOLD
+ */
+public class DegreeStatistics {
+
+    private final long threshold;
+    private final ConcurrentMap<Long,AtomicLong> maxDegrees;
+
+    public DegreeStatistics(long threshold) {
+        Preconditions.checkArgument(threshold > 0, "Invalid degree threshold: %s", threshold);
+        this.threshold = threshold;
+        this.maxDegrees = new ConcurrentHashMap<>();
+    }
+
+    public long getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Whether the given degree exceeds the threshold and should be recorded via {@link #record(long, long)}.
+     */
+    public boolean isSupernodeDegree(long degree) {
+        return degree >= threshold;
+    }
+
+    /**
+     * Records the observed degree for a vertex of the vertex label with the given id.
+     *
+     * @param vertexLabelId
+     * @param degree
+     */
+    public void record(long vertexLabelId, long degree) {
+        if (!isSupernodeDegree(degree)) return;
+        maxDegrees.computeIfAbsent(vertexLabelId, id -> new AtomicLong(0)).accumulateAndGet(degree, Math::max);
+    }
+
+    /**
+     * Returns the maximum degree observed for each vertex label id whose vertices exceeded the threshold.
+     */
+    public Map<Long,Long> getMaxDegrees() {
+        final Map<Long,Long> result = new HashMap<>(maxDegrees.size());
+        maxDegrees.forEach((id, degree) -> result.put(id, degree.get()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    public void clear() {
+        maxDegrees.clear();
+    }
+}
@@ -337,6 +337,58 @@ public class IndexSerializer {
         return updates;
     }
 
+    /**
+     * Returns the index updates for a new vertex whose properties are all contained in the given collection. In
+     * contrast to {@link #getIndexUpdates(InternalVertex, Collection)}, the vertex is not queried for the values of
+     * the other fields of composite indexes.
+     */
+    public Collection<IndexUpdate> getNewVertexIndexUpdates(InternalVertex vertex, Collection<JanusGraphVertexProperty> properties) {
+        if (properties.isEmpty()) return Collections.emptyList();
+        final Set<IndexUpdate> updates = Sets.newHashSet();
+        final ListMultimap<PropertyKey, RecordEntry> values = ArrayListMultimap.create();
+        final Set<CompositeIndexType> compositeIndexes = Sets.newHashSet();
+
+        for (final JanusGraphVertexProperty p : properties) {
+            values.put(p.propertyKey(), new RecordEntry(p));
+            for (final IndexType index : ((InternalRelationType)p.propertyKey()).getKeyIndexes()) {
+                if (!indexAppliesTo(index,vertex)) continue;
+                if (index.isCompositeIndex()) {
+                    compositeIndexes.add((CompositeIndexType)index);
+                } else {
+                    if (((MixedIndexType)index).getField(p.propertyKey()).getStatus()== SchemaStatus.DISABLED) continue;
+                    final IndexUpdate update = getMixedIndexUpdate(vertex, p.propertyKey(), p.value(), (MixedIndexType) index, IndexUpdate.Type.ADD);
+                    final int ttl = getIndexTTL(vertex,p.propertyKey());
+                    if (ttl>0) update.setTTL(ttl);
+                    updates.add(update);
+                }
+            }
+        }
+        for (final CompositeIndexType cIndex : compositeIndexes) {
+            final IndexField[] fields = cIndex.getFieldKeys();
+            final IndexRecords records = new IndexRecords();
+            indexMatches(values,new RecordEntry[fields.length],records,fields,0);
+            for (final RecordEntry[] record : records) {
+                final IndexUpdate update = new IndexUpdate<>(cIndex, IndexUpdate.Type.ADD, getIndexKey(cIndex, record), getIndexEntry(cIndex, record, vertex), vertex);
+                final int ttl = getIndexTTL(vertex,getKeysOfRecords(record));
+                if (ttl>0) update.setTTL(ttl);
+                updates.add(update);
+            }
+        }
+        return updates;
+    }
+
+    private static void indexMatches(ListMultimap<PropertyKey, RecordEntry> values, RecordEntry[] current,
+                                     IndexRecords matches, IndexField[] fields, int pos) {
+        if (pos>= fields.length) {
+            matches.add(current);
+            return;
+        }
+        for (final RecordEntry value : values.get(fields[pos].getFieldKey())) {
+            current[pos]=value;
+            indexMatches(values,current,matches,fields,pos+1);
+        }
+    }
+
     private IndexUpdate<String,IndexEntry> getMixedIndexUpdate(JanusGraphElement element, PropertyKey key, Object value,
                                                                MixedIndexType index, IndexUpdate.Type updateType)  {
         return new IndexUpdate<>(index, updateType, element2String(element), new IndexEntry(key2Field(index.getField(key)), value), element);
@@ -0,0 +1,409 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.graphdb.database;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.janusgraph.core.Cardinality;
+import org.janusgraph.core.EdgeLabel;
+import org.janusgraph.core.JanusGraphBulkLoader;
+import org.janusgraph.core.JanusGraphException;
+import org.janusgraph.core.JanusGraphVertexProperty;
+import org.janusgraph.core.PropertyKey;
+import org.janusgraph.core.RelationType;
+import org.janusgraph.core.VertexLabel;
+import org.janusgraph.core.schema.JanusGraphSchemaType;
+import org.janusgraph.core.schema.SchemaStatus;
+import org.janusgraph.diskstorage.BackendException;
+import org.janusgraph.diskstorage.BackendTransaction;
+import org.janusgraph.diskstorage.Entry;
+import org.janusgraph.diskstorage.EntryMetaData;
+import org.janusgraph.diskstorage.StaticBuffer;
+import org.janusgraph.diskstorage.indexing.IndexEntry;
+import org.janusgraph.diskstorage.keycolumnvalue.KCVMutation;
+import org.janusgraph.diskstorage.keycolumnvalue.KeyColumnValueStore;
+import org.janusgraph.diskstorage.keycolumnvalue.KeyColumnValueStoreManager;
+import org.janusgraph.diskstorage.keycolumnvalue.StoreTransaction;
+import org.janusgraph.diskstorage.util.BackendOperation;
+import org.janusgraph.diskstorage.util.StandardBaseTransactionConfig;
+import org.janusgraph.diskstorage.util.StaticArrayEntry;
+import org.janusgraph.diskstorage.util.time.TimestampProvider;
+import org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration;
+import org.janusgraph.graphdb.idmanagement.IDManager;
+import org.janusgraph.graphdb.internal.ElementLifeCycle;
+import org.janusgraph.graphdb.internal.InternalRelation;
+import org.janusgraph.graphdb.internal.InternalRelationType;
+import org.janusgraph.graphdb.internal.InternalVertex;
+import org.janusgraph.graphdb.relations.EdgeDirection;
+import org.janusgraph.graphdb.relations.StandardEdge;
+import org.janusgraph.graphdb.relations.StandardVertexProperty;
+import org.janusgraph.graphdb.transaction.StandardJanusGraphTx;
+import org.janusgraph.graphdb.types.MixedIndexType;
+import org.janusgraph.graphdb.types.system.BaseKey;
+import org.janusgraph.graphdb.types.system.BaseLabel;
+import org.janusgraph.graphdb.types.system.BaseVertexLabel;
+import org.janusgraph.graphdb.types.system.SystemRelationType;
+import org.janusgraph.graphdb.types.vertices.JanusGraphSchemaVertex;
+import org.janusgraph.graphdb.vertices.StandardVertex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * {@link JanusGraphBulkLoader} which serializes elements with the {@link EdgeSerializer} and {@link IndexSerializer}
+ * of a {@link StandardJanusGraph} and writes the resulting entries directly through the
+ * {@link KeyColumnValueStoreManager}, bypassing the transaction, the caches and the locking layer.
+ * <p>
+ * Entries are buffered per store in key order so that each flush hands contiguous key ranges to the writer threads.
+ */
+public class StandardBulkLoader implements JanusGraphBulkLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(StandardBulkLoader.class);
+
+    private final StandardJanusGraph graph;
+    private final StandardJanusGraphTx tx;
+    private final EdgeSerializer edgeSerializer;
+    private final IndexSerializer indexSerializer;
+    private final IDManager idManager;
+    private final KeyColumnValueStoreManager storeManager;
+    private final TimestampProvider times;
+    private final Duration maxWriteTime;
+
+    private final int bufferSize;
+    private final int numThreads;
+    private final ExecutorService writers;
+
+    private final Map<String, RelationType> types;
+    private final Map<String, TreeMap<StaticBuffer, List<Entry>>> buffers;
+    private final List<IndexSerializer.IndexUpdate<String, IndexEntry>> mixedIndexUpdates;
+    private int numBuffered;
+    private boolean closed;
+
+    public StandardBulkLoader(StandardJanusGraph graph) {
+        Preconditions.checkArgument(graph != null && graph.isOpen(), "Graph must be open");
+        final GraphDatabaseConfiguration config = graph.getConfiguration();
+        this.graph = graph;
+        this.tx = (StandardJanusGraphTx) graph.buildTransaction().readOnly().start();
+        this.edgeSerializer = graph.getEdgeSerializer();
+        this.indexSerializer = graph.getIndexSerializer();
+        this.idManager = graph.getIDManager();
+        this.storeManager = (KeyColumnValueStoreManager) graph.getBackend().getStoreManager();
+        this.times = config.getTimestampProvider();
+        this.maxWriteTime = config.getMaxWriteTime();
+        this.bufferSize = config.getBulkLoadBufferSize();
+        this.numThreads = config.getBulkLoadThreads();
+        this.writers = Executors.newFixedThreadPool(numThreads, new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("JanusGraphBulkLoader[%d]")
+                .build());
+
+        this.types = new HashMap<>();
+        this.buffers = new LinkedHashMap<>(2);
+        buffers.put(Backend.EDGESTORE_NAME, new TreeMap<>());
+        buffers.put(Backend.INDEXSTORE_NAME, new TreeMap<>());
+        this.mixedIndexUpdates = new ArrayList<>();
+        this.numBuffered = 0;
+        this.closed = false;
+    }
+
+    @Override
+    public long addVertex(Object... keyValues) {
+        return addVertex(BaseVertexLabel.DEFAULT_VERTEXLABEL.name(), keyValues);
+    }
+
+    @Override
+    public long addVertex(String vertexLabel, Object... keyValues) {
+        verifyOpen();
+        final VertexLabel label = tx.getVertexLabel(vertexLabel);
+        Preconditions.checkArgument(label != null, "Vertex label does not exist: %s", vertexLabel);
+        Preconditions.checkArgument(!label.isPartitioned(), "Cannot bulk load vertices with partitioned label: %s", vertexLabel);
+        Preconditions.checkArgument(keyValues.length % 2 == 0, "Expected alternating property keys and values");
+
+        final BulkVertex vertex = new BulkVertex(tx, IDManager.getTemporaryVertexID(IDManager.VertexIDType.NormalVertex, 1), ElementLifeCycle.New, label);
+        graph.assignID(vertex, label);
+
+        final List<InternalRelation> relations = new ArrayList<>(keyValues.length / 2 + 2);
+        final List<JanusGraphVertexProperty> properties = new ArrayList<>(keyValues.length / 2);
+        relations.add(newProperty(vertex, BaseKey.VertexExists, Boolean.TRUE));
+        if (label != BaseVertexLabel.DEFAULT_VERTEXLABEL) {
+            relations.add(newEdge(BaseLabel.VertexLabelEdge, vertex, (JanusGraphSchemaVertex) label));
+        }
+        final Collection<PropertyKey> mappedProperties = hasSchemaConstraints(label) ? label.mappedProperties() : null;
+        for (int i = 0; i < keyValues.length; i = i + 2) {
+            final PropertyKey key = getType(keyValues[i], PropertyKey.class);
+            checkPropertyConstraint(mappedProperties, key, label);
+            final Object value = tx.verifyAttribute(key, keyValues[i + 1]);
+            if (key.cardinality() != Cardinality.LIST) {
+                boolean duplicate = false;
+                for (final JanusGraphVertexProperty p : properties) {
+                    if (!p.propertyKey().equals(key)) continue;
+                    Preconditions.checkArgument(key.cardinality() != Cardinality.SINGLE,
+                            "Property key [%s] with cardinality SINGLE can only be given once", key.name());
+                    duplicate |= p.value().equals(value);
+                }
+                if (duplicate) continue;
+            }
+            final StandardVertexProperty property = newProperty(vertex, key, value);
+            relations.add(property);
+            properties.add(property);
+        }
+
+        for (final InternalRelation relation : relations) {
+            bufferRelation(relation);
+        }
+        for (final IndexSerializer.IndexUpdate update : indexSerializer.getNewVertexIndexUpdates(vertex, properties)) {
+            bufferIndexUpdate(update);
+        }
+        flushIfFull();
+        return vertex.longId();
+    }
+
+    @Override
+    public void addEdge(long outVertexId, String edgeLabel, long inVertexId, Object... keyValues) {
+        verifyOpen();
+        final EdgeLabel label = getType(edgeLabel, EdgeLabel.class);
+        Preconditions.checkArgument(keyValues.length % 2 == 0, "Expected alternating property keys and values");
+
+        final StandardEdge edge = newEdge(label, getVertex(outVertexId), getVertex(inVertexId));
+        final Collection<PropertyKey> mappedProperties = hasSchemaConstraints(label) ? label.mappedProperties() : null;
+        for (int i = 0; i < keyValues.length; i = i + 2) {
+            final PropertyKey key = getType(keyValues[i], PropertyKey.class);
+            checkPropertyConstraint(mappedProperties, key, label);
+            edge.setPropertyDirect(key, tx.verifyAttribute(key, keyValues[i + 1]));
+        }
+
+        bufferRelation(edge);
+        for (final IndexSerializer.IndexUpdate update : indexSerializer.getIndexUpdates(edge)) {
+            bufferIndexUpdate(update);
+        }
+        flushIfFull();
+    }
+
+    private BulkVertex getVertex(long vertexId) {
+        Preconditions.checkArgument(idManager.isUserVertexId(vertexId) && !idManager.isPartitionedVertex(vertexId)
+                && !idManager.isUnmodifiableVertex(vertexId), "Not a valid vertex id for bulk loading: %s", vertexId);
+        return new BulkVertex(tx, vertexId, ElementLifeCycle.Loaded, null);
+    }
+
+    private <T extends RelationType> T getType(Object name, Class<T> typeClass) {
+        Preconditions.checkArgument(name instanceof String, "Expected the name of a schema type but got: %s", name);
+        RelationType type = types.get(name);
+        if (type == null) {
+            type = tx.getRelationType((String) name);
+            Preconditions.checkArgument(type != null, "Schema type does not exist: %s", name);
+            Preconditions.checkArgument(!(type instanceof SystemRelationType), "Cannot bulk load system type: %s", name);
+            types.put((String) name, type);
+        }
+        Preconditions.checkArgument(typeClass.isInstance(type), "Schema type [%s] is not a %s", name, typeClass.getSimpleName());
+        return typeClass.cast(type);
+    }
+
+    private boolean hasSchemaConstraints(JanusGraphSchemaType type) {
+        return !tx.getConfiguration().hasDisabledSchemaConstraints() && !(type instanceof BaseVertexLabel);
+    }
+
+    /**
+     * Schema constraints are never created automatically since the bulk loader cannot modify the schema.
+     */
+    private static void checkPropertyConstraint(Collection<PropertyKey> mappedProperties, PropertyKey key, JanusGraphSchemaType type) {
+        Preconditions.checkArgument(mappedProperties == null || mappedProperties.contains(key),
+                "Property key [%s] is not allowed on [%s]", key.name(), type.name());
+    }
+
+    private StandardVertexProperty newProperty(InternalVertex vertex, PropertyKey key, Object value) {
+        final StandardVertexProperty property = new StandardVertexProperty(IDManager.getTemporaryRelationID(1), key, vertex, value, ElementLifeCycle.New);
+        graph.assignID(property);
+        return property;
+    }
+
+    private StandardEdge newEdge(EdgeLabel label, InternalVertex outVertex, InternalVertex inVertex) {
+        final StandardEdge edge = new StandardEdge(IDManager.getTemporaryRelationID(1), label, outVertex, inVertex, ElementLifeCycle.New);
+        graph.assignID(edge);
+        return edge;
+    }
+
+    private void bufferRelation(InternalRelation relation) {
+        final InternalRelationType baseType = (InternalRelationType) relation.getType();
+        final int ttl = StandardJanusGraph.getTTL(relation);
+        for (int pos = 0; pos < relation.getLen(); pos++) {
+            if (pos > 0 && relation.isLoop()) continue;
+            final long vertexId = relation.getVertex(pos).longId();
+            for (final InternalRelationType type : baseType.getRelationIndexes()) {
+                if (type.getStatus() == SchemaStatus.DISABLED) continue;
+                for (int p = 0; p < relation.getArity(); p++) {
+                    if (!type.isUnidirected(Direction.BOTH) && !type.isUnidirected(EdgeDirection.fromPosition(p)))
+                        continue; //Directionality is not covered
+                    if (relation.getVertex(p).longId() == vertexId) {
+                        final StaticArrayEntry entry = edgeSerializer.writeRelation(relation, type, p, tx);
+                        if (ttl > 0) entry.setMetaData(EntryMetaData.TTL, ttl);
+                        buffer(Backend.EDGESTORE_NAME, idManager.getKey(vertexId), entry);
+                    }
+                }
+            }
+        }
+    }
+
+    private void bufferIndexUpdate(IndexSerializer.IndexUpdate update) {
+        assert update.isAddition();
+        if (update.isCompositeIndex()) {
+            buffer(Backend.INDEXSTORE_NAME, (StaticBuffer) update.getKey(), (Entry) update.getEntry());
+        } else {
+            mixedIndexUpdates.add(update);
+            numBuffered++;
+        }
+    }
+
+    private void buffer(String store, StaticBuffer key, Entry entry) {
+        buffers.get(store).computeIfAbsent(key, k -> new ArrayList<>(4)).add(entry);
+        numBuffered++;
+    }
+
+    private void flushIfFull() {
+        if (numBuffered >= bufferSize) flush();
+    }
+
+    @Override
+    public void flush() {
+        verifyOpen();
+        if (numBuffered == 0) return;
+        log.debug("Flushing {} bulk loaded entries with {} threads", numBuffered, numThreads);
+        try {
+            final List<Future<?>> writes = new ArrayList<>(numThreads);
+            for (final Map<String, Map<StaticBuffer, KCVMutation>> batch : partitionBuffers()) {
+                writes.add(writers.submit(() -> BackendOperation.execute(txh -> {
+                    storeManager.mutateMany(batch, txh);
+                    return null;
+                }, new BackendOperation.TransactionalProvider() {
+                    @Override
+                    public StoreTransaction openTx() throws BackendException {
+                        return storeManager.beginTransaction(StandardBaseTransactionConfig.of(times));
+                    }
+
+                    @Override
+                    public void close() {
+                        //Do nothing, storeManager is closed by the graph
+                    }
+                }, times, maxWriteTime)));
+            }
+            try {
+                for (final Future<?> write : writes) {
+                    write.get();
+                }
+            } finally {
+                for (final StaticBuffer key : buffers.get(Backend.EDGESTORE_NAME).keySet()) {
+                    graph.expireCachedRelations(idManager.getKeyID(key));
+                }
+            }
+            if (!mixedIndexUpdates.isEmpty()) {
+                final BackendTransaction mutator = graph.getBackend().beginTransaction(tx.getConfiguration(),
+                        indexSerializer.getIndexInfoRetriever(tx));
+                for (final IndexSerializer.IndexUpdate<String, IndexEntry> update : mixedIndexUpdates) {
+                    mutator.getIndexTransaction(update.getIndex().getBackingIndexName())
+                            .add(((MixedIndexType) update.getIndex()).getStoreName(), update.getKey(), update.getEntry(), true);
+                }
+                mutator.commit();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JanusGraphException("Interrupted while flushing bulk loaded entries", e);
+        } catch (ExecutionException e) {
+            throw new JanusGraphException("Could not write bulk loaded entries", e.getCause());
+        } catch (BackendException e) {
+            throw new JanusGraphException("Could not write bulk loaded index entries", e);
+        } finally {
+            for (final TreeMap<StaticBuffer, List<Entry>> buffer : buffers.values()) buffer.clear();
+            mixedIndexUpdates.clear();
+            numBuffered = 0;
+        }
+    }
+
+    /**
+     * Splits the buffered entries into at most {@link #numThreads} batches of roughly equal size, each of which
+     * covers a contiguous key range of every store.
+     */
+    private List<Map<String, Map<StaticBuffer, KCVMutation>>> partitionBuffers() {
+        int numEntries = 0;
+        for (final TreeMap<StaticBuffer, List<Entry>> buffer : buffers.values()) {
+            for (final List<Entry> entries : buffer.values()) numEntries += entries.size();
+        }
+        final int batchSize = Math.max(1, (numEntries + numThreads - 1) / numThreads);
+        final List<Map<String, Map<StaticBuffer, KCVMutation>>> batches = new ArrayList<>(numThreads);
+        Map<String, Map<StaticBuffer, KCVMutation>> batch = new LinkedHashMap<>(buffers.size());
+        int batchEntries = 0;
+        for (final Map.Entry<String, TreeMap<StaticBuffer, List<Entry>>> buffer : buffers.entrySet()) {
+            for (final Map.Entry<StaticBuffer, List<Entry>> mutation : buffer.getValue().entrySet()) {
+                if (batchEntries >= batchSize) {
+                    batches.add(batch);
+                    batch = new LinkedHashMap<>(buffers.size());
+                    batchEntries = 0;
+                }
+                batch.computeIfAbsent(buffer.getKey(), k -> new LinkedHashMap<>())
+                        .put(mutation.getKey(), new KCVMutation(mutation.getValue(), KeyColumnValueStore.NO_DELETIONS));
+                batchEntries += mutation.getValue().size();
+            }
+        }
+        if (!batch.isEmpty()) batches.add(batch);
+        return batches;
+    }
+
+    private void verifyOpen() {
+        Preconditions.checkState(!closed, "Bulk loader has been closed");
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        try {
+            flush();
+        } finally {
+            closed = true;
+            writers.shutdownNow();
+            tx.rollback();
+        }
+    }
+
+    /**
+     * {@link StandardVertex} whose label is known up front so that it never has to be retrieved from the
+     * transaction. Vertices that are only referenced as edge endpoints have no label.
+     */
+    private static class BulkVertex extends StandardVertex {
+
+        private final VertexLabel label;
+
+        private BulkVertex(StandardJanusGraphTx tx, long id, byte lifecycle, VertexLabel label) {
+            super(tx, id, lifecycle);
+            this.label = label;
+        }
+
+        @Override
+        public VertexLabel vertexLabel() {
+            Preconditions.checkState(label != null, "Label of vertex [%s] is unknown to the bulk loader", longId());
+            return label;
+        }
+    }
+}
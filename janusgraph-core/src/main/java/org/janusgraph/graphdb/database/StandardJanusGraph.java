@@ -19,6 +19,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
 import com.google.common.collect.*;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.janusgraph.core.*;
 import org.janusgraph.core.schema.ConsistencyModifier;
 import org.janusgraph.core.schema.SchemaStatus;
@@ -39,6 +40,7 @@ import org.janusgraph.diskstorage.util.StaticArrayEntry;
 import org.janusgraph.diskstorage.util.time.TimestampProvider;
 import org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration;
 import org.janusgraph.graphdb.database.cache.SchemaCache;
+import org.janusgraph.graphdb.database.cache.VertexRelationCache;
 import org.janusgraph.graphdb.database.idassigner.VertexIDAssigner;
 import org.janusgraph.graphdb.database.idhandling.IDHandler;
 import org.janusgraph.graphdb.database.log.LogTxStatus;
@@ -81,8 +83,11 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -118,6 +123,10 @@ public class StandardJanusGraph extends JanusGraphBlueprintsGraph {
     public final SliceQuery vertexExistenceQuery;
     private final RelationQueryCache queryCache;
     private final SchemaCache schemaCache;
+    private final VertexRelationCache relationCache;
+    private final DegreeStatistics degreeStatistics;
+    //Runs the backend reads of multi-query prefetches, null if prefetching is disabled
+    private final ExecutorService prefetchExecutor;
 
     //Log
     private final ManagementLogger managementLogger;
@@ -150,7 +159,13 @@ public class StandardJanusGraph extends JanusGraphBlueprintsGraph {
         this.vertexExistenceQuery = edgeSerializer.getQuery(BaseKey.VertexExists, Direction.OUT, new EdgeSerializer.TypedInterval[0]).setLimit(1);
         this.queryCache = new RelationQueryCache(this.edgeSerializer);
         this.schemaCache = configuration.getTypeCache(typeCacheRetrieval);
+        this.relationCache = configuration.getRelationCache();
+        this.degreeStatistics = new DegreeStatistics(configuration.getSupernodeDegreeThreshold());
         this.times = configuration.getTimestampProvider();
+        this.prefetchExecutor = configuration.useMultiQueryPrefetch()
+                ? Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                        .setDaemon(true).setNameFormat("JanusGraphPrefetch-%d").build())
+                : null;
 
         isOpen = true;
         txCounter = new AtomicLong(0);
@@ -169,7 +184,7 @@ public class StandardJanusGraph extends JanusGraphBlueprintsGraph {
         globalConfig.set(REGISTRATION_TIME, times.getTime(), uniqueInstanceId);
 
         Log managementLog = backend.getSystemMgmtLog();
-        managementLogger = new ManagementLogger(this, managementLog, schemaCache, this.times);
+        managementLogger = new ManagementLogger(this, managementLog, schemaCache, relationCache, this.times);
         managementLog.registerReader(ReadMarker.fromNow(), managementLogger);
 
         shutdownHook = new ShutdownThread(this);
@@ -234,9 +249,11 @@ public class StandardJanusGraph extends JanusGraphBlueprintsGraph {
 
             super.close();
 
+            if (prefetchExecutor != null) prefetchExecutor.shutdownNow();
             IOUtils.closeQuietly(idAssigner);
             IOUtils.closeQuietly(backend);
             IOUtils.closeQuietly(queryCache);
+            IOUtils.closeQuietly(relationCache);
             IOUtils.closeQuietly(serializer);
         } finally {
             isOpen = false;
@@ -294,6 +311,10 @@ public class StandardJanusGraph extends JanusGraphBlueprintsGraph {
         return edgeSerializer;
     }
 
+    public DegreeStatistics getDegreeStatistics() {
+        return degreeStatistics;
+    }
+
     public Serializer getDataSerializer() {
         return serializer;
     }
@@ -316,6 +337,11 @@ public class StandardJanusGraph extends JanusGraphBlueprintsGraph {
         return new ManagementSystem(this,backend.getGlobalSystemConfig(),backend.getSystemMgmtLog(), managementLogger, schemaCache);
     }
 
+    @Override
+    public JanusGraphBulkLoader openBulkLoader() {
+        return new StandardBulkLoader(this);
+    }
+
     public Set<? extends JanusGraphTransaction> getOpenTransactions() {
         return Sets.newHashSet(openTransactions);
     }
@@ -433,11 +459,52 @@ public class StandardJanusGraph extends JanusGraphBlueprintsGraph {
 
     public EntryList edgeQuery(long vid, SliceQuery query, BackendTransaction tx) {
         Preconditions.checkArgument(vid > 0);
+        if (relationCache != null && tx.isCacheEnabled()) {
+            return relationCache.getRelations(vid, query, q -> tx.edgeStoreQuery(new KeySliceQuery(idManager.getKey(vid), q)));
+        }
         return tx.edgeStoreQuery(new KeySliceQuery(idManager.getKey(vid), query));
     }
 
+    /**
+     * Asynchronous variant of {@link #edgeQuery(long, SliceQuery, BackendTransaction)}, which allows a transaction to
+     * issue many independent reads without waiting for each of them in turn.
+     */
+    public CompletableFuture<EntryList> edgeQueryAsync(long vid, SliceQuery query, BackendTransaction tx) {
+        Preconditions.checkArgument(vid > 0);
+        if (relationCache != null && tx.isCacheEnabled()) {
+            return relationCache.getRelationsAsync(vid, query, q -> tx.edgeStoreQueryAsync(new KeySliceQuery(idManager.getKey(vid), q)));
+        }
+        return tx.edgeStoreQueryAsync(new KeySliceQuery(idManager.getKey(vid), query));
+    }
+
     public List<EntryList> edgeMultiQuery(LongArrayList vertexIdsAsLongs, SliceQuery query, BackendTransaction tx) {
         Preconditions.checkArgument(vertexIdsAsLongs != null && !vertexIdsAsLongs.isEmpty());
+        if (relationCache != null && tx.isCacheEnabled()) {
+            return relationCache.getRelations(vertexIdsAsLongs, query, ids -> edgeStoreMultiQuery(ids, query, tx));
+        }
+        return edgeStoreMultiQuery(vertexIdsAsLongs, query, tx);
+    }
+
+    /**
+     * Asynchronously retrieves the given slice for all given vertices through {@link #edgeMultiQuery(LongArrayList, SliceQuery, BackendTransaction)}.
+     * Only the backend transaction and the graph-level caches are accessed in the background, so the results must be
+     * loaded into the vertices by the transaction's own thread. Without a prefetch executor the slices are retrieved
+     * synchronously.
+     */
+    public CompletableFuture<List<EntryList>> edgeMultiQueryAsync(LongArrayList vertexIdsAsLongs, SliceQuery query, BackendTransaction tx) {
+        if (prefetchExecutor == null) {
+            final CompletableFuture<List<EntryList>> result = new CompletableFuture<>();
+            try {
+                result.complete(edgeMultiQuery(vertexIdsAsLongs, query, tx));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+            return result;
+        }
+        return CompletableFuture.supplyAsync(() -> edgeMultiQuery(vertexIdsAsLongs, query, tx), prefetchExecutor);
+    }
+
+    private List<EntryList> edgeStoreMultiQuery(LongArrayList vertexIdsAsLongs, SliceQuery query, BackendTransaction tx) {
         final List<StaticBuffer> vertexIds = new ArrayList<>(vertexIdsAsLongs.size());
         for (int i = 0; i < vertexIdsAsLongs.size(); i++) {
             Preconditions.checkArgument(vertexIdsAsLongs.get(i) > 0);
@@ -744,13 +811,8 @@ public class StandardJanusGraph extends JanusGraphBlueprintsGraph {
 
                     try {
                         //2. Commit indexes - [FAILURE] all exceptions are collected and logged but nothing is aborted
-                        indexFailures = mutator.commitIndexes();
-                        if (!indexFailures.isEmpty()) {
-                            status = LogTxStatus.SECONDARY_FAILURE;
-                            for (Map.Entry<String,Throwable> entry : indexFailures.entrySet()) {
-                                log.error("Error while committing index mutations for transaction ["+transactionId+"] on index: " +entry.getKey(),entry.getValue());
-                            }
-                        }
+                        //   With parallel commits, the indexes are committed concurrently while the user log is written
+                        final CompletableFuture<Map<String,Throwable>> indexCommit = mutator.commitIndexesAsync();
                         //3. Log transaction if configured - [FAILURE] is recorded but does not cause exception
                         if (logTxIdentifier!=null) {
                             try {
@@ -770,6 +832,13 @@ public class StandardJanusGraph extends JanusGraphBlueprintsGraph {
                                 log.error("Could not user-log committed transaction ["+transactionId+"] to " + logTxIdentifier, e);
                             }
                         }
+                        indexFailures = indexCommit.join();
+                        if (!indexFailures.isEmpty()) {
+                            status = LogTxStatus.SECONDARY_FAILURE;
+                            for (Map.Entry<String,Throwable> entry : indexFailures.entrySet()) {
+                                log.error("Error while committing index mutations for transaction ["+transactionId+"] on index: " +entry.getKey(),entry.getValue());
+                            }
+                        }
                     } finally {
                         if (logTransaction) {
                             //[FAILURE] An exception here will be logged and not escalated; tx considered success and
@@ -800,9 +869,32 @@ public class StandardJanusGraph extends JanusGraphBlueprintsGraph {
             }
             if (e instanceof RuntimeException) throw (RuntimeException)e;
             else throw new JanusGraphException("Unexpected exception",e);
+        } finally {
+            //Invalidate even if the commit failed since some mutations might have been persisted
+            if (relationCache != null) {
+                expireCachedRelations(addedRelations);
+                expireCachedRelations(deletedRelations);
+            }
         }
     }
 
+    private void expireCachedRelations(final Collection<InternalRelation> relations) {
+        for (final InternalRelation relation : relations) {
+            for (int pos = 0; pos < relation.getLen(); pos++) {
+                final InternalVertex vertex = relation.getVertex(pos);
+                if (vertex.hasId()) expireCachedRelations(vertex.longId());
+            }
+        }
+    }
+
+    /**
+     * Removes the relations of the given vertex from the graph-level relation cache. Must be called after
+     * relations of the vertex have been persisted without committing a transaction through this graph.
+     */
+    public void expireCachedRelations(final long vertexId) {
+        if (relationCache != null) relationCache.invalidate(vertexId);
+    }
+
 
     private static class ShutdownThread extends Thread {
         private final StandardJanusGraph graph;
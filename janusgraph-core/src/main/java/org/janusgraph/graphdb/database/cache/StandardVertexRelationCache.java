@@ -0,0 +1,157 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.graphdb.database.cache;
+
+import com.carrotsearch.hppc.LongArrayList;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.janusgraph.diskstorage.EntryList;
+import org.janusgraph.diskstorage.keycolumnvalue.SliceQuery;
+import org.janusgraph.util.datastructures.Retriever;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Guava based {@link VertexRelationCache} which holds the query results of up to a maximum number of vertices.
+ * <p>
+ * To avoid caching results that have been read before a concurrent commit but are returned after its invalidation,
+ * a retrieved result is only cached if no invalidation happened while it was retrieved.
+ */
+public class StandardVertexRelationCache implements VertexRelationCache {
+
+    private static final int CONCURRENCY_LEVEL = 4;
+    private static final int INITIAL_QUERIES_PER_VERTEX = 4;
+
+    private final Cache<Long, ConcurrentMap<SliceQuery, EntryList>> cache;
+    private final AtomicLong invalidations;
+
+    /**
+     * @param maxVertices maximum number of vertices whose relations are cached
+     * @param expirationMS time in milliseconds after which the relations of a vertex expire or 0 to never expire them
+     */
+    public StandardVertexRelationCache(final long maxVertices, final long expirationMS) {
+        Preconditions.checkArgument(maxVertices > 0, "Cache size must be positive: %s", maxVertices);
+        Preconditions.checkArgument(expirationMS >= 0, "Expiration time must not be negative: %s", expirationMS);
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+                .concurrencyLevel(CONCURRENCY_LEVEL)
+                .maximumSize(maxVertices);
+        if (expirationMS > 0) builder = builder.expireAfterWrite(expirationMS, TimeUnit.MILLISECONDS);
+        this.cache = builder.build();
+        this.invalidations = new AtomicLong(0);
+    }
+
+    @Override
+    public EntryList getRelations(final long vertexId, final SliceQuery query, final Retriever<SliceQuery, EntryList> retriever) {
+        final EntryList cached = getIfPresent(vertexId, query);
+        if (cached != null) return cached;
+
+        final long stamp = invalidations.get();
+        final EntryList result = retriever.get(query);
+        cache(vertexId, query, result, stamp);
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<EntryList> getRelationsAsync(final long vertexId, final SliceQuery query,
+                                                          final Function<SliceQuery, CompletableFuture<EntryList>> retriever) {
+        final EntryList cached = getIfPresent(vertexId, query);
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+
+        final long stamp = invalidations.get();
+        return retriever.apply(query).thenApply(result -> {
+            cache(vertexId, query, result, stamp);
+            return result;
+        });
+    }
+
+    @Override
+    public List<EntryList> getRelations(final LongArrayList vertexIds, final SliceQuery query,
+                                        final Retriever<LongArrayList, List<EntryList>> retriever) {
+        final List<EntryList> results = new ArrayList<>(vertexIds.size());
+        final LongArrayList missing = new LongArrayList(vertexIds.size());
+        for (int i = 0; i < vertexIds.size(); i++) {
+            final EntryList cached = getIfPresent(vertexIds.get(i), query);
+            if (cached == null) missing.add(vertexIds.get(i));
+            results.add(cached);
+        }
+        if (missing.isEmpty()) return results;
+
+        final long stamp = invalidations.get();
+        final List<EntryList> retrieved = retriever.get(missing);
+        assert retrieved.size() == missing.size();
+        for (int i = 0, pos = 0; i < results.size(); i++) {
+            if (results.get(i) != null) continue;
+            final EntryList result = retrieved.get(pos++);
+            cache(vertexIds.get(i), query, result, stamp);
+            results.set(i, result);
+        }
+        return results;
+    }
+
+    private EntryList getIfPresent(final long vertexId, final SliceQuery query) {
+        final ConcurrentMap<SliceQuery, EntryList> queries = cache.getIfPresent(vertexId);
+        return queries == null ? null : queries.get(query);
+    }
+
+    /**
+     * Caches the given result unless an invalidation happened since the given stamp was taken before retrieving it
+     */
+    private void cache(final long vertexId, final SliceQuery query, final EntryList result, final long stamp) {
+        if (result == null || stamp != invalidations.get()) return;
+        final ConcurrentMap<SliceQuery, EntryList> queries = getQueries(vertexId);
+        queries.put(query, result);
+        if (stamp != invalidations.get()) {
+            //An invalidation raced with the insertion, the result might be stale
+            queries.remove(query, result);
+        }
+    }
+
+    private ConcurrentMap<SliceQuery, EntryList> getQueries(final long vertexId) {
+        ConcurrentMap<SliceQuery, EntryList> queries = cache.getIfPresent(vertexId);
+        if (queries == null) {
+            queries = new ConcurrentHashMap<>(INITIAL_QUERIES_PER_VERTEX, 0.75f, 1);
+            final ConcurrentMap<SliceQuery, EntryList> existing = cache.asMap().putIfAbsent(vertexId, queries);
+            if (existing != null) queries = existing;
+        }
+        return queries;
+    }
+
+    @Override
+    public void invalidate(final long vertexId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(vertexId);
+    }
+
+    @Override
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void close() {
+        invalidateAll();
+        cache.cleanUp();
+    }
+
+}
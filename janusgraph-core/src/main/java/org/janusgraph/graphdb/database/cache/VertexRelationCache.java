@@ -0,0 +1,65 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.graphdb.database.cache;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.janusgraph.diskstorage.EntryList;
+import org.janusgraph.diskstorage.keycolumnvalue.SliceQuery;
+import org.janusgraph.util.datastructures.Retriever;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * This interface defines the methods that a graph-level cache of vertex relations must implement. Unlike the
+ * transactional vertex caches, a VertexRelationCache is shared by all transactions of a graph and holds the
+ * {@link EntryList}s retrieved for a vertex and {@link SliceQuery}. The entries of those lists retain the relations
+ * that have been deserialized from them, so that subsequent transactions reading the same vertex skip deserialization.
+ * <p>
+ * The cache only holds committed state. It is invalidated for all vertices touched by a local commit and cleared
+ * entirely when schema elements are evicted through the management log. Modifications by other graph instances only
+ * become visible once the cached entries expire.
+ */
+public interface VertexRelationCache extends Closeable {
+
+    /**
+     * Returns the relations of the given vertex that match the query, retrieving them from the given retriever if
+     * they are not cached.
+     */
+    EntryList getRelations(long vertexId, SliceQuery query, Retriever<SliceQuery, EntryList> retriever);
+
+    /**
+     * Asynchronous variant of {@link #getRelations(long, SliceQuery, Retriever)}.
+     */
+    CompletableFuture<EntryList> getRelationsAsync(long vertexId, SliceQuery query,
+                                                   Function<SliceQuery, CompletableFuture<EntryList>> retriever);
+
+    /**
+     * Returns the relations of the given vertices that match the query in the order of the vertex ids. The relations
+     * of vertices that are not cached are retrieved at once from the given retriever, which is passed the ids of
+     * those vertices and returns their relations in the same order.
+     */
+    List<EntryList> getRelations(LongArrayList vertexIds, SliceQuery query, Retriever<LongArrayList, List<EntryList>> retriever);
+
+    void invalidate(long vertexId);
+
+    void invalidateAll();
+
+    @Override
+    void close();
+
+}
@@ -0,0 +1,311 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.graphdb.database.idassigner;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.janusgraph.core.JanusGraphException;
+import org.janusgraph.diskstorage.IDAuthority;
+import org.janusgraph.diskstorage.IDBlock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.janusgraph.graphdb.database.idassigner.StandardIDPool.ID_POOL_EXHAUSTION;
+import static org.janusgraph.graphdb.database.idassigner.StandardIDPool.RENEW_ID_COUNT;
+
+/**
+ * {@link IDPool} which hands out ids without taking a lock on the common path.
+ * <p>
+ * Each thread claims a range of {@code claimSize} consecutive indexes of the current {@link IDBlock} by incrementing
+ * a shared counter and then hands out ids from that range without any synchronization. Only switching to the next
+ * block is synchronized. In contrast to {@link StandardIDPool}, blocks are prefetched as many blocks ahead as are
+ * consumed while a single block is retrieved from the {@link IDAuthority}, bounded by {@code maxPrefetchBlocks}.
+ * <p>
+ * Ids which have been claimed by a thread but not handed out are lost, hence ids are unique but not necessarily
+ * consecutive.
+ */
+public class ConcurrentIDPool implements IDPool {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ConcurrentIDPool.class);
+
+    private static final ClaimedBlock UNINITIALIZED_BLOCK = new ClaimedBlock(null, 0, 0);
+
+    private final IDAuthority idAuthority;
+    private final long idUpperBound; //exclusive
+    private final int partition;
+    private final int idNamespace;
+
+    private final Duration renewTimeout;
+    private final double renewBufferPercentage;
+    private final int claimSize;
+    private final int maxPrefetchBlocks;
+
+    private final ThreadLocal<ClaimedRange> claimedRanges;
+    private volatile ClaimedBlock currentBlock;
+
+    //Guarded by this
+    private final Queue<IDBlockRequest> pendingBlocks;
+    private final Queue<Future<?>> closeBlockers;
+    private long currentBlockStart;
+    private long blockConsumptionNanos;
+
+    private volatile long renewalNanos;
+    private final ThreadPoolExecutor exec;
+
+    private volatile boolean closed;
+
+    public ConcurrentIDPool(IDAuthority idAuthority, int partition, int idNamespace, long idUpperBound, Duration renewTimeout,
+                            double renewBufferPercentage, int claimSize, int maxPrefetchBlocks) {
+        Preconditions.checkArgument(idUpperBound > 0);
+        this.idAuthority = idAuthority;
+        Preconditions.checkArgument(partition>=0);
+        this.partition = partition;
+        Preconditions.checkArgument(idNamespace>=0);
+        this.idNamespace = idNamespace;
+        this.idUpperBound = idUpperBound;
+        Preconditions.checkArgument(!renewTimeout.isZero(), "Renew-timeout must be positive");
+        this.renewTimeout = renewTimeout;
+        Preconditions.checkArgument(renewBufferPercentage>0.0 && renewBufferPercentage<=1.0,"Renew-buffer percentage must be in (0.0,1.0]");
+        this.renewBufferPercentage = renewBufferPercentage;
+        Preconditions.checkArgument(claimSize>0, "Claim size must be positive: %s", claimSize);
+        this.claimSize = claimSize;
+        Preconditions.checkArgument(maxPrefetchBlocks>0, "Number of prefetched blocks must be positive: %s", maxPrefetchBlocks);
+        this.maxPrefetchBlocks = maxPrefetchBlocks;
+
+        claimedRanges = ThreadLocal.withInitial(ClaimedRange::new);
+        currentBlock = UNINITIALIZED_BLOCK;
+
+        pendingBlocks = new ArrayDeque<>(maxPrefetchBlocks);
+        closeBlockers = new ArrayDeque<>(4);
+        currentBlockStart = 0;
+        blockConsumptionNanos = 0;
+        renewalNanos = 0;
+
+        exec = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new ThreadFactoryBuilder()
+                        .setDaemon(false)
+                        .setNameFormat("JanusGraphID(" + partition + ")("+idNamespace+")[%d]")
+                        .build());
+
+        closed = false;
+    }
+
+    @Override
+    public long nextID() {
+        final ClaimedRange range = claimedRanges.get();
+        if (range.next == range.end) {
+            claim(range);
+        }
+
+        long returnId = range.block.getId(range.next);
+        range.next++;
+        if (returnId >= idUpperBound) throw new IDPoolExhaustedException("Reached id upper bound of " + idUpperBound);
+        log.trace("partition({})-namespace({}) Returned id: {}", partition, idNamespace, returnId);
+        return returnId;
+    }
+
+    private void claim(ClaimedRange range) {
+        while (true) {
+            final ClaimedBlock block = currentBlock;
+            final long start = block.claimed.getAndAdd(claimSize);
+            if (start < block.numIds) {
+                range.block = block.block;
+                range.next = start;
+                range.end = Math.min(block.numIds, start + claimSize);
+                if (start <= block.renewIndex && block.renewIndex < range.end) {
+                    prefetch(prefetchDepth());
+                }
+                return;
+            }
+            try {
+                nextBlock(block);
+            } catch (InterruptedException e) {
+                throw new JanusGraphException("Could not renew id block due to interruption", e);
+            }
+        }
+    }
+
+    private synchronized void nextBlock(ClaimedBlock exhausted) throws InterruptedException {
+        if (currentBlock != exhausted) return; //Another thread has already moved on to the next block
+        Preconditions.checkState(!closed,"ID Pool has been closed for partition(%s)-namespace(%s) - cannot apply for new id block",
+                partition,idNamespace);
+
+        final long now = System.nanoTime();
+        if (exhausted != UNINITIALIZED_BLOCK) {
+            blockConsumptionNanos = average(blockConsumptionNanos, now - currentBlockStart);
+        }
+
+        if (pendingBlocks.isEmpty()) {
+            startIDBlockGetter();
+        }
+        final IDBlock block = waitForIDBlock(pendingBlocks.remove());
+
+        if (block == ID_POOL_EXHAUSTION)
+            throw new IDPoolExhaustedException("Exhausted ID Pool for partition(" + partition+")-namespace("+idNamespace+")");
+
+        assert block.numIds()>0;
+        final long renewIndex = Math.max(0,block.numIds()-Math.max(RENEW_ID_COUNT, Math.round(block.numIds()*renewBufferPercentage)));
+        currentBlock = new ClaimedBlock(block, block.numIds(), renewIndex);
+        currentBlockStart = now;
+
+        log.debug("ID partition({})-namespace({}) acquired block: [{}]", partition, idNamespace, block);
+
+        //The block after this one is requested once the renew index is claimed, only prefetch beyond that here
+        prefetch(prefetchDepth() - 1);
+    }
+
+    /**
+     * The number of blocks that should be requested ahead of the current block: one more than the number of blocks
+     * that are consumed while one block is retrieved from the {@link IDAuthority}.
+     */
+    private synchronized int prefetchDepth() {
+        if (blockConsumptionNanos <= 0) return 1;
+        final long depth = 1 + renewalNanos / blockConsumptionNanos;
+        return (int) Math.min(maxPrefetchBlocks, depth);
+    }
+
+    private synchronized void prefetch(int depth) {
+        while (pendingBlocks.size() < depth && !closed) {
+            startIDBlockGetter();
+        }
+    }
+
+    private synchronized void startIDBlockGetter() {
+        if (closed) return; //Don't renew anymore if closed
+        log.debug("Starting id block renewal with {} blocks pending", pendingBlocks.size());
+        final StandardIDPool.IDBlockGetter getter = new StandardIDPool.IDBlockGetter(idAuthority, partition, idNamespace, renewTimeout);
+        final Future<IDBlock> future = exec.submit(() -> {
+            final long start = System.nanoTime();
+            final IDBlock block = getter.call();
+            renewalNanos = average(renewalNanos, System.nanoTime() - start);
+            return block;
+        });
+        pendingBlocks.add(new IDBlockRequest(getter, future));
+    }
+
+    private synchronized IDBlock waitForIDBlock(IDBlockRequest request) throws InterruptedException {
+        Stopwatch sw = Stopwatch.createStarted();
+        try {
+            return request.future.get(renewTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            String msg = String.format("ID block allocation on partition(%d)-namespace(%d) failed with an exception in %s",
+                    partition, idNamespace, sw.stop());
+            throw new JanusGraphException(msg, e);
+        } catch (TimeoutException e) {
+            String msg = String.format("ID block allocation on partition(%d)-namespace(%d) timed out in %s",
+                    partition, idNamespace, sw.stop());
+            // Attempt to cancel the renewer
+            request.getter.stopRequested();
+            if (idAuthority.supportsInterruption()) {
+                request.future.cancel(true);
+            } else {
+                // Attempt to clean one dead element out of closeBlockers every time we append to it
+                if (!closeBlockers.isEmpty()) {
+                    Future<?> f = closeBlockers.peek();
+                    if (null != f && f.isDone())
+                        closeBlockers.remove();
+                }
+                closeBlockers.add(request.future);
+            }
+            throw new JanusGraphException(msg, e);
+        } catch (CancellationException e) {
+            String msg = String.format("ID block allocation on partition(%d)-namespace(%d) was cancelled after %s",
+                    partition, idNamespace, sw.stop());
+            throw new JanusGraphException(msg, e);
+        }
+        // Allow InterruptedException to propagate up the stack
+    }
+
+    @Override
+    public synchronized void close() {
+        closed=true;
+        try {
+            while (!pendingBlocks.isEmpty()) {
+                waitForIDBlock(pendingBlocks.remove());
+            }
+        } catch (InterruptedException e) {
+            throw new JanusGraphException("Interrupted while waiting for id renewer thread to finish", e);
+        }
+
+        for (Future<?> closeBlocker : closeBlockers) {
+            try {
+                closeBlocker.get();
+            } catch (InterruptedException e) {
+                throw new JanusGraphException("Interrupted while waiting for runaway ID renewer task " + closeBlocker, e);
+            } catch (ExecutionException e) {
+                log.debug("Runaway ID renewer task completed with exception", e);
+            }
+        }
+        exec.shutdownNow();
+    }
+
+    private static long average(long average, long sample) {
+        return average == 0 ? sample : (3 * average + sample) / 4;
+    }
+
+    /**
+     * An {@link IDBlock} together with the counter from which threads claim their index ranges
+     */
+    private static class ClaimedBlock {
+
+        private final IDBlock block;
+        private final long numIds;
+        private final long renewIndex;
+        private final AtomicLong claimed;
+
+        private ClaimedBlock(IDBlock block, long numIds, long renewIndex) {
+            this.block = block;
+            this.numIds = numIds;
+            this.renewIndex = renewIndex;
+            this.claimed = new AtomicLong(0);
+        }
+    }
+
+    /**
+     * The index range [next,end) of an {@link IDBlock} owned by a single thread
+     */
+    private static class ClaimedRange {
+
+        private IDBlock block;
+        private long next;
+        private long end;
+    }
+
+    private static class IDBlockRequest {
+
+        private final StandardIDPool.IDBlockGetter getter;
+        private final Future<IDBlock> future;
+
+        private IDBlockRequest(StandardIDPool.IDBlockGetter getter, Future<IDBlock> future) {
+            this.getter = getter;
+            this.future = future;
+        }
+    }
+}
@@ -64,8 +64,8 @@ public class VertexIDAssigner implements AutoCloseable {
 
 
     final ConcurrentMap<Integer,PartitionIDPool> idPools;
-    final StandardIDPool schemaIdPool;
-    final StandardIDPool partitionVertexIdPool;
+    final IDPool schemaIdPool;
+    final IDPool partitionVertexIdPool;
 
     private final IDAuthority idAuthority;
     private final IDManager idManager;
@@ -75,6 +75,11 @@ public class VertexIDAssigner implements AutoCloseable {
     private final Duration renewTimeoutMS;
     private final double renewBufferPercentage;
 
+    //For ConcurrentIDPool
+    private final boolean concurrentAllocation;
+    private final int claimSize;
+    private final int maxPrefetchBlocks;
+
     private final int partitionIdBound;
     private final boolean hasLocalPartitions;
 
@@ -99,15 +104,26 @@ public class VertexIDAssigner implements AutoCloseable {
 
         renewTimeoutMS = config.get(IDS_RENEW_TIMEOUT);
         renewBufferPercentage = config.get(IDS_RENEW_BUFFER_PERCENTAGE);
+        concurrentAllocation = config.get(IDS_CONCURRENT_ALLOCATION);
+        claimSize = config.get(IDS_CLAIM_SIZE);
+        maxPrefetchBlocks = config.get(IDS_MAX_PREFETCH_BLOCKS);
 
         idPools = new ConcurrentHashMap<>(partitionIdBound);
-        schemaIdPool = new StandardIDPool(idAuthority, IDManager.SCHEMA_PARTITION, PoolType.SCHEMA.getIDNamespace(),
-                IDManager.getSchemaCountBound(), renewTimeoutMS, renewBufferPercentage);
-        partitionVertexIdPool = new StandardIDPool(idAuthority, IDManager.PARTITIONED_VERTEX_PARTITION, PoolType.PARTITIONED_VERTEX.getIDNamespace(),
-                PoolType.PARTITIONED_VERTEX.getCountBound(idManager), renewTimeoutMS, renewBufferPercentage);
+        schemaIdPool = newIDPool(IDManager.SCHEMA_PARTITION, PoolType.SCHEMA.getIDNamespace(),
+                IDManager.getSchemaCountBound());
+        partitionVertexIdPool = newIDPool(IDManager.PARTITIONED_VERTEX_PARTITION, PoolType.PARTITIONED_VERTEX.getIDNamespace(),
+                PoolType.PARTITIONED_VERTEX.getCountBound(idManager));
         setLocalPartitions(partitionBits);
     }
 
+    private IDPool newIDPool(int partition, int idNamespace, long idUpperBound) {
+        if (concurrentAllocation) {
+            return new ConcurrentIDPool(idAuthority, partition, idNamespace, idUpperBound, renewTimeoutMS,
+                    renewBufferPercentage, claimSize, maxPrefetchBlocks);
+        }
+        return new StandardIDPool(idAuthority, partition, idNamespace, idUpperBound, renewTimeoutMS, renewBufferPercentage);
+    }
+
     private void setLocalPartitionsToGlobal(int partitionBits) {
         placementStrategy.setLocalPartitionBounds(PartitionIDRange.getGlobalRange(partitionBits));
     }
@@ -313,7 +329,7 @@ public class VertexIDAssigner implements AutoCloseable {
         } else {
             PartitionIDPool partitionPool = idPools.get(partitionID);
             if (partitionPool == null) {
-                partitionPool = new PartitionIDPool(partitionID, idAuthority, idManager, renewTimeoutMS, renewBufferPercentage);
+                partitionPool = new PartitionIDPool(partitionID);
                 idPools.putIfAbsent(partitionID,partitionPool);
                 partitionPool = idPools.get(partitionID);
             }
@@ -452,16 +468,16 @@ public class VertexIDAssigner implements AutoCloseable {
 
     }
 
-    private static class PartitionIDPool extends EnumMap<PoolType,IDPool> {
+    private class PartitionIDPool extends EnumMap<PoolType,IDPool> {
 
         private volatile long lastAccess;
         private volatile boolean exhausted;
 
-        PartitionIDPool(int partitionID, IDAuthority idAuthority, IDManager idManager, Duration renewTimeoutMS, double renewBufferPercentage) {
+        PartitionIDPool(int partitionID) {
             super(PoolType.class);
             for (PoolType type : PoolType.values()) {
                 if (!type.hasOnePerPartition()) continue;
-                put(type,new StandardIDPool(idAuthority, partitionID, type.getIDNamespace(), type.getCountBound(idManager), renewTimeoutMS, renewBufferPercentage));
+                put(type,newIDPool(partitionID, type.getIDNamespace(), type.getCountBound(idManager)));
             }
         }
 
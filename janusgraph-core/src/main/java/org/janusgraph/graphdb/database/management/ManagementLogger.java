@@ -29,6 +29,7 @@ import org.janusgraph.diskstorage.log.Message;
 import org.janusgraph.diskstorage.log.MessageReader;
 import org.janusgraph.graphdb.database.StandardJanusGraph;
 import org.janusgraph.graphdb.database.cache.SchemaCache;
+import org.janusgraph.graphdb.database.cache.VertexRelationCache;
 import org.janusgraph.graphdb.database.idhandling.VariableLong;
 import org.janusgraph.graphdb.database.serialize.DataOutput;
 import org.janusgraph.graphdb.database.serialize.Serializer;
@@ -60,6 +61,7 @@ public class ManagementLogger implements MessageReader {
 
     private final StandardJanusGraph graph;
     private final SchemaCache schemaCache;
+    private final VertexRelationCache relationCache;
     private final Log sysLog;
 
     /**
@@ -70,9 +72,11 @@ public class ManagementLogger implements MessageReader {
     private final AtomicInteger evictionTriggerCounter = new AtomicInteger(0);
     private final ConcurrentMap<Long,EvictionTrigger> evictionTriggerMap = new ConcurrentHashMap<>();
 
-    public ManagementLogger(StandardJanusGraph graph, Log sysLog, SchemaCache schemaCache, TimestampProvider times) {
+    public ManagementLogger(StandardJanusGraph graph, Log sysLog, SchemaCache schemaCache,
+                            VertexRelationCache relationCache, TimestampProvider times) {
         this.graph = graph;
         this.schemaCache = schemaCache;
+        this.relationCache = relationCache;
         this.sysLog = sysLog;
         this.times = times;
         Preconditions.checkNotNull(times);
@@ -93,6 +97,8 @@ public class ManagementLogger implements MessageReader {
                     long typeId = VariableLong.readPositive(in);
                     schemaCache.expireSchemaElement(typeId);
                 }
+                //Cached relations may have been deserialized with the evicted schema elements
+                if (relationCache != null) relationCache.invalidateAll();
                 final GraphCacheEvictionAction action = serializer.readObjectNotNull(in, GraphCacheEvictionAction.class);
                 Preconditions.checkNotNull(action);
                 final Thread ack = new Thread(new SendAckOnTxClose(evictionId, senderId, graph.getOpenTransactions(), action, graph.getGraphName()));
@@ -53,6 +53,7 @@ import org.janusgraph.diskstorage.configuration.ModifiableConfiguration;
 import org.janusgraph.diskstorage.configuration.TransactionalConfiguration;
 import org.janusgraph.diskstorage.configuration.UserModifiableConfiguration;
 import org.janusgraph.diskstorage.configuration.backend.KCVSConfiguration;
+import org.janusgraph.diskstorage.keycolumnvalue.scan.ScanCheckpoint;
 import org.janusgraph.diskstorage.keycolumnvalue.scan.ScanMetrics;
 import org.janusgraph.diskstorage.keycolumnvalue.scan.StandardScanner;
 import org.janusgraph.diskstorage.log.Log;
@@ -105,6 +106,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
@@ -702,6 +704,7 @@ public class ManagementSystem implements JanusGraphManagement {
                 builder = graph.getBackend().buildEdgeScanJob();
                 builder.setFinishJob(indexId.getIndexJobFinisher(graph, SchemaAction.ENABLE_INDEX));
                 builder.setJobId(indexId);
+                setScanCheckpoint(builder, updateAction, indexId);
                 builder.setJob(VertexJobConverter.convert(graph, new IndexRepairJob(indexId.indexName, indexId.relationTypeName)));
                 try {
                     future = builder.execute();
@@ -733,6 +736,7 @@ public class ManagementSystem implements JanusGraphManagement {
                 }
                 builder.setFinishJob(indexId.getIndexJobFinisher());
                 builder.setJobId(indexId);
+                setScanCheckpoint(builder, updateAction, indexId);
                 builder.setJob(new IndexRemoveJob(graph, indexId.indexName, indexId.relationTypeName));
                 try {
                     future = builder.execute();
@@ -746,6 +750,11 @@ public class ManagementSystem implements JanusGraphManagement {
         return future;
     }
 
+    private void setScanCheckpoint(StandardScanner.Builder builder, SchemaAction updateAction, IndexIdentifier indexId) {
+        ScanCheckpoint checkpoint = graph.getBackend().getScanCheckpoint(updateAction + "-" + indexId);
+        if (checkpoint != null) builder.setCheckpoint(checkpoint);
+    }
+
     /**
      * Upon the open managementsystem's commit, this graph will be asynchronously evicted from the cache on all JanusGraph nodes in your
      * cluster, once there are no open transactions on this graph on each respective JanusGraph node
@@ -1340,6 +1349,18 @@ public class ManagementSystem implements JanusGraphManagement {
                 JanusGraphSchemaCategory.VERTEXLABEL), VertexLabel.class);
     }
 
+    @Override
+    public Map<VertexLabel,Long> getPartitioningCandidates() {
+        final Map<VertexLabel,Long> candidates = new LinkedHashMap<>();
+        graph.getDegreeStatistics().getMaxDegrees().entrySet().stream()
+                .sorted(Map.Entry.<Long,Long>comparingByValue().reversed())
+                .forEach(entry -> {
+                    final VertexLabel label = transaction.getExistingVertexLabel(entry.getKey());
+                    if (!label.isPartitioned()) candidates.put(label, entry.getValue());
+                });
+        return candidates;
+    }
+
     // ###### USERMODIFIABLECONFIGURATION PROXY #########
 
     @Override
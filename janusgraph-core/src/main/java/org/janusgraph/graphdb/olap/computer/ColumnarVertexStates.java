@@ -0,0 +1,294 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.graphdb.olap.computer;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link VertexStates} which stores the states of all vertices in columns instead of one {@link VertexState} object
+ * per vertex.
+ * <p>
+ * Each vertex is assigned a row through an open-addressing index over the primitive vertex ids which is kept in
+ * direct memory outside of the heap. Every compute key and every message scope owns a column holding the values of
+ * all rows. Message columns are double-buffered: messages are written into the current columns which replace the
+ * previous columns on {@link #completeIteration()}.
+ * <p>
+ * Vertices are split into segments by the hash of their id and each segment is guarded by its own lock.
+ *
+ * @param <M> message type
+ */
+class ColumnarVertexStates<M> implements VertexStates<M> {
+
+    private static final int SEGMENT_BITS = 6;
+    private static final int NUM_SEGMENTS = 1 << SEGMENT_BITS;
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+    private static final long EMPTY_ID = 0;
+
+    private final Map<String,Integer> keyMap;
+    private final Segment<M>[] segments;
+
+    ColumnarVertexStates(int numVertices, Map<String,Integer> keyMap) {
+        assert VertexState.isValidIdMap(keyMap);
+        this.keyMap = keyMap;
+        final int segmentCapacity = Math.max(MIN_SEGMENT_CAPACITY, numVertices / NUM_SEGMENTS);
+        segments = new Segment[NUM_SEGMENTS];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment<>(segmentCapacity, keyMap.size());
+        }
+    }
+
+    private static long hash(long vertexId) {
+        long h = vertexId;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private Segment<M> segment(long hash) {
+        return segments[(int) (hash >>> (Long.SIZE - SEGMENT_BITS))];
+    }
+
+    @Override
+    public <V> void setProperty(long vertexId, String key, V value) {
+        assert vertexId != EMPTY_ID && keyMap.containsKey(key);
+        final int column = keyMap.get(key);
+        final long hash = hash(vertexId);
+        final Segment<M> segment = segment(hash);
+        synchronized (segment) {
+            segment.properties[column][segment.getOrCreateRow(vertexId, hash)] = value;
+        }
+    }
+
+    @Override
+    public <V> V getProperty(long vertexId, String key) {
+        assert keyMap.containsKey(key);
+        final int column = keyMap.get(key);
+        final long hash = hash(vertexId);
+        final Segment<M> segment = segment(hash);
+        synchronized (segment) {
+            final int row = segment.getRow(vertexId, hash);
+            return row < 0 ? null : (V) segment.properties[column][row];
+        }
+    }
+
+    @Override
+    public void setMessage(long vertexId, M message, MessageScope scope, Map<MessageScope,Integer> scopeMap) {
+        assert vertexId != EMPTY_ID && message != null && scope != null;
+        Preconditions.checkArgument(scopeMap.containsKey(scope),"Provided scope was not declared in the VertexProgram: %s",scope);
+        final int column = scopeMap.get(scope);
+        final long hash = hash(vertexId);
+        final Segment<M> segment = segment(hash);
+        synchronized (segment) {
+            final int row = segment.getOrCreateRow(vertexId, hash);
+            segment.currentMessages(scopeMap.size())[column][row] = message;
+        }
+    }
+
+    @Override
+    public void addMessage(long vertexId, M message, MessageScope scope, Map<MessageScope,Integer> scopeMap,
+                           MessageCombiner<M> combiner) {
+        assert vertexId != EMPTY_ID && message != null && scope != null && combiner != null;
+        Preconditions.checkArgument(scopeMap.containsKey(scope),"Provided scope was not declared in the VertexProgram: %s",scope);
+        final int column = scopeMap.get(scope);
+        final long hash = hash(vertexId);
+        final Segment<M> segment = segment(hash);
+        synchronized (segment) {
+            final int row = segment.getOrCreateRow(vertexId, hash);
+            final Object[] messages = segment.currentMessages(scopeMap.size())[column];
+            if (messages[row] == null) messages[row] = message;
+            else messages[row] = combiner.combine(message, (M) messages[row]);
+        }
+    }
+
+    @Override
+    public M getMessage(long vertexId, MessageScope scope, Map<MessageScope,Integer> scopeMap) {
+        assert scope != null && scopeMap.containsKey(scope);
+        final int column = scopeMap.get(scope);
+        final long hash = hash(vertexId);
+        final Segment<M> segment = segment(hash);
+        synchronized (segment) {
+            if (segment.previousMessages == null) return null;
+            final int row = segment.getRow(vertexId, hash);
+            final Object[] messages = segment.previousMessages[column];
+            //Vertices which have been added after the previous iteration completed have no row in its columns
+            return row < 0 || row >= messages.length ? null : (M) messages[row];
+        }
+    }
+
+    @Override
+    public void completeIteration() {
+        for (Segment<M> segment : segments) {
+            synchronized (segment) {
+                segment.previousMessages = segment.currentMessages;
+                segment.currentMessages = null;
+            }
+        }
+    }
+
+    @Override
+    public Map<Long,Map<String,Object>> getProperties() {
+        return new AbstractMap<Long, Map<String, Object>>() {
+            @Override
+            public Set<Entry<Long, Map<String, Object>>> entrySet() {
+                return new AbstractSet<Entry<Long, Map<String, Object>>>() {
+                    @Override
+                    public Iterator<Entry<Long, Map<String, Object>>> iterator() {
+                        return new PropertyIterator();
+                    }
+
+                    @Override
+                    public int size() {
+                        int size = 0;
+                        for (Segment<M> segment : segments) size += segment.size;
+                        return size;
+                    }
+                };
+            }
+        };
+    }
+
+    private class PropertyIterator extends AbstractIterator<Map.Entry<Long, Map<String, Object>>> {
+
+        private int segmentIndex = 0;
+        private int position = 0;
+
+        @Override
+        protected Map.Entry<Long, Map<String, Object>> computeNext() {
+            while (segmentIndex < segments.length) {
+                final Segment<M> segment = segments[segmentIndex];
+                while (position < segment.ids.capacity()) {
+                    final int pos = position++;
+                    final long vertexId = segment.ids.get(pos);
+                    if (vertexId == EMPTY_ID) continue;
+                    final int row = segment.rows.get(pos);
+                    final Map<String, Object> properties = new HashMap<>(keyMap.size());
+                    for (Map.Entry<String, Integer> key : keyMap.entrySet()) {
+                        final Object value = segment.properties[key.getValue()][row];
+                        if (value != null) properties.put(key.getKey(), value);
+                    }
+                    return new AbstractMap.SimpleImmutableEntry<>(vertexId, properties);
+                }
+                segmentIndex++;
+                position = 0;
+            }
+            return endOfData();
+        }
+    }
+
+    /**
+     * The index and columns of a subset of the vertices. Must only be accessed while holding its lock.
+     */
+    private static class Segment<M> {
+
+        private LongBuffer ids;
+        private IntBuffer rows;
+        private int mask;
+
+        private int size;
+        private int rowCapacity;
+        private final Object[][] properties;
+        private Object[][] previousMessages;
+        private Object[][] currentMessages;
+
+        private Segment(int capacity, int numKeys) {
+            allocateIndex(Integer.highestOneBit(capacity - 1) << 2);
+            size = 0;
+            rowCapacity = capacity;
+            properties = new Object[numKeys][capacity];
+            previousMessages = null;
+            currentMessages = null;
+        }
+
+        private void allocateIndex(int tableSize) {
+            //Direct buffers are zeroed which marks all positions as empty
+            ids = ByteBuffer.allocateDirect(tableSize * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+            rows = ByteBuffer.allocateDirect(tableSize * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+            mask = tableSize - 1;
+        }
+
+        private int getRow(long vertexId, long hash) {
+            for (int pos = (int) hash & mask; ; pos = (pos + 1) & mask) {
+                final long id = ids.get(pos);
+                if (id == vertexId) return rows.get(pos);
+                if (id == EMPTY_ID) return -1;
+            }
+        }
+
+        private int getOrCreateRow(long vertexId, long hash) {
+            int pos = (int) hash & mask;
+            for (long id = ids.get(pos); id != EMPTY_ID; id = ids.get(pos)) {
+                if (id == vertexId) return rows.get(pos);
+                pos = (pos + 1) & mask;
+            }
+            if (size == rowCapacity) growRows();
+            final int row = size++;
+            ids.put(pos, vertexId);
+            rows.put(pos, row);
+            //Keep the load factor of the index at most 1/2
+            if (2 * size > mask + 1) rehash();
+            return row;
+        }
+
+        private void rehash() {
+            final LongBuffer oldIds = ids;
+            final IntBuffer oldRows = rows;
+            allocateIndex(2 * (mask + 1));
+            for (int i = 0; i < oldIds.capacity(); i++) {
+                final long id = oldIds.get(i);
+                if (id == EMPTY_ID) continue;
+                int pos = (int) hash(id) & mask;
+                while (ids.get(pos) != EMPTY_ID) pos = (pos + 1) & mask;
+                ids.put(pos, id);
+                rows.put(pos, oldRows.get(i));
+            }
+        }
+
+        private void growRows() {
+            rowCapacity = 2 * rowCapacity;
+            for (int i = 0; i < properties.length; i++) {
+                properties[i] = Arrays.copyOf(properties[i], rowCapacity);
+            }
+            if (currentMessages != null) {
+                for (int i = 0; i < currentMessages.length; i++) {
+                    currentMessages[i] = Arrays.copyOf(currentMessages[i], rowCapacity);
+                }
+            }
+        }
+
+        private Object[][] currentMessages(int numScopes) {
+            if (currentMessages == null) currentMessages = new Object[numScopes][rowCapacity];
+            return currentMessages;
+        }
+    }
+
+}
@@ -75,8 +75,10 @@ public class FulgoraGraphComputer implements JanusGraphComputer {
     private FulgoraVertexMemory vertexMemory;
     private boolean executed = false;
 
-    private int numThreads = 1;//Math.max(1,Runtime.getRuntime().availableProcessors());
+    private int numThreads = Math.max(1,Runtime.getRuntime().availableProcessors());
     private final int readBatchSize;
+    private final int processingBatchSize;
+    private final boolean columnarVertexState;
     private final int writeBatchSize;
 
     private ResultGraph resultGraphMode = null;
@@ -92,6 +94,8 @@ public class FulgoraGraphComputer implements JanusGraphComputer {
         this.graph = graph;
         this.writeBatchSize = configuration.get(GraphDatabaseConfiguration.BUFFER_SIZE);
         this.readBatchSize = this.writeBatchSize * 10;
+        this.processingBatchSize = configuration.get(GraphDatabaseConfiguration.COMPUTER_PROCESSING_BATCH_SIZE);
+        this.columnarVertexState = configuration.get(GraphDatabaseConfiguration.COMPUTER_COLUMNAR_VERTEX_STATE);
         this.name = "compute" + computerCounter.incrementAndGet();
     }
 
@@ -173,7 +177,7 @@ public class FulgoraGraphComputer implements JanusGraphComputer {
             final long time = System.currentTimeMillis();
             if (null != vertexProgram) {
                 // ##### Execute vertex program
-                vertexMemory = new FulgoraVertexMemory(expectedNumVertices, graph.getIDManager(), vertexProgram);
+                vertexMemory = new FulgoraVertexMemory(expectedNumVertices, graph.getIDManager(), vertexProgram, columnarVertexState);
                 // execute the vertex program
                 vertexProgram.setup(memory);
 
@@ -187,6 +191,7 @@ public class FulgoraGraphComputer implements JanusGraphComputer {
                         scanBuilder.setJobId(jobId);
                         scanBuilder.setNumProcessingThreads(numThreads);
                         scanBuilder.setWorkBlockSize(readBatchSize);
+                        scanBuilder.setProcessingBatchSize(processingBatchSize);
                         scanBuilder.setJob(job);
                         PartitionedVertexProgramExecutor programExecutor = new PartitionedVertexProgramExecutor(graph, memory, vertexMemory, vertexProgram);
                         try {
@@ -235,6 +240,7 @@ public class FulgoraGraphComputer implements JanusGraphComputer {
                 scanBuilder.setJobId(jobId);
                 scanBuilder.setNumProcessingThreads(numThreads);
                 scanBuilder.setWorkBlockSize(readBatchSize);
+                scanBuilder.setProcessingBatchSize(processingBatchSize);
                 scanBuilder.setJob(job);
                 try {
                     ScanMetrics jobResult = scanBuilder.execute().get();
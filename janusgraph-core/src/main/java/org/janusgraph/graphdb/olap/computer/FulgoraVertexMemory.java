@@ -38,7 +38,7 @@ public class FulgoraVertexMemory<M> {
 
 
 
-    private final NonBlockingHashMapLong<VertexState<M>> vertexStates;
+    private final VertexStates<M> vertexStates;
     private final IDManager idManager;
     private final Set<VertexComputeKey> computeKeys;
     private final Map<String,Integer> elementKeyMap;
@@ -50,25 +50,24 @@ public class FulgoraVertexMemory<M> {
     private final NonBlockingHashMapLong<PartitionVertexAggregate<M>> partitionVertices;
 
     public FulgoraVertexMemory(int numVertices, final IDManager idManager, final VertexProgram<M> vertexProgram) {
+        this(numVertices, idManager, vertexProgram, false);
+    }
+
+    /**
+     * @param columnarStates whether to store the vertex states in columns indexed by an off-heap vertex id index
+     *                       (see {@link ColumnarVertexStates}) rather than in one {@link VertexState} per vertex
+     */
+    public FulgoraVertexMemory(int numVertices, final IDManager idManager, final VertexProgram<M> vertexProgram,
+                               boolean columnarStates) {
         Preconditions.checkArgument(numVertices>=0 && vertexProgram!=null && idManager!=null);
-        vertexStates = new NonBlockingHashMapLong<>(numVertices);
         partitionVertices = new NonBlockingHashMapLong<>(64);
         this.idManager = idManager;
         this.combiner = FulgoraUtil.getMessageCombiner(vertexProgram);
         this.computeKeys = vertexProgram.getVertexComputeKeys();
         this.elementKeyMap = getIdMap(vertexProgram.getVertexComputeKeys().stream().map(VertexComputeKey::getKey).collect(Collectors.toCollection(HashSet::new)));
         this.previousScopes = ImmutableMap.of();
-    }
-
-    private VertexState<M> get(long vertexId, boolean create) {
-        assert vertexId==getCanonicalId(vertexId);
-        VertexState<M> state = vertexStates.get(vertexId);
-        if (state==null) {
-            if (!create) return VertexState.EMPTY_STATE;
-            vertexStates.putIfAbsent(vertexId,new VertexState<>(elementKeyMap));
-            state = vertexStates.get(vertexId);
-        }
-        return state;
+        vertexStates = columnarStates ? new ColumnarVertexStates<>(numVertices, elementKeyMap)
+                : new MapVertexStates<>(numVertices, elementKeyMap);
     }
 
     public long getCanonicalId(long vertexId) {
@@ -81,25 +80,28 @@ public class FulgoraVertexMemory<M> {
     }
 
     public<V> void setProperty(long vertexId, String key, V value) {
-        get(vertexId,true).setProperty(key,value,elementKeyMap);
+        assert vertexId==getCanonicalId(vertexId);
+        vertexStates.setProperty(vertexId,key,value);
     }
 
     public<V> V getProperty(long vertexId, String key) {
-        return get(vertexId,false).getProperty(key,elementKeyMap);
+        assert vertexId==getCanonicalId(vertexId);
+        return vertexStates.getProperty(vertexId,key);
     }
 
     void sendMessage(long vertexId, M message, MessageScope scope) {
-        VertexState<M> state = get(vertexId,true);
-        if (scope instanceof MessageScope.Global) state.addMessage(message,GLOBAL_SCOPE,currentScopes,combiner);
-        else state.setMessage(message,scope,currentScopes);
+        assert vertexId==getCanonicalId(vertexId);
+        if (scope instanceof MessageScope.Global) vertexStates.addMessage(vertexId,message,GLOBAL_SCOPE,currentScopes,combiner);
+        else vertexStates.setMessage(vertexId,message,scope,currentScopes);
     }
 
     M getMessage(long vertexId, MessageScope scope) {
-        return get(vertexId,false).getMessage(normalizeScope(scope),previousScopes);
+        assert vertexId==getCanonicalId(vertexId);
+        return vertexStates.getMessage(vertexId,normalizeScope(scope),previousScopes);
     }
 
     void completeIteration() {
-        for (VertexState<M> state : vertexStates.values()) state.completeIteration();
+        vertexStates.completeIteration();
         partitionVertices.clear();
         previousScopes = currentScopes;
         inExecute = false;
@@ -112,14 +114,7 @@ public class FulgoraVertexMemory<M> {
     }
 
     public Map<Long,Map<String,Object>> getMutableVertexProperties() {
-        return Maps.transformValues(vertexStates, vs -> {
-            Map<String,Object> map = new HashMap<>(elementKeyMap.size());
-            for (String key : elementKeyMap.keySet()) {
-                Object v = vs.getProperty(key,elementKeyMap);
-                if (v!=null) map.put(key,v);
-            }
-            return map;
-        });
+        return vertexStates.getProperties();
     }
 
     public Set<String> getMemoryKeys() {
@@ -166,6 +161,73 @@ public class FulgoraVertexMemory<M> {
         return Maps.transformValues(partitionVertices, PartitionVertexAggregate::getLoadedProperties);
     }
 
+    /**
+     * {@link VertexStates} which keeps a {@link VertexState} for every vertex in a concurrent map.
+     */
+    private static class MapVertexStates<M> implements VertexStates<M> {
+
+        private final NonBlockingHashMapLong<VertexState<M>> vertexStates;
+        private final Map<String,Integer> elementKeyMap;
+
+        private MapVertexStates(int numVertices, Map<String,Integer> elementKeyMap) {
+            this.vertexStates = new NonBlockingHashMapLong<>(numVertices);
+            this.elementKeyMap = elementKeyMap;
+        }
+
+        private VertexState<M> get(long vertexId, boolean create) {
+            VertexState<M> state = vertexStates.get(vertexId);
+            if (state==null) {
+                if (!create) return VertexState.EMPTY_STATE;
+                vertexStates.putIfAbsent(vertexId,new VertexState<>(elementKeyMap));
+                state = vertexStates.get(vertexId);
+            }
+            return state;
+        }
+
+        @Override
+        public <V> void setProperty(long vertexId, String key, V value) {
+            get(vertexId,true).setProperty(key,value,elementKeyMap);
+        }
+
+        @Override
+        public <V> V getProperty(long vertexId, String key) {
+            return get(vertexId,false).getProperty(key,elementKeyMap);
+        }
+
+        @Override
+        public void setMessage(long vertexId, M message, MessageScope scope, Map<MessageScope,Integer> scopeMap) {
+            get(vertexId,true).setMessage(message,scope,scopeMap);
+        }
+
+        @Override
+        public void addMessage(long vertexId, M message, MessageScope scope, Map<MessageScope,Integer> scopeMap,
+                               MessageCombiner<M> combiner) {
+            get(vertexId,true).addMessage(message,scope,scopeMap,combiner);
+        }
+
+        @Override
+        public M getMessage(long vertexId, MessageScope scope, Map<MessageScope,Integer> scopeMap) {
+            return get(vertexId,false).getMessage(scope,scopeMap);
+        }
+
+        @Override
+        public void completeIteration() {
+            for (VertexState<M> state : vertexStates.values()) state.completeIteration();
+        }
+
+        @Override
+        public Map<Long,Map<String,Object>> getProperties() {
+            return Maps.transformValues(vertexStates, vs -> {
+                Map<String,Object> map = new HashMap<>(elementKeyMap.size());
+                for (String key : elementKeyMap.keySet()) {
+                    Object v = vs.getProperty(key,elementKeyMap);
+                    if (v!=null) map.put(key,v);
+                }
+                return map;
+            });
+        }
+    }
+
     public static <K> Map<K,Integer> getIdMap(Iterable<K> elements) {
         ImmutableMap.Builder<K,Integer> b = ImmutableMap.builder();
         int size = 0;
@@ -0,0 +1,55 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.graphdb.olap.computer;
+
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+
+import java.util.Map;
+
+/**
+ * Stores the compute key values and messages of all vertices for {@link FulgoraVertexMemory}.
+ * Vertex ids passed to these methods are canonical.
+ *
+ * @param <M> message type
+ */
+interface VertexStates<M> {
+
+    <V> void setProperty(long vertexId, String key, V value);
+
+    <V> V getProperty(long vertexId, String key);
+
+    void setMessage(long vertexId, M message, MessageScope scope, Map<MessageScope,Integer> scopeMap);
+
+    void addMessage(long vertexId, M message, MessageScope scope, Map<MessageScope,Integer> scopeMap,
+                    MessageCombiner<M> combiner);
+
+    /**
+     * Returns the message sent to the given vertex in the previous iteration.
+     */
+    M getMessage(long vertexId, MessageScope scope, Map<MessageScope,Integer> scopeMap);
+
+    /**
+     * Turns the messages sent in the current iteration into the messages of the previous iteration.
+     */
+    void completeIteration();
+
+    /**
+     * Returns the non-null compute key values of all vertices which have a state. The returned map must not be
+     * accessed while the states are modified.
+     */
+    Map<Long,Map<String,Object>> getProperties();
+
+}
@@ -26,6 +26,9 @@ import org.janusgraph.graphdb.predicate.OrJanusPredicate;
 import org.janusgraph.graphdb.query.condition.*;
 import org.janusgraph.graphdb.transaction.StandardJanusGraphTx;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * Utility methods used in query optimization and processing.
@@ -295,43 +298,82 @@ public class QueryUtil {
 
 
     public static <R> List<R> processIntersectingRetrievals(List<IndexCall<R>> retrievals, final int limit) {
+        return processIntersectingRetrievals(retrievals, limit, null);
+    }
+
+    /**
+     * Intersects the results of the given index calls, increasing the limit passed to the calls until the intersection
+     * contains at least {@code limit} results or all calls are exhausted.
+     * <p>
+     * If an executor is given, the calls are executed concurrently on it. The intersection is driven by the smallest
+     * result, so that each element of the smaller results only needs to be checked against the larger ones.
+     *
+     * @param retrievals the index calls to intersect
+     * @param limit the requested number of results
+     * @param executor executor for concurrent index calls or null to execute them on the calling thread
+     * @return the intersection of all results
+     */
+    public static <R> List<R> processIntersectingRetrievals(List<IndexCall<R>> retrievals, final int limit, final Executor executor) {
         Preconditions.checkArgument(!retrievals.isEmpty());
         Preconditions.checkArgument(limit >= 0, "Invalid limit: %s", limit);
         List<R> results;
-        /*
-         * Iterate over the clauses in the and collection
-         * query.getCondition().getChildren(), taking the intersection
-         * of current results with cumulative results on each iteration.
-         */
         //TODO: smarter limit estimation
         final int multiplier = Math.min(16, (int) Math.pow(2, retrievals.size() - 1));
         int subLimit = Integer.MAX_VALUE;
         if (Integer.MAX_VALUE / multiplier >= limit) subLimit = limit * multiplier;
         boolean exhaustedResults;
         do {
+            final List<Collection<R>> subResults = callRetrievals(retrievals, subLimit, executor);
             exhaustedResults = true;
-            results = null;
-            for (final IndexCall<R> call : retrievals) {
-                Collection<R> subResult;
-                try {
-                    subResult = call.call(subLimit);
-                } catch (final Exception e) {
-                    throw new JanusGraphException("Could not process individual retrieval call ", e);
-                }
-
+            for (final Collection<R> subResult : subResults) {
                 if (subResult.size() >= subLimit) exhaustedResults = false;
-                if (results == null) {
-                    results = Lists.newArrayList(subResult);
-                } else {
-                    final Set<R> subResultSet = ImmutableSet.copyOf(subResult);
-                    results.removeIf(o -> !subResultSet.contains(o));
-                }
+            }
+            /*
+             * Take the intersection of the results of all clauses in the and collection, starting with the smallest
+             * result and checking against the larger ones in increasing order of size.
+             */
+            subResults.sort(Comparator.comparingInt(Collection::size));
+            results = Lists.newArrayList(subResults.get(0));
+            for (int i = 1; i < subResults.size() && !results.isEmpty(); i++) {
+                final Set<R> subResultSet = new HashSet<>(subResults.get(i));
+                results.removeIf(o -> !subResultSet.contains(o));
             }
             subLimit = (int) Math.min(Integer.MAX_VALUE - 1, Math.max(Math.pow(subLimit, 1.5),(subLimit+1)*2));
-        } while (results != null && results.size() < limit && !exhaustedResults);
+        } while (results.size() < limit && !exhaustedResults);
         return results;
     }
 
+    private static <R> List<Collection<R>> callRetrievals(List<IndexCall<R>> retrievals, final int limit, final Executor executor) {
+        final List<Collection<R>> subResults = new ArrayList<>(retrievals.size());
+        if (executor == null || retrievals.size() < 2) {
+            for (final IndexCall<R> call : retrievals) {
+                subResults.add(callRetrieval(call, limit));
+            }
+            return subResults;
+        }
+        final List<CompletableFuture<Collection<R>>> calls = new ArrayList<>(retrievals.size());
+        for (final IndexCall<R> call : retrievals) {
+            calls.add(CompletableFuture.supplyAsync(() -> callRetrieval(call, limit), executor));
+        }
+        for (final CompletableFuture<Collection<R>> call : calls) {
+            try {
+                subResults.add(call.join());
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof JanusGraphException) throw (JanusGraphException) e.getCause();
+                throw new JanusGraphException("Could not process individual retrieval call ", e.getCause());
+            }
+        }
+        return subResults;
+    }
+
+    private static <R> Collection<R> callRetrieval(IndexCall<R> call, final int limit) {
+        try {
+            return call.call(limit);
+        } catch (final Exception e) {
+            throw new JanusGraphException("Could not process individual retrieval call ", e);
+        }
+    }
+
 
     public interface IndexCall<R> {
 
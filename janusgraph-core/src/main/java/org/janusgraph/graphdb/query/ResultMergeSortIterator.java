@@ -18,6 +18,7 @@ import com.google.common.base.Preconditions;
 
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 /**
@@ -107,6 +108,23 @@ public class ResultMergeSortIterator<R> implements Iterator<R> {
         return () -> new ResultMergeSortIterator<>(first.iterator(),second.iterator(),comparator,filterDuplicates);
     }
 
-
+    /**
+     * Merge sorts all of the given sorted iterables. The iterables are merged pairwise in a balanced tree so that
+     * retrieving an element requires a number of comparisons logarithmic in the number of iterables.
+     *
+     * @param iterables sorted iterables to merge, must not be empty
+     * @param comparator
+     * @param filterDuplicates
+     * @return
+     */
+    public static<R> Iterable<R> mergeSort(final List<? extends Iterable<R>> iterables,
+                                           final Comparator<R> comparator, final boolean filterDuplicates) {
+        Preconditions.checkArgument(!iterables.isEmpty(), "Need to provide at least one iterable to merge");
+        if (iterables.size() == 1) return iterables.get(0);
+        final int middle = iterables.size() / 2;
+        return mergeSort(mergeSort(iterables.subList(0, middle), comparator, filterDuplicates),
+                mergeSort(iterables.subList(middle, iterables.size()), comparator, filterDuplicates),
+                comparator, filterDuplicates);
+    }
 
 }
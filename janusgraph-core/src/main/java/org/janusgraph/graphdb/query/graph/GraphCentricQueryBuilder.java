@@ -216,6 +216,12 @@ public class GraphCentricQueryBuilder implements JanusGraphQuery<GraphCentricQue
     private static final double CARDINALITY_SINGE_SCORE = 1000;
     private static final double CARDINALITY_OTHER_SCORE = 1000;
 
+    //Cost estimates in expected number of results, used to order the index calls of a joint query
+    private static final double UNIQUE_INDEX_COST = 1;
+    private static final double NON_UNIQUE_INDEX_COST = 100;
+    private static final double MIXED_EQUAL_CONDITION_COST = 1000;
+    private static final double MIXED_OTHER_CONDITION_COST = 100000;
+
 
     public GraphCentricQuery constructQuery(final ElementCategory resultType) {
         final QueryProfiler optProfiler = profiler.addNested(QueryProfiler.OPTIMIZATION);
@@ -271,6 +277,7 @@ public class GraphCentricQueryBuilder implements JanusGraphQuery<GraphCentricQue
         is picked and added to the joint query for as long as such exist.
          */
         final JointIndexQuery jointQuery = new JointIndexQuery();
+        final List<IndexCandidate> selected = new ArrayList<>(4);
         boolean isSorted = orders.isEmpty();
         final Set<Condition> coveredClauses = Sets.newHashSet();
         while (true) {
@@ -334,13 +341,8 @@ public class GraphCentricQueryBuilder implements JanusGraphQuery<GraphCentricQue
             if (bestCandidate!=null) {
                 if (coveredClauses.isEmpty()) isSorted=candidateSupportsSort;
                 coveredClauses.addAll(candidateSubcover);
-                if (bestCandidate.isCompositeIndex()) {
-                    jointQuery.add((CompositeIndexType)bestCandidate,
-                            serializer.getQuery((CompositeIndexType)bestCandidate,(List<Object[]>)candidateSubCondition));
-                } else {
-                    jointQuery.add((MixedIndexType)bestCandidate,
-                            serializer.getQuery((MixedIndexType)bestCandidate,(Condition)candidateSubCondition,orders));
-                }
+                selected.add(new IndexCandidate(bestCandidate, candidateSubCondition,
+                        estimateCost(bestCandidate, candidateSubCondition, candidateSubcover)));
             } else {
                 break;
             }
@@ -351,6 +353,25 @@ public class GraphCentricQueryBuilder implements JanusGraphQuery<GraphCentricQue
             */
         }
 
+        /*
+        The first index query drives the result iteration while the results of the others are intersected with it.
+        Order them by estimated cost so that the most selective index is queried first and drives the intersection,
+        unless the first index was picked because it returns the results in the requested order.
+         */
+        final boolean keepFirst = !orders.isEmpty() && isSorted;
+        if (selected.size() > 1) {
+            selected.subList(keepFirst ? 1 : 0, selected.size()).sort(Comparator.comparingDouble(c -> c.cost));
+        }
+        for (final IndexCandidate candidate : selected) {
+            if (candidate.index.isCompositeIndex()) {
+                jointQuery.add((CompositeIndexType)candidate.index,
+                        serializer.getQuery((CompositeIndexType)candidate.index,(List<Object[]>)candidate.subCondition));
+            } else {
+                jointQuery.add((MixedIndexType)candidate.index,
+                        serializer.getQuery((MixedIndexType)candidate.index,(Condition)candidate.subCondition,orders));
+            }
+        }
+
         BackendQueryHolder<JointIndexQuery> query;
         if (!coveredClauses.isEmpty()) {
             int indexLimit = limit == Query.NO_LIMIT ? HARD_MAX_LIMIT : limit;
@@ -368,6 +389,40 @@ public class GraphCentricQueryBuilder implements JanusGraphQuery<GraphCentricQue
         return new GraphCentricQuery(resultType, conditions, orders, query, limit);
     }
 
+    /**
+     * Estimates the number of results an index call returns: a composite index returns one row per covered key
+     * combination, which contains a single element for unique indexes. Mixed indexes are assumed to be less selective,
+     * in particular for conditions other than equality.
+     */
+    private static double estimateCost(IndexType index, Object subCondition, Set<Condition> subcover) {
+        if (index.isCompositeIndex()) {
+            final int numKeys = ((List<Object[]>)subCondition).size();
+            return numKeys * (((CompositeIndexType)index).getCardinality()==Cardinality.SINGLE?
+                    UNIQUE_INDEX_COST:NON_UNIQUE_INDEX_COST);
+        }
+        double cost = MIXED_OTHER_CONDITION_COST;
+        for (final Condition c : subcover) {
+            if (c instanceof PredicateCondition && ((PredicateCondition)c).getPredicate()==Cmp.EQUAL) {
+                cost = MIXED_EQUAL_CONDITION_COST;
+                break;
+            }
+        }
+        return cost;
+    }
+
+    private static class IndexCandidate {
+
+        private final IndexType index;
+        private final Object subCondition;
+        private final double cost;
+
+        private IndexCandidate(IndexType index, Object subCondition, double cost) {
+            this.index = index;
+            this.subCondition = subCondition;
+            this.cost = cost;
+        }
+    }
+
     public static boolean indexCoversOrder(MixedIndexType index, OrderList orders) {
         for (int i = 0; i < orders.size(); i++) {
             if (!index.indexesKey(orders.getKey(i))) return false;
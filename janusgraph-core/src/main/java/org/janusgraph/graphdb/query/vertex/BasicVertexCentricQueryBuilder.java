@@ -287,16 +287,11 @@ public abstract class BasicVertexCentricQueryBuilder<Q extends BaseVertexQuery<Q
         if (isPartitionedVertex(vertex)) {
             if (!hasAllCanonicalTypes()) {
                 InternalVertex[] representatives = tx.getAllRepresentatives(vertex,restrict2Partitions);
-                Iterable<JanusGraphRelation> merge = null;
-
+                List<Iterable<JanusGraphRelation>> iterables = new ArrayList<>(representatives.length);
                 for (InternalVertex rep : representatives) {
-                    Iterable<JanusGraphRelation> iterable = executeIndividualRelations(rep,baseQuery);
-                    if (merge==null) {
-                        merge = iterable;
-                    } else {
-                        merge = ResultMergeSortIterator.mergeSort(merge, iterable, (Comparator) orders, false);
-                    }
+                    iterables.add(executeIndividualRelations(rep,baseQuery));
                 }
+                Iterable<JanusGraphRelation> merge = ResultMergeSortIterator.mergeSort(iterables, (Comparator) orders, false);
                 return ResultSetIterator.wrap(merge,baseQuery.getLimit());
             } else vertex = tx.getCanonicalVertex(vertex);
         }
@@ -317,14 +312,12 @@ public abstract class BasicVertexCentricQueryBuilder<Q extends BaseVertexQuery<Q
 
             if (!hasAllCanonicalTypes()) {
                 InternalVertex[] representatives = tx.getAllRepresentatives(vertex,restrict2Partitions);
-                Iterable<JanusGraphVertex> merge = null;
-
+                List<Iterable<JanusGraphVertex>> iterables = new ArrayList<>(representatives.length);
                 for (InternalVertex rep : representatives) {
-                    Iterable<JanusGraphVertex> iterable = executeIndividualVertices(rep,baseQuery);
-                    if (merge==null) merge = iterable;
-                    else merge = ResultMergeSortIterator.mergeSort(merge, iterable,
-                            VertexArrayList.VERTEX_ID_COMPARATOR,false);
+                    iterables.add(executeIndividualVertices(rep,baseQuery));
                 }
+                Iterable<JanusGraphVertex> merge = ResultMergeSortIterator.mergeSort(iterables,
+                        VertexArrayList.VERTEX_ID_COMPARATOR,false);
                 return ResultSetIterator.wrap(merge,baseQuery.getLimit());
             } else vertex = tx.getCanonicalVertex(vertex);
         }
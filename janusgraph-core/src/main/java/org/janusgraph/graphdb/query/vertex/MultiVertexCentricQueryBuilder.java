@@ -24,8 +24,11 @@ import org.janusgraph.graphdb.query.BackendQueryHolder;
 import org.janusgraph.graphdb.query.profile.QueryProfiler;
 import org.janusgraph.graphdb.transaction.StandardJanusGraphTx;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CompletionException;
 
 /**
  * Implementation of {@link JanusGraphMultiVertexQuery} that extends {@link BasicVertexCentricQueryBuilder}
@@ -38,11 +41,18 @@ import java.util.*;
  */
 public class MultiVertexCentricQueryBuilder extends BasicVertexCentricQueryBuilder<MultiVertexCentricQueryBuilder> implements JanusGraphMultiVertexQuery<MultiVertexCentricQueryBuilder> {
 
+    private static final Logger log = LoggerFactory.getLogger(MultiVertexCentricQueryBuilder.class);
+
     /**
      * The base vertices of this query
      */
     private final Set<InternalVertex> vertices;
 
+    /**
+     * Results which are being retrieved in the background, see {@link #preFetch(RelationCategory)}
+     */
+    private final List<StandardJanusGraphTx.MultiQueryPrefetch> prefetches = new ArrayList<>();
+
     public MultiVertexCentricQueryBuilder(final StandardJanusGraphTx tx) {
         super(tx);
         vertices = Sets.newHashSet();
@@ -98,16 +108,10 @@ public class MultiVertexCentricQueryBuilder extends BasicVertexCentricQueryBuild
         BaseVertexCentricQuery bq = super.constructQuery(returnType);
         profiler.setAnnotation(QueryProfiler.MULTIQUERY_ANNOTATION,true);
         profiler.setAnnotation(QueryProfiler.NUMVERTICES_ANNOTATION,vertices.size());
+        loadPrefetches();
         if (!bq.isEmpty()) {
             for (BackendQueryHolder<SliceQuery> sq : bq.getQueries()) {
-                Set<InternalVertex> adjVertices = Sets.newHashSet(vertices);
-                for (InternalVertex v : vertices) {
-                    if (isPartitionedVertex(v)) {
-                        profiler.setAnnotation(QueryProfiler.PARTITIONED_VERTEX_ANNOTATION,true);
-                        adjVertices.remove(v);
-                        adjVertices.addAll(allRequiredRepresentatives(v));
-                    }
-                }
+                Set<InternalVertex> adjVertices = getAdjacentVertices();
                 //Overwrite with more accurate size accounting for partitioned vertices
                 profiler.setAnnotation(QueryProfiler.NUMVERTICES_ANNOTATION,adjVertices.size());
                 tx.executeMultiQuery(adjVertices, sq.getBackendQuery(), sq.getProfiler());
@@ -122,6 +126,52 @@ public class MultiVertexCentricQueryBuilder extends BasicVertexCentricQueryBuild
         return result;
     }
 
+    /**
+     * Replaces partitioned vertices by all of their representatives that need to be queried.
+     */
+    private Set<InternalVertex> getAdjacentVertices() {
+        Set<InternalVertex> adjVertices = Sets.newHashSet(vertices);
+        for (InternalVertex v : vertices) {
+            if (isPartitionedVertex(v)) {
+                profiler.setAnnotation(QueryProfiler.PARTITIONED_VERTEX_ANNOTATION,true);
+                adjVertices.remove(v);
+                adjVertices.addAll(allRequiredRepresentatives(v));
+            }
+        }
+        return adjVertices;
+    }
+
+    /**
+     * Constructs the BaseVertexCentricQuery and starts retrieving its SliceQueries for all vertices from the storage
+     * backend in the background. The retrieved result sets are loaded into the associated
+     * {@link org.janusgraph.graphdb.vertices.CacheVertex} when this query is executed, so that only the SliceQueries
+     * which have not been retrieved yet require further calls to the storage backend. Like the query execution, this
+     * method must be called by the thread that uses the transaction.
+     *
+     * @param returnType
+     */
+    public void preFetch(RelationCategory returnType) {
+        Preconditions.checkArgument(!vertices.isEmpty(), "Need to add at least one vertex to query");
+        BaseVertexCentricQuery bq = super.constructQuery(returnType);
+        if (bq.isEmpty()) return;
+        final Set<InternalVertex> adjVertices = getAdjacentVertices();
+        for (BackendQueryHolder<SliceQuery> sq : bq.getQueries()) {
+            prefetches.add(tx.prefetchMultiQuery(adjVertices, sq.getBackendQuery()));
+        }
+    }
+
+    private void loadPrefetches() {
+        for (StandardJanusGraphTx.MultiQueryPrefetch prefetch : prefetches) {
+            try {
+                prefetch.load();
+            } catch (CompletionException e) {
+                //The result sets that could not be pre-fetched are retrieved when executing the query
+                log.debug("Could not pre-fetch multi-query results", e.getCause());
+            }
+        }
+        prefetches.clear();
+    }
+
     public Map<JanusGraphVertex, Iterable<? extends JanusGraphRelation>> executeImplicitKeyQuery() {
         return new HashMap<JanusGraphVertex, Iterable<? extends JanusGraphRelation>>(vertices.size()){{
             for (InternalVertex v : vertices ) put(v,executeImplicitKeyQuery(v));
@@ -15,11 +15,10 @@
 package org.janusgraph.graphdb.query.vertex;
 
 import com.carrotsearch.hppc.LongArrayList;
-import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.*;
 import org.janusgraph.core.*;
 import org.janusgraph.diskstorage.Entry;
+import org.janusgraph.diskstorage.EntryCursor;
 import org.janusgraph.diskstorage.EntryList;
 import org.janusgraph.diskstorage.keycolumnvalue.SliceQuery;
 import org.janusgraph.graphdb.database.EdgeSerializer;
@@ -29,7 +28,6 @@ import org.janusgraph.graphdb.query.profile.QueryProfiler;
 import org.janusgraph.graphdb.transaction.RelationConstructor;
 import org.janusgraph.graphdb.transaction.StandardJanusGraphTx;
 
-import javax.annotation.Nullable;
 import java.util.*;
 
 /**
@@ -71,7 +69,7 @@ public class SimpleVertexQueryProcessor implements Iterable<Entry> {
         Iterator<Entry> iterator;
         //If there is a limit we need to wrap the basic iterator in a LimitAdjustingIterator which ensures the right number
         //of elements is returned. Otherwise we just return the basic iterator.
-        if (sliceQuery.hasLimit() && sliceQuery.getLimit()!=query.getLimit()) {
+        if (requiresLimitAdjustment()) {
             iterator = new LimitAdjustingIterator();
         } else {
             iterator = getBasicIterator();
@@ -96,29 +94,42 @@ public class SimpleVertexQueryProcessor implements Iterable<Entry> {
      */
     public VertexList vertexIds() {
         LongArrayList list = new LongArrayList();
-        long previousId = 0;
-        for (Long id : Iterables.transform(this,new Function<Entry, Long>() {
-            @Nullable
-            @Override
-            public Long apply(@Nullable Entry entry) {
-                return edgeSerializer.readRelation(entry,true,tx).getOtherVertexId();
+        if (requiresLimitAdjustment()) {
+            for (Entry entry : this) {
+                list.add(edgeSerializer.readRelation(entry,true,tx).getOtherVertexId());
+            }
+        } else {
+            //Read through a cursor whose entry view is reused for StaticArrayEntryList, which avoids creating an
+            //Entry object per adjacent vertex
+            final EntryCursor cursor = getBasicResult().cursor();
+            while (cursor.advance()) {
+                list.add(edgeSerializer.readRelation(cursor.asEntry(),true,tx).getOtherVertexId());
             }
-        })) {
-            list.add(id);
-            if (id>=previousId && previousId>=0) previousId=id;
+        }
+        long previousId = 0;
+        for (int i = 0; i < list.size() && previousId >= 0; i++) {
+            final long id = list.get(i);
+            if (id>=previousId) previousId=id;
             else previousId=-1;
         }
         return new VertexLongList(tx,list,previousId>=0);
     }
 
+    private boolean requiresLimitAdjustment() {
+        return sliceQuery.hasLimit() && sliceQuery.getLimit()!=query.getLimit();
+    }
+
     /**
      * Executes the query by executing its on {@link SliceQuery} sub-query.
      *
      * @return
      */
     private Iterator<Entry> getBasicIterator() {
-        final EntryList result = vertex.loadRelations(sliceQuery, query -> QueryProfiler.profile(profiler, query, q -> tx.getGraph().edgeQuery(vertex.longId(), q, tx.getTxHandle())));
-        return result.iterator();
+        return getBasicResult().iterator();
+    }
+
+    private EntryList getBasicResult() {
+        return vertex.loadRelations(sliceQuery, query -> QueryProfiler.profile(profiler, query, q -> tx.getGraph().edgeQuery(vertex.longId(), q, tx.getTxHandle())));
     }
 
 
@@ -20,6 +20,7 @@ import org.janusgraph.core.JanusGraphElement;
 import org.janusgraph.core.JanusGraphQuery;
 import org.janusgraph.core.JanusGraphTransaction;
 import org.janusgraph.core.JanusGraphVertex;
+import org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration;
 import org.janusgraph.graphdb.internal.ElementCategory;
 import org.janusgraph.graphdb.query.BaseQuery;
 import org.janusgraph.graphdb.query.JanusGraphPredicate;
@@ -27,6 +28,7 @@ import org.janusgraph.graphdb.query.graph.GraphCentricQuery;
 import org.janusgraph.graphdb.query.graph.GraphCentricQueryBuilder;
 import org.janusgraph.graphdb.query.profile.QueryProfiler;
 import org.janusgraph.graphdb.tinkerpop.profile.TP3ProfileWrapper;
+import org.janusgraph.graphdb.transaction.StandardJanusGraphTx;
 import org.janusgraph.graphdb.util.MultiDistinctOrderedIterator;
 import org.javatuples.Triplet;
 
@@ -52,6 +54,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 
 /**
  * @author Matthias Broecheler (me@matthiasb.com)
@@ -93,6 +96,7 @@ public class JanusGraphStep<S, E extends Element> extends GraphStep<S, E> implem
             final GraphCentricQueryBuilder builder = (GraphCentricQueryBuilder) tx.query();
             final List<Iterator<E>> responses = new ArrayList<>();
             queries.entries().forEach(q ->  executeGraphCentryQuery(builder, responses, q));
+            prefetchProperties(tx, responses);
 
             return new MultiDistinctOrderedIterator<E>(lowLimit, highLimit, responses, orders);
         });
@@ -162,6 +166,18 @@ public class JanusGraphStep<S, E extends Element> extends GraphStep<S, E> implem
         responses.add(response);
     }
 
+    /**
+     * If enabled, wraps the vertex responses so that the properties of the returned vertices are retrieved from the
+     * storage backend in batches, which populates the vertices' caches before they are handed to subsequent steps.
+     */
+    private void prefetchProperties(final JanusGraphTransaction tx, final List<Iterator<E>> responses) {
+        if (!Vertex.class.isAssignableFrom(this.returnClass) || !(tx instanceof StandardJanusGraphTx)) return;
+        final GraphDatabaseConfiguration configuration = ((StandardJanusGraphTx) tx).getGraph().getConfiguration();
+        if (!configuration.hasBatchPropertyPrefetching()) return;
+        final int batchSize = configuration.getMultiQueryBatchSize();
+        responses.replaceAll(response -> (Iterator<E>) new PropertyPrefetchingIterator(tx, (Iterator<JanusGraphVertex>) response, batchSize));
+    }
+
     @Override
     public String toString() {
         if (hasLocalContainers.isEmpty() && hasContainers.isEmpty()){
@@ -283,5 +299,45 @@ public class JanusGraphStep<S, E extends Element> extends GraphStep<S, E> implem
         result = 31 * result + (orders != null ? orders.hashCode() : 0);
         return result;
     }
-}
 
+    /**
+     * Iterator over vertices which retrieves the properties of the next batch of vertices in a single multi-query
+     * before the first vertex of the batch is returned.
+     */
+    private static class PropertyPrefetchingIterator implements Iterator<JanusGraphVertex> {
+
+        private final JanusGraphTransaction tx;
+        private final Iterator<JanusGraphVertex> vertices;
+        private final int batchSize;
+        private Iterator<JanusGraphVertex> batch = Collections.emptyIterator();
+
+        private PropertyPrefetchingIterator(JanusGraphTransaction tx, Iterator<JanusGraphVertex> vertices, int batchSize) {
+            this.tx = tx;
+            this.vertices = vertices;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!batch.hasNext() && vertices.hasNext()) nextBatch();
+            return batch.hasNext();
+        }
+
+        @Override
+        public JanusGraphVertex next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return batch.next();
+        }
+
+        @SuppressWarnings("deprecation")
+        private void nextBatch() {
+            final List<JanusGraphVertex> next = new ArrayList<>(batchSize);
+            while (next.size() < batchSize && vertices.hasNext()) {
+                next.add(vertices.next());
+            }
+            //Executing the query loads the property slices of all vertices in the batch into their caches
+            tx.multiQuery(next).properties();
+            batch = next.iterator();
+        }
+    }
+}
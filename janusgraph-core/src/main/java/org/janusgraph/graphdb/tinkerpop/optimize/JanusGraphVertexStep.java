@@ -17,13 +17,18 @@ package org.janusgraph.graphdb.tinkerpop.optimize;
 import org.janusgraph.core.BaseVertexQuery;
 import org.janusgraph.core.JanusGraphElement;
 import org.janusgraph.core.JanusGraphMultiVertexQuery;
+import org.janusgraph.core.JanusGraphTransaction;
 import org.janusgraph.core.JanusGraphVertex;
 import org.janusgraph.core.JanusGraphVertexQuery;
+import org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration;
+import org.janusgraph.graphdb.internal.RelationCategory;
 import org.janusgraph.graphdb.query.BaseQuery;
 import org.janusgraph.graphdb.query.Query;
 import org.janusgraph.graphdb.query.JanusGraphPredicate;
 import org.janusgraph.graphdb.query.profile.QueryProfiler;
 import org.janusgraph.graphdb.query.vertex.BasicVertexCentricQueryBuilder;
+import org.janusgraph.graphdb.query.vertex.MultiVertexCentricQueryBuilder;
+import org.janusgraph.graphdb.transaction.StandardJanusGraphTx;
 import org.janusgraph.graphdb.tinkerpop.profile.TP3ProfileWrapper;
 import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
@@ -35,11 +40,14 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 
 import com.google.common.base.Preconditions;
 
@@ -57,7 +65,13 @@ public class JanusGraphVertexStep<E extends Element> extends VertexStep<E> imple
 
     private boolean initialized = false;
     private boolean useMultiQuery = false;
+    private int batchSize;
+    private boolean prefetchBatches;
     private Map<JanusGraphVertex, Iterable<? extends JanusGraphElement>> multiQueryResults = null;
+    private Queue<Traverser.Admin<Vertex>> currentBatch = null;
+    private Batch nextBatch = null;
+    private Traverser.Admin<Vertex> head = null;
+    private Iterator<E> iterator = EmptyIterator.instance();
     private QueryProfiler queryProfiler = QueryProfiler.NO_OP;
 
     @Override
@@ -77,32 +91,75 @@ public class JanusGraphVertexStep<E extends Element> extends VertexStep<E> imple
         return query;
     }
 
-    @SuppressWarnings("deprecation")
     private void initialize() {
         assert !initialized;
         initialized = true;
         if (useMultiQuery) {
-            if (!starts.hasNext()) {
-                throw FastNoSuchElementException.instance();
+            final JanusGraphTransaction tx = JanusGraphTraversalUtil.getTx(traversal);
+            if (tx instanceof StandardJanusGraphTx) {
+                final GraphDatabaseConfiguration configuration = ((StandardJanusGraphTx) tx).getGraph().getConfiguration();
+                batchSize = configuration.getMultiQueryBatchSize();
+                prefetchBatches = configuration.useMultiQueryPrefetch();
+            } else {
+                batchSize = GraphDatabaseConfiguration.MULTIQUERY_BATCH_SIZE.getDefaultValue();
+                prefetchBatches = false;
             }
-            final JanusGraphMultiVertexQuery multiQuery = JanusGraphTraversalUtil.getTx(traversal).multiQuery();
-            final List<Traverser.Admin<Vertex>> vertices = new ArrayList<>();
-            starts.forEachRemaining(v -> {
-                vertices.add(v);
-                multiQuery.addVertex(v.get());
-            });
-            starts.add(vertices.iterator());
-            assert vertices.size() > 0;
-            makeQuery(multiQuery);
-
-            multiQueryResults = (Vertex.class.isAssignableFrom(getReturnClass())) ? multiQuery.vertices() : multiQuery.edges();
+            currentBatch = new ArrayDeque<>(0);
+            nextBatch = pullBatch();
         }
     }
 
     @Override
     protected Traverser.Admin<E> processNextStart() {
         if (!initialized) initialize();
-        return super.processNextStart();
+        if (!useMultiQuery) return super.processNextStart();
+        while (true) {
+            if (iterator.hasNext()) {
+                return head.split(iterator.next(), this);
+            } else {
+                head = nextStart();
+                iterator = flatMap(head);
+            }
+        }
+    }
+
+    /**
+     * Returns the next traverser of the current batch. Once the current batch is exhausted, the next batch becomes
+     * the current one and the batch after it is pulled from the previous step and, if enabled, pre-fetched from the
+     * storage backend while the results of the current batch are emitted.
+     */
+    private Traverser.Admin<Vertex> nextStart() {
+        if (currentBatch.isEmpty()) {
+            //Traversers may have been added to the previous step since the last batch was pulled
+            if (nextBatch == null) nextBatch = pullBatch();
+            if (nextBatch == null) throw FastNoSuchElementException.instance();
+            final Batch batch = nextBatch;
+            multiQueryResults = batch.getResults();
+            currentBatch = batch.traversers;
+            nextBatch = pullBatch();
+        }
+        return currentBatch.remove();
+    }
+
+    /**
+     * Pulls up to {@link #batchSize} traversers from the previous step into a new batch.
+     *
+     * @return the new batch or null if there are no more traversers
+     */
+    private Batch pullBatch() {
+        if (!starts.hasNext()) return null;
+        final JanusGraphMultiVertexQuery multiQuery = JanusGraphTraversalUtil.getTx(traversal).multiQuery();
+        final Queue<Traverser.Admin<Vertex>> traversers = new ArrayDeque<>();
+        while (traversers.size() < batchSize && starts.hasNext()) {
+            final Traverser.Admin<Vertex> traverser = starts.next();
+            traversers.add(traverser);
+            multiQuery.addVertex(traverser.get());
+        }
+        makeQuery(multiQuery);
+        if (prefetchBatches && multiQuery instanceof MultiVertexCentricQueryBuilder) {
+            ((MultiVertexCentricQueryBuilder) multiQuery).preFetch(RelationCategory.EDGE);
+        }
+        return new Batch(traversers, multiQuery);
     }
 
     @Override
@@ -120,15 +177,43 @@ public class JanusGraphVertexStep<E extends Element> extends VertexStep<E> imple
     public void reset() {
         super.reset();
         this.initialized = false;
+        resetBatches();
     }
 
     @Override
     public JanusGraphVertexStep<E> clone() {
         final JanusGraphVertexStep<E> clone = (JanusGraphVertexStep<E>) super.clone();
         clone.initialized = false;
+        clone.resetBatches();
         return clone;
     }
 
+    private void resetBatches() {
+        multiQueryResults = null;
+        currentBatch = null;
+        nextBatch = null;
+        head = null;
+        iterator = EmptyIterator.instance();
+    }
+
+    /**
+     * Traversers which are queried together through a single multi-query
+     */
+    private class Batch {
+
+        private final Queue<Traverser.Admin<Vertex>> traversers;
+        private final JanusGraphMultiVertexQuery query;
+
+        private Batch(Queue<Traverser.Admin<Vertex>> traversers, JanusGraphMultiVertexQuery query) {
+            this.traversers = traversers;
+            this.query = query;
+        }
+
+        private Map<JanusGraphVertex, Iterable<? extends JanusGraphElement>> getResults() {
+            return (Vertex.class.isAssignableFrom(getReturnClass())) ? query.vertices() : query.edges();
+        }
+    }
+
     /*
     ===== HOLDER =====
      */
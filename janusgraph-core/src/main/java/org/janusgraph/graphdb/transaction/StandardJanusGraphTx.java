@@ -36,6 +36,7 @@ import org.janusgraph.graphdb.relations.RelationIdentifier;
 import org.janusgraph.graphdb.relations.StandardEdge;
 import org.janusgraph.graphdb.relations.StandardVertexProperty;
 import org.janusgraph.graphdb.tinkerpop.JanusGraphBlueprintsTransaction;
+import org.janusgraph.graphdb.database.DegreeStatistics;
 import org.janusgraph.graphdb.database.EdgeSerializer;
 import org.janusgraph.graphdb.database.IndexSerializer;
 import org.janusgraph.graphdb.database.StandardJanusGraph;
@@ -1101,24 +1102,98 @@ public class StandardJanusGraphTx extends JanusGraphBlueprintsTransaction implem
     }
 
     public void executeMultiQuery(final Collection<InternalVertex> vertices, final SliceQuery sq, final QueryProfiler profiler) {
-        LongArrayList vertexIds = new LongArrayList(vertices.size());
+        final LongArrayList vertexIds = getVertexIdsToLoad(vertices, sq);
+        if (!vertexIds.isEmpty()) {
+            List<EntryList> results = QueryProfiler.profile(profiler, sq, true, q -> graph.edgeMultiQuery(vertexIds, q, txHandle));
+            loadMultiQueryResults(vertices, sq, vertexIds, results);
+        }
+    }
+
+    /**
+     * Retrieves the given slice for all vertices that have not yet loaded it in the background. Only the backend
+     * is accessed until the results are loaded into the vertices through {@link MultiQueryPrefetch#load()}, which
+     * therefore has to be called by the thread that uses this transaction.
+     */
+    public MultiQueryPrefetch prefetchMultiQuery(final Collection<InternalVertex> vertices, final SliceQuery sq) {
+        final LongArrayList vertexIds = getVertexIdsToLoad(vertices, sq);
+        final CompletableFuture<List<EntryList>> results = vertexIds.isEmpty()
+                ? CompletableFuture.completedFuture(Collections.emptyList())
+                : graph.edgeMultiQueryAsync(vertexIds, sq, txHandle);
+        return new MultiQueryPrefetch(vertices, sq, vertexIds, results);
+    }
+
+    private LongArrayList getVertexIdsToLoad(final Collection<InternalVertex> vertices, final SliceQuery sq) {
+        final LongArrayList vertexIds = new LongArrayList(vertices.size());
         for (InternalVertex v : vertices) {
             if (!v.isNew() && v.hasId() && (v instanceof CacheVertex) && !v.hasLoadedRelations(sq)) vertexIds.add(v.longId());
         }
+        return vertexIds;
+    }
 
-        if (!vertexIds.isEmpty()) {
-            List<EntryList> results = QueryProfiler.profile(profiler, sq, true, q -> graph.edgeMultiQuery(vertexIds, q, txHandle));
-            int pos = 0;
-            for (JanusGraphVertex v : vertices) {
-                if (pos<vertexIds.size() && vertexIds.get(pos) == v.longId()) {
-                    final EntryList vresults = results.get(pos);
+    /**
+     * Loads the results retrieved for the given vertex ids into the corresponding vertices, which must be iterated in
+     * the same order as when the ids were collected. Vertices which have loaded the slice in the meantime are skipped.
+     */
+    private void loadMultiQueryResults(final Collection<InternalVertex> vertices, final SliceQuery sq,
+                                       final LongArrayList vertexIds, final List<EntryList> results) {
+        int pos = 0;
+        for (InternalVertex v : vertices) {
+            if (pos<vertexIds.size() && vertexIds.get(pos) == v.longId()) {
+                final EntryList vresults = results.get(pos);
+                if (!v.hasLoadedRelations(sq)) {
                     ((CacheVertex) v).loadRelations(sq, query -> vresults);
-                    pos++;
+                    recordDegree(v, vresults.size());
                 }
+                pos++;
             }
         }
     }
 
+    /**
+     * Multi-query results which are retrieved in the background, see {@link #prefetchMultiQuery(Collection, SliceQuery)}
+     */
+    public class MultiQueryPrefetch {
+
+        private final Collection<InternalVertex> vertices;
+        private final SliceQuery sq;
+        private final LongArrayList vertexIds;
+        private final CompletableFuture<List<EntryList>> results;
+
+        private MultiQueryPrefetch(Collection<InternalVertex> vertices, SliceQuery sq, LongArrayList vertexIds,
+                                   CompletableFuture<List<EntryList>> results) {
+            this.vertices = vertices;
+            this.sq = sq;
+            this.vertexIds = vertexIds;
+            this.results = results;
+        }
+
+        public boolean isDone() {
+            return results.isDone();
+        }
+
+        /**
+         * Waits for the results to be retrieved and loads them into the vertices.
+         *
+         * @throws CompletionException if the results could not be retrieved
+         */
+        public void load() {
+            final List<EntryList> vresults = results.join();
+            if (!vertexIds.isEmpty()) loadMultiQueryResults(vertices, sq, vertexIds, vresults);
+        }
+    }
+
+    /**
+     * Records the number of relations retrieved for the given vertex in the graph's {@link DegreeStatistics} if it
+     * qualifies the vertex as a supernode. Representatives of partitioned vertices are not recorded since their
+     * vertex label is already partitioned.
+     */
+    private void recordDegree(InternalVertex vertex, int degree) {
+        final DegreeStatistics degreeStatistics = graph.getDegreeStatistics();
+        if (!degreeStatistics.isSupernodeDegree(degree) || isPartitionedVertex(vertex) || vertex.isRemoved()) return;
+        final VertexLabel label = vertex.vertexLabel();
+        if (label.hasId() && !label.isPartitioned()) degreeStatistics.record(label.longId(), degree);
+    }
+
     public final QueryExecutor<VertexCentricQuery, JanusGraphRelation, SliceQuery> edgeProcessor;
 
     public final QueryExecutor<VertexCentricQuery, JanusGraphRelation, SliceQuery> edgeProcessorImpl = new QueryExecutor<VertexCentricQuery, JanusGraphRelation, SliceQuery>() {
@@ -1180,6 +1255,7 @@ public class StandardJanusGraphTx extends JanusGraphBlueprintsTransaction implem
             final InternalVertex v = query.getVertex();
 
             final EntryList iterable = v.loadRelations(sq, query1 -> QueryProfiler.profile(profiler, query1, q -> graph.edgeQuery(v.longId(), q, txHandle)));
+            recordDegree(v, iterable.size());
 
             return RelationConstructor.readRelation(v, iterable, StandardJanusGraphTx.this).iterator();
         }
@@ -1292,7 +1368,7 @@ public class StandardJanusGraphTx extends JanusGraphBlueprintsTransaction implem
                     });
                 }
                 iterator = new SubqueryIterator(indexQuery.getQuery(0), indexSerializer, txHandle, indexCache, indexQuery.getLimit(), getConversionFunction(query.getResultType()),
-                        retrievals.isEmpty() ? null: QueryUtil.processIntersectingRetrievals(retrievals, indexQuery.getLimit()));
+                        retrievals.isEmpty() ? null: new HashSet<>(QueryUtil.processIntersectingRetrievals(retrievals, indexQuery.getLimit(), txHandle.getThreadPool())));
             } else {
                 if (config.hasForceIndexUsage()) throw new JanusGraphException("Could not find a suitable index to answer graph query and graph scans are disabled: " + query);
                 log.warn("Query requires iterating over all vertices [{}]. For better performance, use indexes", query.getCondition());
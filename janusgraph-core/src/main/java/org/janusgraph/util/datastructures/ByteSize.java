@@ -27,6 +27,9 @@ public class ByteSize {
 
     public static final int GUAVA_CACHE_SOFT_ENTRY_SIZE = 136;
 
+    //Bounded, weighted and expiring node plus the backing ConcurrentHashMap node and table slot
+    public static final int CAFFEINE_CACHE_ENTRY_SIZE = 128;
+
 
     //Does not include array contents of byte[]
     public static final int STATICARRAYBUFFER_RAW_SIZE = OBJECT_HEADER + 2*4 + 6 + (OBJECT_REFERENCE + OBJECT_HEADER + 8); // 6 = overhead & padding, (byte[] array)
@@ -73,6 +73,15 @@ public interface CQLConfigOptions {
             ConfigOption.Type.MASKABLE,
             20);
 
+    // The number of slice queries a multi-key query keeps in flight
+    ConfigOption<Integer> MAX_CONCURRENT_SLICE_QUERIES = new ConfigOption<>(
+            CQL_NS,
+            "max-concurrent-slice-queries",
+            "The maximum number of asynchronous slice queries a single multi-key query keeps in flight",
+            ConfigOption.Type.MASKABLE,
+            256,
+            ConfigOption.positiveInt());
+
     // Whether to use un-logged batches
     ConfigOption<Boolean> ATOMIC_BATCH_MUTATE = new ConfigOption<>(
             CQL_NS,
@@ -48,9 +48,14 @@ import static org.janusgraph.diskstorage.cql.CQLTransaction.getTransaction;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -77,6 +82,7 @@ import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.Metadata;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.Statement;
@@ -86,6 +92,9 @@ import com.datastax.driver.core.schemabuilder.Create.Options;
 import com.datastax.driver.core.schemabuilder.TableOptions.CompactionOptions;
 import com.datastax.driver.core.schemabuilder.TableOptions.CompressionOptions;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 
 import io.vavr.Lazy;
 import io.vavr.Tuple;
@@ -279,20 +288,90 @@ public class CQLKeyColumnValueStore implements KeyColumnValueStore {
     public EntryList getSlice(final KeySliceQuery query, final StoreTransaction txh) throws BackendException {
         final Future<EntryList> result = Future.fromJavaFuture(
                 this.executorService,
-                this.session.executeAsync(this.getSlice.bind()
-                        .setBytes(KEY_BINDING, query.getKey().asByteBuffer())
-                        .setBytes(SLICE_START_BINDING, query.getSliceStart().asByteBuffer())
-                        .setBytes(SLICE_END_BINDING, query.getSliceEnd().asByteBuffer())
-                        .setInt(LIMIT_BINDING, query.getLimit())
-                        .setConsistencyLevel(getTransaction(txh).getReadConsistencyLevel())))
+                this.session.executeAsync(getSlice(query.getKey(), query, txh)))
                 .map(resultSet -> fromResultSet(resultSet, this.getter));
         interruptibleWait(result);
         return result.getValue().get().getOrElseThrow(EXCEPTION_MAPPER);
     }
 
+    /**
+     * Completes the returned future from the driver's callback so that no thread waits for the query. The result set
+     * is converted on the store's executor since fetching further pages may block.
+     */
+    @Override
+    public CompletableFuture<EntryList> getSliceAsync(final KeySliceQuery query, final StoreTransaction txh) {
+        final CompletableFuture<EntryList> result = new CompletableFuture<>();
+        final ResultSetFuture future;
+        try {
+            future = this.session.executeAsync(getSlice(query.getKey(), query, txh));
+        } catch (RuntimeException e) {
+            result.completeExceptionally(EXCEPTION_MAPPER.apply(e));
+            return result;
+        }
+        Futures.addCallback(future, new FutureCallback<ResultSet>() {
+            @Override
+            public void onSuccess(final ResultSet resultSet) {
+                try {
+                    result.complete(fromResultSet(resultSet, CQLKeyColumnValueStore.this.getter));
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(EXCEPTION_MAPPER.apply(e));
+                }
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                result.completeExceptionally(EXCEPTION_MAPPER.apply(t));
+            }
+        }, this.executorService);
+        return result;
+    }
+
+    /**
+     * Issues the slice query for all keys asynchronously, keeping at most
+     * {@link CQLConfigOptions#MAX_CONCURRENT_SLICE_QUERIES} of them in flight at any time, and collects the results once
+     * all of them have been submitted.
+     */
     @Override
     public Map<StaticBuffer, EntryList> getSlice(final List<StaticBuffer> keys, final SliceQuery query, final StoreTransaction txh) throws BackendException {
-        throw new UnsupportedOperationException("The CQL backend does not support multi-key queries");
+        final Semaphore inFlight = new Semaphore(this.storeManager.getMaxConcurrentSliceQueries());
+        final Map<StaticBuffer, ResultSetFuture> futures = new LinkedHashMap<>(keys.size());
+        try {
+            for (final StaticBuffer key : keys) {
+                if (futures.containsKey(key)) continue;
+                inFlight.acquire();
+                final ResultSetFuture future = this.session.executeAsync(getSlice(key, query, txh));
+                future.addListener(inFlight::release, MoreExecutors.directExecutor());
+                futures.put(key, future);
+            }
+
+            final Map<StaticBuffer, EntryList> result = new HashMap<>(futures.size());
+            for (final Map.Entry<StaticBuffer, ResultSetFuture> keyAndFuture : futures.entrySet()) {
+                result.put(keyAndFuture.getKey(), fromResultSet(keyAndFuture.getValue().get(), this.getter));
+            }
+            return result;
+        } catch (InterruptedException e) {
+            cancelAll(futures.values());
+            Thread.currentThread().interrupt();
+            throw new PermanentBackendException(e);
+        } catch (ExecutionException e) {
+            cancelAll(futures.values());
+            throw EXCEPTION_MAPPER.apply(e.getCause());
+        }
+    }
+
+    private Statement getSlice(final StaticBuffer key, final SliceQuery query, final StoreTransaction txh) {
+        return this.getSlice.bind()
+                .setBytes(KEY_BINDING, key.asByteBuffer())
+                .setBytes(SLICE_START_BINDING, query.getSliceStart().asByteBuffer())
+                .setBytes(SLICE_END_BINDING, query.getSliceEnd().asByteBuffer())
+                .setInt(LIMIT_BINDING, query.getLimit())
+                .setConsistencyLevel(getTransaction(txh).getReadConsistencyLevel());
+    }
+
+    private static void cancelAll(final Iterable<ResultSetFuture> futures) {
+        for (final ResultSetFuture future : futures) {
+            future.cancel(true);
+        }
     }
 
     /**
@@ -30,6 +30,7 @@ import static org.janusgraph.diskstorage.cql.CQLConfigOptions.LOCAL_CORE_CONNECT
 import static org.janusgraph.diskstorage.cql.CQLConfigOptions.LOCAL_DATACENTER;
 import static org.janusgraph.diskstorage.cql.CQLConfigOptions.LOCAL_MAX_CONNECTIONS_PER_HOST;
 import static org.janusgraph.diskstorage.cql.CQLConfigOptions.LOCAL_MAX_REQUESTS_PER_CONNECTION;
+import static org.janusgraph.diskstorage.cql.CQLConfigOptions.MAX_CONCURRENT_SLICE_QUERIES;
 import static org.janusgraph.diskstorage.cql.CQLConfigOptions.PROTOCOL_VERSION;
 import static org.janusgraph.diskstorage.cql.CQLConfigOptions.READ_CONSISTENCY;
 import static org.janusgraph.diskstorage.cql.CQLConfigOptions.REMOTE_CORE_CONNECTIONS_PER_HOST;
@@ -137,6 +138,7 @@ public class CQLStoreManager extends DistributedStoreManager implements KeyColum
     private final int batchSize;
     private final boolean atomicBatch;
     private final boolean allowCompactStorage;
+    private final int maxConcurrentSliceQueries;
 
     final ExecutorService executorService;
 
@@ -158,6 +160,7 @@ public class CQLStoreManager extends DistributedStoreManager implements KeyColum
         this.keyspace = determineKeyspaceName(configuration);
         this.batchSize = configuration.get(BATCH_STATEMENT_SIZE);
         this.atomicBatch = configuration.get(ATOMIC_BATCH_MUTATE);
+        this.maxConcurrentSliceQueries = configuration.get(MAX_CONCURRENT_SLICE_QUERIES);
 
         this.executorService = new ThreadPoolExecutor(10,
                 100,
@@ -191,7 +194,7 @@ public class CQLStoreManager extends DistributedStoreManager implements KeyColum
         fb.timestamps(true).cellTTL(true);
         fb.keyConsistent((onlyUseLocalConsistency ? local : global), local);
         fb.optimisticLocking(true);
-        fb.multiQuery(false);
+        fb.multiQuery(true);
 
         final String partitioner = this.cluster.getMetadata().getPartitioner();
         switch (partitioner.substring(partitioner.lastIndexOf('.') + 1)) {
@@ -337,6 +340,10 @@ public class CQLStoreManager extends DistributedStoreManager implements KeyColum
         return this.allowCompactStorage;
     }
 
+    int getMaxConcurrentSliceQueries() {
+        return this.maxConcurrentSliceQueries;
+    }
+
     ExecutorService getExecutorService() {
         return this.executorService;
     }
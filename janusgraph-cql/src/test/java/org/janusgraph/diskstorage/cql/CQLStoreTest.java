@@ -206,6 +206,12 @@ public class CQLStoreTest extends KeyColumnValueStoreTest {
         assertTrue(features.hasCellTTL());
     }
 
+    @Test
+    public void testMultiQuerySupported() {
+        final StoreFeatures features = this.manager.getFeatures();
+        assertTrue(features.hasMultiQuery());
+    }
+
     @Mock
     private Cluster cluster;
     @Mock
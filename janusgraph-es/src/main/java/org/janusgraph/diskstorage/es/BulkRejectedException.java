@@ -0,0 +1,39 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage.es;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Thrown by {@link ElasticSearchClient#bulkRequest(List, String)} if Elasticsearch rejected some or all of the
+ * requests of a bulk request because it is overloaded (HTTP status 429). All other requests have been executed
+ * successfully, hence only the rejected requests need to be retried.
+ */
+public class BulkRejectedException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<ElasticSearchMutation> rejected;
+
+    public BulkRejectedException(List<ElasticSearchMutation> rejected) {
+        super("Elasticsearch rejected " + rejected.size() + " bulk request(s)");
+        this.rejected = rejected;
+    }
+
+    public List<ElasticSearchMutation> getRejected() {
+        return rejected;
+    }
+}
@@ -0,0 +1,394 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage.es;
+
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.janusgraph.util.stats.MetricManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Sends {@link ElasticSearchMutation}s to Elasticsearch in bulk requests of which up to a configured number are
+ * in flight concurrently.
+ * <p>
+ * Mutations can either be {@link #submit(List, String) submitted} as bulk requests of their own or
+ * {@link #add(List, String) added} to a buffer per ingest pipeline, which is sent once it reaches the maximum number
+ * of actions or bytes, or when the flush interval elapses. The buffers of a pipeline are sent one after another in
+ * the order in which they were filled. Threads sending a bulk request block while the maximum number of requests is
+ * in flight, which applies backpressure to writers.
+ * <p>
+ * Requests rejected by Elasticsearch because it is overloaded are retried with exponential backoff. The mutations of a
+ * document are executed in the order in which they were submitted, also when they are split into several requests or
+ * only some of them have to be retried. If metrics are enabled, the number of actions, failures and retries is counted
+ * per Elasticsearch index.
+ */
+public class ElasticSearchBulkProcessor implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ElasticSearchBulkProcessor.class);
+
+    private static final String NO_PIPELINE = "";
+    private static final String METRICS_NAME = "elasticsearch";
+    private static final String METRICS_BULK = "bulk";
+
+    private final ElasticSearchClient client;
+    private final int maxActions;
+    private final long maxBytes;
+    private final int maxRetries;
+    private final long retryBackoffMS;
+    private final String metricsPrefix;
+
+    private final Semaphore inFlight;
+    private final int concurrentRequests;
+    private final ExecutorService senders;
+    private final ScheduledExecutorService flusher;
+
+    //Guarded by this
+    private final Map<String, Batch> batches;
+    //Future of the batch sent last per pipeline, which the next batch of the pipeline is sent after. Guarded by this
+    private final Map<String, CompletableFuture<Void>> lastSent;
+    private boolean closed;
+
+    /**
+     * @param metricsPrefix prefix of the metrics to record or null to not record metrics
+     */
+    public ElasticSearchBulkProcessor(ElasticSearchClient client, int maxActions, long maxBytes, Duration flushInterval,
+                                      int concurrentRequests, int maxRetries, Duration retryBackoff, String metricsPrefix) {
+        Preconditions.checkArgument(maxActions > 0, "Maximum number of actions must be positive: %s", maxActions);
+        Preconditions.checkArgument(maxBytes > 0, "Maximum number of bytes must be positive: %s", maxBytes);
+        Preconditions.checkArgument(concurrentRequests > 0, "Number of concurrent requests must be positive: %s", concurrentRequests);
+        Preconditions.checkArgument(maxRetries >= 0, "Number of retries must not be negative: %s", maxRetries);
+        this.client = client;
+        this.maxActions = maxActions;
+        this.maxBytes = maxBytes;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMS = retryBackoff.toMillis();
+        this.metricsPrefix = metricsPrefix;
+
+        this.concurrentRequests = concurrentRequests;
+        this.inFlight = new Semaphore(concurrentRequests);
+        this.senders = Executors.newFixedThreadPool(concurrentRequests, new ThreadFactoryBuilder()
+                .setDaemon(true).setNameFormat("ElasticSearchBulk[%d]").build());
+        this.batches = new HashMap<>(4);
+        this.lastSent = new HashMap<>(4);
+        this.closed = false;
+        if (!flushInterval.isZero()) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                    .setDaemon(true).setNameFormat("ElasticSearchBulkFlusher[%d]").build());
+            flusher.scheduleWithFixedDelay(this::flushQuietly, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    /**
+     * Sends the given mutations as bulk requests of their own, splitting them if they exceed the maximum number of
+     * actions. The requests are executed one after another so that the mutations of a document keep their order.
+     * Blocks while the maximum number of requests is in flight.
+     *
+     * @return a future that completes once all mutations have been executed
+     */
+    public CompletableFuture<Void> submit(List<ElasticSearchMutation> mutations, String ingestPipeline) {
+        Preconditions.checkState(!isClosed(), "Bulk processor has been closed");
+        final List<List<ElasticSearchMutation>> requests = new ArrayList<>();
+        for (int from = 0; from < mutations.size(); from += maxActions) {
+            requests.add(mutations.subList(from, Math.min(mutations.size(), from + maxActions)));
+        }
+        return send(requests, ingestPipeline);
+    }
+
+    /**
+     * Buffers the given mutations until they are sent by a flush. Blocks if a full buffer has to be sent while the
+     * maximum number of requests is in flight.
+     *
+     * @return a future that completes once all mutations have been executed
+     */
+    public synchronized CompletableFuture<Void> add(List<ElasticSearchMutation> mutations, String ingestPipeline) {
+        Preconditions.checkState(!closed, "Bulk processor has been closed");
+        final String pipeline = ingestPipeline == null ? NO_PIPELINE : ingestPipeline;
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(1);
+        Batch batch = batches.computeIfAbsent(pipeline, p -> new Batch());
+        for (final ElasticSearchMutation mutation : mutations) {
+            batch.add(mutation);
+            if (batch.mutations.size() >= maxActions || batch.bytes >= maxBytes) {
+                futures.add(batch.future);
+                sendBatch(batch, pipeline);
+                batch = new Batch();
+                batches.put(pipeline, batch);
+            }
+        }
+        if (!batch.mutations.isEmpty()) futures.add(batch.future);
+        else batches.remove(pipeline);
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]));
+    }
+
+    /**
+     * Sends all buffered mutations. Blocks while the maximum number of requests is in flight.
+     */
+    public synchronized void flush() {
+        batches.forEach((pipeline, batch) -> sendBatch(batch, pipeline));
+        batches.clear();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (final Throwable e) {
+            log.error("Could not flush Elasticsearch bulk requests", e);
+        }
+    }
+
+    /**
+     * Sends the given batch once the batch sent before it on the same pipeline has completed, so that batches are
+     * executed in the order in which they were filled. Since the request in flight is acquired while holding the
+     * lock, the batch it waits for has always acquired one before. Blocks while the maximum number of requests is in
+     * flight.
+     */
+    private void sendBatch(Batch batch, String pipeline) {
+        assert Thread.holdsLock(this);
+        final CompletableFuture<Void> previous = lastSent.put(pipeline, batch.future);
+        if (!acquire(batch.future)) return;
+        final List<List<ElasticSearchMutation>> requests = Collections.singletonList(batch.mutations);
+        final String ingestPipeline = NO_PIPELINE.equals(pipeline) ? null : pipeline;
+        if (previous == null) {
+            dispatch(requests, ingestPipeline, batch.future);
+        } else {
+            previous.whenComplete((r, e) -> dispatch(requests, ingestPipeline, batch.future));
+        }
+    }
+
+    private CompletableFuture<Void> send(List<List<ElasticSearchMutation>> requests, String ingestPipeline) {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        if (acquire(future)) {
+            dispatch(requests, ingestPipeline, future);
+        }
+        return future;
+    }
+
+    /**
+     * Acquires a request in flight, blocking while the maximum number of requests is in flight
+     *
+     * @return whether the request has been acquired, otherwise the given future has been completed exceptionally
+     */
+    private boolean acquire(CompletableFuture<Void> future) {
+        try {
+            inFlight.acquire();
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+            return false;
+        }
+    }
+
+    /**
+     * Executes the given bulk requests in order on a sender thread, stopping at the first request that fails, and
+     * releases the request in flight acquired for them
+     */
+    private void dispatch(List<List<ElasticSearchMutation>> requests, String ingestPipeline, CompletableFuture<Void> future) {
+        try {
+            senders.execute(() -> {
+                List<ElasticSearchMutation> mutations = null;
+                try {
+                    for (final List<ElasticSearchMutation> request : requests) {
+                        mutations = request;
+                        execute(mutations, ingestPipeline);
+                    }
+                    future.complete(null);
+                } catch (final Throwable e) {
+                    log.error("Failed to execute Elasticsearch bulk request with {} actions",
+                            mutations == null ? 0 : mutations.size(), e);
+                    future.completeExceptionally(e);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (final RuntimeException e) {
+            inFlight.release();
+            future.completeExceptionally(e);
+        }
+    }
+
+    private void execute(List<ElasticSearchMutation> mutations, String ingestPipeline) throws IOException, InterruptedException {
+        List<ElasticSearchMutation> pending = mutations;
+        for (int attempt = 0; ; attempt++) {
+            final Timer.Context time = metricsPrefix == null ? null
+                    : MetricManager.INSTANCE.getTimer(metricsPrefix, METRICS_NAME, METRICS_BULK, "time").time();
+            try {
+                client.bulkRequest(pending, ingestPipeline);
+                count(pending, "actions");
+                return;
+            } catch (final BulkRejectedException e) {
+                final Set<ElasticSearchMutation> rejected = Collections.newSetFromMap(new IdentityHashMap<>());
+                rejected.addAll(e.getRejected());
+                if (attempt >= maxRetries) {
+                    count(e.getRejected(), "failures");
+                    throw e;
+                }
+                final List<ElasticSearchMutation> retries = getRetries(pending, rejected);
+                if (retries == null) {
+                    count(e.getRejected(), "failures");
+                    throw new IOException("Could not retry rejected Elasticsearch bulk actions without reordering the " +
+                            "actions of a document", e);
+                }
+                if (retries.size() < pending.size()) {
+                    count(pending.stream().filter(m -> !rejected.contains(m)).collect(Collectors.toList()), "actions");
+                }
+                count(retries, "retries");
+                pending = retries;
+                final long backoff = retryBackoffMS << Math.min(attempt, 20);
+                log.debug("Elasticsearch rejected {} bulk actions, retrying in {} ms", retries.size(), backoff);
+                Thread.sleep(backoff);
+            } catch (final IOException | RuntimeException e) {
+                count(pending, "failures");
+                throw e;
+            } finally {
+                if (time != null) time.stop();
+            }
+        }
+    }
+
+    /**
+     * Returns the rejected mutations in the order in which they were sent. Since the other mutations have been
+     * executed, retrying is only possible if no executed mutation follows a rejected mutation of the same document.
+     *
+     * @return the mutations to retry or null if retrying them would reorder the mutations of a document
+     */
+    private static List<ElasticSearchMutation> getRetries(List<ElasticSearchMutation> pending, Set<ElasticSearchMutation> rejected) {
+        final List<ElasticSearchMutation> retries = new ArrayList<>(rejected.size());
+        final Set<List<String>> rejectedDocuments = new HashSet<>();
+        for (final ElasticSearchMutation mutation : pending) {
+            final List<String> document = Arrays.asList(mutation.getIndex(), mutation.getType(), mutation.getId());
+            if (rejected.contains(mutation)) {
+                retries.add(mutation);
+                rejectedDocuments.add(document);
+            } else if (rejectedDocuments.contains(document)) {
+                return null;
+            }
+        }
+        return retries;
+    }
+
+    /**
+     * Increments the given metric of each index by its number of mutations
+     */
+    private void count(List<ElasticSearchMutation> mutations, String metric) {
+        if (metricsPrefix == null) return;
+        final Map<String, Integer> perIndex = new HashMap<>(4);
+        for (final ElasticSearchMutation mutation : mutations) {
+            perIndex.merge(mutation.getIndex(), 1, Integer::sum);
+        }
+        perIndex.forEach((index, count) -> MetricManager.INSTANCE.getCounter(metricsPrefix, METRICS_NAME, index,
+                METRICS_BULK, metric).inc(count));
+    }
+
+    private synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Sends all buffered mutations and waits for all requests in flight to complete.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) return;
+        }
+        try {
+            if (flusher != null) {
+                flusher.shutdown();
+                flusher.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            }
+            flush();
+            synchronized (this) {
+                closed = true;
+            }
+            inFlight.acquire(concurrentRequests);
+            inFlight.release(concurrentRequests);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            senders.shutdown();
+        }
+    }
+
+    /**
+     * Mutations buffered for a single bulk request
+     */
+    private static class Batch {
+
+        private final List<ElasticSearchMutation> mutations = new ArrayList<>();
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private long bytes = 0;
+
+        private void add(ElasticSearchMutation mutation) {
+            mutations.add(mutation);
+            bytes += estimateSize(mutation.getIndex()) + estimateSize(mutation.getId()) + estimateSize(mutation.getSource());
+        }
+    }
+
+    /**
+     * Estimates the size of the JSON representation of the given value without serializing it
+     */
+    static long estimateSize(Object value) {
+        if (value == null) {
+            return 4;
+        } else if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() + 2;
+        } else if (value instanceof Map) {
+            long size = 2;
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += estimateSize(entry.getKey()) + estimateSize(entry.getValue()) + 2;
+            }
+            return size;
+        } else if (value instanceof Collection) {
+            long size = 2;
+            for (final Object element : (Collection<?>) value) {
+                size += estimateSize(element) + 1;
+            }
+            return size;
+        } else if (value instanceof Object[]) {
+            long size = 2;
+            for (final Object element : (Object[]) value) {
+                size += estimateSize(element) + 1;
+            }
+            return size;
+        } else {
+            return 16;
+        }
+    }
+}
@@ -17,9 +17,11 @@ package org.janusgraph.diskstorage.es;
 import static org.janusgraph.diskstorage.es.ElasticSearchConstants.ES_DOC_KEY;
 import static org.janusgraph.diskstorage.es.ElasticSearchConstants.ES_GEO_COORDS_KEY;
 import static org.janusgraph.diskstorage.es.ElasticSearchConstants.ES_TYPE_KEY;
+import static org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration.BASIC_METRICS;
 import static org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration.INDEX_MAX_RESULT_SET_SIZE;
 import static org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration.INDEX_NAME;
 import static org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration.INDEX_NS;
+import static org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration.METRICS_PREFIX;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
@@ -79,6 +81,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -90,6 +93,8 @@ import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -174,6 +179,48 @@ public class ElasticSearchIndex implements IndexProvider {
     public static final ConfigNamespace ES_INGEST_PIPELINES =
             new ConfigNamespace(ELASTICSEARCH_NS, "ingest-pipeline", "Ingest pipeline applicable to a store of an index.");
 
+    public static final ConfigNamespace ES_BULK_NS =
+            new ConfigNamespace(ELASTICSEARCH_NS, "bulk", "Settings related to bulk requests sent to Elasticsearch");
+
+    public static final ConfigOption<Boolean> BULK_ASYNC =
+            new ConfigOption<>(ES_BULK_NS, "async",
+            "Whether mutations are buffered and sent to Elasticsearch asynchronously. When enabled, a transaction " +
+            "commit returns once its index mutations have been queued and failures to persist them are only logged. " +
+            "When disabled, a commit waits until Elasticsearch has acknowledged all of its index mutations.",
+            ConfigOption.Type.MASKABLE, false);
+
+    public static final ConfigOption<Integer> BULK_MAX_ACTIONS =
+            new ConfigOption<>(ES_BULK_NS, "max-actions",
+            "The maximum number of actions sent to Elasticsearch in a single bulk request.",
+            ConfigOption.Type.MASKABLE, 1000, ConfigOption.positiveInt());
+
+    public static final ConfigOption<Long> BULK_MAX_BYTES =
+            new ConfigOption<>(ES_BULK_NS, "max-bytes",
+            "The estimated size in bytes at which buffered mutations are sent to Elasticsearch. " +
+            "Only applicable when " + BULK_ASYNC.getName() + " is true.",
+            ConfigOption.Type.MASKABLE, 5L * 1024 * 1024, ConfigOption.positiveLong());
+
+    public static final ConfigOption<Duration> BULK_FLUSH_INTERVAL =
+            new ConfigOption<>(ES_BULK_NS, "flush-interval",
+            "The time after which buffered mutations are sent to Elasticsearch even if neither the maximum number " +
+            "of actions nor bytes has been reached. Only applicable when " + BULK_ASYNC.getName() + " is true.",
+            ConfigOption.Type.MASKABLE, Duration.ofSeconds(1));
+
+    public static final ConfigOption<Integer> BULK_CONCURRENT_REQUESTS =
+            new ConfigOption<>(ES_BULK_NS, "concurrent-requests",
+            "The maximum number of bulk requests in flight at the same time. Writers block once this number is reached.",
+            ConfigOption.Type.MASKABLE, 4, ConfigOption.positiveInt());
+
+    public static final ConfigOption<Integer> BULK_MAX_RETRIES =
+            new ConfigOption<>(ES_BULK_NS, "max-retries",
+            "The number of times actions rejected by Elasticsearch because it is overloaded are retried.",
+            ConfigOption.Type.MASKABLE, 3, ConfigOption.nonnegativeInt());
+
+    public static final ConfigOption<Duration> BULK_RETRY_BACKOFF =
+            new ConfigOption<>(ES_BULK_NS, "retry-backoff",
+            "The time to wait before retrying rejected actions for the first time, doubled on every further retry.",
+            ConfigOption.Type.MASKABLE, Duration.ofMillis(100));
+
     public static final ConfigNamespace SSL_NS =
             new ConfigNamespace(ELASTICSEARCH_NS, "ssl", "Elasticsearch SSL configuration");
 
@@ -286,6 +333,8 @@ public class ElasticSearchIndex implements IndexProvider {
     private final boolean useAllField;
     private final boolean useMultitypeIndex;
     private final Map<String, Object> ingestPipelines;
+    private final ElasticSearchBulkProcessor bulkProcessor;
+    private final boolean bulkAsync;
 
     public ElasticSearchIndex(Configuration config) throws BackendException {
         indexName = config.get(INDEX_NAME);
@@ -342,6 +391,12 @@ public class ElasticSearchIndex implements IndexProvider {
 
         ElasticSearchSetup.applySettingsFromJanusGraphConf(indexSetting, config);
         indexSetting.put("index.max_result_window", Integer.MAX_VALUE);
+
+        bulkAsync = config.get(BULK_ASYNC);
+        bulkProcessor = new ElasticSearchBulkProcessor(client, config.get(BULK_MAX_ACTIONS), config.get(BULK_MAX_BYTES),
+                bulkAsync ? config.get(BULK_FLUSH_INTERVAL) : Duration.ZERO, config.get(BULK_CONCURRENT_REQUESTS),
+                config.get(BULK_MAX_RETRIES), config.get(BULK_RETRY_BACKOFF),
+                config.get(BASIC_METRICS) ? config.get(METRICS_PREFIX) : null);
     }
 
     /**
@@ -397,6 +452,8 @@ public class ElasticSearchIndex implements IndexProvider {
     private BackendException convert(Exception esException) {
         if (esException instanceof InterruptedException) {
             return new TemporaryBackendException("Interrupted while waiting for response", esException);
+        } else if (esException instanceof BulkRejectedException) {
+            return new TemporaryBackendException("Elasticsearch rejected bulk request", esException);
         } else {
             return new PermanentBackendException("Unknown exception while executing index operation", esException);
         }
@@ -664,6 +721,7 @@ public class ElasticSearchIndex implements IndexProvider {
     public void mutate(Map<String, Map<String, IndexMutation>> mutations, KeyInformation.IndexRetriever information,
                        BaseTransaction tx) throws BackendException {
         final List<ElasticSearchMutation> requests = new ArrayList<>();
+        final List<CompletableFuture<Void>> bulkRequests = new ArrayList<>();
         try {
             for (final Map.Entry<String, Map<String, IndexMutation>> stores : mutations.entrySet()) {
                 final List<ElasticSearchMutation> requestByStore = new ArrayList<>();
@@ -724,20 +782,45 @@ public class ElasticSearchIndex implements IndexProvider {
                     }
                 }
                 if (!requestByStore.isEmpty() && ingestPipelines.containsKey(storeName)) {
-                    client.bulkRequest(requestByStore, String.valueOf(ingestPipelines.get(storeName)));
+                    bulkRequests.add(bulkRequest(requestByStore, String.valueOf(ingestPipelines.get(storeName))));
                 } else if (!requestByStore.isEmpty()) {
                     requests.addAll(requestByStore);
                 }
             }
             if (!requests.isEmpty()) {
-                client.bulkRequest(requests, null);
+                bulkRequests.add(bulkRequest(requests, null));
             }
+            awaitBulkRequests(bulkRequests);
         } catch (final Exception e) {
             log.error("Failed to execute bulk Elasticsearch mutation", e);
             throw convert(e);
         }
     }
 
+    /**
+     * Hands the given mutations to the bulk processor, which either buffers them if bulk requests are asynchronous
+     * or sends them right away.
+     */
+    private CompletableFuture<Void> bulkRequest(List<ElasticSearchMutation> requests, String pipeline) {
+        return bulkAsync ? bulkProcessor.add(requests, pipeline) : bulkProcessor.submit(requests, pipeline);
+    }
+
+    /**
+     * Waits for the given bulk requests to complete unless bulk requests are asynchronous, in which case their
+     * failures are only logged by the bulk processor.
+     */
+    private void awaitBulkRequests(List<CompletableFuture<Void>> bulkRequests) throws Exception {
+        if (bulkAsync) return;
+        for (final CompletableFuture<Void> bulkRequest : bulkRequests) {
+            try {
+                bulkRequest.get();
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof Exception) throw (Exception) e.getCause();
+                throw e;
+            }
+        }
+    }
+
     private String getDeletionScript(KeyInformation.IndexRetriever information, String storeName,
                                      IndexMutation mutation) throws PermanentBackendException {
         final StringBuilder script = new StringBuilder();
@@ -843,6 +926,7 @@ public class ElasticSearchIndex implements IndexProvider {
     public void restore(Map<String,Map<String, List<IndexEntry>>> documents, KeyInformation.IndexRetriever information,
                         BaseTransaction tx) throws BackendException {
         final List<ElasticSearchMutation> requests = new ArrayList<>();
+        final List<CompletableFuture<Void>> bulkRequests = new ArrayList<>();
         try {
             for (final Map.Entry<String, Map<String, List<IndexEntry>>> stores : documents.entrySet()) {
                 final List<ElasticSearchMutation> requestByStore = new ArrayList<>();
@@ -867,13 +951,14 @@ public class ElasticSearchIndex implements IndexProvider {
                     }
                 }
                 if (!requestByStore.isEmpty() && ingestPipelines.containsKey(store)) {
-                    client.bulkRequest(requestByStore, String.valueOf(ingestPipelines.get(store)));
+                    bulkRequests.add(bulkRequest(requestByStore, String.valueOf(ingestPipelines.get(store))));
                 } else if (!requestByStore.isEmpty()) {
                     requests.addAll(requestByStore);
                 }
             }
             if (!requests.isEmpty())
-                client.bulkRequest(requests, null);
+                bulkRequests.add(bulkRequest(requests, null));
+            awaitBulkRequests(bulkRequests);
         } catch (final Exception e) {
             throw convert(e);
         }
@@ -1264,6 +1349,7 @@ public class ElasticSearchIndex implements IndexProvider {
     @Override
     public void close() throws BackendException {
         try {
+            bulkProcessor.close();
             client.close();
         } catch (final IOException e) {
             throw new PermanentBackendException(e);
@@ -1274,6 +1360,7 @@ public class ElasticSearchIndex implements IndexProvider {
     @Override
     public void clearStorage() throws BackendException {
         try {
+            bulkProcessor.flush();
             client.deleteIndex(indexName);
         } catch (final Exception e) {
             throw new PermanentBackendException("Could not delete index " + indexName, e);
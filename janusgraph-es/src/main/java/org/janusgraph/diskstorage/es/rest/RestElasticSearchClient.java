@@ -35,6 +35,7 @@ import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
 import org.elasticsearch.client.RestClient;
 import org.janusgraph.core.attribute.Geoshape;
+import org.janusgraph.diskstorage.es.BulkRejectedException;
 import org.janusgraph.diskstorage.es.ElasticMajorVersion;
 import org.janusgraph.diskstorage.es.ElasticSearchClient;
 import org.janusgraph.diskstorage.es.ElasticSearchMutation;
@@ -47,13 +48,13 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static org.janusgraph.util.encoding.StringEncoding.UTF8_CHARSET;
 
@@ -69,6 +70,7 @@ public class RestElasticSearchClient implements ElasticSearchClient {
     private static final String REQUEST_SEPARATOR = "/";
     private static final String REQUEST_PARAM_BEGINNING = "?";
     private static final String REQUEST_PARAM_SEPARATOR = "&";
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
 
     private static final ObjectMapper mapper;
     private static final ObjectReader mapReader;
@@ -260,17 +262,37 @@ public class RestElasticSearchClient implements ElasticSearchClient {
         }
         builder.insert(0, REQUEST_SEPARATOR + "_bulk");
 
-        final Response response = performRequest(REQUEST_TYPE_POST, builder.toString(), outputStream.toByteArray());
+        final Response response;
+        try {
+            response = performRequest(REQUEST_TYPE_POST, builder.toString(), outputStream.toByteArray());
+        } catch (final ResponseException e) {
+            if (e.getResponse().getStatusLine().getStatusCode() == STATUS_TOO_MANY_REQUESTS) {
+                throw new BulkRejectedException(requests);
+            }
+            throw e;
+        }
         try (final InputStream inputStream = response.getEntity().getContent()) {
             final RestBulkResponse bulkResponse = mapper.readValue(inputStream, RestBulkResponse.class);
-            final List<Object> errors = bulkResponse.getItems().stream()
-                .flatMap(item -> item.values().stream())
-                .filter(item -> item.getError() != null && item.getStatus() != 404)
-                .map(RestBulkItemResponse::getError).collect(Collectors.toList());
+            final List<Object> errors = new ArrayList<>();
+            final List<ElasticSearchMutation> rejected = new ArrayList<>();
+            final List<Map<String, RestBulkItemResponse>> items = bulkResponse.getItems();
+            for (int i = 0; i < items.size(); i++) {
+                for (final RestBulkItemResponse item : items.get(i).values()) {
+                    if (item.getError() == null || item.getStatus() == 404) continue;
+                    if (item.getStatus() == STATUS_TOO_MANY_REQUESTS) {
+                        rejected.add(requests.get(i));
+                    } else {
+                        errors.add(item.getError());
+                    }
+                }
+            }
             if (!errors.isEmpty()) {
                 errors.forEach(error -> log.error("Failed to execute ES query: {}", error));
                 throw new IOException("Failure(s) in Elasticsearch bulk request: " + errors);
             }
+            if (!rejected.isEmpty()) {
+                throw new BulkRejectedException(rejected);
+            }
         }
     }
 
@@ -0,0 +1,189 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage.es;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+public class ElasticSearchBulkProcessorTest {
+
+    private static List<ElasticSearchMutation> mutations(int count) {
+        final List<ElasticSearchMutation> mutations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            mutations.add(ElasticSearchMutation.createIndexRequest("janusgraph_vertex", "vertex", "v" + i,
+                    ImmutableMap.of("name", "value" + i)));
+        }
+        return mutations;
+    }
+
+    @Test
+    public void testSubmitSplitsByMaxActions() throws Exception {
+        final ElasticSearchClient client = mock(ElasticSearchClient.class);
+        try (ElasticSearchBulkProcessor processor = new ElasticSearchBulkProcessor(client, 10, Long.MAX_VALUE,
+                Duration.ZERO, 2, 0, Duration.ofMillis(1), null)) {
+            processor.submit(mutations(25), null).get(10, TimeUnit.SECONDS);
+        }
+        verify(client, times(3)).bulkRequest(anyListOf(ElasticSearchMutation.class), (String) isNull());
+    }
+
+    @Test
+    public void testRetryRejectedActions() throws Exception {
+        final ElasticSearchClient client = mock(ElasticSearchClient.class);
+        final List<ElasticSearchMutation> mutations = mutations(4);
+        final List<ElasticSearchMutation> rejected = mutations.subList(2, 4);
+        final List<List<ElasticSearchMutation>> requests = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            final List<ElasticSearchMutation> request = new ArrayList<>((List<ElasticSearchMutation>) invocation.getArguments()[0]);
+            requests.add(request);
+            if (requests.size() == 1) throw new BulkRejectedException(rejected);
+            return null;
+        }).when(client).bulkRequest(anyListOf(ElasticSearchMutation.class), any(String.class));
+
+        try (ElasticSearchBulkProcessor processor = new ElasticSearchBulkProcessor(client, 100, Long.MAX_VALUE,
+                Duration.ZERO, 1, 3, Duration.ofMillis(1), null)) {
+            processor.submit(mutations, null).get(10, TimeUnit.SECONDS);
+        }
+        assertEquals(2, requests.size());
+        assertEquals(mutations, requests.get(0));
+        assertEquals(rejected, requests.get(1));
+    }
+
+    @Test
+    public void testSubmitSendsRequestsInOrder() throws Exception {
+        final ElasticSearchClient client = mock(ElasticSearchClient.class);
+        final List<ElasticSearchMutation> mutations = mutations(25);
+        final List<ElasticSearchMutation> sent = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            //Delay the first request so that later requests would overtake it if they were sent concurrently
+            if (sent.isEmpty()) Thread.sleep(100);
+            sent.addAll((List<ElasticSearchMutation>) invocation.getArguments()[0]);
+            return null;
+        }).when(client).bulkRequest(anyListOf(ElasticSearchMutation.class), (String) isNull());
+
+        try (ElasticSearchBulkProcessor processor = new ElasticSearchBulkProcessor(client, 10, Long.MAX_VALUE,
+                Duration.ZERO, 3, 0, Duration.ofMillis(1), null)) {
+            processor.submit(mutations, null).get(10, TimeUnit.SECONDS);
+        }
+        assertEquals(mutations, sent);
+    }
+
+    @Test
+    public void testNoRetryThatReordersDocumentActions() throws Exception {
+        final ElasticSearchClient client = mock(ElasticSearchClient.class);
+        final List<ElasticSearchMutation> mutations = new ArrayList<>(mutations(2));
+        //The update of the first document has been executed, the preceding deletion has been rejected
+        mutations.add(0, ElasticSearchMutation.createDeleteRequest("janusgraph_vertex", "vertex", "v0"));
+        doThrow(new BulkRejectedException(mutations.subList(0, 1))).when(client)
+                .bulkRequest(anyListOf(ElasticSearchMutation.class), any(String.class));
+
+        try (ElasticSearchBulkProcessor processor = new ElasticSearchBulkProcessor(client, 100, Long.MAX_VALUE,
+                Duration.ZERO, 1, 3, Duration.ofMillis(1), null)) {
+            processor.submit(mutations, null).get(10, TimeUnit.SECONDS);
+            fail("Expected reordering retry to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause().getCause() instanceof BulkRejectedException);
+        }
+        verify(client, times(1)).bulkRequest(anyListOf(ElasticSearchMutation.class), any(String.class));
+    }
+
+    @Test
+    public void testFailAfterMaxRetries() throws Exception {
+        final ElasticSearchClient client = mock(ElasticSearchClient.class);
+        final List<ElasticSearchMutation> mutations = mutations(2);
+        doThrow(new BulkRejectedException(mutations)).when(client)
+                .bulkRequest(anyListOf(ElasticSearchMutation.class), any(String.class));
+
+        try (ElasticSearchBulkProcessor processor = new ElasticSearchBulkProcessor(client, 100, Long.MAX_VALUE,
+                Duration.ZERO, 1, 2, Duration.ofMillis(1), null)) {
+            processor.submit(mutations, null).get(10, TimeUnit.SECONDS);
+            fail("Expected rejected bulk request to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof BulkRejectedException);
+        }
+        verify(client, times(3)).bulkRequest(anyListOf(ElasticSearchMutation.class), any(String.class));
+    }
+
+    @Test
+    public void testBufferedMutationsAreFlushed() throws Exception {
+        final ElasticSearchClient client = mock(ElasticSearchClient.class);
+        final List<ElasticSearchMutation> sent = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            sent.addAll((List<ElasticSearchMutation>) invocation.getArguments()[0]);
+            return null;
+        }).when(client).bulkRequest(anyListOf(ElasticSearchMutation.class), any(String.class));
+
+        try (ElasticSearchBulkProcessor processor = new ElasticSearchBulkProcessor(client, 10, Long.MAX_VALUE,
+                Duration.ofMillis(50), 2, 0, Duration.ofMillis(1), null)) {
+            //A full batch is sent right away, the remainder once the flush interval elapses
+            processor.add(mutations(15), null).get(10, TimeUnit.SECONDS);
+            assertEquals(15, sent.size());
+
+            processor.add(mutations(3), "pipeline");
+        }
+        //Closing sends all buffered mutations
+        assertEquals(18, sent.size());
+    }
+
+    @Test
+    public void testAddedBatchesAreSentInOrder() throws Exception {
+        final ElasticSearchClient client = mock(ElasticSearchClient.class);
+        final ElasticSearchMutation update = ElasticSearchMutation.createUpdateRequest("janusgraph_vertex", "vertex", "v0",
+                ImmutableMap.of("name", "value"));
+        final ElasticSearchMutation delete = ElasticSearchMutation.createDeleteRequest("janusgraph_vertex", "vertex", "v0");
+        final List<ElasticSearchMutation> sent = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            //Delay the first batch so that the second one would overtake it if they were sent concurrently
+            if (((List<ElasticSearchMutation>) invocation.getArguments()[0]).contains(update)) Thread.sleep(100);
+            sent.addAll((List<ElasticSearchMutation>) invocation.getArguments()[0]);
+            return null;
+        }).when(client).bulkRequest(anyListOf(ElasticSearchMutation.class), (String) isNull());
+
+        try (ElasticSearchBulkProcessor processor = new ElasticSearchBulkProcessor(client, 1, Long.MAX_VALUE,
+                Duration.ZERO, 3, 0, Duration.ofMillis(1), null)) {
+            //Each mutation fills a batch of its own
+            final CompletableFuture<Void> updated = processor.add(Collections.singletonList(update), null);
+            final CompletableFuture<Void> deleted = processor.add(Collections.singletonList(delete), null);
+            CompletableFuture.allOf(updated, deleted).get(10, TimeUnit.SECONDS);
+        }
+        assertEquals(Arrays.asList(update, delete), sent);
+    }
+
+    @Test
+    public void testEstimateSize() {
+        assertEquals(7, ElasticSearchBulkProcessor.estimateSize("value"));
+        assertEquals(2 + (6 + 7 + 2), ElasticSearchBulkProcessor.estimateSize(ImmutableMap.of("name", "value")));
+    }
+}
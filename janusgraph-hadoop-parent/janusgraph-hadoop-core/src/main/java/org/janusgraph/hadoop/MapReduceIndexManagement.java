@@ -110,6 +110,10 @@ public class MapReduceIndexManagement {
                 "Index %s has class %s: must be a %s or %s (or subtype)",
                 index.getClass(), RelationTypeIndex.class.getSimpleName(), JanusGraphIndex.class.getSimpleName());
 
+        if (graph.getBackend().isCompressed(Backend.EDGESTORE_NAME) || graph.getBackend().isCompressed(Backend.INDEXSTORE_NAME))
+            throw new UnsupportedOperationException("MapReduce index jobs cannot read the compressed stores of graphs " +
+                    "which configure " + ConfigElement.getPath(GraphDatabaseConfiguration.STORAGE_COMPRESSION_STORES));
+
         org.apache.hadoop.conf.Configuration hadoopConf = new org.apache.hadoop.conf.Configuration();
         ModifiableHadoopConfiguration janusGraphMapReduceConfiguration =
                 ModifiableHadoopConfiguration.of(JanusGraphHadoopConfiguration.MAPRED_NS, hadoopConf);
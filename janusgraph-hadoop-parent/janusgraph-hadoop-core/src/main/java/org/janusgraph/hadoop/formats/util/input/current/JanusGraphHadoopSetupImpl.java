@@ -17,7 +17,10 @@ package org.janusgraph.hadoop.formats.util.input.current;
 import com.google.common.base.Preconditions;
 import org.janusgraph.core.JanusGraphFactory;
 import org.janusgraph.core.JanusGraphVertex;
+import org.janusgraph.diskstorage.Backend;
 import org.janusgraph.diskstorage.configuration.BasicConfiguration;
+import org.janusgraph.diskstorage.configuration.ConfigElement;
+import org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration;
 import org.janusgraph.graphdb.database.RelationReader;
 import org.janusgraph.graphdb.database.StandardJanusGraph;
 import org.janusgraph.graphdb.idmanagement.IDManager;
@@ -50,6 +53,12 @@ public class JanusGraphHadoopSetupImpl extends JanusGraphHadoopSetupCommon {
         scanConf = ModifiableHadoopConfiguration.of(JanusGraphHadoopConfiguration.MAPRED_NS, config);
         BasicConfiguration bc = scanConf.getJanusGraphConf();
         graph = (StandardJanusGraph) JanusGraphFactory.open(bc);
+        if (graph.getBackend().isCompressed(Backend.EDGESTORE_NAME)) {
+            graph.close();
+            throw new UnsupportedOperationException("Hadoop input formats cannot read the compressed store " +
+                    Backend.EDGESTORE_NAME + " of graphs which configure " +
+                    ConfigElement.getPath(GraphDatabaseConfiguration.STORAGE_COMPRESSION_STORES));
+        }
         tx = (StandardJanusGraphTx)graph.buildTransaction().readOnly().vertexCacheSize(200).start();
     }
 
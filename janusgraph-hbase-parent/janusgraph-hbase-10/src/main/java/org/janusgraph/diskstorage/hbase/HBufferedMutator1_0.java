@@ -0,0 +1,49 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage.hbase;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.Mutation;
+
+public class HBufferedMutator1_0 implements BufferedMutatorMask
+{
+    private final BufferedMutator mutator;
+
+    public HBufferedMutator1_0(BufferedMutator mutator)
+    {
+        this.mutator = mutator;
+    }
+
+    @Override
+    public void mutate(List<? extends Mutation> mutations) throws IOException
+    {
+        mutator.mutate(mutations);
+    }
+
+    @Override
+    public void flush() throws IOException
+    {
+        mutator.flush();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        mutator.close();
+    }
+}
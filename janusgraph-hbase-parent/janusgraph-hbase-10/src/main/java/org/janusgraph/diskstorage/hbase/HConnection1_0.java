@@ -19,6 +19,7 @@ import java.util.List;
 
 import org.apache.hadoop.hbase.HRegionLocation;
 import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.BufferedMutatorParams;
 import org.apache.hadoop.hbase.client.Connection;
 
 public class HConnection1_0 implements ConnectionMask
@@ -37,6 +38,13 @@ public class HConnection1_0 implements ConnectionMask
         return new HTable1_0(cnx.getTable(TableName.valueOf(name)));
     }
 
+    @Override
+    public BufferedMutatorMask getBufferedMutator(String name, long writeBufferSize) throws IOException
+    {
+        BufferedMutatorParams params = new BufferedMutatorParams(TableName.valueOf(name)).writeBufferSize(writeBufferSize);
+        return new HBufferedMutator1_0(cnx.getBufferedMutator(params));
+    }
+
     @Override
     public AdminMask getAdmin() throws IOException
     {
@@ -46,7 +46,7 @@ public class HTable1_0 implements TableMask
     }
 
     @Override
-    public void batch(List<Row> writes, Object[] results) throws IOException, InterruptedException
+    public void batch(List<? extends Row> writes, Object[] results) throws IOException, InterruptedException
     {
         table.batch(writes, results);
         /* table.flushCommits(); not needed anymore */
@@ -0,0 +1,43 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage.hbase;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.hadoop.hbase.client.Mutation;
+
+/**
+ * This interface hides the HBase client class that buffers mutations of a single table on the client and sends
+ * them asynchronously in batches, which is not available in HBase versions before 1.0.
+ */
+public interface BufferedMutatorMask extends Closeable
+{
+
+    /**
+     * Adds the given mutations to the write buffer, sending buffered mutations if the buffer is full.
+     * @param mutations
+     * @throws IOException in the case of backend exceptions.
+     */
+    void mutate(List<? extends Mutation> mutations) throws IOException;
+
+    /**
+     * Sends all buffered mutations and waits for them to be persisted.
+     * @throws IOException in the case of backend exceptions.
+     */
+    void flush() throws IOException;
+
+}
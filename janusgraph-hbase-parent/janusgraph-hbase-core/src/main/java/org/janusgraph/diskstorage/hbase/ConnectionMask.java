@@ -39,6 +39,15 @@ public interface ConnectionMask extends Closeable
      */
     TableMask getTable(String name) throws IOException;
 
+    /**
+     * Retrieve a BufferedMutatorMask for the supplied table name. The caller is responsible for closing it.
+     * @param name
+     * @param writeBufferSize the size in bytes of the write buffer
+     * @return The BufferedMutatorMask for the specified table.
+     * @throws IOException in the case of backend exceptions.
+     */
+    BufferedMutatorMask getBufferedMutator(String name, long writeBufferSize) throws IOException;
+
     /**
      * Retrieve the AdminMask compatibility layer object for this Connection.
      * @return The AdminMask for this Connection
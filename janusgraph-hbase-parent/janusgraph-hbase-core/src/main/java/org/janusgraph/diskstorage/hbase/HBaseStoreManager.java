@@ -56,8 +56,8 @@ import org.apache.hadoop.hbase.ZooKeeperConnectionException;
 import org.apache.hadoop.hbase.client.Delete;
 import org.apache.hadoop.hbase.client.HBaseAdmin;
 import org.apache.hadoop.hbase.client.HTable;
+import org.apache.hadoop.hbase.client.Mutation;
 import org.apache.hadoop.hbase.client.Put;
-import org.apache.hadoop.hbase.client.Row;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.apache.hadoop.hbase.util.Pair;
 import org.apache.hadoop.hbase.util.VersionInfo;
@@ -237,6 +237,26 @@ public class HBaseStoreManager extends DistributedStoreManager implements KeyCol
             "at runtime.  Setting this option forces JanusGraph to instead reflectively load and instantiate the specified class.",
             ConfigOption.Type.MASKABLE, String.class);
 
+    public static final ConfigOption<Boolean> BUFFERED_MUTATIONS =
+            new ConfigOption<>(HBASE_NS, "buffered-mutations",
+            "Whether mutations are written through a long-lived, client-side write buffer of the HBase table instead of " +
+            "a separate batch per transaction. The buffer sends mutations to the region servers in parallel once it is full.",
+            ConfigOption.Type.MASKABLE, false);
+
+    public static final ConfigOption<Long> WRITE_BUFFER_SIZE =
+            new ConfigOption<>(HBASE_NS, "write-buffer-size",
+            "The size in bytes of the write buffer at which buffered mutations are sent to HBase. " +
+            "Only applicable when " + BUFFERED_MUTATIONS.getName() + " is true.",
+            ConfigOption.Type.MASKABLE, 2L * 1024 * 1024, ConfigOption.positiveLong());
+
+    public static final ConfigOption<Boolean> FLUSH_ON_COMMIT =
+            new ConfigOption<>(HBASE_NS, "flush-on-commit",
+            "Whether the write buffer is flushed when a transaction commits. When disabled, committed mutations may " +
+            "remain in the buffer until it is full or the graph is closed, so they are not visible to other instances " +
+            "and are lost if the JVM crashes. Mutations of lock stores are always flushed. " +
+            "Only applicable when " + BUFFERED_MUTATIONS.getName() + " is true.",
+            ConfigOption.Type.MASKABLE, true);
+
     public static final int PORT_DEFAULT = 2181;  // Not used. Just for the parent constructor.
 
     public static final TimestampProviders PREFERRED_TIMESTAMPS = TimestampProviders.MILLI;
@@ -256,6 +276,9 @@ public class HBaseStoreManager extends DistributedStoreManager implements KeyCol
     private final boolean shortCfNames;
     private final boolean skipSchemaCheck;
     private final HBaseCompat compat;
+    private final boolean bufferedMutations;
+    private final long writeBufferSize;
+    private final boolean flushOnCommit;
     // Cached return value of getDeployment() as requesting it can be expensive.
     private Deployment deployment = null;
 
@@ -265,6 +288,8 @@ public class HBaseStoreManager extends DistributedStoreManager implements KeyCol
 
     // Mutable instance state
     private final ConcurrentMap<String, HBaseKeyColumnValueStore> openStores;
+    // Opened on the first write if buffered mutations are enabled
+    private volatile BufferedMutatorMask bufferedMutator;
 
     public HBaseStoreManager(org.janusgraph.diskstorage.configuration.Configuration config) throws BackendException {
         super(config, PORT_DEFAULT);
@@ -282,6 +307,9 @@ public class HBaseStoreManager extends DistributedStoreManager implements KeyCol
         this.skipSchemaCheck = config.get(SKIP_SCHEMA_CHECK);
         final String compatClass = config.has(COMPAT_CLASS) ? config.get(COMPAT_CLASS) : null;
         this.compat = HBaseCompatLoader.getCompat(compatClass);
+        this.bufferedMutations = config.get(BUFFERED_MUTATIONS);
+        this.writeBufferSize = config.get(WRITE_BUFFER_SIZE);
+        this.flushOnCommit = config.get(FLUSH_ON_COMMIT);
 
         /*
          * Specifying both region count options is permitted but may be
@@ -399,6 +427,7 @@ public class HBaseStoreManager extends DistributedStoreManager implements KeyCol
         openStores.clear();
         if (logger.isTraceEnabled())
             openManagers.remove(this);
+        closeBufferedMutator();
         IOUtils.closeQuietly(cnx);
     }
 
@@ -434,7 +463,7 @@ public class HBaseStoreManager extends DistributedStoreManager implements KeyCol
                         commitTime.getAdditionTime(times),
                         commitTime.getDeletionTime(times));
 
-        final List<Row> batch = new ArrayList<>(commandsPerKey.size()); // actual batch operation
+        final List<Mutation> batch = new ArrayList<>(commandsPerKey.size()); // actual batch operation
 
         // convert sorted commands into representation required for 'batch' operation
         for (Pair<List<Put>, Delete> commands : commandsPerKey.values()) {
@@ -446,13 +475,21 @@ public class HBaseStoreManager extends DistributedStoreManager implements KeyCol
         }
 
         try {
-            TableMask table = null;
+            if (bufferedMutations) {
+                final BufferedMutatorMask mutator = getBufferedMutator();
+                mutator.mutate(batch);
+                if (flushOnCommit || mutatesLockStore(mutations)) {
+                    mutator.flush();
+                }
+            } else {
+                TableMask table = null;
 
-            try {
-                table = cnx.getTable(tableName);
-                table.batch(batch, new Object[batch.size()]);
-            } finally {
-                IOUtils.closeQuietly(table);
+                try {
+                    table = cnx.getTable(tableName);
+                    table.batch(batch, new Object[batch.size()]);
+                } finally {
+                    IOUtils.closeQuietly(table);
+                }
             }
         } catch (IOException | InterruptedException e) {
             throw new TemporaryBackendException(e);
@@ -461,6 +498,44 @@ public class HBaseStoreManager extends DistributedStoreManager implements KeyCol
         sleepAfterWrite(txh, commitTime);
     }
 
+    private BufferedMutatorMask getBufferedMutator() throws IOException {
+        BufferedMutatorMask mutator = bufferedMutator;
+        if (mutator == null) {
+            synchronized (this) {
+                mutator = bufferedMutator;
+                if (mutator == null) {
+                    mutator = cnx.getBufferedMutator(tableName, writeBufferSize);
+                    bufferedMutator = mutator;
+                }
+            }
+        }
+        return mutator;
+    }
+
+    /**
+     * Sends all buffered mutations and closes the write buffer, if one has been opened.
+     */
+    private synchronized void closeBufferedMutator() {
+        if (bufferedMutator != null) {
+            try {
+                bufferedMutator.close();
+            } catch (IOException e) {
+                logger.error("Failed to flush buffered mutations of table {}", tableName, e);
+            }
+            bufferedMutator = null;
+        }
+    }
+
+    /**
+     * Locks are checked by reading the lock store right after writing to it, so its mutations must not stay buffered.
+     */
+    private static boolean mutatesLockStore(Map<String, Map<StaticBuffer, KCVMutation>> mutations) {
+        for (String storeName : mutations.keySet()) {
+            if (storeName.endsWith(LOCK_STORE_SUFFIX)) return true;
+        }
+        return false;
+    }
+
     @Override
     public KeyColumnValueStore openDatabase(String longName, StoreMetaData.Container metaData) throws BackendException {
         // HBase does not support retrieving cell-level TTL by the client.
@@ -508,6 +583,7 @@ public class HBaseStoreManager extends DistributedStoreManager implements KeyCol
      */
     @Override
     public void clearStorage() throws BackendException {
+        closeBufferedMutator();
         try (AdminMask adm = getAdminInterface()) {
             if (this.storageConfig.get(DROP_ON_CLEAR)) {
                 adm.dropTable(tableName);
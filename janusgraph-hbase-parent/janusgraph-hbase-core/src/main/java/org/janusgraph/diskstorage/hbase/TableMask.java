@@ -40,6 +40,6 @@ public interface TableMask extends Closeable
 
     Result[] get(List<Get> gets) throws IOException;
 
-    void batch(List<Row> writes, Object[] results) throws IOException, InterruptedException;
+    void batch(List<? extends Row> writes, Object[] results) throws IOException, InterruptedException;
 
 }
@@ -0,0 +1,32 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage.hbase;
+
+import org.janusgraph.HBaseStorageSetup;
+import org.janusgraph.diskstorage.BackendException;
+import org.janusgraph.diskstorage.keycolumnvalue.KeyColumnValueStoreManager;
+
+/**
+ * Runs the multi-write store tests with mutations written through the buffered mutator of the table.
+ */
+public class HBaseBufferedMutationStoreTest extends HBaseMultiWriteStoreTest {
+
+    @Override
+    public KeyColumnValueStoreManager openStorageManager() throws BackendException {
+        return new HBaseStoreManager(HBaseStorageSetup.getHBaseConfiguration()
+                .set(HBaseStoreManager.BUFFERED_MUTATIONS, true)
+                .set(HBaseStoreManager.WRITE_BUFFER_SIZE, 64L * 1024));
+    }
+}
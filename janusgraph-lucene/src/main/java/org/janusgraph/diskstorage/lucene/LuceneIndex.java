@@ -17,6 +17,7 @@ package org.janusgraph.diskstorage.lucene;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.locationtech.spatial4j.context.SpatialContext;
 import org.locationtech.spatial4j.shape.Shape;
 
@@ -25,9 +26,12 @@ import org.janusgraph.core.schema.Mapping;
 import org.janusgraph.graphdb.internal.Order;
 import org.janusgraph.core.attribute.*;
 import org.janusgraph.diskstorage.*;
+import org.janusgraph.diskstorage.configuration.ConfigNamespace;
+import org.janusgraph.diskstorage.configuration.ConfigOption;
 import org.janusgraph.diskstorage.configuration.Configuration;
 import org.janusgraph.diskstorage.indexing.*;
 import org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration;
+import org.janusgraph.graphdb.configuration.PreInitializeConfigOptions;
 import org.janusgraph.graphdb.database.serialize.AttributeUtil;
 import org.janusgraph.graphdb.query.JanusGraphPredicate;
 import org.janusgraph.graphdb.query.condition.*;
@@ -68,10 +72,14 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -79,10 +87,27 @@ import java.util.stream.Stream;
 /**
  * @author Matthias Broecheler (me@matthiasb.com)
  */
-
+@PreInitializeConfigOptions
 public class LuceneIndex implements IndexProvider {
     private static final Logger log = LoggerFactory.getLogger(LuceneIndex.class);
 
+    public static final ConfigNamespace LUCENE_NS =
+            new ConfigNamespace(GraphDatabaseConfiguration.INDEX_NS, "lucene", "Lucene index configuration");
+
+    public static final ConfigOption<Duration> COMMIT_INTERVAL =
+            new ConfigOption<>(LUCENE_NS, "commit-interval",
+            "The maximum time between two commits of the Lucene index. Updates become visible to queries right away " +
+            "through near-real-time readers, but only committed updates survive a crash of the JVM. When zero, " +
+            "every transaction is committed to the index before it completes. Larger values trade durability of " +
+            "recent index updates, which then have to be restored by reindexing, for much higher write throughput.",
+            ConfigOption.Type.MASKABLE, Duration.ZERO);
+
+    public static final ConfigOption<Integer> COMMIT_MAX_UPDATES =
+            new ConfigOption<>(LUCENE_NS, "commit-max-updates",
+            "The number of uncommitted document updates after which the Lucene index is committed before the " +
+            COMMIT_INTERVAL.getName() + " elapses. Only applicable when " + COMMIT_INTERVAL.getName() + " is positive.",
+            ConfigOption.Type.MASKABLE, 10000, ConfigOption.positiveInt());
+
     private static final String DOCID = "_____elementid";
     private static final String GEOID = "_____geo";
 
@@ -109,6 +134,14 @@ public class LuceneIndex implements IndexProvider {
 
     private final Map<String, IndexWriter> writers = new HashMap<>(4);
     private final ReentrantLock writerLock = new ReentrantLock();
+    private final Map<String, SearcherManager> searcherManagers = new ConcurrentHashMap<>(4);
+
+    private final Duration commitInterval;
+    private final int commitMaxUpdates;
+    private final ScheduledExecutorService committer;
+    //Guarded by writerLock
+    private int uncommittedUpdates = 0;
+    private long lastCommit = System.nanoTime();
 
     private final Map<String, SpatialStrategy> spatial = new ConcurrentHashMap<>(12);
     private final SpatialContext ctx = Geoshape.getSpatialContext();
@@ -128,6 +161,18 @@ public class LuceneIndex implements IndexProvider {
         }
         basePath = directory.getAbsolutePath();
         log.debug("Configured Lucene to use base directory [{}]", basePath);
+
+        commitInterval = config.get(COMMIT_INTERVAL);
+        Preconditions.checkArgument(!commitInterval.isNegative(), "Commit interval must not be negative: %s", commitInterval);
+        commitMaxUpdates = config.get(COMMIT_MAX_UPDATES);
+        if (!commitInterval.isZero()) {
+            committer = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                    .setDaemon(true).setNameFormat("LuceneIndexCommit[%d]").build());
+            committer.scheduleWithFixedDelay(this::commitQuietly, commitInterval.toMillis(),
+                    commitInterval.toMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            committer = null;
+        }
     }
 
     private Directory getStoreDirectory(String store) throws BackendException {
@@ -155,6 +200,9 @@ public class LuceneIndex implements IndexProvider {
             try {
                 writer = new IndexWriter(getStoreDirectory(store), iwc);
                 writers.put(store, writer);
+                //Replace a searcher manager that reads from the directory by one that also sees uncommitted updates
+                final SearcherManager previous = searcherManagers.put(store, new SearcherManager(writer, true, true, null));
+                if (previous != null) previous.close();
             } catch (final IOException e) {
                 throw new PermanentBackendException("Could not create writer", e);
             }
@@ -162,6 +210,71 @@ public class LuceneIndex implements IndexProvider {
         return writer;
     }
 
+    /**
+     * Returns the {@link SearcherManager} of the given store or null if the index of the store does not yet exist.
+     * Once a writer has been opened for the store, searchers are near-real-time and include uncommitted updates.
+     */
+    private SearcherManager getSearcherManager(String store) throws BackendException {
+        SearcherManager manager = searcherManagers.get(store);
+        if (manager == null) {
+            try {
+                manager = new SearcherManager(getStoreDirectory(store), null);
+            } catch (final IndexNotFoundException e) {
+                return null;
+            } catch (final IOException e) {
+                throw new PermanentBackendException("Could not open index reader on store: " + store, e);
+            }
+            final SearcherManager existing = searcherManagers.putIfAbsent(store, manager);
+            if (existing != null) {
+                IOUtils.closeQuietly(manager);
+                manager = existing;
+            }
+        }
+        return manager;
+    }
+
+    /**
+     * Makes the updates of the given writer visible to searchers acquired from now on.
+     */
+    private void refresh(String store) throws IOException {
+        Preconditions.checkArgument(writerLock.isHeldByCurrentThread());
+        final SearcherManager manager = searcherManagers.get(store);
+        if (manager != null) manager.maybeRefreshBlocking();
+    }
+
+    /**
+     * Commits all writers if every transaction needs to be committed or if the maximum number of uncommitted
+     * updates or the commit interval has been reached.
+     */
+    private void maybeCommit(int updates) throws IOException {
+        Preconditions.checkArgument(writerLock.isHeldByCurrentThread());
+        uncommittedUpdates += updates;
+        if (commitInterval.isZero() || uncommittedUpdates >= commitMaxUpdates
+                || System.nanoTime() - lastCommit >= commitInterval.toNanos()) {
+            commit();
+        }
+    }
+
+    private void commit() throws IOException {
+        Preconditions.checkArgument(writerLock.isHeldByCurrentThread());
+        for (final IndexWriter writer : writers.values()) {
+            if (writer.hasUncommittedChanges()) writer.commit();
+        }
+        uncommittedUpdates = 0;
+        lastCommit = System.nanoTime();
+    }
+
+    private void commitQuietly() {
+        writerLock.lock();
+        try {
+            if (uncommittedUpdates > 0) commit();
+        } catch (final Throwable e) {
+            log.error("Could not commit Lucene index", e);
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
     private SpatialStrategy getSpatialStrategy(String key, KeyInformation ki) {
         SpatialStrategy strategy = spatial.get(key);
         final Mapping mapping = Mapping.getMapping(ki);
@@ -211,9 +324,12 @@ public class LuceneIndex implements IndexProvider {
         final Transaction ltx = (Transaction) tx;
         writerLock.lock();
         try {
+            int updates = 0;
             for (final Map.Entry<String, Map<String, IndexMutation>> stores : mutations.entrySet()) {
                 mutateStores(stores, information);
+                updates += stores.getValue().size();
             }
+            maybeCommit(updates);
             ltx.postCommit();
         } catch (final IOException e) {
             throw new TemporaryBackendException("Could not update Lucene index", e);
@@ -223,12 +339,11 @@ public class LuceneIndex implements IndexProvider {
     }
 
     private void mutateStores(Map.Entry<String, Map<String, IndexMutation>> stores, KeyInformation.IndexRetriever information) throws IOException, BackendException {
-        IndexReader reader = null;
+        final String storeName = stores.getKey();
+        final IndexWriter writer = getWriter(storeName, information);
+        final SearcherManager manager = searcherManagers.get(storeName);
+        final IndexSearcher searcher = manager.acquire();
         try {
-            final String storeName = stores.getKey();
-            final IndexWriter writer = getWriter(storeName, information);
-            reader = DirectoryReader.open(writer, true, true);
-            final IndexSearcher searcher = new IndexSearcher(reader);
             for (final Map.Entry<String, IndexMutation> entry : stores.getValue().entrySet()) {
                 final String documentId = entry.getKey();
                 final IndexMutation mutation = entry.getValue();
@@ -263,42 +378,48 @@ public class LuceneIndex implements IndexProvider {
                 //write the old document to the index with the modifications
                 writer.updateDocument(new Term(DOCID, documentId), doc);
             }
-            writer.commit();
         } finally {
-            IOUtils.closeQuietly(reader);
+            manager.release(searcher);
         }
+        refresh(storeName);
     }
 
     @Override
     public void restore(Map<String, Map<String, List<IndexEntry>>> documents, KeyInformation.IndexRetriever information, BaseTransaction tx) throws BackendException {
         writerLock.lock();
         try {
+            int updates = 0;
             for (final Map.Entry<String, Map<String, List<IndexEntry>>> stores : documents.entrySet()) {
                 final String store = stores.getKey();
                 final IndexWriter writer = getWriter(store, information);
-                final IndexReader reader = DirectoryReader.open(writer, true, true);
-                final IndexSearcher searcher = new IndexSearcher(reader);
-
-                for (final Map.Entry<String, List<IndexEntry>> entry : stores.getValue().entrySet()) {
-                    final String docID = entry.getKey();
-                    final List<IndexEntry> content = entry.getValue();
+                final SearcherManager manager = searcherManagers.get(store);
+                final IndexSearcher searcher = manager.acquire();
+                try {
+                    for (final Map.Entry<String, List<IndexEntry>> entry : stores.getValue().entrySet()) {
+                        final String docID = entry.getKey();
+                        final List<IndexEntry> content = entry.getValue();
 
-                    if (content == null || content.isEmpty()) {
-                        if (log.isTraceEnabled())
-                            log.trace("Deleting document [{}]", docID);
+                        if (content == null || content.isEmpty()) {
+                            if (log.isTraceEnabled())
+                                log.trace("Deleting document [{}]", docID);
 
-                        writer.deleteDocuments(new Term(DOCID, docID));
-                        continue;
-                    }
+                            writer.deleteDocuments(new Term(DOCID, docID));
+                            continue;
+                        }
 
-                    final Pair<Document, Map<String, Shape>> docAndGeo = retrieveOrCreate(docID, searcher);
-                    addToDocument(store, docID, docAndGeo.getKey(), content, docAndGeo.getValue(), information);
+                        final Pair<Document, Map<String, Shape>> docAndGeo = retrieveOrCreate(docID, searcher);
+                        addToDocument(store, docID, docAndGeo.getKey(), content, docAndGeo.getValue(), information);
 
-                    //write the old document to the index with the modifications
-                    writer.updateDocument(new Term(DOCID, docID), docAndGeo.getKey());
+                        //write the old document to the index with the modifications
+                        writer.updateDocument(new Term(DOCID, docID), docAndGeo.getKey());
+                    }
+                } finally {
+                    manager.release(searcher);
                 }
-                writer.commit();
+                refresh(store);
+                updates += stores.getValue().size();
             }
+            maybeCommit(updates);
             tx.commit();
         } catch (final IOException e) {
             throw new TemporaryBackendException("Could not update Lucene index", e);
@@ -821,19 +942,35 @@ public class LuceneIndex implements IndexProvider {
 
     @Override
     public void close() throws BackendException {
+        if (committer != null) committer.shutdownNow();
+        writerLock.lock();
         try {
+            for (final SearcherManager manager : searcherManagers.values()) manager.close();
+            searcherManagers.clear();
+            //Closing a writer commits its pending updates
             for (final IndexWriter w : writers.values()) w.close();
         } catch (final IOException e) {
             throw new PermanentBackendException("Could not close writers", e);
+        } finally {
+            writerLock.unlock();
         }
     }
 
     @Override
     public void clearStorage() throws BackendException {
+        writerLock.lock();
         try {
+            //Discard uncommitted updates so that closing the writers does not recreate the deleted index
+            for (final SearcherManager manager : searcherManagers.values()) manager.close();
+            searcherManagers.clear();
+            for (final IndexWriter w : writers.values()) w.rollback();
+            writers.clear();
+            uncommittedUpdates = 0;
             FileUtils.deleteDirectory(new File(basePath));
         } catch (final IOException e) {
             throw new PermanentBackendException("Could not delete lucene directory: " + basePath, e);
+        } finally {
+            writerLock.unlock();
         }
     }
 
@@ -855,6 +992,7 @@ public class LuceneIndex implements IndexProvider {
         private final BaseTransactionConfig config;
         private final Set<String> updatedStores = Sets.newHashSet();
         private final Map<String, IndexSearcher> searchers = new HashMap<>(4);
+        private final Map<IndexSearcher, SearcherManager> acquiredFrom = new HashMap<>(4);
 
         private Transaction(BaseTransactionConfig config) {
             this.config = config;
@@ -863,23 +1001,22 @@ public class LuceneIndex implements IndexProvider {
         private synchronized IndexSearcher getSearcher(String store) throws BackendException {
             IndexSearcher searcher = searchers.get(store);
             if (searcher == null) {
-                final IndexReader reader;
-                try {
-                    reader = DirectoryReader.open(getStoreDirectory(store));
-                    searcher = new IndexSearcher(reader);
-                } catch (final IndexNotFoundException e) {
-                    searcher = null;
-                } catch (final IOException e) {
-                    throw new PermanentBackendException("Could not open index reader on store: " + store, e);
+                final SearcherManager manager = getSearcherManager(store);
+                if (manager != null) {
+                    try {
+                        searcher = manager.acquire();
+                    } catch (final IOException e) {
+                        throw new PermanentBackendException("Could not open index reader on store: " + store, e);
+                    }
+                    acquiredFrom.put(searcher, manager);
                 }
                 searchers.put(store, searcher);
             }
             return searcher;
         }
 
-        public void postCommit() throws BackendException {
+        public synchronized void postCommit() throws BackendException {
             close();
-            searchers.clear();
         }
 
 
@@ -893,13 +1030,16 @@ public class LuceneIndex implements IndexProvider {
             close();
         }
 
-        private void close() throws BackendException {
+        private synchronized void close() throws BackendException {
             try {
-                for (final IndexSearcher searcher : searchers.values()) {
-                    if (searcher != null) searcher.getIndexReader().close();
+                for (final Map.Entry<IndexSearcher, SearcherManager> acquired : acquiredFrom.entrySet()) {
+                    acquired.getValue().release(acquired.getKey());
                 }
             } catch (final IOException e) {
                 throw new PermanentBackendException("Could not close searcher", e);
+            } finally {
+                acquiredFrom.clear();
+                searchers.clear();
             }
         }
 
@@ -0,0 +1,40 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage.lucene;
+
+import org.janusgraph.StorageSetup;
+import org.janusgraph.diskstorage.BackendException;
+import org.janusgraph.diskstorage.configuration.ModifiableConfiguration;
+import org.janusgraph.diskstorage.indexing.IndexProvider;
+import org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration;
+
+import java.time.Duration;
+
+/**
+ * Runs the {@link LuceneIndexTest} suite with periodic commits, so that queries have to be answered from
+ * near-real-time readers of uncommitted updates.
+ */
+public class LuceneIndexCommitIntervalTest extends LuceneIndexTest {
+
+    @Override
+    public IndexProvider openIndex() throws BackendException {
+        final String index = "lucene";
+        final ModifiableConfiguration config = GraphDatabaseConfiguration.buildGraphConfiguration();
+        config.set(GraphDatabaseConfiguration.INDEX_DIRECTORY, StorageSetup.getHomeDir("lucene"), index);
+        config.set(LuceneIndex.COMMIT_INTERVAL, Duration.ofHours(1), index);
+        config.set(LuceneIndex.COMMIT_MAX_UPDATES, Integer.MAX_VALUE, index);
+        return new LuceneIndex(config.restrictTo(index));
+    }
+}
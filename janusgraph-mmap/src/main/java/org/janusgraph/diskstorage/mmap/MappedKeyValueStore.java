@@ -0,0 +1,385 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.janusgraph.diskstorage.mmap;
+
+import com.google.common.base.Preconditions;
+import org.janusgraph.diskstorage.BackendException;
+import org.janusgraph.diskstorage.PermanentBackendException;
+import org.janusgraph.diskstorage.StaticBuffer;
+import org.janusgraph.diskstorage.keycolumnvalue.StoreTransaction;
+import org.janusgraph.diskstorage.keycolumnvalue.keyvalue.KVQuery;
+import org.janusgraph.diskstorage.keycolumnvalue.keyvalue.KeySelector;
+import org.janusgraph.diskstorage.keycolumnvalue.keyvalue.KeyValueEntry;
+import org.janusgraph.diskstorage.keycolumnvalue.keyvalue.OrderedKeyValueStore;
+import org.janusgraph.diskstorage.util.RecordIterator;
+import org.janusgraph.diskstorage.util.StaticArrayBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link OrderedKeyValueStore} which appends all mutations to memory-mapped {@link MappedSegment}s and keeps an
+ * ordered in-memory index from each key to the position of its latest record.
+ * <p>
+ * Reads do not take any locks: {@link #get(StaticBuffer, StoreTransaction)} and
+ * {@link #getSlice(KVQuery, StoreTransaction)} look up the position in the index and copy the value out of the mapped
+ * pages in a single bulk read. Slices are evaluated lazily against the index and return the indexed keys without
+ * copying them.
+ * <p>
+ * Writers are serialized by an append lock. When a segment is full, it is forced to disk and a new segment is
+ * started. Once the fraction of overwritten or deleted bytes in the full segments exceeds the configured
+ * {@link MappedStoreManager#COMPACTION_THRESHOLD}, all live records of those segments are copied into the current
+ * segment and the full segments are deleted.
+ */
+public class MappedKeyValueStore implements OrderedKeyValueStore {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedKeyValueStore.class);
+
+    private final String name;
+    private final File directory;
+    private final MappedStoreManager manager;
+    private final int segmentSize;
+    private final double compactionThreshold;
+    private final boolean forceFullSegments;
+
+    private final ConcurrentSkipListMap<StaticBuffer, Long> index;
+    private final ConcurrentNavigableMap<Integer, MappedSegment> segments;
+    private final ReentrantLock appendLock;
+
+    //Guarded by appendLock, volatile so that it can be forced without acquiring the lock
+    private volatile MappedSegment active;
+    private boolean compacting;
+    //Set when a roll-over finds enough garbage, the compaction runs once the pending mutations have been indexed
+    private boolean compactionDue;
+    private boolean isOpen;
+
+    public MappedKeyValueStore(String name, File directory, MappedStoreManager manager, int segmentSize,
+                               double compactionThreshold, boolean forceFullSegments) throws BackendException {
+        Preconditions.checkArgument(segmentSize > 0, "Segment size must be positive: %s", segmentSize);
+        this.name = name;
+        this.directory = directory;
+        this.manager = manager;
+        this.segmentSize = segmentSize;
+        this.compactionThreshold = compactionThreshold;
+        this.forceFullSegments = forceFullSegments;
+        this.index = new ConcurrentSkipListMap<>();
+        this.segments = new ConcurrentSkipListMap<>();
+        this.appendLock = new ReentrantLock();
+        this.compacting = false;
+        this.compactionDue = false;
+        this.isOpen = true;
+        recover();
+    }
+
+    /**
+     * Rebuilds the index by replaying all segments in the order in which they were written.
+     */
+    private void recover() throws BackendException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new PermanentBackendException("Could not create directory for store " + name + ": " + directory);
+        }
+        final File[] files = directory.listFiles((dir, file) -> file.endsWith(MappedSegment.FILE_SUFFIX));
+        Preconditions.checkNotNull(files);
+        Arrays.sort(files);
+        try {
+            for (final File file : files) {
+                final String fileName = file.getName();
+                final int id = Integer.parseInt(fileName.substring(0, fileName.length() - MappedSegment.FILE_SUFFIX.length()));
+                final MappedSegment segment = MappedSegment.open(id, file, 0);
+                segments.put(id, segment);
+                segment.scan((offset, key, valueLength) -> {
+                    if (valueLength == MappedSegment.TOMBSTONE) {
+                        release(index.remove(key));
+                        segment.addGarbage(MappedSegment.recordLength(key.length(), valueLength));
+                    } else {
+                        release(index.put(key, pointer(id, offset)));
+                    }
+                });
+                active = segment;
+            }
+            if (active == null) active = newSegment(1, segmentSize);
+        } catch (IOException | NumberFormatException e) {
+            throw new PermanentBackendException("Could not recover store " + name + " from " + directory, e);
+        }
+        log.debug("Recovered store {} with {} keys from {} segments", name, index.size(), segments.size());
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public StaticBuffer get(StaticBuffer key, StoreTransaction txh) throws BackendException {
+        log.trace("db={}, op=get, tx={}", name, txh);
+        return read(key);
+    }
+
+    private StaticBuffer read(StaticBuffer key) {
+        while (true) {
+            final Long pointer = index.get(key);
+            if (pointer == null) return null;
+            final MappedSegment segment = segments.get(segmentId(pointer));
+            //The segment has been compacted after the lookup, in which case the index points to the copied record
+            if (segment != null) return segment.readValue(offset(pointer));
+        }
+    }
+
+    @Override
+    public boolean containsKey(StaticBuffer key, StoreTransaction txh) throws BackendException {
+        return index.containsKey(key);
+    }
+
+    @Override
+    public void acquireLock(StaticBuffer key, StaticBuffer expectedValue, StoreTransaction txh) throws BackendException {
+        //Locking is provided by the consistent key locker since this store does not support locking natively
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public RecordIterator<KeyValueEntry> getSlice(KVQuery query, StoreTransaction txh) throws BackendException {
+        log.trace("db={}, op=getSlice, tx={}", name, txh);
+        final Iterator<Map.Entry<StaticBuffer, Long>> entries = query.getStart().compareTo(query.getEnd()) < 0
+                ? index.subMap(query.getStart(), true, query.getEnd(), false).entrySet().iterator()
+                : Collections.emptyIterator();
+        final KeySelector selector = query.getKeySelector();
+
+        return new RecordIterator<KeyValueEntry>() {
+
+            private KeyValueEntry next = null;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && !selector.reachedLimit() && entries.hasNext()) {
+                    final Map.Entry<StaticBuffer, Long> entry = entries.next();
+                    final StaticBuffer key = entry.getKey();
+                    if (!selector.include(key)) continue;
+                    final MappedSegment segment = segments.get(segmentId(entry.getValue()));
+                    final StaticBuffer value = segment != null ? segment.readValue(offset(entry.getValue())) : read(key);
+                    //The key may have been deleted concurrently
+                    if (value != null) next = new KeyValueEntry(key, value);
+                }
+                return next != null;
+            }
+
+            @Override
+            public KeyValueEntry next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                final KeyValueEntry result = next;
+                next = null;
+                return result;
+            }
+
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public Map<KVQuery,RecordIterator<KeyValueEntry>> getSlices(List<KVQuery> queries, StoreTransaction txh) throws BackendException {
+        final Map<KVQuery,RecordIterator<KeyValueEntry>> results = new HashMap<>(queries.size());
+        for (final KVQuery query : queries) {
+            results.put(query, getSlice(query, txh));
+        }
+        return results;
+    }
+
+    @Override
+    public void insert(StaticBuffer key, StaticBuffer value, StoreTransaction txh) throws BackendException {
+        mutate(Collections.singletonList(new KeyValueEntry(key, value)), Collections.emptyList(), txh);
+    }
+
+    @Override
+    public void delete(StaticBuffer key, StoreTransaction txh) throws BackendException {
+        mutate(Collections.emptyList(), Collections.singletonList(key), txh);
+    }
+
+    /**
+     * Appends all additions and deletions under a single acquisition of the append lock.
+     */
+    void mutate(List<KeyValueEntry> additions, List<StaticBuffer> deletions, StoreTransaction txh) throws BackendException {
+        log.trace("db={}, op=mutate, tx={}, additions={}, deletions={}", name, txh, additions.size(), deletions.size());
+        appendLock.lock();
+        try {
+            Preconditions.checkState(isOpen, "Store has been closed: %s", name);
+            for (final KeyValueEntry addition : additions) {
+                final long pointer = append(addition.getKey(), addition.getValue());
+                //Trim the key to its own array so that the index does not retain larger backing arrays
+                release(index.put(StaticArrayBuffer.of(addition.getKey().as(StaticBuffer.ARRAY_FACTORY)), pointer));
+            }
+            for (final StaticBuffer deletion : deletions) {
+                if (!index.containsKey(deletion)) continue;
+                final long pointer = append(deletion, null);
+                release(index.remove(deletion));
+                segments.get(segmentId(pointer)).addGarbage(MappedSegment.recordLength(deletion.length(), MappedSegment.TOMBSTONE));
+            }
+            //Copies must be appended after the records of this mutation since recovery replays records in order
+            if (compactionDue) compact();
+        } catch (IOException e) {
+            throw new PermanentBackendException("Could not append to store " + name, e);
+        } finally {
+            appendLock.unlock();
+        }
+        ((MappedStoreTransaction) txh).written(manager.nextSequence());
+    }
+
+    private long append(StaticBuffer key, StaticBuffer value) throws IOException {
+        assert appendLock.isHeldByCurrentThread();
+        int offset = active.append(key, value);
+        if (offset < 0) {
+            roll(MappedSegment.recordLength(key.length(), value == null ? MappedSegment.TOMBSTONE : value.length()));
+            offset = active.append(key, value);
+            Preconditions.checkState(offset >= 0, "Record does not fit into new segment %s of store %s", active, name);
+        }
+        return pointer(active.getId(), offset);
+    }
+
+    /**
+     * Seals the current segment and starts a new one which can hold at least {@code minCapacity} bytes. If the full
+     * segments contain enough garbage, a compaction is scheduled but not started: it would fill the new segment before
+     * the pending record has been appended.
+     */
+    private void roll(int minCapacity) throws IOException {
+        final MappedSegment full = active;
+        if (forceFullSegments) full.force();
+        active = newSegment(full.getId() + 1, Math.max(segmentSize, minCapacity));
+        log.debug("Store {} rolled over from segment {} to {}", name, full, active);
+        if (compacting) return;
+
+        long bytes = 0, garbage = 0;
+        for (final MappedSegment segment : segments.headMap(active.getId()).values()) {
+            bytes += segment.getPosition();
+            garbage += segment.getGarbage();
+        }
+        if (garbage > compactionThreshold * bytes) {
+            log.debug("Scheduling compaction of store {} with {} of {} bytes garbage in full segments", name, garbage, bytes);
+            compactionDue = true;
+        }
+    }
+
+    private MappedSegment newSegment(int id, int capacity) throws IOException {
+        final MappedSegment segment = MappedSegment.open(id, new File(directory, MappedSegment.fileName(id)), capacity);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    /**
+     * Accounts for the record at the given pointer being overwritten or deleted.
+     */
+    private void release(Long pointer) {
+        if (pointer == null) return;
+        final MappedSegment segment = segments.get(segmentId(pointer));
+        segment.addGarbage(segment.recordLength(offset(pointer)));
+    }
+
+    /**
+     * Copies the live records of all full segments into the current segment and deletes the full segments.
+     * Deletions in the full segments can be dropped since all older records are deleted along with them.
+     */
+    void compact() throws IOException {
+        appendLock.lock();
+        try {
+            Preconditions.checkState(isOpen, "Store has been closed: %s", name);
+            compactionDue = false;
+            final List<MappedSegment> compacted = new ArrayList<>(segments.headMap(active.getId()).values());
+            if (compacted.isEmpty()) return;
+            final int lastCompacted = compacted.get(compacted.size() - 1).getId();
+            compacting = true;
+            for (final MappedSegment segment : compacted) {
+                final int id = segment.getId();
+                final List<StaticBuffer> live = new ArrayList<>();
+                final List<Long> pointers = new ArrayList<>();
+                segment.scan((offset, key, valueLength) -> {
+                    final Long pointer = index.get(key);
+                    if (pointer != null && pointer == pointer(id, offset)) {
+                        live.add(key);
+                        pointers.add(pointer);
+                    }
+                });
+                for (int i = 0; i < live.size(); i++) {
+                    final StaticBuffer key = live.get(i);
+                    final long copy = append(key, segment.readValue(offset(pointers.get(i))));
+                    index.replace(key, pointers.get(i), copy);
+                }
+            }
+            //The copies need to be durable before the original records are deleted
+            for (final MappedSegment segment : segments.tailMap(lastCompacted, false).values()) {
+                segment.force();
+            }
+            for (final MappedSegment segment : compacted) {
+                segments.remove(segment.getId());
+                if (!segment.getFile().delete()) {
+                    log.warn("Could not delete compacted segment {} of store {}", segment, name);
+                }
+            }
+            log.debug("Compacted {} segments of store {}", compacted.size(), name);
+        } finally {
+            compacting = false;
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Forces all records which have been appended so far to disk.
+     */
+    void force() {
+        active.force();
+    }
+
+    @Override
+    public void close() throws BackendException {
+        appendLock.lock();
+        try {
+            if (!isOpen) return;
+            active.force();
+            isOpen = false;
+        } finally {
+            appendLock.unlock();
+        }
+        manager.removeDatabase(this);
+    }
+
+    private static long pointer(int segmentId, int offset) {
+        return ((long) segmentId << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    private static int segmentId(long pointer) {
+        return (int) (pointer >>> 32);
+    }
+
+    private static int offset(long pointer) {
+        return (int) pointer;
+    }
+}
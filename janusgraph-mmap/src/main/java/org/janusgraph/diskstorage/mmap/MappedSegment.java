@@ -0,0 +1,202 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.janusgraph.diskstorage.mmap;
+
+import org.janusgraph.diskstorage.StaticBuffer;
+import org.janusgraph.diskstorage.util.StaticArrayBuffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+/**
+ * A fixed-capacity, append-only file which is memory-mapped in its entirety.
+ * <p>
+ * Each record consists of a marker byte, the key length, the value length (or {@link #TOMBSTONE} for deletions),
+ * a CRC32 checksum over the key and value followed by the key and value bytes. A segment ends at the first
+ * position which does not contain a valid record, which discards records that were only partially written before
+ * a crash.
+ * <p>
+ * Appending is not thread-safe and must be guarded by the owning {@link MappedKeyValueStore}. Reads only use absolute
+ * positions or private duplicates of the mapped buffer and may therefore happen concurrently with appends.
+ */
+class MappedSegment {
+
+    static final String FILE_SUFFIX = ".seg";
+
+    static final int TOMBSTONE = -1;
+
+    private static final byte RECORD_MARKER = (byte) 0x6D;
+    private static final int HEADER_LENGTH = 1 + 3 * StaticArrayBuffer.INT_LEN;
+
+    private final int id;
+    private final File file;
+    private final MappedByteBuffer buffer;
+    private final ByteBuffer writeBuffer;
+    private final CRC32 checksum;
+
+    //Guarded by the append lock of the owning store
+    private int position;
+    private long garbage;
+
+    private MappedSegment(int id, File file, MappedByteBuffer buffer) {
+        this.id = id;
+        this.file = file;
+        this.buffer = buffer;
+        this.writeBuffer = buffer.duplicate();
+        this.checksum = new CRC32();
+        this.position = 0;
+        this.garbage = 0;
+    }
+
+    /**
+     * Maps the given file, extending it to at least {@code minCapacity} bytes.
+     */
+    static MappedSegment open(int id, File file, int minCapacity) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            if (raf.length() < minCapacity) raf.setLength(minCapacity);
+            //The mapping remains valid after the channel has been closed
+            MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, raf.length());
+            return new MappedSegment(id, file, buffer);
+        }
+    }
+
+    static String fileName(int id) {
+        return String.format("%010d%s", id, FILE_SUFFIX);
+    }
+
+    static int recordLength(int keyLength, int valueLength) {
+        return HEADER_LENGTH + keyLength + Math.max(0, valueLength);
+    }
+
+    int getId() {
+        return id;
+    }
+
+    File getFile() {
+        return file;
+    }
+
+    int getPosition() {
+        return position;
+    }
+
+    long getGarbage() {
+        return garbage;
+    }
+
+    void addGarbage(long bytes) {
+        garbage += bytes;
+    }
+
+    /**
+     * Appends a record and returns its offset, or -1 if the record does not fit into the remaining capacity.
+     *
+     * @param key the key of the record
+     * @param value the value of the record or null to record a deletion
+     */
+    int append(StaticBuffer key, StaticBuffer value) {
+        final int valueLength = value == null ? TOMBSTONE : value.length();
+        final int length = recordLength(key.length(), valueLength);
+        if (length > buffer.capacity() - position) return -1;
+
+        checksum.reset();
+        checksum.update(key.asByteBuffer());
+        if (value != null) checksum.update(value.asByteBuffer());
+
+        final int offset = position;
+        writeBuffer.position(offset + HEADER_LENGTH);
+        writeBuffer.put(key.asByteBuffer());
+        if (value != null) writeBuffer.put(value.asByteBuffer());
+        writeBuffer.position(offset);
+        writeBuffer.put(RECORD_MARKER);
+        writeBuffer.putInt(key.length());
+        writeBuffer.putInt(valueLength);
+        writeBuffer.putInt((int) checksum.getValue());
+        position += length;
+        return offset;
+    }
+
+    int recordLength(int offset) {
+        return recordLength(buffer.getInt(offset + 1), buffer.getInt(offset + 5));
+    }
+
+    /**
+     * Reads the value of the record at the given offset with a single bulk copy out of the mapped pages.
+     */
+    StaticBuffer readValue(int offset) {
+        final int keyLength = buffer.getInt(offset + 1);
+        final int valueLength = buffer.getInt(offset + 5);
+        assert valueLength != TOMBSTONE;
+        final byte[] value = new byte[valueLength];
+        final ByteBuffer view = buffer.duplicate();
+        view.position(offset + HEADER_LENGTH + keyLength);
+        view.get(value);
+        return StaticArrayBuffer.of(value);
+    }
+
+    /**
+     * Visits all valid records in the order in which they were appended and positions this segment for appending
+     * after the last valid record.
+     */
+    void scan(RecordVisitor visitor) {
+        final ByteBuffer view = buffer.duplicate();
+        final CRC32 crc = new CRC32();
+        int offset = 0;
+        while (offset + HEADER_LENGTH <= buffer.capacity() && buffer.get(offset) == RECORD_MARKER) {
+            final int keyLength = buffer.getInt(offset + 1);
+            final int valueLength = buffer.getInt(offset + 5);
+            if (keyLength < 0 || valueLength < TOMBSTONE) break;
+            final long length = (long) HEADER_LENGTH + keyLength + Math.max(0, valueLength);
+            if (offset + length > buffer.capacity()) break;
+
+            view.limit(offset + (int) length).position(offset + HEADER_LENGTH);
+            crc.reset();
+            crc.update(view);
+            if ((int) crc.getValue() != buffer.getInt(offset + 9)) break;
+
+            final byte[] key = new byte[keyLength];
+            view.limit(buffer.capacity()).position(offset + HEADER_LENGTH);
+            view.get(key);
+            visitor.visit(offset, StaticArrayBuffer.of(key), valueLength);
+            offset += length;
+        }
+        position = offset;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public String toString() {
+        return file.getName();
+    }
+
+    interface RecordVisitor {
+
+        /**
+         * @param offset the offset of the record within the segment
+         * @param key a private copy of the key of the record
+         * @param valueLength the length of the value or {@link #TOMBSTONE} if the record is a deletion
+         */
+        void visit(int offset, StaticBuffer key, int valueLength);
+    }
+}
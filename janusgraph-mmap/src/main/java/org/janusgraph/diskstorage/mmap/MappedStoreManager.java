@@ -0,0 +1,214 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.janusgraph.diskstorage.mmap;
+
+import com.google.common.base.Preconditions;
+import org.janusgraph.diskstorage.BackendException;
+import org.janusgraph.diskstorage.BaseTransactionConfig;
+import org.janusgraph.diskstorage.StaticBuffer;
+import org.janusgraph.diskstorage.common.LocalStoreManager;
+import org.janusgraph.diskstorage.configuration.ConfigNamespace;
+import org.janusgraph.diskstorage.configuration.ConfigOption;
+import org.janusgraph.diskstorage.configuration.Configuration;
+import org.janusgraph.diskstorage.keycolumnvalue.KeyRange;
+import org.janusgraph.diskstorage.keycolumnvalue.StandardStoreFeatures;
+import org.janusgraph.diskstorage.keycolumnvalue.StoreFeatures;
+import org.janusgraph.diskstorage.keycolumnvalue.StoreTransaction;
+import org.janusgraph.diskstorage.keycolumnvalue.keyvalue.KVMutation;
+import org.janusgraph.diskstorage.keycolumnvalue.keyvalue.KeyValueEntry;
+import org.janusgraph.diskstorage.keycolumnvalue.keyvalue.OrderedKeyValueStoreManager;
+import org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration;
+import org.janusgraph.graphdb.configuration.PreInitializeConfigOptions;
+import org.janusgraph.util.system.IOUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local storage backend which keeps each store as a log of memory-mapped segment files with an ordered in-memory
+ * index, see {@link MappedKeyValueStore}.
+ * <p>
+ * Writes are applied when they are issued and become durable when the transaction commits. Committing transactions
+ * share forces of the mapped segments: a transaction which commits while another transaction is forcing the segments
+ * waits for that force to finish and only forces again if its own writes were not yet covered.
+ */
+@PreInitializeConfigOptions
+public class MappedStoreManager extends LocalStoreManager implements OrderedKeyValueStoreManager {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedStoreManager.class);
+
+    public static final ConfigNamespace MMAP_NS =
+            new ConfigNamespace(GraphDatabaseConfiguration.STORAGE_NS, "mmap", "Memory-mapped storage backend options");
+
+    public static final ConfigOption<Integer> SEGMENT_SIZE =
+            new ConfigOption<>(MMAP_NS, "segment-size",
+            "Size in bytes of the memory-mapped segment files which records are appended to. Records which are " +
+            "larger than this size are written into a segment of their own.",
+            ConfigOption.Type.MASKABLE, 64 * 1024 * 1024, ConfigOption.positiveInt());
+
+    public static final ConfigOption<Boolean> SYNC_ON_COMMIT =
+            new ConfigOption<>(MMAP_NS, "sync-on-commit",
+            "Whether committing a transaction forces its writes to disk. Concurrent commits share a single force. " +
+            "Disabling this leaves flushing to the operating system, so that recently committed writes may be lost " +
+            "when the machine crashes.",
+            ConfigOption.Type.MASKABLE, true);
+
+    public static final ConfigOption<Double> COMPACTION_THRESHOLD =
+            new ConfigOption<>(MMAP_NS, "compaction-threshold",
+            "Fraction of overwritten and deleted bytes in the full segments of a store at which the live records " +
+            "are compacted into new segments",
+            ConfigOption.Type.MASKABLE, 0.5, d -> d != null && d > 0.0 && d <= 1.0);
+
+    private final Map<String, MappedKeyValueStore> stores;
+
+    private final int segmentSize;
+    private final double compactionThreshold;
+    private final boolean syncOnCommit;
+
+    private final AtomicLong writeSequence;
+    private final Object syncLock;
+    private volatile long syncedSequence;
+
+    protected final StoreFeatures features;
+
+    public MappedStoreManager(Configuration configuration) throws BackendException {
+        super(configuration);
+        stores = new ConcurrentHashMap<>();
+
+        segmentSize = configuration.get(SEGMENT_SIZE);
+        compactionThreshold = configuration.get(COMPACTION_THRESHOLD);
+        syncOnCommit = configuration.get(SYNC_ON_COMMIT) && !batchLoading;
+
+        writeSequence = new AtomicLong(0);
+        syncLock = new Object();
+        syncedSequence = 0;
+
+        features = new StandardStoreFeatures.Builder()
+                    .orderedScan(true)
+                    .keyConsistent(GraphDatabaseConfiguration.buildGraphConfiguration())
+                    .keyOrdered(true)
+                    .multiQuery(true)
+                    .supportsInterruption(false)
+                    .optimisticLocking(true)
+                    .build();
+    }
+
+    @Override
+    public StoreFeatures getFeatures() {
+        return features;
+    }
+
+    @Override
+    public List<KeyRange> getLocalKeyPartition() throws BackendException {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MappedStoreTransaction beginTransaction(final BaseTransactionConfig txCfg) throws BackendException {
+        return new MappedStoreTransaction(this, txCfg);
+    }
+
+    @Override
+    public MappedKeyValueStore openDatabase(String name) throws BackendException {
+        Preconditions.checkNotNull(name);
+        synchronized (stores) {
+            MappedKeyValueStore store = stores.get(name);
+            if (store == null) {
+                store = new MappedKeyValueStore(name, new File(directory, name), this, segmentSize,
+                        compactionThreshold, syncOnCommit);
+                stores.put(name, store);
+                log.debug("Opened database {}", name);
+            }
+            return store;
+        }
+    }
+
+    @Override
+    public void mutateMany(Map<String, KVMutation> mutations, StoreTransaction txh) throws BackendException {
+        for (Map.Entry<String,KVMutation> mutation : mutations.entrySet()) {
+            MappedKeyValueStore store = openDatabase(mutation.getKey());
+            KVMutation mutationValue = mutation.getValue();
+
+            if (!mutationValue.hasAdditions() && !mutationValue.hasDeletions()) {
+                log.debug("Empty mutation set for {}, doing nothing", mutation.getKey());
+                continue;
+            }
+            log.debug("Mutating {}", mutation.getKey());
+            List<KeyValueEntry> additions = mutationValue.hasAdditions() ? mutationValue.getAdditions() : Collections.emptyList();
+            List<StaticBuffer> deletions = mutationValue.hasDeletions() ? mutationValue.getDeletions() : Collections.emptyList();
+            store.mutate(additions, deletions, txh);
+        }
+    }
+
+    long nextSequence() {
+        return writeSequence.incrementAndGet();
+    }
+
+    /**
+     * Forces all stores to disk unless the writes up to the given sequence have already been forced by a concurrent
+     * commit. Only one thread forces at a time and each force covers all writes that completed before it started.
+     */
+    void sync(long sequence) {
+        if (!syncOnCommit || sequence <= syncedSequence) return;
+        synchronized (syncLock) {
+            if (sequence <= syncedSequence) return;
+            final long target = writeSequence.get();
+            for (MappedKeyValueStore store : stores.values()) {
+                store.force();
+            }
+            syncedSequence = target;
+        }
+    }
+
+    void removeDatabase(MappedKeyValueStore db) {
+        if (stores.remove(db.getName()) == null) {
+            throw new IllegalArgumentException("Tried to remove an unkown database from the storage manager");
+        }
+        log.debug("Removed database {}", db.getName());
+    }
+
+    @Override
+    public void close() throws BackendException {
+        if (!stores.isEmpty())
+            throw new IllegalStateException("Cannot shutdown manager since some databases are still open");
+    }
+
+    @Override
+    public void clearStorage() throws BackendException {
+        if (!stores.isEmpty()) {
+            throw new IllegalStateException("Cannot delete store, since database is open: " + stores.keySet().toString());
+        }
+        IOUtils.deleteFromDirectory(directory);
+    }
+
+    @Override
+    public boolean exists() throws BackendException {
+        final File[] files = directory.listFiles(File::isDirectory);
+        return files != null && files.length > 0;
+    }
+
+    @Override
+    public String getName() {
+        return getClass().getSimpleName() + ":" + directory.toString();
+    }
+}
@@ -0,0 +1,51 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.janusgraph.diskstorage.mmap;
+
+import org.janusgraph.diskstorage.BackendException;
+import org.janusgraph.diskstorage.BaseTransactionConfig;
+import org.janusgraph.diskstorage.common.AbstractStoreTransaction;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Transaction handle of the {@link MappedStoreManager}.
+ * <p>
+ * Mutations are appended to the store immediately. The transaction only remembers the write sequence of its last
+ * mutation so that {@link #commit()} can wait until that mutation has been forced to disk. Concurrent commits share
+ * a single force of the mapped segments, see {@link MappedStoreManager#sync(long)}.
+ */
+public class MappedStoreTransaction extends AbstractStoreTransaction {
+
+    private final MappedStoreManager manager;
+    private final AtomicLong lastWrite;
+
+    public MappedStoreTransaction(MappedStoreManager manager, BaseTransactionConfig config) {
+        super(config);
+        this.manager = manager;
+        this.lastWrite = new AtomicLong(0);
+    }
+
+    void written(long sequence) {
+        lastWrite.accumulateAndGet(sequence, Math::max);
+    }
+
+    @Override
+    public void commit() throws BackendException {
+        super.commit();
+        manager.sync(lastWrite.get());
+    }
+}
@@ -0,0 +1,39 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.janusgraph;
+
+import org.janusgraph.diskstorage.configuration.ModifiableConfiguration;
+import org.janusgraph.diskstorage.configuration.WriteConfiguration;
+
+import static org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration.*;
+
+public class MappedStorageSetup extends StorageSetup {
+
+    public static ModifiableConfiguration getMappedConfiguration(String dir) {
+        return buildGraphConfiguration()
+                .set(STORAGE_BACKEND,"mmap")
+                .set(STORAGE_DIRECTORY, dir)
+                .set(DROP_ON_CLEAR, false);
+    }
+
+    public static ModifiableConfiguration getMappedConfiguration() {
+        return getMappedConfiguration(getHomeDir("mmap"));
+    }
+
+    public static WriteConfiguration getMappedGraphConfiguration() {
+        return getMappedConfiguration().getConfiguration();
+    }
+}
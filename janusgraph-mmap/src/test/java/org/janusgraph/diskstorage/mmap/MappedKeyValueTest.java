@@ -0,0 +1,99 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.janusgraph.diskstorage.mmap;
+
+import org.janusgraph.MappedStorageSetup;
+import org.janusgraph.diskstorage.BackendException;
+import org.janusgraph.diskstorage.KeyValueStoreTest;
+import org.janusgraph.diskstorage.KeyValueStoreUtil;
+import org.janusgraph.diskstorage.keycolumnvalue.keyvalue.OrderedKeyValueStoreManager;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Set;
+
+import static org.junit.Assert.assertTrue;
+
+public class MappedKeyValueTest extends KeyValueStoreTest {
+
+    @Override
+    public OrderedKeyValueStoreManager openStorageManager() throws BackendException {
+        //Use small segments so that the tests roll over into new segments
+        return new MappedStoreManager(MappedStorageSetup.getMappedConfiguration()
+                .set(MappedStoreManager.SEGMENT_SIZE, 16 * 1024));
+    }
+
+    @Test
+    public void testRecovery() throws Exception {
+        String[] values = generateValues();
+        loadValues(values);
+        Set<Integer> removed = deleteValues(0, 3);
+        clopen();
+        checkValueExistence(values, removed);
+        checkValues(values, removed);
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        String[] values = generateValues();
+        for (int i = 0; i < 5; i++) {
+            loadValues(values);
+        }
+        Set<Integer> removed = deleteValues(1, 2);
+        File directory = new File(MappedStorageSetup.getHomeDir("mmap"), store.getName());
+        String[] before = directory.list();
+        Arrays.sort(before);
+        assertTrue(before.length > 1);
+        ((MappedKeyValueStore) store).compact();
+        //Only the segment that was active before the compaction and the segments holding the copies remain
+        String lastBefore = before[before.length - 1];
+        for (String segment : directory.list()) {
+            assertTrue(segment, segment.compareTo(lastBefore) >= 0);
+        }
+        checkValues(values, removed);
+        clopen();
+        checkValueExistence(values, removed);
+        checkValues(values, removed);
+        for (int i = 0; i < values.length; i++) {
+            if (!removed.contains(i)) continue;
+            store.insert(KeyValueStoreUtil.getBuffer(i), KeyValueStoreUtil.getBuffer(values[i]), tx);
+        }
+        clopen();
+        checkValues(values);
+    }
+
+    @Test
+    public void testCompactionWhileAppendingLargeRecord() throws Exception {
+        String[] values = generateValues();
+        for (int i = 0; i < 5; i++) {
+            loadValues(values);
+        }
+        File directory = new File(MappedStorageSetup.getHomeDir("mmap"), store.getName());
+        int segmentsBefore = directory.list().length;
+        //The record does not fit into the active segment, and the roll-over triggers a compaction whose copies
+        //do not fit into the segment which is created for the record
+        char[] large = new char[20 * 1024];
+        Arrays.fill(large, 'x');
+        values[0] = new String(large);
+        store.insert(KeyValueStoreUtil.getBuffer(0), KeyValueStoreUtil.getBuffer(values[0]), tx);
+        assertTrue(directory.list().length < segmentsBefore);
+        checkValues(values);
+        clopen();
+        checkValueExistence(values);
+        checkValues(values);
+    }
+}
@@ -0,0 +1,205 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.janusgraph.diskstorage;
+
+import org.janusgraph.diskstorage.configuration.ModifiableConfiguration;
+import org.janusgraph.diskstorage.keycolumnvalue.KCVSUtil;
+import org.janusgraph.diskstorage.keycolumnvalue.KeyColumnValueStore;
+import org.janusgraph.diskstorage.keycolumnvalue.KeySliceQuery;
+import org.janusgraph.diskstorage.keycolumnvalue.StoreTransaction;
+import org.janusgraph.diskstorage.locking.PermanentLockingException;
+import org.janusgraph.diskstorage.locking.TemporaryLockingException;
+import org.janusgraph.diskstorage.locking.consistentkey.ConsistentKeyLocker;
+import org.janusgraph.diskstorage.locking.consistentkey.ConsistentKeyLockerSerializer;
+import org.janusgraph.diskstorage.util.KeyColumn;
+import org.janusgraph.diskstorage.util.StaticArrayEntry;
+import org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.janusgraph.diskstorage.keycolumnvalue.KeyColumnValueStore.NO_DELETIONS;
+
+/**
+ * Runs the locking tests with batched lock applications which are renewed while they are held.
+ * <p>
+ * Subclasses must back all instances by the same storage so that lock claims written by one
+ * instance are visible to the others.
+ */
+public abstract class BatchedLockKeyColumnValueStoreTest extends LockKeyColumnValueStoreTest {
+
+    protected static final long RENEW_MS = 1000L;
+
+    private final StaticBuffer lockKey = KeyColumnValueStoreUtil.stringToByteBuffer("batchkey");
+    private final StaticBuffer lockCol = KeyColumnValueStoreUtil.stringToByteBuffer("batchcol");
+    private final StaticBuffer val1 = KeyColumnValueStoreUtil.stringToByteBuffer("batchval1");
+    private final StaticBuffer val2 = KeyColumnValueStoreUtil.stringToByteBuffer("batchval2");
+
+    @Override
+    protected void configureLocking(ModifiableConfiguration config) {
+        config.set(GraphDatabaseConfiguration.LOCK_BATCH, true);
+        config.set(GraphDatabaseConfiguration.LOCK_RENEW_INTERVAL, Duration.ofMillis(RENEW_MS));
+    }
+
+    /**
+     * Batched lock applications are only written when the transaction mutates, so seniority
+     * between instances is decided by whichever instance mutates first.
+     */
+    @Override
+    @Test
+    public void testRemoteLockContention() throws InterruptedException, BackendException {
+        store[0].acquireLock(lockKey, lockCol, null, tx[0][0]);
+        try {
+            store[1].acquireLock(lockKey, lockCol, null, tx[1][0]);
+        } catch (BackendException e) {
+            Assert.fail("Contention between remote transactions detected too soon");
+        }
+
+        store[0].mutate(lockKey, Collections.singletonList(StaticArrayEntry.of(lockCol, val1)), NO_DELETIONS, tx[0][0]);
+
+        Thread.sleep(50L);
+
+        assertRemoteMutateFails(val2);
+
+        tx[0][0].commit();
+        tx[0][0] = newTransaction(manager[0]);
+        Assert.assertEquals(val1, KCVSUtil.get(store[0], lockKey, lockCol, tx[0][0]));
+    }
+
+    @Test
+    public void testRemoteLockFailsAfterExpiryWhileRenewed() throws Exception {
+        store[0].acquireLock(lockKey, lockCol, null, tx[0][0]);
+        store[0].mutate(lockKey, Collections.singletonList(StaticArrayEntry.of(lockCol, val1)), NO_DELETIONS, tx[0][0]);
+
+        //Without renewal the claim of tx[0][0] would have expired by now
+        Thread.sleep(EXPIRE_MS + RENEW_MS);
+
+        store[1].acquireLock(lockKey, lockCol, null, tx[1][0]);
+        assertRemoteMutateFails(val2);
+
+        tx[0][0].commit();
+        tx[0][0] = null;
+        final StoreTransaction check = newTransaction(manager[1]);
+        Assert.assertEquals(val1, KCVSUtil.get(store[1], lockKey, lockCol, check));
+        check.commit();
+    }
+
+    /**
+     * A remote claim written between the holder's claim and its first renewal must not gain seniority
+     * through the renewals, no matter when it is checked.
+     */
+    @Test
+    public void testRemoteClaimBeforeRenewalFailsAfterRenewals() throws Exception {
+        store[0].acquireLock(lockKey, lockCol, null, tx[0][0]);
+        store[0].mutate(lockKey, Collections.singletonList(StaticArrayEntry.of(lockCol, val1)), NO_DELETIONS, tx[0][0]);
+
+        //An unbatched remote locker writes its claim right away but only checks it on checkLocks
+        final ModifiableConfiguration config = GraphDatabaseConfiguration.buildGraphConfiguration();
+        config.set(GraphDatabaseConfiguration.LOCK_LOCAL_MEDIATOR_GROUP, concreteClassName + "remote");
+        config.set(GraphDatabaseConfiguration.UNIQUE_INSTANCE_ID, "remote");
+        config.set(GraphDatabaseConfiguration.LOCK_EXPIRE, Duration.ofMillis(EXPIRE_MS));
+        final ConsistentKeyLocker remote = new ConsistentKeyLocker.Builder(manager[1].openDatabase(DB_NAME + "_lock_"),
+                manager[1]).fromConfig(config).build();
+        final StoreTransaction remoteTx = manager[1].beginTransaction(getConsistentTxConfig(manager[1]));
+        remote.writeLock(new KeyColumn(lockKey, lockCol), remoteTx);
+
+        //Check the remote claim after several renewals, but before either claim has expired by its timestamp
+        Thread.sleep(2 * RENEW_MS + RENEW_MS / 2);
+        try {
+            remote.checkLocks(remoteTx);
+            Assert.fail("Remote claim written after the renewed claim took the lock");
+        } catch (PermanentLockingException | TemporaryLockingException e) {
+            //Expected
+        } finally {
+            remote.deleteLocks(remoteTx);
+            remoteTx.commit();
+        }
+
+        tx[0][0].commit();
+        tx[0][0] = null;
+        assertClaims(lockKey, new StaticBuffer[]{lockCol}, 0, 0);
+    }
+
+    @Test
+    public void testRemoteLockSucceedsAfterCommit() throws Exception {
+        store[0].acquireLock(lockKey, lockCol, null, tx[0][0]);
+        store[0].mutate(lockKey, Collections.singletonList(StaticArrayEntry.of(lockCol, val1)), NO_DELETIONS, tx[0][0]);
+        assertClaims(lockKey, new StaticBuffer[]{lockCol}, 1, 1);
+
+        tx[0][0].commit();
+        tx[0][0] = null;
+        assertClaims(lockKey, new StaticBuffer[]{lockCol}, 0, 0);
+
+        store[1].acquireLock(lockKey, lockCol, val1, tx[1][0]);
+        store[1].mutate(lockKey, Collections.singletonList(StaticArrayEntry.of(lockCol, val2)), NO_DELETIONS, tx[1][0]);
+        tx[1][0].commit();
+        tx[1][0] = null;
+        assertClaims(lockKey, new StaticBuffer[]{lockCol}, 0, 0);
+
+        final StoreTransaction check = newTransaction(manager[0]);
+        Assert.assertEquals(val2, KCVSUtil.get(store[0], lockKey, lockCol, check));
+        check.commit();
+    }
+
+    @Test
+    public void testRenewedLocksOutliveExpiry() throws Exception {
+        final StaticBuffer key = KeyColumnValueStoreUtil.stringToByteBuffer("renewkey");
+        final StaticBuffer[] columns = new StaticBuffer[5];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = KeyColumnValueStoreUtil.stringToByteBuffer("col" + i);
+            store[0].acquireLock(key, columns[i], null, tx[0][0]);
+        }
+        //Writes and checks all lock applications and starts renewing them
+        store[0].mutate(key, Collections.singletonList(StaticArrayEntry.of(columns[0], columns[0])), NO_DELETIONS, tx[0][0]);
+        assertClaims(key, columns, 1, 1);
+
+        Thread.sleep(EXPIRE_MS + RENEW_MS);
+
+        try {
+            store[0].acquireLock(key, columns[0], null, tx[0][1]);
+            Assert.fail("Renewed lock has expired");
+        } catch (PermanentLockingException | TemporaryLockingException e) {
+            //Expected
+        }
+        //Renewals keep the claim which established seniority instead of writing new ones
+        assertClaims(key, columns, 1, 1);
+
+        tx[0][0].commit();
+        tx[0][0] = null;
+        assertClaims(key, columns, 0, 0);
+    }
+
+    private void assertRemoteMutateFails(StaticBuffer value) {
+        try {
+            store[1].mutate(lockKey, Collections.singletonList(StaticArrayEntry.of(lockCol, value)), NO_DELETIONS, tx[1][0]);
+            Assert.fail("Expected lock contention between remote transactions did not occur");
+        } catch (BackendException e) {
+            Assert.assertTrue(e instanceof PermanentLockingException || e instanceof TemporaryLockingException);
+        }
+    }
+
+    private void assertClaims(StaticBuffer key, StaticBuffer[] columns, int min, int max) throws BackendException {
+        final KeyColumnValueStore lockStore = manager[0].openDatabase(DB_NAME + "_lock_");
+        final ConsistentKeyLockerSerializer serializer = new ConsistentKeyLockerSerializer();
+        for (StaticBuffer column : columns) {
+            final int claims = lockStore.getSlice(new KeySliceQuery(serializer.toLockKey(key, column),
+                    ConsistentKeyLocker.LOCK_COL_START, ConsistentKeyLocker.LOCK_COL_END), manager[0].beginTransaction(getTxConfig())).size();
+            Assert.assertTrue(column + ": " + claims, min <= claims && claims <= max);
+        }
+    }
+}
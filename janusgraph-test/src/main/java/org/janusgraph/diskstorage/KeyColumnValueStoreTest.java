@@ -20,7 +20,10 @@ import java.util.*;
 import java.util.concurrent.*;
 
 import com.google.common.collect.ImmutableList;
+import org.apache.commons.configuration.BaseConfiguration;
 import org.janusgraph.diskstorage.configuration.Configuration;
+import org.janusgraph.diskstorage.configuration.backend.CommonsConfiguration;
+import org.janusgraph.diskstorage.keycolumnvalue.scan.ScanCheckpoint;
 import org.janusgraph.diskstorage.keycolumnvalue.scan.ScanJob;
 import org.janusgraph.diskstorage.keycolumnvalue.scan.ScanMetrics;
 import org.janusgraph.diskstorage.keycolumnvalue.scan.StandardScanner;
@@ -968,6 +971,57 @@ public abstract class KeyColumnValueStoreTest extends AbstractKCVSTest {
         }
     }
 
+    @Test
+    public void testGetSlicesMatchGetSlice() throws Exception {
+        if (!manager.getFeatures().hasMultiQuery()) return;
+
+        populateDBWith100Keys();
+
+        tx.commit();
+        tx = startTx();
+
+        //Include keys without entries and query them out of order
+        final List<StaticBuffer> keys = new ArrayList<>(120);
+        for (int i = 1; i <= 120; i++) {
+            keys.add(KeyColumnValueStoreUtil.longToByteBuffer(i));
+        }
+        Collections.shuffle(keys);
+
+        final SliceQuery[] queries = {
+                new SliceQuery(KeyColumnValueStoreUtil.stringToByteBuffer("a"), KeyColumnValueStoreUtil.stringToByteBuffer("d")),
+                new SliceQuery(KeyColumnValueStoreUtil.stringToByteBuffer("b"), KeyColumnValueStoreUtil.stringToByteBuffer("d")),
+                new SliceQuery(KeyColumnValueStoreUtil.stringToByteBuffer("a"), KeyColumnValueStoreUtil.stringToByteBuffer("d")).setLimit(2)
+        };
+        for (SliceQuery query : queries) {
+            final Map<StaticBuffer,EntryList> results = store.getSlice(keys, query, tx);
+            Assert.assertEquals(keys.size(), results.size());
+            for (StaticBuffer key : keys) {
+                Assert.assertEquals(store.getSlice(new KeySliceQuery(key, query), tx), results.get(key));
+            }
+        }
+    }
+
+    @Test
+    public void testGetSliceAsync() throws Exception {
+        populateDBWith100Keys();
+
+        tx.commit();
+        tx = startTx();
+
+        StaticBuffer start = KeyColumnValueStoreUtil.stringToByteBuffer("a");
+        StaticBuffer end = KeyColumnValueStoreUtil.stringToByteBuffer("d");
+
+        final List<CompletableFuture<EntryList>> futures = new ArrayList<>(100);
+        for (int i = 1; i <= 100; i++) {
+            futures.add(store.getSliceAsync(new KeySliceQuery(KeyColumnValueStoreUtil.longToByteBuffer(i), start, end), tx));
+        }
+        for (int i = 1; i <= 100; i++) {
+            final EntryList entries = futures.get(i - 1).get();
+            Assert.assertEquals(3, entries.size());
+            Assert.assertEquals(store.getSlice(new KeySliceQuery(KeyColumnValueStoreUtil.longToByteBuffer(i), start, end), tx), entries);
+        }
+    }
+
     @Test
     @Category({UnorderedKeyStoreTests.class})
     public void testGetKeysWithSliceQuery() throws Exception {
@@ -1186,17 +1240,105 @@ public abstract class KeyColumnValueStoreTest extends AbstractKCVSTest {
         clopen();
 
         StandardScanner scanner = new StandardScanner(manager);
-        SimpleScanJobRunner runner = (ScanJob job, Configuration jobConf, String rootNSName) -> runSimpleJob(scanner, job, jobConf);
+        SimpleScanJobRunner runner = (ScanJob job, Configuration jobConf, String rootNSName) -> runSimpleJob(scanner, job, jobConf, 0);
+
+        SimpleScanJob.runBasicTests(keys, columns, runner);
+    }
+
+    @Test
+    public void scanTestWithSimpleJobInBatches() throws Exception {
+        int keys = 1000, columns = 40;
+        String[][] values = KeyValueStoreUtil.generateData(keys, columns);
+        //Make it only half the number of columns for every 2nd key
+        for (int i = 0; i < values.length; i++) {
+            if (i%2==0) values[i]=Arrays.copyOf(values[i],columns/2);
+        }
+        loadValues(values);
+        clopen();
+
+        StandardScanner scanner = new StandardScanner(manager);
+        SimpleScanJobRunner runner = (ScanJob job, Configuration jobConf, String rootNSName) -> runSimpleJob(scanner, job, jobConf, 7);
 
         SimpleScanJob.runBasicTests(keys, columns, runner);
     }
 
-    private ScanMetrics runSimpleJob(StandardScanner scanner, ScanJob job, Configuration jobConf) throws BackendException, ExecutionException, InterruptedException {
+    @Test
+    public void scanTestWithSimpleJobInKeyRanges() throws Exception {
+        int keys = 1000, columns = 40;
+        String[][] values = KeyValueStoreUtil.generateData(keys, columns);
+        //Make it only half the number of columns for every 2nd key
+        for (int i = 0; i < values.length; i++) {
+            if (i%2==0) values[i]=Arrays.copyOf(values[i],columns/2);
+        }
+        loadValues(values);
+        clopen();
+
+        StandardScanner scanner = new StandardScanner(manager);
+        SimpleScanJobRunner runner = (ScanJob job, Configuration jobConf, String rootNSName) -> runSimpleJob(scanner, job, jobConf, 0, 16, null);
+
+        SimpleScanJob.runBasicTests(keys, columns, runner);
+    }
+
+    @Test
+    public void scanTestWithSimpleJobInSplitKeyRange() throws Exception {
+        int keys = 1000, columns = 40;
+        String[][] values = KeyValueStoreUtil.generateData(keys, columns);
+        loadValues(values);
+        clopen();
+
+        //A single key range is split by the idle processing thread
+        StandardScanner scanner = new StandardScanner(manager);
+        Configuration jobConf = SimpleScanJob.getJobConf(
+                ImmutableList.of(new SliceQuery(BufferUtil.zeroBuffer(1), BufferUtil.oneBuffer(128))));
+        ScanMetrics result = runSimpleJob(scanner, new SimpleScanJob(), jobConf, 0, 1, null);
+        assertEquals(keys, result.getCustom(SimpleScanJob.KEY_COUNT));
+        assertEquals(keys * columns, result.getCustom(SimpleScanJob.TOTAL_COUNT));
+        assertEquals(keys, result.get(ScanMetrics.Metric.SUCCESS));
+    }
+
+    @Test
+    public void scanTestResumesFromCheckpoint() throws Exception {
+        if (!manager.getFeatures().hasOrderedScan()) return;
+        int keys = 1000, columns = 10;
+        loadValues(KeyValueStoreUtil.generateData(keys, columns));
+        clopen();
+
+        StandardScanner scanner = new StandardScanner(manager);
+        Configuration jobConf = SimpleScanJob.getJobConf(
+                ImmutableList.of(new SliceQuery(BufferUtil.zeroBuffer(1), BufferUtil.oneBuffer(128))));
+        ScanCheckpoint checkpoint = new ScanCheckpoint(new CommonsConfiguration(new BaseConfiguration()), "scanTest");
+        List<KeyRange> ranges = new KeyRange(BufferUtil.zeroBuffer(1), BufferUtil.oneBuffer(128)).split(16);
+
+        //All keys fall into the first key range
+        checkpoint.markCompleted(ranges.get(0));
+        ScanMetrics result = runSimpleJob(scanner, new SimpleScanJob(), jobConf, 0, ranges.size(), checkpoint);
+        assertEquals(0, result.getCustom(SimpleScanJob.KEY_COUNT));
+        assertEquals("Checkpoint must be cleared once the job completed",
+                ranges.size(), checkpoint.getPendingRanges(ranges).size());
+
+        for (KeyRange range : ranges.subList(1, ranges.size())) {
+            checkpoint.markCompleted(range);
+        }
+        assertEquals(1, checkpoint.getPendingRanges(ranges).size());
+        result = runSimpleJob(scanner, new SimpleScanJob(), jobConf, 0, ranges.size(), checkpoint);
+        assertEquals(keys, result.getCustom(SimpleScanJob.KEY_COUNT));
+        assertEquals(ranges.size(), checkpoint.getPendingRanges(ranges).size());
+    }
+
+    private ScanMetrics runSimpleJob(StandardScanner scanner, ScanJob job, Configuration jobConf, int processingBatchSize) throws BackendException, ExecutionException, InterruptedException {
+        return runSimpleJob(scanner, job, jobConf, processingBatchSize, 0, null);
+    }
+
+    private ScanMetrics runSimpleJob(StandardScanner scanner, ScanJob job, Configuration jobConf, int processingBatchSize,
+                                     int numKeyRanges, ScanCheckpoint checkpoint) throws BackendException, ExecutionException, InterruptedException {
         StandardScanner.Builder jobBuilder = scanner.build();
         jobBuilder.setStoreName(store.getName());
         jobBuilder.setJobConfiguration(jobConf);
         jobBuilder.setNumProcessingThreads(2);
         jobBuilder.setWorkBlockSize(100);
+        jobBuilder.setProcessingBatchSize(processingBatchSize);
+        jobBuilder.setNumKeyRanges(numKeyRanges);
+        if (checkpoint != null) jobBuilder.setCheckpoint(checkpoint);
         jobBuilder.setTimestampProvider(times);
         jobBuilder.setJob(job);
         return jobBuilder.execute().get();
@@ -112,6 +112,12 @@ public abstract class LockKeyColumnValueStoreTest extends AbstractKCVSTest {
 
     public abstract KeyColumnValueStoreManager openStorageManager(int id, Configuration configuration) throws BackendException;
 
+    /**
+     * Hook for subclasses to adjust the locking configuration of every instance.
+     */
+    protected void configureLocking(ModifiableConfiguration config) {
+    }
+
     public void open() throws BackendException {
         manager = new KeyColumnValueStoreManager[CONCURRENCY];
         tx = new StoreTransaction[CONCURRENCY][NUM_TX];
@@ -123,6 +129,7 @@ public abstract class LockKeyColumnValueStoreTest extends AbstractKCVSTest {
             sc.set(GraphDatabaseConfiguration.UNIQUE_INSTANCE_ID,"inst"+i);
             sc.set(GraphDatabaseConfiguration.LOCK_RETRY,10);
             sc.set(GraphDatabaseConfiguration.LOCK_EXPIRE, Duration.ofMillis(EXPIRE_MS));
+            configureLocking(sc);
 
             manager[i] = openStorageManager(i, sc);
             StoreFeatures storeFeatures = manager[i].getFeatures();
@@ -35,8 +35,10 @@ import org.junit.Test;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.Assert.*;
@@ -158,6 +160,36 @@ public abstract class KCVSCacheTest {
         assertEquals(4,store.getSliceCalls());
     }
 
+    @Test
+    public void testAsyncCache() throws Exception {
+        final int numKeys = 20, numCols = 10;
+        loadStore(numKeys,numCols);
+
+        CacheTransaction tx = getCacheTx();
+        final List<CompletableFuture<EntryList>> futures = new ArrayList<>(numKeys);
+        for (int i=1;i<=numKeys;i++) futures.add(cache.getSliceAsync(getQuery(i,2,5),tx));
+        for (CompletableFuture<EntryList> future : futures) assertEquals(3,future.get().size());
+        assertEquals(numKeys,store.getSliceCalls());
+
+        //Subsequent reads are answered from the cache, regardless of whether they are asynchronous
+        for (int i=1;i<=numKeys;i++) {
+            assertEquals(3,cache.getSliceAsync(getQuery(i,2,5),tx).get().size());
+            assertEquals(3,cache.getSlice(getQuery(i,2,5),tx).size());
+        }
+        assertEquals(numKeys,store.getSliceCalls());
+        tx.commit();
+
+        //Mutated keys are read from the store again
+        tx = getCacheTx();
+        cache.mutateEntries(BufferUtil.getIntBuffer(1), KeyColumnValueStore.NO_ADDITIONS,
+                Collections.singletonList(getEntry(3,3)), tx);
+        tx.commit();
+        tx = getCacheTx();
+        assertEquals(2,cache.getSliceAsync(getQuery(1,2,5),tx).get().size());
+        assertEquals(numKeys+1,store.getSliceCalls());
+        tx.commit();
+    }
+
 
     public static KeySliceQuery getQuery(int key, int startCol, int endCol) {
         return new KeySliceQuery(BufferUtil.getIntBuffer(key),getQuery(startCol, endCol));
@@ -0,0 +1,80 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.janusgraph.diskstorage.log;
+
+import org.janusgraph.diskstorage.configuration.ModifiableConfiguration;
+import org.janusgraph.diskstorage.log.kcvs.KCVSLog;
+import org.janusgraph.diskstorage.util.BufferUtil;
+import org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the {@link KCVSLogTest} with group commits, i.e. messages which are added concurrently without send
+ * delay are persisted together.
+ */
+public abstract class KCVSLogGroupCommitTest extends KCVSLogTest {
+
+    @Override
+    protected void configureLog(ModifiableConfiguration config) {
+        //Group commits only apply to logs which send without delay
+        config.set(GraphDatabaseConfiguration.LOG_SEND_DELAY, Duration.ZERO, LOG_NAME);
+        config.set(KCVSLog.LOG_GROUP_COMMIT, true, LOG_NAME);
+    }
+
+    @Test
+    public void testConcurrentMessagesAreGrouped() throws Exception {
+        final int numThreads = 8;
+        final int numMessages = 50;
+        final int total = numThreads * numMessages;
+        final Log log1 = manager.openLog("test1");
+        final LatchMessageReader reader = new LatchMessageReader(total);
+        log1.registerReader(ReadMarker.fromNow(), reader);
+        final int initialWrites = getMutateManyCalls();
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Throwable> failures = new CopyOnWriteArrayList<>();
+        final Thread[] writers = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            writers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < numMessages; i++) {
+                        //add() only returns once the message has been persisted
+                        log1.add(BufferUtil.getLongBuffer(i));
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            writers[t].start();
+        }
+        start.countDown();
+        for (Thread writer : writers) writer.join();
+        assertTrue(failures.toString(), failures.isEmpty());
+
+        final int writes = getMutateManyCalls() - initialWrites;
+        assertTrue("Persisted " + total + " messages in " + writes + " writes", 0 < writes && writes < total);
+        reader.await(TIMEOUT_MS);
+        log1.close();
+    }
+}
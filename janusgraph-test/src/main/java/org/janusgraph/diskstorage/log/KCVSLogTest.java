@@ -15,10 +15,17 @@
 package org.janusgraph.diskstorage.log;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.janusgraph.diskstorage.BackendException;
+import org.janusgraph.diskstorage.StaticBuffer;
 import org.janusgraph.diskstorage.configuration.ModifiableConfiguration;
+import org.janusgraph.diskstorage.keycolumnvalue.KCVMutation;
+import org.janusgraph.diskstorage.keycolumnvalue.KCVSManagerProxy;
 import org.janusgraph.diskstorage.keycolumnvalue.KeyColumnValueStoreManager;
 import org.janusgraph.diskstorage.keycolumnvalue.StoreManager;
+import org.janusgraph.diskstorage.keycolumnvalue.StoreTransaction;
 import org.janusgraph.diskstorage.log.kcvs.KCVSLogManager;
 
 import org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration;
@@ -35,20 +42,34 @@ public abstract class KCVSLogTest extends LogTest {
 
     public static final String LOG_NAME = "testlog";
 
-    private KeyColumnValueStoreManager storeManager;
+    private MutationCountingStoreManager storeManager;
 
     @Override
     public LogManager openLogManager(String senderId, boolean requiresOrderPreserving) throws BackendException {
-        storeManager = openStorageManager();
+        storeManager = new MutationCountingStoreManager(openStorageManager());
         ModifiableConfiguration config = GraphDatabaseConfiguration.buildGraphConfiguration();
         config.set(GraphDatabaseConfiguration.UNIQUE_INSTANCE_ID,senderId);
         config.set(GraphDatabaseConfiguration.LOG_READ_INTERVAL, Duration.ofMillis(500L), LOG_NAME);
         //To ensure that the write order is preserved in reading, we need to ensure that all writes go to the same partition
         //otherwise readers will independently read from the partitions out-of-order by design to avoid having to synchronize
         config.set(KCVSLogManager.LOG_FIXED_PARTITION, requiresOrderPreserving, LOG_NAME);
+        configureLog(config);
         return new KCVSLogManager(storeManager,config.restrictTo(LOG_NAME));
     }
 
+    /**
+     * Hook for subclasses to adjust the configuration of the log {@link #LOG_NAME}.
+     */
+    protected void configureLog(ModifiableConfiguration config) {
+    }
+
+    /**
+     * Returns the number of {@code mutateMany} calls, i.e. the number of message writes, since the log manager was opened.
+     */
+    protected int getMutateManyCalls() {
+        return storeManager.mutateManyCalls.get();
+    }
+
     @Override
     public void setup() throws Exception {
         StoreManager m = openStorageManager();
@@ -63,4 +84,19 @@ public abstract class KCVSLogTest extends LogTest {
         storeManager.close();
     }
 
+    private static class MutationCountingStoreManager extends KCVSManagerProxy {
+
+        private final AtomicInteger mutateManyCalls = new AtomicInteger(0);
+
+        public MutationCountingStoreManager(KeyColumnValueStoreManager manager) {
+            super(manager);
+        }
+
+        @Override
+        public void mutateMany(Map<String, Map<StaticBuffer, KCVMutation>> mutations, StoreTransaction txh) throws BackendException {
+            mutateManyCalls.incrementAndGet();
+            super.mutateMany(mutations, txh);
+        }
+    }
+
 }
@@ -32,6 +32,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -47,7 +48,7 @@ public abstract class LogTest {
 
     public static final String DEFAULT_SENDER_ID = "sender";
 
-    private static final long TIMEOUT_MS = 30000;
+    protected static final long TIMEOUT_MS = 30000;
 
     /**
      *
@@ -58,7 +59,7 @@ public abstract class LogTest {
      */
     public abstract LogManager openLogManager(String senderId, boolean requiresOrderPreserving) throws BackendException;
 
-    private LogManager manager;
+    protected LogManager manager;
 
     // This TestName field must be public.  Exception when I tried private:
     // "java.lang.Exception: The @Rule 'testName' must be public."
@@ -252,6 +253,37 @@ public abstract class LogTest {
         assertEquals(3, reader2.totalValue.get());
     }
 
+    @Test
+    public void testConcurrentSend() throws Exception {
+        final int numThreads = 8;
+        final int numMessages = 100;
+        final long total = numThreads * numMessages;
+        final Log log1 = manager.openLog("test1");
+        final CountingReader count = new CountingReader((int) total, false);
+        log1.registerReader(ReadMarker.fromNow(),count);
+        final AtomicLong value = new AtomicLong(0);
+        final List<Throwable> failures = new CopyOnWriteArrayList<>();
+        final Thread[] writers = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            writers[t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < numMessages; i++) {
+                        log1.add(BufferUtil.getLongBuffer(value.incrementAndGet())).get();
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            writers[t].start();
+        }
+        for (Thread writer : writers) writer.join();
+        assertTrue(failures.toString(), failures.isEmpty());
+        count.await(TIMEOUT_MS);
+        assertEquals(total, count.totalMsg.get());
+        assertEquals(total * (total + 1) / 2, count.totalValue.get());
+        log1.close();
+    }
+
     protected void simpleSendReceive(int numMessages, int delayMS) throws Exception {
         sendReceive(1, numMessages, delayMS, true, LogTest.TIMEOUT_MS);
     }
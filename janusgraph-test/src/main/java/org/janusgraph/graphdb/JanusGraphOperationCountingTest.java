@@ -393,6 +393,40 @@ public abstract class JanusGraphOperationCountingTest extends JanusGraphBaseTest
         verifyStoreMetrics(METRICS_STOREMANAGER_NAME, ImmutableMap.of(M_MUTATE, 1L));
     }
 
+    @Test
+    public void checkRelationCache() {
+        makeKey("uid",String.class);
+        makeKey("name", String.class);
+        finishSchema();
+
+        clopen(option(GraphDatabaseConfiguration.RELATION_CACHE), true,
+                option(GraphDatabaseConfiguration.PROPERTY_PREFETCHING), true);
+        metricsPrefix = "checkRelationCache";
+
+        JanusGraphTransaction tx = graph.buildTransaction().groupName(metricsPrefix).start();
+        JanusGraphVertex v = tx.addVertex("uid", "v1", "name", "john");
+        tx.commit();
+        verifyStoreMetrics(EDGESTORE_NAME);
+
+        for (int i = 0; i < 3; i++) {
+            tx = graph.buildTransaction().groupName(metricsPrefix).start();
+            JanusGraphVertex v2 = getV(tx, v);
+            assertEquals("v1",v2.property("uid").value());
+            assertEquals("john",v2.property("name").value());
+            tx.commit();
+            //Only the first transaction retrieves the vertex existence and its properties from the storage backend
+            verifyStoreMetrics(EDGESTORE_NAME, ImmutableMap.of(M_GET_SLICE, 2L));
+        }
+
+        tx = graph.buildTransaction().groupName(metricsPrefix).start();
+        getV(tx, v).property("name", "bob");
+        tx.commit();
+
+        tx = graph.buildTransaction().groupName(metricsPrefix).start();
+        assertEquals("bob",getV(tx, v).property("name").value());
+        tx.commit();
+    }
+
     private String metricsPrefix;
 
     public void verifyStoreMetrics(String storeName) {
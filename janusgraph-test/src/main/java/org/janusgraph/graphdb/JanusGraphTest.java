@@ -23,6 +23,7 @@ import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.janusgraph.core.Cardinality;
+import org.janusgraph.core.JanusGraphBulkLoader;
 import org.janusgraph.core.EdgeLabel;
 import org.janusgraph.core.Multiplicity;
 import org.janusgraph.core.PropertyKey;
@@ -90,6 +91,7 @@ import org.janusgraph.graphdb.query.graph.GraphCentricQueryBuilder;
 import org.janusgraph.graphdb.query.profile.QueryProfiler;
 import org.janusgraph.graphdb.query.profile.SimpleQueryProfiler;
 import org.janusgraph.graphdb.query.vertex.BasicVertexCentricQueryBuilder;
+import org.janusgraph.graphdb.query.vertex.MultiVertexCentricQueryBuilder;
 import org.janusgraph.graphdb.relations.RelationIdentifier;
 import org.janusgraph.graphdb.schema.EdgeLabelDefinition;
 import org.janusgraph.graphdb.schema.PropertyKeyDefinition;
@@ -1996,6 +1998,57 @@ public abstract class JanusGraphTest extends JanusGraphBaseTest {
         assertCount(2, v.query().direction(Direction.BOTH).labels("self").edges());
     }
 
+    @Test
+    public void testBulkLoader() {
+        clopen(option(BULK_LOAD_BUFFER_SIZE), 10, option(BULK_LOAD_THREADS), 2);
+        PropertyKey uid = mgmt.makePropertyKey("uid").dataType(Long.class).cardinality(Cardinality.SINGLE).make();
+        PropertyKey tag = mgmt.makePropertyKey("tag").dataType(String.class).cardinality(Cardinality.SET).make();
+        PropertyKey weight = mgmt.makePropertyKey("weight").dataType(Double.class).make();
+        mgmt.makeEdgeLabel("knows").make();
+        mgmt.makeVertexLabel("person").make();
+        mgmt.buildIndex("byUid", Vertex.class).addKey(uid).buildCompositeIndex();
+        finishSchema();
+
+        final int numV = 50;
+        final long[] ids = new long[numV];
+        try (JanusGraphBulkLoader loader = graph.openBulkLoader()) {
+            for (int i = 0; i < numV; i++) {
+                ids[i] = i % 2 == 0 ? loader.addVertex("person", "uid", (long) i, "tag", "a", "tag", "a", "tag", "b")
+                        : loader.addVertex("uid", (long) i);
+            }
+            for (int i = 1; i < numV; i++) {
+                loader.addEdge(ids[i - 1], "knows", ids[i], "weight", 0.5);
+            }
+            try {
+                loader.addVertex("uid", 1L, "uid", 2L);
+                fail();
+            } catch (IllegalArgumentException ignored) {
+            }
+            try {
+                loader.addVertex("undefined", "uid", 1L);
+                fail();
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+
+        newTx();
+        assertCount(numV, tx.query().vertices());
+        assertCount(numV - 1, tx.query().edges());
+        for (int i = 0; i < numV; i++) {
+            JanusGraphVertex v = getV(tx, ids[i]);
+            assertNotNull(v);
+            assertEquals((long) i, v.<Long>value("uid").longValue());
+            assertEquals(i % 2 == 0 ? "person" : Vertex.DEFAULT_LABEL, v.label());
+            assertCount(i % 2 == 0 ? 2 : 0, v.properties("tag"));
+            assertCount(i > 0 ? 1 : 0, v.query().direction(IN).labels("knows").edges());
+            assertCount(i < numV - 1 ? 1 : 0, v.query().direction(OUT).labels("knows").edges());
+            assertEquals(v, getOnlyElement(tx.query().has("uid", (long) i).vertices()));
+        }
+        JanusGraphEdge e = getOnlyElement(getV(tx, ids[0]).query().direction(OUT).labels("knows").edges());
+        assertEquals(0.5, e.<Double>value("weight"), 0.0);
+        assertEquals(ids[1], e.inVertex().longId());
+    }
+
     /**
      * Tests that elements can be accessed beyond their transactional boundaries if they
      * are bound to single-threaded graph transactions
@@ -3914,6 +3967,36 @@ public abstract class JanusGraphTest extends JanusGraphBaseTest {
         assertCount(numEdges - 1, parentVertex.query().direction(Direction.OUT).edges());
     }
 
+    @Test
+    public void testSupernodePartitioningCandidates() {
+        clopen(option(SUPERNODE_DEGREE_THRESHOLD), 10);
+        mgmt.makeVertexLabel("person").make();
+        mgmt.makeVertexLabel("partitioned").partition().make();
+        mgmt.makeEdgeLabel("knows").make();
+        finishSchema();
+
+        JanusGraphVertex person = tx.addVertex("person");
+        JanusGraphVertex small = tx.addVertex("person");
+        for (int i = 0; i < 20; i++) {
+            person.addEdge("knows", tx.addVertex());
+        }
+        small.addEdge("knows", person);
+        newTx();
+
+        assertCount(20, tx.getVertex(person.longId()).query().direction(OUT).edges());
+        assertCount(1, tx.getVertex(small.longId()).query().direction(OUT).edges());
+        newTx();
+
+        mgmt = graph.openManagement();
+        Map<VertexLabel,Long> candidates = mgmt.getPartitioningCandidates();
+        assertEquals(1, candidates.size());
+        Map.Entry<VertexLabel,Long> candidate = candidates.entrySet().iterator().next();
+        assertEquals("person", candidate.getKey().name());
+        assertTrue(candidate.getValue() >= 20);
+        assertFalse(candidates.keySet().stream().anyMatch(VertexLabel::isPartitioned));
+        mgmt.rollback();
+    }
+
 
     @Test
     public void testTinkerPopCardinality() {
@@ -4062,6 +4145,24 @@ public abstract class JanusGraphTest extends JanusGraphBaseTest {
         assertCount(superV * numV, t);
         metrics = t.asAdmin().getSideEffects().get("~metrics");
 
+        //Verify that multi queries are split into several batches which are retrieved one after another
+        for (boolean prefetch : new boolean[]{true, false}) {
+            clopen(option(USE_MULTIQUERY), true, option(MULTIQUERY_BATCH_SIZE), 3, option(MULTIQUERY_PREFETCH), prefetch);
+            gts = graph.traversal();
+
+            assertNumStep(superV * numV, 2, gts.V().has("id", sid).out("knows"), JanusGraphStep.class, JanusGraphVertexStep.class);
+            assertNumStep(superV * (numV / 5), 2, gts.V().has("id", sid).outE("knows").has("weight", 1), JanusGraphStep.class, JanusGraphVertexStep.class);
+            assertCount(superV * numV * superV, gts.V().has("id", sid).out("knows").in("knows"));
+            assertCount(0, gts.V().has("id", sid).in("knows"));
+        }
+
+        //Verify that properties of the vertices returned by a graph-centric step are correctly prefetched in batches
+        clopen(option(BATCH_PROPERTY_PREFETCH), true, option(MULTIQUERY_BATCH_SIZE), 3);
+        gts = graph.traversal();
+        assertCount(numV / 5, gts.V().has("weight", 1).values("id"));
+        assertEquals(numV / 5, gts.V().has("weight", 1).values("weight").sum().next().longValue());
+        assertTrue(gts.V().has("id", sid).values("id").toList().stream().allMatch(i -> i.equals(sid)));
+        assertCount(superV * numV, gts.V().has("id", sid).out("knows"));
     }
 
     private static void assertNumStep(int expectedResults, int expectedSteps, GraphTraversal traversal, Class<? extends Step>... expectedStepTypes) {
@@ -4122,6 +4223,39 @@ public abstract class JanusGraphTest extends JanusGraphBaseTest {
         assertNotNull(id);
     }
 
+    @Test
+    public void testMultiQueryPrefetchWhileQueryingTransaction() {
+        clopen(option(USE_MULTIQUERY), true, option(MULTIQUERY_PREFETCH), true);
+        makeLabel("knows");
+        mgmt.makePropertyKey("name").dataType(String.class).make();
+        finishSchema();
+
+        final int numV = 100, numE = 10;
+        final JanusGraphVertex hub = tx.addVertex("name", "hub");
+        final JanusGraphVertex[] vs = new JanusGraphVertex[numV];
+        for (int i = 0; i < numV; i++) {
+            vs[i] = tx.addVertex("name", "v" + i);
+            for (int j = 0; j < numE; j++) vs[i].addEdge("knows", hub);
+        }
+        newTx();
+
+        final JanusGraphVertex[] qvs = new JanusGraphVertex[numV];
+        for (int i = 0; i < numV; i++) qvs[i] = getV(tx, vs[i]);
+        final MultiVertexCentricQueryBuilder query = (MultiVertexCentricQueryBuilder) tx.multiQuery(qvs).direction(OUT).labels("knows");
+        query.preFetch(RelationCategory.EDGE);
+
+        //Use the transaction while the prefetch is retrieving the same slices in the background
+        for (int i = 0; i < numV; i += 2) assertCount(numE, qvs[i].query().direction(OUT).labels("knows").edges());
+        qvs[1].addEdge("knows", getV(tx, hub));
+        assertCount(numV * numE + 1, tx.traversal().V(getV(tx, hub)).inE("knows"));
+        assertEquals("v3", qvs[3].value("name"));
+
+        final Map<JanusGraphVertex, Iterable<JanusGraphEdge>> results = query.edges();
+        assertEquals(numV, results.size());
+        for (int i = 0; i < numV; i++) assertCount(i == 1 ? numE + 1 : numE, results.get(qvs[i]));
+        for (int i = 0; i < numV; i++) assertCount(i == 1 ? numE + 1 : numE, qvs[i].query().direction(OUT).labels("knows").edges());
+    }
+
 
    /* ==================================================================================
                             LOGGING
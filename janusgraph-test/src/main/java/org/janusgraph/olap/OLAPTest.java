@@ -21,6 +21,7 @@ import org.janusgraph.core.*;
 import org.janusgraph.diskstorage.keycolumnvalue.scan.ScanJob;
 import org.janusgraph.diskstorage.keycolumnvalue.scan.ScanMetrics;
 import org.janusgraph.graphdb.JanusGraphBaseTest;
+import org.janusgraph.graphdb.configuration.GraphDatabaseConfiguration;
 import org.janusgraph.graphdb.olap.*;
 import org.janusgraph.graphdb.olap.computer.FulgoraGraphComputer;
 import org.janusgraph.graphdb.olap.job.GhostVertexRemover;
@@ -581,6 +582,16 @@ public abstract class OLAPTest extends JanusGraphBaseTest {
 
     @Test
     public void testShortestDistance() throws Exception {
+        runShortestDistance();
+    }
+
+    @Test
+    public void testShortestDistanceWithColumnarVertexState() throws Exception {
+        clopen(option(GraphDatabaseConfiguration.COMPUTER_COLUMNAR_VERTEX_STATE), true);
+        runShortestDistance();
+    }
+
+    private void runShortestDistance() throws Exception {
         PropertyKey distance = mgmt.makePropertyKey("distance").dataType(Integer.class).cardinality(Cardinality.SINGLE).make();
         mgmt.makeEdgeLabel("connect").signature(distance).multiplicity(Multiplicity.MULTI).make();
         finishSchema();
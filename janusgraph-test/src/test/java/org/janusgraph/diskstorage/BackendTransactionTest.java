@@ -0,0 +1,124 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage;
+
+import org.janusgraph.diskstorage.indexing.IndexTransaction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class BackendTransactionTest {
+
+    private static final int NUM_INDEXES = 3;
+
+    private ExecutorService threadPool;
+    private Map<String, IndexTransaction> indexTx;
+    private Set<Thread> committers;
+    private CountDownLatch allCommitting;
+
+    @Before
+    public void setUp() throws Exception {
+        threadPool = Executors.newFixedThreadPool(NUM_INDEXES);
+        indexTx = new HashMap<>();
+        committers = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        allCommitting = new CountDownLatch(NUM_INDEXES);
+        for (int i = 0; i < NUM_INDEXES; i++) {
+            final IndexTransaction itx = mock(IndexTransaction.class);
+            //Each commit waits for all other commits to start, which only succeeds if they run concurrently
+            doAnswer(invocation -> {
+                committers.add(Thread.currentThread());
+                allCommitting.countDown();
+                assertTrue(allCommitting.await(10, TimeUnit.SECONDS));
+                return null;
+            }).when(itx).commit();
+            indexTx.put("index" + i, itx);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        threadPool.shutdownNow();
+    }
+
+    private BackendTransaction getBackendTransaction(boolean parallelCommit) {
+        return new BackendTransaction(null, null, null, null, null, null, Duration.ofSeconds(10),
+                indexTx, threadPool, parallelCommit);
+    }
+
+    @Test
+    public void testParallelIndexCommit() throws Exception {
+        final Map<String, Throwable> exceptions = getBackendTransaction(true).commitIndexes();
+        assertTrue(exceptions.isEmpty());
+        assertEquals(NUM_INDEXES, committers.size());
+        assertFalse(committers.contains(Thread.currentThread()));
+        for (IndexTransaction itx : indexTx.values()) verify(itx).commit();
+    }
+
+    @Test
+    public void testParallelIndexCommitWithFailure() throws Exception {
+        final BackendException failure = new PermanentBackendException("Index commit failed");
+        final IndexTransaction failing = indexTx.get("index1");
+        doAnswer(invocation -> {
+            allCommitting.countDown();
+            throw failure;
+        }).when(failing).commit();
+
+        final Map<String, Throwable> exceptions = getBackendTransaction(true).commitIndexesAsync().get(10, TimeUnit.SECONDS);
+        assertEquals(1, exceptions.size());
+        assertSame(failure, exceptions.get("index1"));
+        //The other index transactions are committed regardless of the failure
+        assertEquals(NUM_INDEXES - 1, committers.size());
+        for (IndexTransaction itx : indexTx.values()) verify(itx).commit();
+    }
+
+    @Test
+    public void testSequentialIndexCommitWithFailure() throws Exception {
+        //Without parallel commits, the index transactions are committed one after another on the calling thread
+        final BackendException failure = new PermanentBackendException("Index commit failed");
+        for (IndexTransaction itx : indexTx.values()) {
+            doAnswer(invocation -> {
+                committers.add(Thread.currentThread());
+                return null;
+            }).when(itx).commit();
+        }
+        doThrow(failure).when(indexTx.get("index1")).commit();
+
+        final Map<String, Throwable> exceptions = getBackendTransaction(false).commitIndexes();
+        assertEquals(1, exceptions.size());
+        assertSame(failure, exceptions.get("index1"));
+        assertEquals(Collections.singleton(Thread.currentThread()), committers);
+        for (IndexTransaction itx : indexTx.values()) verify(itx).commit();
+    }
+}
@@ -0,0 +1,63 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage.cache;
+
+import com.codahale.metrics.Gauge;
+import org.janusgraph.diskstorage.keycolumnvalue.KeyColumnValueStore;
+import org.janusgraph.diskstorage.keycolumnvalue.KeySliceQuery;
+import org.janusgraph.diskstorage.keycolumnvalue.cache.CacheTransaction;
+import org.janusgraph.diskstorage.keycolumnvalue.cache.KCVSCache;
+import org.janusgraph.diskstorage.keycolumnvalue.cache.TinyLFUKCVSCache;
+import org.janusgraph.diskstorage.util.BufferUtil;
+import org.janusgraph.util.stats.MetricManager;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Runs the expiration and invalidation tests of {@link ExpirationCacheTest} against {@link TinyLFUKCVSCache}.
+ */
+public class TinyLFUCacheTest extends ExpirationCacheTest {
+
+    @Override
+    protected KCVSCache getCache(KeyColumnValueStore store, Duration expirationTime, Duration graceWait) {
+        return new TinyLFUKCVSCache(store,METRICS_STRING,expirationTime.toMillis(),graceWait.toMillis(),CACHE_SIZE);
+    }
+
+    @Test
+    public void testHitRateMetric() throws Exception {
+        loadStore(10,10);
+        final Gauge hitRate = MetricManager.INSTANCE.getRegistry().getGauges().get(METRICS_STRING + ".hit-rate");
+        assertNotNull(hitRate);
+
+        final KeySliceQuery query = new KeySliceQuery(BufferUtil.getIntBuffer(1), getQuery(2,8));
+        CacheTransaction tx = getCacheTx();
+        for (int i = 0; i < 4; i++) {
+            assertEquals(6, cache.getSlice(query, tx).size());
+        }
+        tx.commit();
+        assertEquals(1, store.getSliceCalls());
+        assertEquals(0.75, ((Number) hitRate.getValue()).doubleValue(), 0.0001);
+
+        cache.close();
+        assertFalse(MetricManager.INSTANCE.getRegistry().getGauges().containsKey(METRICS_STRING + ".hit-rate"));
+        cache = getCache(store);
+    }
+
+}
@@ -0,0 +1,38 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.janusgraph.diskstorage.inmemory;
+
+import org.janusgraph.diskstorage.BatchedLockKeyColumnValueStoreTest;
+import org.janusgraph.diskstorage.configuration.Configuration;
+import org.janusgraph.diskstorage.keycolumnvalue.KeyColumnValueStoreManager;
+import org.janusgraph.diskstorage.keycolumnvalue.inmemory.InMemoryStoreManager;
+
+/**
+ * All instances share one {@link InMemoryStoreManager} so that they compete for locks
+ * like processes sharing a persistent storage backend.
+ */
+public class InMemoryBatchedLockKeyColumnValueStoreTest extends BatchedLockKeyColumnValueStoreTest {
+
+    private InMemoryStoreManager sharedManager;
+
+    @Override
+    public KeyColumnValueStoreManager openStorageManager(int id, Configuration configuration) {
+        if (id == 0 || sharedManager == null) {
+            sharedManager = new InMemoryStoreManager();
+        }
+        return sharedManager;
+    }
+}
@@ -0,0 +1,63 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage.keycolumnvalue;
+
+import org.janusgraph.diskstorage.StaticBuffer;
+import org.janusgraph.diskstorage.util.BufferUtil;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class KeyRangeTest {
+
+    @Test
+    public void testSplitCoversRange() {
+        KeyRange range = new KeyRange(BufferUtil.zeroBuffer(1), BufferUtil.oneBuffer(128));
+        List<KeyRange> ranges = range.split(7);
+        assertEquals(7, ranges.size());
+        assertEquals(range.getStart(), ranges.get(0).getStart());
+        assertEquals(range.getEnd(), ranges.get(ranges.size() - 1).getEnd());
+        for (int i = 0; i < ranges.size(); i++) {
+            assertTrue(ranges.get(i).getStart().compareTo(ranges.get(i).getEnd()) < 0);
+            if (i > 0) assertEquals(ranges.get(i - 1).getEnd(), ranges.get(i).getStart());
+        }
+    }
+
+    @Test
+    public void testSplitAssignsEveryKeyToOneRange() {
+        KeyRange range = new KeyRange(BufferUtil.getLongBuffer(1000), BufferUtil.getLongBuffer(2000));
+        List<KeyRange> ranges = range.split(10);
+        assertEquals(10, ranges.size());
+        for (long id = 1000; id < 2000; id++) {
+            StaticBuffer key = BufferUtil.getLongBuffer(id);
+            int matches = 0;
+            for (KeyRange r : ranges) {
+                if (key.compareTo(r.getStart()) >= 0 && key.compareTo(r.getEnd()) < 0) matches++;
+            }
+            assertEquals(1, matches);
+        }
+    }
+
+    @Test
+    public void testNarrowRangeIsNotSplit() {
+        KeyRange range = new KeyRange(BufferUtil.getLongBuffer(5), BufferUtil.getLongBuffer(8));
+        List<KeyRange> ranges = range.split(4);
+        assertEquals(1, ranges.size());
+        assertSame(range, ranges.get(0));
+        assertEquals(3, range.split(3).size());
+    }
+}
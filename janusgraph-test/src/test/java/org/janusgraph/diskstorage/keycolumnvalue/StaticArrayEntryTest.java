@@ -15,6 +15,7 @@
 package org.janusgraph.diskstorage.keycolumnvalue;
 
 import org.janusgraph.diskstorage.*;
+import org.janusgraph.diskstorage.util.EntryArrayList;
 import org.janusgraph.diskstorage.util.StaticArrayBuffer;
 import org.janusgraph.diskstorage.util.StaticArrayEntry;
 import org.janusgraph.diskstorage.util.StaticArrayEntryList;
@@ -28,6 +29,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.*;
@@ -228,6 +230,64 @@ public class StaticArrayEntryTest {
         }
     }
 
+    @Test
+    public void testEntryListCursor() {
+        final Map<Integer,Long> entries = new HashMap<>();
+        for (int i=0;i<50;i++) entries.put(i*2+7,Math.round(Math.random()/2*Long.MAX_VALUE));
+
+        final EntryList staticList = StaticArrayEntryList.ofBytes(entries.entrySet(), ByteEntryGetter.SCHEMA_INSTANCE);
+        final EntryList arrayList = EntryArrayList.of(staticList);
+        for (final EntryList list : new EntryList[]{staticList, arrayList}) {
+            final EntryCursor cursor = list.cursor();
+            int num = 0;
+            while (cursor.advance()) {
+                assertEquals(num, cursor.getIndex());
+                assertEquals(list.get(num), cursor.asEntry());
+                checkEntry(cursor.asEntry(), entries);
+                assertEquals(metaData, cursor.asEntry().getMetaData());
+                num++;
+            }
+            assertEquals(entries.size(), num);
+            assertFalse(cursor.advance());
+
+            cursor.seek(10);
+            try {
+                cursor.asEntry();
+                fail("Cursor points to an entry after seeking");
+            } catch (NoSuchElementException e) {
+                //Expected
+            }
+            assertTrue(cursor.advance());
+            assertEquals(10, cursor.getIndex());
+            assertEquals(list.get(10), cursor.asEntry());
+            cursor.seek(list.size());
+            assertFalse(cursor.advance());
+        }
+    }
+
+    @Test
+    public void testEntryListRangeCopy() {
+        final Map<Integer,Long> entries = new HashMap<>();
+        for (int i=0;i<50;i++) entries.put(i*2+7,Math.round(Math.random()/2*Long.MAX_VALUE));
+
+        final EntryList list = StaticArrayEntryList.ofBytes(entries.entrySet(), ByteEntryGetter.SCHEMA_INSTANCE);
+        list.get(12).setCache(cache);
+        for (final EntryList source : new EntryList[]{list, EntryArrayList.of(list)}) {
+            final EntryList copy = StaticArrayEntryList.of(source, 10, 20);
+            assertEquals(10, copy.size());
+            for (int i = 0; i < copy.size(); i++) {
+                assertEquals(source.get(10 + i), copy.get(i));
+                assertEquals(metaData, copy.get(i).getMetaData());
+                checkEntry(copy.get(i), entries);
+            }
+            assertEquals(source.subList(0, 5), StaticArrayEntryList.of(source, 0, 5));
+            assertEquals(source.subList(45, 50), StaticArrayEntryList.of(source, 45, 50));
+            assertTrue(StaticArrayEntryList.of(source, 7, 7).isEmpty());
+        }
+        //Parsed relations are carried over when copying from a StaticArrayEntryList
+        assertEquals(cache, StaticArrayEntryList.of(list, 10, 20).get(2).getCache());
+    }
+
     @Test
     public void testTTLMetadata() {
         WriteBuffer wb = new WriteByteBuffer(128);
@@ -173,6 +173,34 @@ public class LockCleanerRunnableTest {
         del.run();
     }
 
+    /**
+     * Renewed locks carry their extended expiration time in the value and must be preserved
+     * until that time has passed the cutoff, even if their timestamp precedes the cutoff.
+     */
+    @Test
+    public void testPreservesRenewedLocks() throws BackendException {
+        final Instant cutoff = Instant.ofEpochMilli(10L);
+
+        Entry renewedLock = StaticArrayEntry.of(codec.toLockCol(cutoff.minusMillis(5),
+                defaultLockRid, TimestampProviders.MILLI), codec.toLockValue(cutoff.plusMillis(1), TimestampProviders.MILLI));
+        Entry expiredRenewedLock = StaticArrayEntry.of(codec.toLockCol(cutoff.minusMillis(4),
+                defaultLockRid, TimestampProviders.MILLI), codec.toLockValue(cutoff.minusMillis(1), TimestampProviders.MILLI));
+        EntryList locks = StaticArrayEntryList.of(renewedLock, expiredRenewedLock);
+
+        del = new StandardLockCleanerRunnable(store, kc, tx, codec, cutoff, TimestampProviders.MILLI);
+
+        expect(store.getSlice(eq(ksq), eq(tx))).andReturn(locks);
+
+        store.mutate(
+                eq(key),
+                eq(ImmutableList.of()),
+                eq(ImmutableList.of(expiredRenewedLock.getColumn())),
+                anyObject(StoreTransaction.class));
+
+        ctrl.replay();
+        del.run();
+    }
+
     /**
      * Return a new list of {@link Entry#getColumn()} for each element in the
      * argument list.
@@ -0,0 +1,73 @@
+// Copyright 2018 JanusGraph Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.janusgraph.diskstorage.util;
+
+import org.janusgraph.diskstorage.StaticBuffer;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StandardBackendCompressionTest {
+
+    private static final Random random = new Random();
+
+    private static StaticBuffer repetitive(int length) {
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) bytes[i] = (byte) (i % 7);
+        return StaticArrayBuffer.of(bytes);
+    }
+
+    private static StaticBuffer randomBytes(int length) {
+        final byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return StaticArrayBuffer.of(bytes);
+    }
+
+    @Test
+    public void testRoundTrip() {
+        for (CompressionAlgorithm algorithm : CompressionAlgorithm.values()) {
+            final BackendCompression compression = new StandardBackendCompression(algorithm, 16);
+            for (int length : new int[]{0, 1, 15, 16, 100, 10000}) {
+                for (StaticBuffer value : new StaticBuffer[]{repetitive(length), randomBytes(length)}) {
+                    assertEquals(algorithm + ":" + length, value, compression.decompress(compression.compress(value)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCompressesAboveThreshold() {
+        for (CompressionAlgorithm algorithm : CompressionAlgorithm.values()) {
+            final BackendCompression compression = new StandardBackendCompression(algorithm, 64);
+            final StaticBuffer value = repetitive(1000);
+            assertTrue(algorithm.name(), compression.compress(value).length() < value.length() / 2);
+            //Values below the threshold only get the header byte
+            assertEquals(64, compression.compress(repetitive(63)).length());
+            //Incompressible values are not stored larger than necessary
+            assertEquals(1001, compression.compress(randomBytes(1000)).length());
+        }
+    }
+
+    @Test
+    public void testChangeAlgorithm() {
+        final StaticBuffer value = repetitive(1000);
+        final StaticBuffer compressed = new StandardBackendCompression(CompressionAlgorithm.DEFLATE, 0).compress(value);
+        assertEquals(value, new StandardBackendCompression(CompressionAlgorithm.LZ4, 0).decompress(compressed));
+        assertEquals(value, new StandardBackendCompression(null, 0).decompress(compressed));
+    }
+}
@@ -28,7 +28,9 @@ import org.janusgraph.diskstorage.IDAuthority;
 import org.janusgraph.diskstorage.IDBlock;
 import org.janusgraph.diskstorage.TemporaryBackendException;
 import org.janusgraph.diskstorage.keycolumnvalue.KeyRange;
+import org.janusgraph.graphdb.database.idassigner.ConcurrentIDPool;
 import org.janusgraph.graphdb.database.idassigner.IDBlockSizer;
+import org.janusgraph.graphdb.database.idassigner.IDPool;
 import org.easymock.EasyMock;
 import org.easymock.IMocksControl;
 import org.junit.Test;
@@ -51,26 +53,55 @@ public class IDPoolTest {
     public void testStandardIDPool1() throws InterruptedException {
 
         final MockIDAuthority idAuthority = new MockIDAuthority(200);
-        testIDPoolWith(partitionID -> new StandardIDPool(idAuthority, partitionID, partitionID, Integer.MAX_VALUE, Duration.ofMillis(2000L), 0.2), 1000, 6, 100000);
+        testIDPoolWith(partitionID -> new StandardIDPool(idAuthority, partitionID, partitionID, Integer.MAX_VALUE, Duration.ofMillis(2000L), 0.2), 1000, 6, 100000, true);
     }
 
     @Test
     public void testStandardIDPool2() throws InterruptedException {
         final MockIDAuthority idAuthority = new MockIDAuthority(10000, Integer.MAX_VALUE, 2000);
-        testIDPoolWith(partitionID -> new StandardIDPool(idAuthority, partitionID, partitionID, Integer.MAX_VALUE, Duration.ofMillis(4000), 0.1), 2, 5, 10000);
+        testIDPoolWith(partitionID -> new StandardIDPool(idAuthority, partitionID, partitionID, Integer.MAX_VALUE, Duration.ofMillis(4000), 0.1), 2, 5, 10000, true);
     }
 
     @Test
     public void testStandardIDPool3() throws InterruptedException {
         final MockIDAuthority idAuthority = new MockIDAuthority(200);
-        testIDPoolWith(partitionID -> new StandardIDPool(idAuthority, partitionID, partitionID, Integer.MAX_VALUE, Duration.ofMillis(2000), 0.2), 10, 20, 100000);
+        testIDPoolWith(partitionID -> new StandardIDPool(idAuthority, partitionID, partitionID, Integer.MAX_VALUE, Duration.ofMillis(2000), 0.2), 10, 20, 100000, true);
+    }
+
+    @Test
+    public void testConcurrentIDPool1() throws InterruptedException {
+        final MockIDAuthority idAuthority = new MockIDAuthority(200);
+        testIDPoolWith(partitionID -> new ConcurrentIDPool(idAuthority, partitionID, partitionID, Integer.MAX_VALUE, Duration.ofMillis(2000L), 0.2, 10, 4), 1000, 6, 100000, false);
+    }
+
+    @Test
+    public void testConcurrentIDPool2() throws InterruptedException {
+        final MockIDAuthority idAuthority = new MockIDAuthority(10000, Integer.MAX_VALUE, 2000);
+        testIDPoolWith(partitionID -> new ConcurrentIDPool(idAuthority, partitionID, partitionID, Integer.MAX_VALUE, Duration.ofMillis(4000), 0.1, 100, 2), 2, 5, 10000, false);
+    }
+
+    @Test
+    public void testConcurrentIDPool3() throws InterruptedException {
+        final MockIDAuthority idAuthority = new MockIDAuthority(200);
+        testIDPoolWith(partitionID -> new ConcurrentIDPool(idAuthority, partitionID, partitionID, Integer.MAX_VALUE, Duration.ofMillis(2000), 0.2, 64, 4), 10, 20, 100000, false);
+    }
+
+    @Test
+    public void testConcurrentIDPoolSingleThreadConsecutive() {
+        final MockIDAuthority idAuthority = new MockIDAuthority(200);
+        final ConcurrentIDPool pool = new ConcurrentIDPool(idAuthority, 0, 1, Integer.MAX_VALUE, Duration.ofMillis(2000), 0.2, 30, 4);
+        for (int i = 1; i <= 10000; i++) {
+            assertEquals(i, pool.nextID());
+        }
+        pool.close();
     }
 
     private void testIDPoolWith(IDPoolFactory poolFactory, final int numPartitions,
-                                       final int numThreads, final int attemptsPerThread) throws InterruptedException {
+                                final int numThreads, final int attemptsPerThread,
+                                final boolean consecutive) throws InterruptedException {
         final Random random = new Random();
         final IntSet[] ids = new IntSet[numPartitions];
-        final StandardIDPool[] idPools = new StandardIDPool[numPartitions];
+        final IDPool[] idPools = new IDPool[numPartitions];
         for (int i = 0; i < numPartitions; i++) {
             ids[i] = new IntHashSet(attemptsPerThread * numThreads / numPartitions);
             int partition = i*100;
@@ -95,8 +126,9 @@ public class IDPoolTest {
             threads[i].start();
         }
         for (int i = 0; i < numThreads; i++) threads[i].join();
-        for (final StandardIDPool idPool : idPools) idPool.close();
+        for (final IDPool idPool : idPools) idPool.close();
         //Verify consecutive id assignment
+        if (!consecutive) return;
         for (int i = 0; i < ids.length; i++) {
             IntSet set = ids[i];
             int max = 0;
@@ -212,6 +244,22 @@ public class IDPoolTest {
         }
     }
 
+    @Test
+    public void testConcurrentPoolExhaustion() {
+        MockIDAuthority idAuthority = new MockIDAuthority(200);
+        int idUpper = 10000;
+        ConcurrentIDPool pool = new ConcurrentIDPool(idAuthority, 0, 1, idUpper, Duration.ofMillis(2000), 0.2, 64, 4);
+        for (int i = 1; i < idUpper * 2; i++) {
+            try {
+                long id = pool.nextID();
+                assertTrue(id < idUpper);
+            } catch (IDPoolExhaustedException e) {
+                assertEquals(idUpper, i);
+                break;
+            }
+        }
+    }
+
     @Test
     public void testPoolExhaustion2() {
         int idUpper = 10000;
@@ -229,7 +277,7 @@ public class IDPoolTest {
     }
 
     interface IDPoolFactory {
-        StandardIDPool get(int partitionID);
+        IDPool get(int partitionID);
     }
 
 }
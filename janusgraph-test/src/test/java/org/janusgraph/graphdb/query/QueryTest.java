@@ -28,6 +28,11 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.Assert.*;
 
@@ -127,6 +132,34 @@ public class QueryTest {
 
     }
 
+    @Test
+    public void testIntersectingRetrievals() {
+        final List<QueryUtil.IndexCall<Integer>> retrievals = Arrays.asList(
+                limit -> IntStream.range(0, 100).boxed().limit(limit).collect(Collectors.toList()),
+                limit -> IntStream.range(0, 50).map(i -> i * 2).boxed().limit(limit).collect(Collectors.toList()),
+                limit -> Arrays.asList(4, 7, 10, 200));
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            assertEquals(Arrays.asList(4, 10), QueryUtil.processIntersectingRetrievals(retrievals, 10));
+            assertEquals(Arrays.asList(4, 10), QueryUtil.processIntersectingRetrievals(retrievals, 10, executor));
+            assertEquals(Collections.emptyList(), QueryUtil.processIntersectingRetrievals(Arrays.<QueryUtil.IndexCall<Integer>>asList(
+                    retrievals.get(0), limit -> Collections.emptyList()), 10, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
 
-
+    @Test(expected = JanusGraphException.class)
+    public void testIntersectingRetrievalsFailure() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            QueryUtil.processIntersectingRetrievals(Arrays.<QueryUtil.IndexCall<Integer>>asList(
+                    limit -> Collections.singletonList(1),
+                    limit -> {
+                        throw new IllegalStateException("index failure");
+                    }), 10, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
 }